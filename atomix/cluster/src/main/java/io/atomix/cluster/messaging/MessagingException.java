@@ -18,6 +18,7 @@ package io.atomix.cluster.messaging;
 
 import io.atomix.utils.net.Address;
 import java.io.IOException;
+import java.util.concurrent.CompletionException;
 
 /** Top level exception for MessagingService failures. */
 public class MessagingException extends IOException {
@@ -37,6 +38,15 @@ public class MessagingException extends IOException {
           String.format(
               "No remote message handler registered for this message, subject %s", subject));
     }
+
+    /**
+     * Returns true if the given error, as passed to the callbacks of a future returned by the
+     * messaging service, indicates that the receiver has no handler for the subject.
+     */
+    public static boolean isNoRemoteHandler(final Throwable error) {
+      final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+      return cause instanceof NoRemoteHandler;
+    }
   }
 
   /** Exception indicating handler failure. */
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the members which have no handler for a subject, e.g. because they run an older version,
+ * such that requests to them can fall back to a subject they do handle. Since a member may be
+ * updated in the meantime, it is probed again on the subject once the probe interval has passed.
+ * Other failures, e.g. timeouts of a slow member, don't cause it to be probed earlier.
+ */
+public final class NoRemoteHandlerTracker {
+
+  // members without a handler for the subject, mapped to the time at which to probe them again
+  private final Map<MemberId, Long> probeTimes = new ConcurrentHashMap<>();
+  private final Duration probeInterval;
+  private final LongSupplier clock;
+
+  /**
+   * @param probeInterval the time after which a member without a handler is probed again
+   * @param clock supplies the current time in milliseconds
+   */
+  public NoRemoteHandlerTracker(final Duration probeInterval, final LongSupplier clock) {
+    this.probeInterval = probeInterval;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns true if the member is known to have no handler for the subject, and should not be
+   * probed again yet.
+   */
+  public boolean hasNoHandler(final MemberId member) {
+    final Long probeAt = probeTimes.get(member);
+    return probeAt != null && clock.getAsLong() < probeAt;
+  }
+
+  /**
+   * Records the outcome of a request to the member on the subject.
+   *
+   * @param member the member to which the request was sent
+   * @param error the error with which the request failed, or null if it succeeded
+   * @return true if the member was not known before to have no handler for the subject
+   */
+  public boolean onResponse(final MemberId member, final Throwable error) {
+    if (error == null) {
+      probeTimes.remove(member);
+      return false;
+    }
+
+    return NoRemoteHandler.isNoRemoteHandler(error)
+        && probeTimes.put(member, clock.getAsLong() + probeInterval.toMillis()) == null;
+  }
+}
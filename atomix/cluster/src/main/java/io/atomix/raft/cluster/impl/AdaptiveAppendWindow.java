@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import com.netflix.concurrency.limits.limit.VegasLimit;
+
+/**
+ * Adapts how many append requests may be in flight to a single follower, and how many bytes of
+ * entries each request may carry, to the round trip times observed for that follower.
+ *
+ * <p>A follower only acknowledges an append request once it has flushed the entries, so the round
+ * trip time covers both the network link and the follower's disk. The number of in-flight requests
+ * is controlled by a {@link VegasLimit}, like the log stream appender's backpressure: it grows as
+ * long as the round trip time stays close to the lowest one observed, which lets a high latency
+ * link be kept busy, and shrinks when requests start queuing up, e.g. behind a slow disk.
+ *
+ * <p>The batch size is controlled with AIMD: it grows additively while the round trip time stays
+ * within {@link #RTT_TOLERANCE} of the lowest one observed, and is halved whenever a request fails
+ * or is rejected by the follower, since every request still in flight has to be retried then.
+ *
+ * <p>Not thread safe; it is only used on the Raft thread.
+ */
+final class AdaptiveAppendWindow {
+
+  static final int MAX_LIMIT = 64;
+  static final double RTT_TOLERANCE = 2.0;
+  static final int BATCH_SIZE_STEPS = 16;
+
+  private final int initialLimit;
+  private final int maxBatchSize;
+  private final int minBatchSize;
+  private VegasLimit limit;
+  private int batchSize;
+  private long minRtt;
+
+  AdaptiveAppendWindow(final int initialLimit, final int maxBatchSize) {
+    this.initialLimit = Math.min(Math.max(1, initialLimit), MAX_LIMIT);
+    this.maxBatchSize = maxBatchSize;
+    minBatchSize = Math.max(1, maxBatchSize / BATCH_SIZE_STEPS);
+    reset();
+  }
+
+  /** Forgets everything observed so far, e.g. when a new leader starts replicating. */
+  void reset() {
+    limit =
+        VegasLimit.newBuilder()
+            .initialLimit(initialLimit)
+            .maxConcurrency(MAX_LIMIT)
+            // probing resets the no load RTT to the current one; when the follower's disk is the
+            // bottleneck, every request is queued behind our own, so the queue would go unnoticed
+            .probeMultiplier(Integer.MAX_VALUE)
+            .build();
+    batchSize = maxBatchSize;
+    minRtt = Long.MAX_VALUE;
+  }
+
+  /**
+   * @return the number of append requests which may be in flight to the follower
+   */
+  int getLimit() {
+    return limit.getLimit();
+  }
+
+  /**
+   * @return the maximum size in bytes of the entries of the next append request
+   */
+  int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Records a response to an append request with entries.
+   *
+   * @param rtt the round trip time of the request in nanoseconds
+   * @param inflight the number of requests in flight when the response was received, including this
+   *     one
+   * @param succeeded false if the request failed or was rejected by the follower
+   */
+  void onResponse(final long rtt, final int inflight, final boolean succeeded) {
+    // the limit rejects non positive round trip times, which a coarse clock may report
+    final long sample = Math.max(1, rtt);
+    limit.onSample(0, sample, inflight, !succeeded);
+
+    if (!succeeded) {
+      batchSize = Math.max(minBatchSize, batchSize / 2);
+      return;
+    }
+
+    minRtt = Math.min(minRtt, sample);
+    if (sample <= minRtt * RTT_TOLERANCE) {
+      batchSize = Math.min(maxBatchSize, batchSize + minBatchSize);
+    }
+  }
+}
@@ -76,10 +76,8 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
         } else {
           // If the member state doesn't already exist, create it.
           final RaftMemberContext state =
-              new RaftMemberContext(
-                  new DefaultRaftMember(member.memberId(), member.getType(), updateTime),
-                  this,
-                  raft.getMaxAppendsPerFollower());
+              createMemberContext(
+                  new DefaultRaftMember(member.memberId(), member.getType(), updateTime));
           state.resetState(raft.getLog());
           members.add(state.getMember());
           remoteMembers.add(state);
@@ -352,7 +350,7 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     if (state == null) {
       final DefaultRaftMember defaultMember =
           new DefaultRaftMember(member.memberId(), member.getType(), time);
-      state = new RaftMemberContext(defaultMember, this, raft.getMaxAppendsPerFollower());
+      state = createMemberContext(defaultMember);
       state.resetState(raft.getLog());
       members.add(state.getMember());
       remoteMembers.add(state);
@@ -378,6 +376,15 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     memberType.add(state);
   }
 
+  private RaftMemberContext createMemberContext(final DefaultRaftMember member) {
+    return new RaftMemberContext(
+        member,
+        this,
+        raft.getMaxAppendsPerFollower(),
+        raft.getMaxAppendBatchSize(),
+        raft.isAdaptiveAppendWindowEnabled());
+  }
+
   /**
    * Commit the current configuration to disk.
    *
@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,8 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxAppendBatchSize;
+  private final AdaptiveAppendWindow appendWindow;
   private long term;
   private long configIndex;
   private long snapshotIndex;
@@ -57,9 +60,16 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize,
+      final boolean adaptiveAppendWindow) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxAppendBatchSize = maxAppendBatchSize;
+    appendWindow =
+        adaptiveAppendWindow
+            ? new AdaptiveAppendWindow(maxAppendsPerMember, maxAppendBatchSize)
+            : null;
   }
 
   /** Resets the member state. */
@@ -72,6 +82,9 @@ public final class RaftMemberContext {
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
+    if (appendWindow != null) {
+      appendWindow.reset();
+    }
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -131,11 +144,33 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int appendLimit = getAppendLimit();
     return inFlightAppendCount == 0
         || (appendSucceeded
-            && inFlightAppendCount < maxAppendsPerMember
-            && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                >= appendTime);
+            && inFlightAppendCount < appendLimit
+            && System.currentTimeMillis() - (timeStats.getMean() / appendLimit) >= appendTime);
+  }
+
+  /**
+   * Returns the number of append requests which may be in flight to the member. This is either the
+   * configured maximum, or adapted to the member's round trip time if the adaptive append window is
+   * enabled.
+   *
+   * @return the number of append requests which may be in flight to the member
+   */
+  public int getAppendLimit() {
+    return appendWindow != null ? appendWindow.getLimit() : maxAppendsPerMember;
+  }
+
+  /**
+   * Returns the maximum size in bytes of the entries sent in the next append request. This is
+   * either the configured maximum, or adapted to the member's round trip time if the adaptive
+   * append window is enabled.
+   *
+   * @return the maximum size of the entries of the next append request
+   */
+  public int getAppendBatchSize() {
+    return appendWindow != null ? appendWindow.getBatchSize() : maxAppendBatchSize;
   }
 
   /**
@@ -178,13 +213,18 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Completes an append request to the member.
+   * Completes an append request with entries to the member.
    *
-   * @param time The time in milliseconds for the append.
+   * @param rtt The round trip time in nanoseconds of the append.
+   * @param succeeded Whether the member accepted the entries; false if the request failed or was
+   *     rejected.
    */
-  public void completeAppend(final long time) {
+  public void completeAppend(final long rtt, final boolean succeeded) {
+    if (appendWindow != null) {
+      appendWindow.onResponse(rtt, inFlightAppendCount, succeeded);
+    }
     inFlightAppendCount--;
-    timeStats.addValue(time);
+    timeStats.addValue(TimeUnit.NANOSECONDS.toMillis(rtt));
   }
 
   /**
@@ -325,6 +325,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return partitionConfig.isAdaptiveAppendWindowEnabled();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -54,6 +54,20 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge APPEND_WINDOW_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_limit")
+          .help("The number of append requests which may be in flight to a given follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+  private static final Gauge APPEND_BATCH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_batch_size")
+          .help("The maximum size in bytes of the entries sent per append request to a follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +102,11 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeAppendWindow(final String memberId, final int limit, final int batchSize) {
+    APPEND_WINDOW_LIMIT.labels(memberId, partitionGroupName, partition).set(limit);
+    APPEND_BATCH_SIZE.labels(memberId, partitionGroupName, partition).set(batchSize);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -31,11 +31,13 @@ public class RaftPartitionConfig {
   private static final RoundRobinPartitionDistributor DEFAULT_PARTITION_DISTRIBUTOR =
       new RoundRobinPartitionDistributor();
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final boolean DEFAULT_ADAPTIVE_APPEND_WINDOW = false;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveAppendWindowEnabled = DEFAULT_ADAPTIVE_APPEND_WINDOW;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -100,6 +102,22 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveAppendWindowEnabled() {
+    return adaptiveAppendWindowEnabled;
+  }
+
+  /**
+   * Sets whether the number of in-flight append requests and their batch size are adapted per
+   * follower to its observed round trip time. If enabled, {@link #getMaxAppendsPerFollower()} is
+   * only the initial number of in-flight requests, and {@link #getMaxAppendBatchSize()} remains the
+   * upper bound of the batch size.
+   *
+   * @param adaptiveAppendWindowEnabled true to adapt the append window per follower
+   */
+  public void setAdaptiveAppendWindowEnabled(final boolean adaptiveAppendWindowEnabled) {
+    this.adaptiveAppendWindowEnabled = adaptiveAppendWindowEnabled;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -194,6 +212,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendWindowEnabled="
+        + adaptiveAppendWindowEnabled
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
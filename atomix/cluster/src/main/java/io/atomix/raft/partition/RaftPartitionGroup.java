@@ -233,6 +233,20 @@ public final class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether the number of in-flight append requests and their batch size are adapted per
+     * follower to its observed round trip time, instead of being fixed. The maximum appends per
+     * follower is then the initial window, and the maximum batch size its upper bound. Default is
+     * false.
+     *
+     * @param adaptiveAppendWindowEnabled true to adapt the append window per follower
+     * @return the Raft partition group builder
+     */
+    public Builder withAdaptiveAppendWindow(final boolean adaptiveAppendWindowEnabled) {
+      config.getPartitionConfig().setAdaptiveAppendWindowEnabled(adaptiveAppendWindowEnabled);
+      return this;
+    }
+
     /**
      * Sets the heartbeatInterval. The leader will send heartbeats to a follower at this interval.
      *
@@ -418,6 +432,18 @@ public final class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether the index of sealed segments is persisted next to them. If true, the index is
+     * restored when the log is opened again, instead of being rebuilt by scanning the segments.
+     *
+     * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+      config.getStorageConfig().setPersistSegmentIndex(persistSegmentIndex);
+      return this;
+    }
+
     @Override
     public RaftPartitionGroup build() {
       return new RaftPartitionGroup(config);
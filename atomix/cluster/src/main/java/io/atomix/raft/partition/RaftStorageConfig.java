@@ -33,6 +33,7 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
 
   private String directory;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
@@ -40,6 +41,7 @@ public class RaftStorageConfig {
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory;
@@ -176,6 +178,23 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to persist the index of sealed segments, false otherwise
+   */
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  /**
+   * Sets whether the index of sealed segments is persisted next to them, such that it can be
+   * restored when the log is opened again instead of being rebuilt by scanning the segments.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   */
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -192,6 +211,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", persistSegmentIndex="
+        + persistSegmentIndex
         + ", persistedSnapshotStoreFactory="
         + persistedSnapshotStoreFactory
         + '}';
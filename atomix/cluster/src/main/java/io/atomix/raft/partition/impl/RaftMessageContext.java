@@ -29,11 +29,13 @@ class RaftMessageContext {
   final String configureSubject;
   final String reconfigureSubject;
   final String installSubject;
+  final String sbeInstallSubject;
   final String transferSubject;
   final String pollSubject;
   final String voteSubject;
   final String appendV1subject;
   final String appendV2subject;
+  final String sbeAppendSubject;
   final String leaderHeartbeatSubject;
   private final String prefix;
 
@@ -49,11 +51,13 @@ class RaftMessageContext {
     configureSubject = getSubject(prefix, "configure");
     reconfigureSubject = getSubject(prefix, "reconfigure");
     installSubject = getSubject(prefix, "install");
+    sbeInstallSubject = getSubject(prefix, "install-sbe");
     transferSubject = getSubject(prefix, "transfer");
     pollSubject = getSubject(prefix, "poll");
     voteSubject = getSubject(prefix, "vote");
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
+    sbeAppendSubject = getSubject(prefix, "append-sbe");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
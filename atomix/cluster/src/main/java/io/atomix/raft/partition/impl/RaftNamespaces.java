@@ -85,7 +85,7 @@ public final class RaftNamespaces {
           .register(TransferRequest.class)
           .register(TransferResponse.class)
           .register(VersionedAppendRequest.class)
-          .register(ReplicatableJournalRecord.class)
+          .register(new ReplicatableJournalRecordSerializer(), ReplicatableJournalRecord.class)
           .name("RaftProtocol")
           .build();
 
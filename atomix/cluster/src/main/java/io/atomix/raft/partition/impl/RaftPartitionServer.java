@@ -316,6 +316,7 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer>, Health
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPersistSegmentIndex(storageConfig.isPersistSegmentIndex())
         .build();
   }
 
@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.NoRemoteHandlerTracker;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -29,6 +30,7 @@ import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PollRequest;
 import io.atomix.raft.protocol.PollResponse;
 import io.atomix.raft.protocol.RaftMessage;
+import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftServerProtocol;
 import io.atomix.raft.protocol.ReconfigureRequest;
 import io.atomix.raft.protocol.ReconfigureResponse;
@@ -37,16 +39,38 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Raft server protocol that uses a {@link ClusterCommunicationService}. */
+/**
+ * Raft server protocol that uses a {@link ClusterCommunicationService}.
+ *
+ * <p>Append and install requests, and their responses, are encoded with SBE on their own subjects,
+ * all other messages with the given Kryo based serializer. Handlers are registered for both
+ * encodings, so members running an older version can still send Kryo encoded requests. When a
+ * member has no handler for the SBE subjects, i.e. it runs an older version, the request fails and
+ * further requests to it are Kryo encoded. Since the member may be updated in the meantime, a
+ * request is sent SBE encoded again once {@link #SBE_PROBE_INTERVAL} has passed; other failures,
+ * e.g. timeouts of a slow member, don't cause it to be probed earlier.
+ */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  static final Duration SBE_PROBE_INTERVAL = Duration.ofMinutes(1);
+  private static final Logger LOG = LoggerFactory.getLogger(RaftServerCommunicator.class);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  // requests are encoded on the Raft thread, but responses on the messaging threads
+  private final ThreadLocal<RaftProtocolSBESerializer> sbeSerializer =
+      ThreadLocal.withInitial(RaftProtocolSBESerializer::new);
+  // members without a handler for the SBE subjects
+  private final NoRemoteHandlerTracker kryoOnlyMembers;
   private final ClusterCommunicationService clusterCommunicator;
   private final String partitionName;
   private final RaftRequestMetrics metrics;
@@ -59,7 +83,24 @@ public class RaftServerCommunicator implements RaftServerProtocol {
       final ClusterCommunicationService clusterCommunicator,
       final Duration requestTimeout,
       final Duration snapshotRequestTimeout) {
+    this(
+        prefix,
+        serializer,
+        clusterCommunicator,
+        requestTimeout,
+        snapshotRequestTimeout,
+        System::currentTimeMillis);
+  }
+
+  RaftServerCommunicator(
+      final String prefix,
+      final Serializer serializer,
+      final ClusterCommunicationService clusterCommunicator,
+      final Duration requestTimeout,
+      final Duration snapshotRequestTimeout,
+      final LongSupplier clock) {
     context = new RaftMessageContext(prefix);
+    kryoOnlyMembers = new NoRemoteHandlerTracker(SBE_PROBE_INTERVAL, clock);
     partitionName = prefix;
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator =
@@ -84,7 +125,14 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<InstallResponse> install(
       final MemberId memberId, final InstallRequest request) {
-    return sendAndReceive(context.installSubject, request, memberId, snapshotRequestTimeout);
+    return sendAndReceive(
+        context.sbeInstallSubject,
+        context.installSubject,
+        request,
+        r -> sbeSerializer.get().encodeInstallRequest(r),
+        bytes -> sbeSerializer.get().decodeInstallResponse(bytes),
+        memberId,
+        snapshotRequestTimeout);
   }
 
   @Override
@@ -112,7 +160,14 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    return sendAndReceive(
+        context.sbeAppendSubject,
+        context.appendV2subject,
+        request,
+        r -> sbeSerializer.get().encodeAppendRequest(r),
+        bytes -> sbeSerializer.get().decodeAppendResponse(bytes),
+        memberId,
+        requestTimeout);
   }
 
   @Override
@@ -168,11 +223,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.sbeInstallSubject,
+        bytes -> sbeSerializer.get().decodeInstallRequest(bytes),
+        handler.<InstallRequest>compose(this::recordReceivedMetrics),
+        response -> sbeSerializer.get().encodeInstallResponse(response));
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.sbeInstallSubject);
   }
 
   @Override
@@ -223,12 +284,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.sbeAppendSubject,
+        bytes -> sbeSerializer.get().decodeAppendRequest(bytes),
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        response -> sbeSerializer.get().encodeAppendResponse(response));
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.sbeAppendSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -248,6 +315,38 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         timeout);
   }
 
+  /**
+   * Sends the request SBE encoded on the given SBE subject, unless the member is known to only
+   * handle the Kryo encoded request on the given subject. The request is not resent when the member
+   * turns out to have no handler for the SBE subject, as the request must be encoded on the calling
+   * thread, i.e. while the journal records it references are still valid.
+   */
+  private <T extends RaftRequest, U> CompletableFuture<U> sendAndReceive(
+      final String sbeSubject,
+      final String subject,
+      final T request,
+      final Function<T, byte[]> sbeEncoder,
+      final Function<byte[], U> sbeDecoder,
+      final MemberId memberId,
+      final Duration timeout) {
+    if (kryoOnlyMembers.hasNoHandler(memberId)) {
+      return this.<T, U>sendAndReceive(subject, request, memberId, timeout);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .send(sbeSubject, request, sbeEncoder, sbeDecoder, MemberId.from(memberId.id()), timeout)
+        .whenComplete(
+            (response, error) -> {
+              if (kryoOnlyMembers.onResponse(memberId, error)) {
+                LOG.debug(
+                    "Member {} has no handler for {}, sending it Kryo encoded requests instead",
+                    memberId,
+                    sbeSubject);
+              }
+            });
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
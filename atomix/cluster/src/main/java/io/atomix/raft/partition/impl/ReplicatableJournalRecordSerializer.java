@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes {@link ReplicatableJournalRecord} by copying the serialized journal record straight
+ * from its buffer, which on the leader is the mapped journal segment, into the output, without
+ * copying it into an intermediate array first.
+ *
+ * <p>The format is exactly the one Kryo's default record serializer produces for the record when
+ * its serialized journal record was a {@code byte[]}, i.e. the components sorted by name, longs as
+ * zig-zag encoded variable length longs, and the array as its length plus one followed by its
+ * bytes. This keeps the format compatible with brokers which still use the default serializer.
+ */
+final class ReplicatableJournalRecordSerializer extends Serializer<ReplicatableJournalRecord> {
+
+  ReplicatableJournalRecordSerializer() {
+    super(false, true);
+  }
+
+  @Override
+  public void write(final Kryo kryo, final Output output, final ReplicatableJournalRecord record) {
+    final DirectBuffer serializedRecord = record.serializedJournalRecord();
+
+    output.writeVarLong(record.checksum(), false);
+    output.writeVarLong(record.index(), false);
+    output.writeVarInt(serializedRecord.capacity() + 1, true);
+    writeBuffer(output, serializedRecord);
+    output.writeVarLong(record.term(), false);
+  }
+
+  @Override
+  public ReplicatableJournalRecord read(
+      final Kryo kryo, final Input input, final Class<? extends ReplicatableJournalRecord> type) {
+    final long checksum = input.readVarLong(false);
+    final long index = input.readVarLong(false);
+    final int length = input.readVarInt(true) - 1;
+    final byte[] serializedRecord = input.readBytes(length);
+    final long term = input.readVarLong(false);
+
+    return new ReplicatableJournalRecord(term, index, checksum, new UnsafeBuffer(serializedRecord));
+  }
+
+  /**
+   * Copies the buffer into the output's own buffer, in as many chunks as needed. Writing a single
+   * byte whenever the output is full lets it flush or grow, as it would when writing an array.
+   */
+  private static void writeBuffer(final Output output, final DirectBuffer buffer) {
+    if (output instanceof ByteBufferOutput) {
+      // this output is not backed by an array, so there is nothing to copy into directly
+      output.writeBytes(BufferUtil.bufferAsArray(buffer));
+      return;
+    }
+
+    final int length = buffer.capacity();
+    int offset = 0;
+    while (offset < length) {
+      final byte[] target = output.getBuffer();
+      final int available = target.length - output.position();
+      if (available <= 0) {
+        output.writeByte(buffer.getByte(offset++));
+        continue;
+      }
+
+      final int chunk = Math.min(available, length - offset);
+      buffer.getBytes(offset, target, output.position(), chunk);
+      output.setPosition(output.position() + chunk);
+      offset += chunk;
+    }
+  }
+}
@@ -126,6 +126,15 @@ public class InstallRequest extends AbstractRaftRequest {
     return index;
   }
 
+  /**
+   * Returns the snapshot version.
+   *
+   * @return The snapshot version.
+   */
+  public int version() {
+    return version;
+  }
+
   /**
    * Returns the id of the snapshot chunk.
    *
@@ -15,13 +15,31 @@
  */
 package io.atomix.raft.protocol;
 
-import java.util.Arrays;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * A journal record as replicated from the leader to its followers.
+ *
+ * <p>On the leader, {@link #serializedJournalRecord()} is a view of the record in the mapped
+ * journal segment, and not a copy of it, so the record is only valid until the log is next
+ * modified. It must be serialized right away, on the Raft thread, which is what sending it does. On
+ * the receiving side, it is backed by the bytes read from the request.
+ */
 public record ReplicatableJournalRecord(
-    long term, long index, long checksum, byte[] serializedJournalRecord)
+    long term, long index, long checksum, DirectBuffer serializedJournalRecord)
     implements ReplicatableRaftRecord {
 
-  // Due to having and array member, it is recommended to override equals, hashcode and toString
+  public ReplicatableJournalRecord(
+      final long term,
+      final long index,
+      final long checksum,
+      final byte[] serializedJournalRecord) {
+    this(term, index, checksum, new UnsafeBuffer(serializedJournalRecord));
+  }
+
+  // The buffer's identity is meaningless, so compare and hash its contents instead
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -42,7 +60,7 @@ public record ReplicatableJournalRecord(
     if (checksum != that.checksum) {
       return false;
     }
-    return Arrays.equals(serializedJournalRecord, that.serializedJournalRecord);
+    return BufferUtil.equals(serializedJournalRecord, that.serializedJournalRecord);
   }
 
   @Override
@@ -50,7 +68,7 @@ public record ReplicatableJournalRecord(
     int result = (int) (term ^ (term >>> 32));
     result = 31 * result + (int) (index ^ (index >>> 32));
     result = 31 * result + (int) (checksum ^ (checksum >>> 32));
-    result = 31 * result + Arrays.hashCode(serializedJournalRecord);
+    result = 31 * result + serializedJournalRecord.hashCode();
     return result;
   }
 
@@ -64,7 +82,8 @@ public record ReplicatableJournalRecord(
         + ", checksum="
         + checksum
         + ", serializedJournalRecord="
-        + Arrays.toString(serializedJournalRecord)
+        + serializedJournalRecord.capacity()
+        + " bytes"
         + '}';
   }
 
@@ -76,6 +95,6 @@ public record ReplicatableJournalRecord(
    */
   public int approximateSize() {
     // serializedJournalRecord + index + term + checksum
-    return serializedJournalRecord.length + (3 * Long.BYTES);
+    return serializedJournalRecord.capacity() + (3 * Long.BYTES);
   }
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes the messages on the hot path of the Raft protocol, i.e. append requests and snapshot
+ * chunks and their responses, with SBE instead of Kryo.
+ *
+ * <p>Every message is encoded into a byte array of exactly the encoded length, and the binary parts
+ * of decoded messages, i.e. the journal records and snapshot chunks, are views of the given byte
+ * array instead of copies. The byte array must thus not be modified after decoding.
+ *
+ * <p>The encoders and decoders are reused, so this class is not thread safe.
+ */
+public final class RaftProtocolSBESerializer {
+
+  private static final byte[] NO_ERROR_MESSAGE = new byte[0];
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final AppendRequestEncoder appendRequestEncoder = new AppendRequestEncoder();
+  private final AppendRequestDecoder appendRequestDecoder = new AppendRequestDecoder();
+  private final AppendResponseEncoder appendResponseEncoder = new AppendResponseEncoder();
+  private final AppendResponseDecoder appendResponseDecoder = new AppendResponseDecoder();
+  private final InstallRequestEncoder installRequestEncoder = new InstallRequestEncoder();
+  private final InstallRequestDecoder installRequestDecoder = new InstallRequestDecoder();
+  private final InstallResponseEncoder installResponseEncoder = new InstallResponseEncoder();
+  private final InstallResponseDecoder installResponseDecoder = new InstallResponseDecoder();
+  private final UnsafeBuffer buffer = new UnsafeBuffer();
+  private final UnsafeBuffer view = new UnsafeBuffer();
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final List<ReplicatableJournalRecord> entries = request.entries();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+
+    int length =
+        headerEncoder.encodedLength()
+            + appendRequestEncoder.sbeBlockLength()
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final ReplicatableJournalRecord entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().capacity();
+    }
+
+    final byte[] bytes = new byte[length];
+    buffer.wrap(bytes);
+    appendRequestEncoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .version(request.version())
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final EntriesEncoder entriesEncoder = appendRequestEncoder.entriesCount(entries.size());
+    for (final ReplicatableJournalRecord entry : entries) {
+      final DirectBuffer record = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(record, 0, record.capacity());
+    }
+
+    appendRequestEncoder.putLeader(leader, 0, leader.length);
+    return bytes;
+  }
+
+  public VersionedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    buffer.wrap(bytes);
+    appendRequestDecoder.wrapAndApplyHeader(buffer, 0, headerDecoder);
+
+    final int version = appendRequestDecoder.version();
+    final long term = appendRequestDecoder.term();
+    final long prevLogIndex = appendRequestDecoder.prevLogIndex();
+    final long prevLogTerm = appendRequestDecoder.prevLogTerm();
+    final long commitIndex = appendRequestDecoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = appendRequestDecoder.entries();
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final EntriesDecoder entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      final var record = new UnsafeBuffer();
+      entry.wrapSerializedJournalRecord(record);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, record));
+    }
+
+    final String leader = appendRequestDecoder.leader();
+    return new VersionedAppendRequest(
+        version, term, leader, prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final byte[] errorMessage = errorMessage(response.error());
+    final byte[] bytes =
+        new byte
+            [headerEncoder.encodedLength()
+                + appendResponseEncoder.sbeBlockLength()
+                + AppendResponseEncoder.errorMessageHeaderLength()
+                + errorMessage.length];
+
+    buffer.wrap(bytes);
+    appendResponseEncoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .status(status(response.status()))
+        .errorType(errorType(response.error()))
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+    return bytes;
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    buffer.wrap(bytes);
+    appendResponseDecoder.wrapAndApplyHeader(buffer, 0, headerDecoder);
+
+    final Status status = status(appendResponseDecoder.status());
+    final RaftErrorType errorType = appendResponseDecoder.errorType();
+    final long term = appendResponseDecoder.term();
+    final boolean succeeded = appendResponseDecoder.succeeded() == BooleanType.TRUE;
+    final long lastLogIndex = appendResponseDecoder.lastLogIndex();
+    final long lastSnapshotIndex = appendResponseDecoder.lastSnapshotIndex();
+    final RaftError error = error(errorType, appendResponseDecoder.errorMessage());
+
+    return new AppendResponse(status, error, term, succeeded, lastLogIndex, lastSnapshotIndex);
+  }
+
+  public byte[] encodeInstallRequest(final InstallRequest request) {
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer chunkId = request.chunkId();
+    final ByteBuffer nextChunkId = request.nextChunkId();
+    final ByteBuffer data = request.data();
+    final byte[] bytes =
+        new byte
+            [headerEncoder.encodedLength()
+                + installRequestEncoder.sbeBlockLength()
+                + InstallRequestEncoder.leaderHeaderLength()
+                + leader.length
+                + InstallRequestEncoder.chunkIdHeaderLength()
+                + chunkId.remaining()
+                + InstallRequestEncoder.nextChunkIdHeaderLength()
+                + (nextChunkId == null ? 0 : nextChunkId.remaining())
+                + InstallRequestEncoder.dataHeaderLength()
+                + data.remaining()];
+
+    buffer.wrap(bytes);
+    installRequestEncoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .currentTerm(request.currentTerm())
+        .index(request.index())
+        .term(request.term())
+        .version(request.version())
+        .initial(request.isInitial() ? BooleanType.TRUE : BooleanType.FALSE)
+        .complete(request.complete() ? BooleanType.TRUE : BooleanType.FALSE)
+        .hasNextChunkId(nextChunkId != null ? BooleanType.TRUE : BooleanType.FALSE)
+        .putLeader(leader, 0, leader.length);
+
+    view(chunkId);
+    installRequestEncoder.putChunkId(view, 0, view.capacity());
+    view(nextChunkId);
+    installRequestEncoder.putNextChunkId(view, 0, view.capacity());
+    view(data);
+    installRequestEncoder.putData(view, 0, view.capacity());
+    view.wrap(0, 0);
+
+    return bytes;
+  }
+
+  public InstallRequest decodeInstallRequest(final byte[] bytes) {
+    buffer.wrap(bytes);
+    installRequestDecoder.wrapAndApplyHeader(buffer, 0, headerDecoder);
+
+    final long currentTerm = installRequestDecoder.currentTerm();
+    final long index = installRequestDecoder.index();
+    final long term = installRequestDecoder.term();
+    final int version = installRequestDecoder.version();
+    final boolean initial = installRequestDecoder.initial() == BooleanType.TRUE;
+    final boolean complete = installRequestDecoder.complete() == BooleanType.TRUE;
+    final boolean hasNextChunkId = installRequestDecoder.hasNextChunkId() == BooleanType.TRUE;
+    final MemberId leader = MemberId.from(installRequestDecoder.leader());
+
+    installRequestDecoder.wrapChunkId(view);
+    final ByteBuffer chunkId = byteBuffer(view);
+    installRequestDecoder.wrapNextChunkId(view);
+    final ByteBuffer nextChunkId = hasNextChunkId ? byteBuffer(view) : null;
+    installRequestDecoder.wrapData(view);
+    final ByteBuffer data = byteBuffer(view);
+    view.wrap(0, 0);
+
+    return new InstallRequest(
+        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+  }
+
+  public byte[] encodeInstallResponse(final InstallResponse response) {
+    final byte[] errorMessage = errorMessage(response.error());
+    final byte[] bytes =
+        new byte
+            [headerEncoder.encodedLength()
+                + installResponseEncoder.sbeBlockLength()
+                + InstallResponseEncoder.errorMessageHeaderLength()
+                + errorMessage.length];
+
+    buffer.wrap(bytes);
+    installResponseEncoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .status(status(response.status()))
+        .errorType(errorType(response.error()))
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+    return bytes;
+  }
+
+  public InstallResponse decodeInstallResponse(final byte[] bytes) {
+    buffer.wrap(bytes);
+    installResponseDecoder.wrapAndApplyHeader(buffer, 0, headerDecoder);
+
+    final Status status = status(installResponseDecoder.status());
+    final RaftErrorType errorType = installResponseDecoder.errorType();
+    final RaftError error = error(errorType, installResponseDecoder.errorMessage());
+
+    return new InstallResponse(status, error);
+  }
+
+  private void view(final ByteBuffer byteBuffer) {
+    if (byteBuffer == null) {
+      view.wrap(0, 0);
+    } else {
+      view.wrap(byteBuffer, byteBuffer.position(), byteBuffer.remaining());
+    }
+  }
+
+  /**
+   * Returns a byte buffer over the same bytes as the given view of a byte array. It is sliced, as
+   * consumers like {@link UnsafeBuffer#UnsafeBuffer(ByteBuffer)} ignore the position.
+   */
+  private static ByteBuffer byteBuffer(final DirectBuffer view) {
+    return ByteBuffer.wrap(view.byteArray(), (int) view.wrapAdjustment(), view.capacity()).slice();
+  }
+
+  private static ResponseStatus status(final Status status) {
+    return ResponseStatus.valueOf(status.name());
+  }
+
+  private static Status status(final ResponseStatus status) {
+    return Status.valueOf(status.name());
+  }
+
+  private static RaftErrorType errorType(final RaftError error) {
+    return error == null ? RaftErrorType.NULL_VAL : RaftErrorType.valueOf(error.type().name());
+  }
+
+  private static byte[] errorMessage(final RaftError error) {
+    if (error == null || error.message() == null) {
+      return NO_ERROR_MESSAGE;
+    }
+
+    return error.message().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static RaftError error(final RaftErrorType type, final String message) {
+    if (type == RaftErrorType.NULL_VAL) {
+      return null;
+    }
+
+    return new RaftError(RaftError.Type.valueOf(type.name()), message.isEmpty() ? null : message);
+  }
+}
@@ -52,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 
 /**
@@ -62,7 +63,6 @@ final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
-  private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
@@ -83,7 +83,6 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -179,6 +178,7 @@ final class LeaderAppender {
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
+    final int maxBatchSizePerAppend = member.getAppendBatchSize();
     while (member.hasNextEntry()) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
@@ -206,6 +206,7 @@ final class LeaderAppender {
     member.startAppend();
 
     final long timestamp = System.currentTimeMillis();
+    final long startTime = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -214,10 +215,13 @@ final class LeaderAppender {
             (response, error) -> {
               if (open) {
                 // Complete the append to the member.
-                final long appendLatency = System.currentTimeMillis() - timestamp;
-                metrics.appendComplete(appendLatency, member.getMember().memberId().id());
+                final long appendLatency = System.nanoTime() - startTime;
+                final String memberId = member.getMember().memberId().id();
+                metrics.appendComplete(TimeUnit.NANOSECONDS.toMillis(appendLatency), memberId);
                 if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                  member.completeAppend(appendLatency, error == null && response.succeeded());
+                  metrics.observeAppendWindow(
+                      memberId, member.getAppendLimit(), member.getAppendBatchSize());
                 } else {
                   member.completeAppend();
                 }
@@ -63,6 +63,7 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final boolean persistSegmentIndex;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +75,8 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final boolean persistSegmentIndex) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +86,7 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.persistSegmentIndex = persistSegmentIndex;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +195,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPersistSegmentIndex(persistSegmentIndex)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +252,7 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +265,7 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +370,18 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the index of sealed segments is persisted next to them. If true, the index is
+     * restored when the log is opened again, instead of being rebuilt by scanning the segments.
+     *
+     * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+      this.persistSegmentIndex = persistSegmentIndex;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +409,8 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          persistSegmentIndex);
     }
   }
 }
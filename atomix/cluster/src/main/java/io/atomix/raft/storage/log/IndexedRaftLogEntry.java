@@ -62,6 +62,9 @@ public interface IndexedRaftLogEntry {
   PersistedRaftRecord getPersistedRaftRecord();
 
   /**
+   * Returns a record to replicate, which may be a view of this entry in the journal rather than a
+   * copy of it; see {@link ReplicatableJournalRecord}.
+   *
    * @return a record to replicate
    */
   ReplicatableJournalRecord getReplicatableJournalRecord();
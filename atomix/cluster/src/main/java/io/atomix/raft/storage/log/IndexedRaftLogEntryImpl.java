@@ -50,8 +50,7 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
 
   @Override
   public ReplicatableJournalRecord getReplicatableJournalRecord() {
-    final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
-    record.serializedRecord().getBytes(0, serializedRecord);
-    return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
+    // no copy: the record is serialized straight from the journal when it is sent
+    return new ReplicatableJournalRecord(term, index, record.checksum(), record.serializedRecord());
   }
 }
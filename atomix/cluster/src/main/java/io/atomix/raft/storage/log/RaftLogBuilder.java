@@ -126,6 +126,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the index of sealed segments is persisted next to them. If true, the index is
+   * restored when the log is opened again, instead of being rebuilt by scanning the segments.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    journalBuilder.withPersistSegmentIndex(persistSegmentIndex);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class NoRemoteHandlerTrackerTest {
+
+  private static final Duration PROBE_INTERVAL = Duration.ofMinutes(1);
+  private static final MemberId MEMBER = MemberId.from("1");
+
+  private final AtomicLong clock = new AtomicLong();
+  private final NoRemoteHandlerTracker tracker =
+      new NoRemoteHandlerTracker(PROBE_INTERVAL, clock::get);
+
+  @Test
+  void shouldTrackMemberWithoutHandler() {
+    // when
+    final boolean isNew =
+        tracker.onResponse(MEMBER, new CompletionException(new NoRemoteHandler("subject")));
+
+    // then
+    assertThat(isNew).isTrue();
+    assertThat(tracker.hasNoHandler(MEMBER)).isTrue();
+    assertThat(tracker.hasNoHandler(MemberId.from("2"))).isFalse();
+  }
+
+  @Test
+  void shouldNotReportKnownMemberWithoutHandlerAgain() {
+    // given
+    tracker.onResponse(MEMBER, new NoRemoteHandler("subject"));
+
+    // when
+    final boolean isNew = tracker.onResponse(MEMBER, new NoRemoteHandler("subject"));
+
+    // then
+    assertThat(isNew).isFalse();
+  }
+
+  @Test
+  void shouldNotTrackMemberOnOtherFailure() {
+    // when
+    final boolean isNew =
+        tracker.onResponse(MEMBER, new CompletionException(new TimeoutException()));
+
+    // then
+    assertThat(isNew).isFalse();
+    assertThat(tracker.hasNoHandler(MEMBER)).isFalse();
+  }
+
+  @Test
+  void shouldProbeMemberAgainAfterInterval() {
+    // given
+    tracker.onResponse(MEMBER, new NoRemoteHandler("subject"));
+
+    // when
+    clock.addAndGet(PROBE_INTERVAL.toMillis());
+
+    // then
+    assertThat(tracker.hasNoHandler(MEMBER)).isFalse();
+  }
+
+  @Test
+  void shouldForgetMemberAfterSuccessfulResponse() {
+    // given
+    tracker.onResponse(MEMBER, new NoRemoteHandler("subject"));
+
+    // when
+    tracker.onResponse(MEMBER, null);
+
+    // then
+    assertThat(tracker.hasNoHandler(MEMBER)).isFalse();
+  }
+}
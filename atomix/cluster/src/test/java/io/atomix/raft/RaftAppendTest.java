@@ -21,7 +21,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -43,10 +45,21 @@ public class RaftAppendTest {
       new Object[] {RaftRule.withBootstrappedNodes(2)},
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      new Object[] {withAdaptiveAppendWindow(3)}
     };
   }
 
+  private static RaftRule withAdaptiveAppendWindow(final int nodeCount) {
+    final var partitionConfig =
+        new RaftPartitionConfig()
+            .setElectionTimeout(Duration.ofSeconds(1))
+            .setHeartbeatInterval(Duration.ofMillis(100));
+    partitionConfig.setAdaptiveAppendWindowEnabled(true);
+    return RaftRule.withBootstrappedNodes(
+        nodeCount, (memberId, builder) -> builder.withPartitionConfig(partitionConfig));
+  }
+
   @Test
   public void shouldAppendEntryOnAllNodes() throws Throwable {
     // given
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveAppendWindowTest {
+
+  private static final int MAX_BATCH_SIZE = 32 * 1024;
+  private static final long RTT = Duration.ofMillis(1).toNanos();
+
+  @Test
+  void shouldGrowWindowOnHighLatencyLink() {
+    // given - the disk is fast, but each request takes 100ms to be acknowledged
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+    final var link = new SimulatedLink(Duration.ofMillis(50), Duration.ofMillis(1));
+
+    // when
+    link.replicate(window, 1_000);
+
+    // then
+    assertThat(window.getLimit()).isGreaterThan(16);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldShrinkWindowOnSlowDisk() {
+    // given - the link is fast, but every request waits for the previous ones to be flushed
+    final var window = new AdaptiveAppendWindow(32, MAX_BATCH_SIZE);
+    final var link = new SimulatedLink(Duration.ofMillis(1), Duration.ofMillis(20));
+
+    // when
+    link.replicate(window, 1_000);
+
+    // then
+    assertThat(window.getLimit()).isLessThan(16);
+  }
+
+  @Test
+  void shouldNotExceedMaxLimit() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+    final var link = new SimulatedLink(Duration.ofMillis(500), Duration.ZERO);
+
+    // when
+    link.replicate(window, 5_000);
+
+    // then
+    assertThat(window.getLimit()).isEqualTo(AdaptiveAppendWindow.MAX_LIMIT);
+  }
+
+  @Test
+  void shouldHalveBatchSizeOnFailure() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+
+    // when
+    window.onResponse(RTT, 1, false);
+
+    // then
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldNotShrinkBatchSizeBelowMinimum() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+
+    // when
+    for (int i = 0; i < 32; i++) {
+      window.onResponse(RTT, 1, false);
+    }
+
+    // then
+    assertThat(window.getBatchSize())
+        .isEqualTo(MAX_BATCH_SIZE / AdaptiveAppendWindow.BATCH_SIZE_STEPS);
+  }
+
+  @Test
+  void shouldGrowBatchSizeAdditivelyWhileRttIsLow() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+    window.onResponse(RTT, 1, false);
+    window.onResponse(RTT, 1, false);
+    final int step = MAX_BATCH_SIZE / AdaptiveAppendWindow.BATCH_SIZE_STEPS;
+
+    // when
+    window.onResponse(RTT, 1, true);
+
+    // then
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 4 + step);
+  }
+
+  @Test
+  void shouldNotGrowBatchSizeWhileRttIsHigh() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+    window.onResponse(RTT, 1, true);
+    window.onResponse(RTT, 1, false);
+
+    // when
+    window.onResponse(RTT * 3, 1, true);
+
+    // then
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldRecoverBatchSize() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+    window.onResponse(RTT, 1, false);
+
+    // when
+    for (int i = 0; i < AdaptiveAppendWindow.BATCH_SIZE_STEPS; i++) {
+      window.onResponse(RTT, 1, true);
+    }
+
+    // then
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldResetWindow() {
+    // given
+    final var window = new AdaptiveAppendWindow(2, MAX_BATCH_SIZE);
+    new SimulatedLink(Duration.ofMillis(50), Duration.ZERO).replicate(window, 1_000);
+    window.onResponse(RTT, 1, false);
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.getLimit()).isEqualTo(2);
+    assertThat(window.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  /**
+   * Simulates replicating to a follower over a link with a fixed one way latency, where the
+   * follower flushes every request before acknowledging it, one request at a time. The leader sends
+   * a new request whenever the window allows it, so requests queue up at the follower's disk if the
+   * window is larger than what the disk can absorb.
+   */
+  private static final class SimulatedLink {
+
+    private final long latency;
+    private final long flushTime;
+
+    private SimulatedLink(final Duration latency, final Duration flushTime) {
+      this.latency = latency.toNanos();
+      this.flushTime = flushTime.toNanos();
+    }
+
+    private void replicate(final AdaptiveAppendWindow window, final int requests) {
+      // pending responses, as pairs of their arrival time at the leader and their send time
+      final var inFlight = new PriorityQueue<long[]>((a, b) -> Long.compare(a[0], b[0]));
+      long now = 0;
+      long diskIdleAt = 0;
+
+      for (int completed = 0; completed < requests; ) {
+        if (inFlight.size() < window.getLimit()) {
+          final long flushedAt = Math.max(now + latency, diskIdleAt) + flushTime;
+          diskIdleAt = flushedAt;
+          inFlight.add(new long[] {flushedAt + latency, now});
+        } else {
+          final long[] response = inFlight.poll();
+          now = response[0];
+          window.onResponse(now - response[1], inFlight.size() + 1, true);
+          completed++;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures what it costs the leader to replicate one batch of entries to each of its followers,
+ * i.e. reading the entries from the log, building the append request and serializing it, as the
+ * leader does for every follower on the Raft thread, and what it costs a follower to deserialize
+ * such a request. Both are measured for the Kryo and the SBE encoding of append requests.
+ *
+ * <p>Run it with the GC profiler (i.e. {@code -prof gc}) to compare the bytes allocated per
+ * replicated batch; one operation replicates {@link #BATCH_SIZE} bytes of entries to every
+ * follower, or receives them on one follower.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LeaderReplicationPerformanceTest {
+  // the default max append batch size
+  private static final int BATCH_SIZE = 32 * 1024;
+  private static final int LOG_SIZE = 64 * 1024 * 1024;
+  private static final MemberId LEADER = MemberId.from("0");
+
+  @Param({"3", "5"})
+  private int replicas;
+
+  @Param({"1024", "16384"})
+  private int entrySize;
+
+  @Param({"KRYO", "SBE"})
+  private Encoding encoding;
+
+  private final RaftProtocolSBESerializer sbeSerializer = new RaftProtocolSBESerializer();
+  private Path directory;
+  private RaftLog raftLog;
+  private List<RaftLogReader> readers;
+  private byte[] serializedRequest;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("raft-replication-perf");
+    raftLog =
+        RaftLog.builder()
+            .withDirectory(directory.toFile())
+            .withName("raft")
+            .withMetaStore(new InMemory())
+            .build();
+
+    final var data = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(data);
+    final var buffer = new UnsafeBuffer(data);
+    for (long position = 1; (position - 1) * entrySize < LOG_SIZE; position++) {
+      raftLog.append(
+          new RaftLogEntry(1, new SerializedApplicationEntry(position, position, buffer)));
+    }
+
+    readers = new ArrayList<>(replicas - 1);
+    for (int i = 1; i < replicas; i++) {
+      readers.add(raftLog.openUncommittedReader());
+    }
+
+    try (final var reader = raftLog.openUncommittedReader()) {
+      serializedRequest = serialize(nextRequest(reader));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    readers.forEach(RaftLogReader::close);
+    raftLog.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void replicate(final Blackhole blackhole) {
+    for (final var reader : readers) {
+      blackhole.consume(serialize(nextRequest(reader)));
+    }
+  }
+
+  @Benchmark
+  public VersionedAppendRequest receive() {
+    return switch (encoding) {
+      case KRYO -> RaftNamespaces.RAFT_PROTOCOL.deserialize(serializedRequest);
+      case SBE -> sbeSerializer.decodeAppendRequest(serializedRequest);
+    };
+  }
+
+  private byte[] serialize(final VersionedAppendRequest request) {
+    return switch (encoding) {
+      case KRYO -> RaftNamespaces.RAFT_PROTOCOL.serialize(request);
+      case SBE -> sbeSerializer.encodeAppendRequest(request);
+    };
+  }
+
+  private VersionedAppendRequest nextRequest(final RaftLogReader reader) {
+    if (!reader.hasNext()) {
+      reader.reset();
+    }
+
+    final var entries = new ArrayList<ReplicatableJournalRecord>();
+    int size = 0;
+    while (size < BATCH_SIZE && reader.hasNext()) {
+      final var record = reader.next().getReplicatableJournalRecord();
+      entries.add(record);
+      size += record.approximateSize();
+    }
+
+    final long prevIndex = entries.get(0).index() - 1;
+
+    return VersionedAppendRequest.builder()
+        .withTerm(1)
+        .withLeader(LEADER)
+        .withPrevLogIndex(prevIndex)
+        .withPrevLogTerm(prevIndex == 0 ? 0 : 1)
+        .withEntries(entries)
+        .withCommitIndex(prevIndex)
+        .build();
+  }
+
+  public enum Encoding {
+    KRYO,
+    SBE
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String SBE_APPEND_SUBJECT = "raft-append-sbe";
+  private static final String KRYO_APPEND_SUBJECT = "raft-append-versioned";
+  private static final MemberId MEMBER = MemberId.from("1");
+
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final AtomicLong clock = new AtomicLong();
+  private final RaftServerCommunicator communicator =
+      new RaftServerCommunicator(
+          "raft",
+          Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+          communicationService,
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5),
+          clock::get);
+  private final VersionedAppendRequest request =
+      VersionedAppendRequest.builder()
+          .withTerm(1)
+          .withLeader(MemberId.from("0"))
+          .withPrevLogIndex(0)
+          .withPrevLogTerm(0)
+          .withEntries(new ArrayList<>())
+          .withCommitIndex(0)
+          .build();
+  private final AppendResponse response = new AppendResponse(Status.OK, null, 1, true, 0, 0);
+
+  @Test
+  void shouldSendSbeEncodedAppendRequest() {
+    // given
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(communicationService)
+        .send(eq(SBE_APPEND_SUBJECT), eq(request), any(), any(), eq(MEMBER), any());
+  }
+
+  @Test
+  void shouldSendKryoEncodedAppendRequestIfMemberHasNoSbeHandler() {
+    // given
+    respondOn(SBE_APPEND_SUBJECT, noRemoteHandler());
+    respondOn(KRYO_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+    assertThat(communicator.append(MEMBER, request)).isCompletedExceptionally();
+
+    // when
+    final var result = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(communicationService)
+        .send(eq(KRYO_APPEND_SUBJECT), eq(request), any(), any(), eq(MEMBER), any());
+  }
+
+  @Test
+  void shouldNotSendSbeEncodedAppendRequestAgainAfterOtherFailure() {
+    // given
+    respondOn(SBE_APPEND_SUBJECT, noRemoteHandler());
+    respondOn(
+        KRYO_APPEND_SUBJECT,
+        CompletableFuture.failedFuture(new CompletionException(new TimeoutException())));
+    communicator.append(MEMBER, request);
+    communicator.append(MEMBER, request);
+
+    // when
+    communicator.append(MEMBER, request);
+
+    // then
+    verify(communicationService, times(1))
+        .send(eq(SBE_APPEND_SUBJECT), eq(request), any(), any(), eq(MEMBER), any());
+    verify(communicationService, times(2))
+        .send(eq(KRYO_APPEND_SUBJECT), eq(request), any(), any(), eq(MEMBER), any());
+  }
+
+  @Test
+  void shouldSendSbeEncodedAppendRequestAgainAfterProbeInterval() {
+    // given
+    respondOn(SBE_APPEND_SUBJECT, noRemoteHandler());
+    communicator.append(MEMBER, request);
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    clock.addAndGet(RaftServerCommunicator.SBE_PROBE_INTERVAL.toMillis());
+    final var result = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(communicationService, times(2))
+        .send(eq(SBE_APPEND_SUBJECT), eq(request), any(), any(), eq(MEMBER), any());
+  }
+
+  @Test
+  void shouldHandleSbeEncodedAppendRequest() {
+    // given
+    final Function<VersionedAppendRequest, CompletableFuture<AppendResponse>> handler =
+        received -> CompletableFuture.completedFuture(response);
+    communicator.registerAppendV2Handler(handler);
+    final ArgumentCaptor<Function<byte[], VersionedAppendRequest>> decoder =
+        ArgumentCaptor.forClass(Function.class);
+    final ArgumentCaptor<Function<AppendResponse, byte[]>> encoder =
+        ArgumentCaptor.forClass(Function.class);
+    verify(communicationService)
+        .replyTo(eq(SBE_APPEND_SUBJECT), decoder.capture(), any(), encoder.capture());
+
+    // when
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+    communicator.append(MEMBER, request);
+    final ArgumentCaptor<Function<VersionedAppendRequest, byte[]>> requestEncoder =
+        ArgumentCaptor.forClass(Function.class);
+    final ArgumentCaptor<Function<byte[], AppendResponse>> responseDecoder =
+        ArgumentCaptor.forClass(Function.class);
+    verify(communicationService)
+        .send(
+            eq(SBE_APPEND_SUBJECT),
+            eq(request),
+            requestEncoder.capture(),
+            responseDecoder.capture(),
+            eq(MEMBER),
+            any());
+
+    // then
+    assertThat(decoder.getValue().apply(requestEncoder.getValue().apply(request)))
+        .isEqualTo(request);
+    assertThat(responseDecoder.getValue().apply(encoder.getValue().apply(response)))
+        .isEqualTo(response);
+  }
+
+  private void respondOn(final String subject, final CompletableFuture<Object> result) {
+    when(communicationService.send(eq(subject), any(), any(), any(), any(), any()))
+        .thenReturn(result);
+  }
+
+  private static CompletableFuture<Object> noRemoteHandler() {
+    return CompletableFuture.failedFuture(
+        new CompletionException(new NoRemoteHandler(SBE_APPEND_SUBJECT)));
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ReplicatableJournalRecordSerializerTest {
+
+  // serialized as the record was before it had its own serializer, i.e. with a byte[] component
+  private static final Namespace DEFAULT_NAMESPACE =
+      new Namespace.Builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+          .register(DefaultReplicatableJournalRecord.class)
+          .build();
+
+  private static final Namespace NAMESPACE =
+      new Namespace.Builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+          .register(new ReplicatableJournalRecordSerializer(), ReplicatableJournalRecord.class)
+          .build();
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 1024, 1024 * 1024})
+  void shouldSerializeLikeDefaultSerializer(final int length) {
+    // given
+    final byte[] data = randomBytes(length);
+    final var record = new ReplicatableJournalRecord(3, 17, -42, data);
+    final var defaultRecord = new DefaultReplicatableJournalRecord(3, 17, -42, data);
+
+    // when
+    final byte[] serialized = NAMESPACE.serialize(record);
+
+    // then
+    assertThat(serialized).isEqualTo(DEFAULT_NAMESPACE.serialize(defaultRecord));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 1024, 1024 * 1024})
+  void shouldDeserializeDefaultSerializedRecord(final int length) {
+    // given
+    final byte[] data = randomBytes(length);
+    final var defaultRecord =
+        new DefaultReplicatableJournalRecord(Long.MAX_VALUE, Long.MIN_VALUE, 0, data);
+
+    // when
+    final ReplicatableJournalRecord record =
+        NAMESPACE.deserialize(DEFAULT_NAMESPACE.serialize(defaultRecord));
+
+    // then
+    assertThat(record)
+        .isEqualTo(new ReplicatableJournalRecord(Long.MAX_VALUE, Long.MIN_VALUE, 0, data));
+  }
+
+  @Test
+  void shouldSerializeViewOfDirectBuffer() {
+    // given - a view in the middle of a larger direct buffer, like a record in a mapped segment
+    final byte[] data = randomBytes(4096);
+    final var segment = ByteBuffer.allocateDirect(3 * data.length).put(data.length, data);
+    final var view = new UnsafeBuffer(segment, data.length, data.length);
+    final var record = new ReplicatableJournalRecord(1, 2, 3, view);
+
+    // when
+    final ReplicatableJournalRecord deserialized =
+        NAMESPACE.deserialize(NAMESPACE.serialize(record));
+
+    // then
+    assertThat(deserialized).isEqualTo(new ReplicatableJournalRecord(1, 2, 3, data));
+  }
+
+  @Test
+  void shouldSerializeAppendRequest() {
+    // given
+    final var entries = new ArrayList<ReplicatableJournalRecord>();
+    for (int i = 1; i <= 10; i++) {
+      entries.add(new ReplicatableJournalRecord(1, i, i, randomBytes(i * 100)));
+    }
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("0"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withEntries(entries)
+            .withCommitIndex(0)
+            .build();
+
+    // when
+    final VersionedAppendRequest deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertThat(deserialized).isEqualTo(request);
+    assertThat(deserialized.entries()).containsExactlyElementsOf(List.copyOf(entries));
+  }
+
+  private static byte[] randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return bytes;
+  }
+
+  record DefaultReplicatableJournalRecord(
+      long term, long index, long checksum, byte[] serializedJournalRecord) {}
+}
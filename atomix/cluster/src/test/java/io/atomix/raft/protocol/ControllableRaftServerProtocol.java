@@ -17,6 +17,8 @@
 package io.atomix.raft.protocol;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.utils.serializer.Serializer;
 import io.camunda.zeebe.util.collection.Tuple;
 import java.net.ConnectException;
 import java.time.Duration;
@@ -36,6 +38,8 @@ import org.slf4j.LoggerFactory;
  */
 public class ControllableRaftServerProtocol implements RaftServerProtocol {
 
+  private static final Serializer SERIALIZER = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+
   private Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> configureHandler;
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
   private Function<InstallRequest, CompletableFuture<InstallResponse>> installHandler;
@@ -230,12 +234,15 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
+    // serialize right away, as the real protocol does, since the entries of the request are views
+    // of the leader's journal which may change before the request is delivered
+    final VersionedAppendRequest serialized = SERIALIZER.decode(SERIALIZER.encode(request));
     final var responseFuture = new CompletableFuture<AppendResponse>();
     send(
         memberId,
         () ->
             getServer(memberId)
-                .thenCompose(listener -> listener.append(request))
+                .thenCompose(listener -> listener.append(serialized))
                 .thenAccept(
                     response -> send(localMemberId, () -> responseFuture.complete(response), null)),
         responseFuture);
@@ -18,7 +18,9 @@ package io.atomix.raft.protocol;
 
 import com.google.common.collect.Sets;
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.atomix.utils.serializer.Serializer;
 import java.net.ConnectException;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +30,8 @@ import java.util.function.Function;
 /** Test server protocol. */
 public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServerProtocol {
 
+  private static final Serializer SERIALIZER = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+
   private Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> configureHandler;
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
   private Function<InstallRequest, CompletableFuture<InstallResponse>> installHandler;
@@ -106,7 +110,11 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.append(request)));
+    // serialize right away, as the real protocol does, since the entries of the request are views
+    // of the leader's journal which may change before the request is delivered
+    final VersionedAppendRequest serialized = SERIALIZER.decode(SERIALIZER.encode(request));
+    return scheduleTimeout(
+        getServer(memberId).thenCompose(listener -> listener.append(serialized)));
   }
 
   @Override
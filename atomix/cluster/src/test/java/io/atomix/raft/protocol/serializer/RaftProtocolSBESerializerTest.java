@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class RaftProtocolSBESerializerTest {
+
+  private final RaftProtocolSBESerializer serializer = new RaftProtocolSBESerializer();
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 300})
+  void shouldEncodeAppendRequest(final int entryCount) {
+    // given - more entries than fit into the default SBE group size
+    final var entries = new ArrayList<ReplicatableJournalRecord>();
+    for (int i = 1; i <= entryCount; i++) {
+      entries.add(new ReplicatableJournalRecord(3, i, -i, randomBytes(i)));
+    }
+    final var request = appendRequest(entries);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.version()).isEqualTo(request.version());
+    assertThat(decoded.entries()).containsExactlyElementsOf(entries);
+  }
+
+  @Test
+  void shouldEncodeAppendRequestWithViewOfDirectBuffer() {
+    // given - a view in the middle of a larger direct buffer, like a record in a mapped segment
+    final byte[] data = randomBytes(4096);
+    final var segment = ByteBuffer.allocateDirect(3 * data.length).put(data.length, data);
+    final var view = new UnsafeBuffer(segment, data.length, data.length);
+    final var entries = new ArrayList<ReplicatableJournalRecord>();
+    entries.add(new ReplicatableJournalRecord(1, 2, 3, view));
+
+    // when
+    final var decoded =
+        serializer.decodeAppendRequest(serializer.encodeAppendRequest(appendRequest(entries)));
+
+    // then
+    assertThat(decoded.entries()).containsExactly(new ReplicatableJournalRecord(1, 2, 3, data));
+  }
+
+  @Test
+  void shouldEncodeAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 5, true, 17, 10);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  void shouldEncodeAppendResponseWithError() {
+    // given
+    final var response =
+        new AppendResponse(
+            Status.ERROR, new RaftError(Type.PROTOCOL_ERROR, "failure"), 5, false, 17, 10);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error().type()).isEqualTo(Type.PROTOCOL_ERROR);
+    assertThat(decoded.error().message()).isEqualTo("failure");
+  }
+
+  @Test
+  void shouldEncodeInstallRequest() {
+    // given
+    final var request =
+        installRequest(ByteBuffer.wrap(randomBytes(32)), ByteBuffer.allocateDirect(1024));
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.version()).isEqualTo(request.version());
+  }
+
+  @Test
+  void shouldEncodeInstallRequestWithoutNextChunk() {
+    // given
+    final var request = installRequest(null, ByteBuffer.wrap(randomBytes(1024)));
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.nextChunkId()).isNull();
+  }
+
+  @Test
+  void shouldEncodeOnlyRemainingBytesOfInstallRequest() {
+    // given
+    final var data = ByteBuffer.wrap(randomBytes(1024)).position(100).limit(200);
+    final var request = installRequest(null, data);
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded.data()).isEqualTo(data);
+    assertThat(new UnsafeBuffer(decoded.data()).capacity()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldEncodeInstallResponse() {
+    // given
+    final var response = new InstallResponse(Status.ERROR, new RaftError(Type.UNAVAILABLE, null));
+
+    // when
+    final var decoded =
+        serializer.decodeInstallResponse(serializer.encodeInstallResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(Type.UNAVAILABLE);
+    assertThat(decoded.error().message()).isNull();
+  }
+
+  private static VersionedAppendRequest appendRequest(
+      final ArrayList<ReplicatableJournalRecord> entries) {
+    return VersionedAppendRequest.builder()
+        .withTerm(3)
+        .withLeader(MemberId.from("leader"))
+        .withPrevLogIndex(7)
+        .withPrevLogTerm(2)
+        .withEntries(entries)
+        .withCommitIndex(5)
+        .build();
+  }
+
+  private static InstallRequest installRequest(
+      final ByteBuffer nextChunkId, final ByteBuffer data) {
+    return InstallRequest.builder()
+        .withCurrentTerm(3)
+        .withLeader(MemberId.from("leader"))
+        .withIndex(100)
+        .withTerm(2)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.wrap(randomBytes(32)))
+        .withNextChunkId(nextChunkId)
+        .withData(data)
+        .withInitial(true)
+        .withComplete(nextChunkId == null)
+        .build();
+  }
+
+  private static byte[] randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -23,7 +24,9 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
@@ -36,18 +39,32 @@ import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
+/**
+ * Exports the records of a partition to the configured exporters.
+ *
+ * <p>By default, all exporters are run by this actor with a single reader, such that each record is
+ * read once and passed to each exporter in turn. With {@link
+ * ExporterDirectorContext#parallelExporting(boolean)}, this director instead starts one director
+ * per exporter, each with its own actor and reader, such that a slow exporter doesn't hold back the
+ * others. In that case this director only owns the shared exporter state: it removes exporters
+ * which are no longer configured, distributes the positions of all exporters to the followers, and
+ * reports the lowest position of all exporters for compaction.
+ */
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
@@ -55,6 +72,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration LAG_UPDATE_INTERVAL = Duration.ofSeconds(5);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -67,7 +85,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final RetryStrategy exportingRetryStrategy;
   private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
+  private final Collection<ExporterDescriptor> descriptors;
+  private final List<String> exporterIds;
+  private final boolean ownsExporterState;
+  private final boolean parallelExporting;
+  private final List<ExporterDirector> exporterDirectors = new ArrayList<>();
+  private ActorSchedulingService actorSchedulingService;
   private LogStreamReader logStreamReader;
+  private LogStreamReader lagReader;
   private EventFilter eventFilter;
   private ExportersState state;
 
@@ -85,9 +110,32 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final int partitionId;
 
   public ExporterDirector(final ExporterDirectorContext context, final boolean shouldPauseOnStart) {
+    this(context, shouldPauseOnStart, true);
+  }
+
+  /**
+   * @param ownsExporterState false if this director is started by another director in parallel
+   *     mode, which then takes care of the state of all exporters
+   */
+  private ExporterDirector(
+      final ExporterDirectorContext context,
+      final boolean shouldPauseOnStart,
+      final boolean ownsExporterState) {
     name = context.getName();
+    exporterMode = context.getExporterMode();
+    descriptors = context.getDescriptors();
+    exporterIds = descriptors.stream().map(ExporterDescriptor::getId).toList();
+    this.ownsExporterState = ownsExporterState;
+    // a single exporter doesn't benefit from its own director
+    parallelExporting =
+        ownsExporterState
+            && context.isParallelExporting()
+            && exporterMode == ExporterMode.ACTIVE
+            && descriptors.size() > 1;
     containers =
-        context.getDescriptors().stream().map(ExporterContainer::new).collect(Collectors.toList());
+        parallelExporting
+            ? List.of()
+            : descriptors.stream().map(ExporterContainer::new).collect(Collectors.toList());
 
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
@@ -99,11 +147,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     isPaused = shouldPauseOnStart;
     partitionMessagingService = context.getPartitionMessagingService();
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
-    exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -118,11 +166,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callOnExporterDirectors(
         () -> {
           isPaused = true;
           exporterPhase = ExporterPhase.PAUSED;
-        });
+        },
+        ExporterDirector::pauseExporting);
   }
 
   public ActorFuture<Void> resumeExporting() {
@@ -133,14 +182,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
+    return callOnExporterDirectors(
         () -> {
           isPaused = false;
           exporterPhase = ExporterPhase.EXPORTING;
-          if (exporterMode == ExporterMode.ACTIVE) {
+          if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
             actor.submit(this::readNextEvent);
           }
-        });
+        },
+        ExporterDirector::resumeExporting);
   }
 
   public ActorFuture<ExporterPhase> getPhase() {
@@ -164,27 +214,32 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
-      final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
-      actor.runOnCompletionBlockingCurrentPhase(
-          newReaderFuture,
-          (reader, errorOnReceivingReader) -> {
-            if (errorOnReceivingReader == null) {
-              logStreamReader = reader;
-            } else {
-              // TODO https://github.com/zeebe-io/zeebe/issues/3499
-              // ideally we could fail the actor start future such that we are able to propagate the
-              // error
-              LOG.error(
-                  "Unexpected error on retrieving reader from log {}",
-                  logStream.getLogName(),
-                  errorOnReceivingReader);
-              actor.close();
-            }
-          });
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
+      openReader(reader -> logStreamReader = reader);
+      openReader(reader -> lagReader = reader);
     }
   }
 
+  private void openReader(final Consumer<LogStreamReader> readerConsumer) {
+    final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
+    actor.runOnCompletionBlockingCurrentPhase(
+        newReaderFuture,
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            readerConsumer.accept(reader);
+          } else {
+            // TODO https://github.com/zeebe-io/zeebe/issues/3499
+            // ideally we could fail the actor start future such that we are able to propagate the
+            // error
+            LOG.error(
+                "Unexpected error on retrieving reader from log {}",
+                logStream.getLogName(),
+                errorOnReceivingReader);
+            actor.close();
+          }
+        });
+  }
+
   @Override
   protected void onActorStarted() {
     try {
@@ -205,9 +260,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     isOpened.set(true);
 
-    // remove exporters from state
-    // which are no longer in our configuration
-    clearExporterState();
+    if (ownsExporterState) {
+      // remove exporters from state
+      // which are no longer in our configuration
+      clearExporterState();
+    }
     if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
@@ -220,7 +277,24 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       logStreamReader.close();
     }
+    if (lagReader != null) {
+      lagReader.close();
+    }
     logStream.removeRecordAvailableListener(this);
+
+    if (!exporterDirectors.isEmpty()) {
+      final var closed =
+          exporterDirectors.stream()
+              .map(ExporterDirector::stopAsync)
+              .collect(new ActorFutureCollector<>(actor));
+      actor.runOnCompletionBlockingCurrentPhase(
+          closed,
+          (ignored, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter directors of '{}'", getName(), error);
+            }
+          });
+    }
   }
 
   @Override
@@ -319,6 +393,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (parallelExporting) {
+      startExporterDirectors();
+      return;
+    }
+
     logStream.registerRecordAvailableListener(this);
 
     // start reading
@@ -328,7 +407,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
 
     if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
+      // in parallel mode the state also contains the positions of the other exporters
+      final long snapshotPosition =
+          containers.stream()
+              .mapToLong(ExporterContainer::getPosition)
+              .min()
+              .orElse(ExportersState.VALUE_NOT_FOUND);
       final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
       if (failedToRecoverReader) {
         throw new IllegalStateException(
@@ -341,13 +425,102 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         exporterPhase = ExporterPhase.PAUSED;
       }
 
-      actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+      if (ownsExporterState) {
+        actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+      }
+      actor.runAtFixedRate(LAG_UPDATE_INTERVAL, this::updateExporterLag);
 
     } else {
       actor.close();
     }
   }
 
+  private void startExporterDirectors() {
+    for (final ExporterDescriptor descriptor : descriptors) {
+      final var exporterContext =
+          new ExporterDirectorContext()
+              .name(name + "-" + descriptor.getId())
+              .logStream(logStream)
+              .zeebeDb(zeebeDb)
+              .partitionMessagingService(partitionMessagingService)
+              .exporterMode(ExporterMode.ACTIVE)
+              .distributionInterval(distributionInterval)
+              .descriptors(List.of(descriptor));
+      final var exporterDirector = new ExporterDirector(exporterContext, isPaused, false);
+      exporterDirectors.add(exporterDirector);
+
+      actor.runOnCompletion(
+          exporterDirector.startAsync(actorSchedulingService),
+          (ignored, error) -> {
+            if (error != null) {
+              onExporterDirectorFailure(HealthReport.unhealthy(exporterDirector).withIssue(error));
+            } else {
+              exporterDirector.addFailureListener(new ExporterDirectorFailureListener());
+            }
+          });
+    }
+
+    exporterPhase = isPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+    actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+  }
+
+  private void onExporterDirectorFailure(final HealthReport report) {
+    if (report.isDead()) {
+      healthReport = HealthReport.dead(this).withIssue(report);
+      listeners.forEach(listener -> listener.onUnrecoverableFailure(healthReport));
+    } else {
+      healthReport = HealthReport.unhealthy(this).withIssue(report);
+      listeners.forEach(listener -> listener.onFailure(healthReport));
+    }
+  }
+
+  /**
+   * Runs the given action on this actor and, in parallel mode, forwards it to the director of each
+   * exporter. The returned future is completed once all of them are done.
+   */
+  private ActorFuture<Void> callOnExporterDirectors(
+      final Runnable action, final Function<ExporterDirector, ActorFuture<Void>> forwardedAction) {
+    if (!parallelExporting) {
+      return actor.call(action);
+    }
+
+    final ActorFuture<Void> result = new CompletableActorFuture<>();
+    actor.run(
+        () -> {
+          action.run();
+          actor.runOnCompletion(
+              exporterDirectors.stream()
+                  .map(forwardedAction)
+                  .collect(new ActorFutureCollector<>(actor)),
+              (ignored, error) -> {
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(null);
+                }
+              });
+        });
+    return result;
+  }
+
+  /**
+   * Updates the lag of each exporter, i.e. the number of records written after its last exported
+   * position, and how long ago the oldest of them was written.
+   */
+  private void updateExporterLag() {
+    final long lastPosition = lagReader.seekToEnd();
+
+    for (final ExporterContainer container : containers) {
+      final long position = container.getPosition();
+      final long lagRecords = Math.max(0, lastPosition - Math.max(position, 0));
+      long lagMillis = 0;
+      if (lagRecords > 0 && lagReader.seekToNextEvent(position) && lagReader.hasNext()) {
+        lagMillis = Math.max(0, ActorClock.currentTimeMillis() - lagReader.next().getTimestamp());
+      }
+      metrics.setExporterLag(container.getId(), lagRecords, lagMillis);
+    }
+  }
+
   private void startPassiveExportingMode() {
     // Only initialize the positions, do not open and start exporting
     for (final ExporterContainer container : containers) {
@@ -435,9 +608,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void clearExporterState() {
-    final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
-
     state.visitExporterState(
         (exporterId, exporterStateEntry) -> {
           if (!exporterIds.contains(exporterId)) {
@@ -480,6 +650,24 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return actor.call(() -> state.getLowestPosition());
   }
 
+  private final class ExporterDirectorFailureListener implements FailureListener {
+
+    @Override
+    public void onFailure(final HealthReport report) {
+      actor.run(() -> onExporterDirectorFailure(report));
+    }
+
+    @Override
+    public void onRecovered() {
+      // exporter directors don't recover from failures, they are closed instead
+    }
+
+    @Override
+    public void onUnrecoverableFailure(final HealthReport report) {
+      actor.run(() -> onExporterDirectorFailure(report));
+    }
+  }
+
   private static class RecordExporter {
 
     private final RecordValues recordValues = new RecordValues();
@@ -26,6 +26,7 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private boolean parallelExporting;
 
   public int getId() {
     return id;
@@ -59,6 +60,10 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -100,6 +105,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * If enabled, each exporter is run by its own actor with its own reader in {@link
+   * ExporterMode#ACTIVE} mode, such that a slow exporter doesn't hold back the others.
+   */
+  public ExporterDirectorContext parallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
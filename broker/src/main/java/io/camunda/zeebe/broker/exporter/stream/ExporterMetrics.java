@@ -37,6 +37,23 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Gauge EXPORTER_LAG_RECORDS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag_records")
+          .help("The number of records written after the last exported position of the exporter.")
+          .labelNames("exporter", "partition")
+          .register();
+
+  private static final Gauge EXPORTER_LAG_MILLISECONDS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag_milliseconds")
+          .help(
+              "The time since the oldest record which was not yet exported by the exporter was written.")
+          .labelNames("exporter", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -62,4 +79,9 @@ public final class ExporterMetrics {
   public void setLastExportedPosition(final String exporter, final long position) {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
+
+  public void setExporterLag(final String exporter, final long records, final long milliseconds) {
+    EXPORTER_LAG_RECORDS.labels(exporter, partitionIdLabel).set(records);
+    EXPORTER_LAG_MILLISECONDS.labels(exporter, partitionIdLabel).set(milliseconds);
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.jobstream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class JobStreamMetrics implements RemoteStreamMetrics {
   private static final String NAMESPACE = "zeebe";
@@ -35,6 +36,23 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .help("Total number of failures when pushing jobs to the streams")
           .register();
 
+  private static final Histogram PUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_batch_size")
+          .help("Number of jobs pushed to a stream in a single request")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+
+  private static final Histogram PUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_latency")
+          .help(
+              "Time from pushing a job until the gateway acknowledged it, including the time it waited to be batched")
+          .buckets(.001, .0025, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5)
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -54,4 +72,14 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushFailed() {
     PUSH_FAILED_COUNT.inc();
   }
+
+  @Override
+  public void observeBatchSize(final int size) {
+    PUSH_BATCH_SIZE.observe(size);
+  }
+
+  @Override
+  public void observePushLatency(final long latencyNanos) {
+    PUSH_LATENCY.observe(latencyNanos / 1e9);
+  }
 }
@@ -78,7 +78,9 @@ public final class RaftPartitionGroupFactory {
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
                 experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
-            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles());
+            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles())
+            .withPersistSegmentIndex(experimentalCfg.getRaft().isPersistSegmentIndex())
+            .withAdaptiveAppendWindow(experimentalCfg.getRaft().isAdaptiveAppendWindow());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
 
@@ -22,6 +22,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_PARALLEL_EXPORTING = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
@@ -32,6 +33,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private QueryApiCfg queryApi = new QueryApiCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
+  private LogStreamCfg logStream = new LogStreamCfg();
+  private boolean parallelExporting = DEFAULT_PARALLEL_EXPORTING;
 
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
 
@@ -129,6 +132,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.engine = engine;
   }
 
+  public LogStreamCfg getLogStream() {
+    return logStream;
+  }
+
+  public void setLogStream(final LogStreamCfg logStream) {
+    this.logStream = logStream;
+  }
+
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
+  public void setParallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+  }
+
   public FeatureFlagsCfg getFeatures() {
     return features;
   }
@@ -156,6 +175,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + consistencyChecks
         + ", engineCfg="
         + engine
+        + ", logStream="
+        + logStream
+        + ", parallelExporting="
+        + parallelExporting
         + ", features="
         + features
         + '}';
@@ -21,6 +21,8 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final boolean DEFAULT_ADAPTIVE_APPEND_WINDOW = false;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
@@ -28,6 +30,8 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private boolean adaptiveAppendWindow = DEFAULT_ADAPTIVE_APPEND_WINDOW;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -76,4 +80,20 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  public boolean isAdaptiveAppendWindow() {
+    return adaptiveAppendWindow;
+  }
+
+  public void setAdaptiveAppendWindow(final boolean adaptiveAppendWindow) {
+    this.adaptiveAppendWindow = adaptiveAppendWindow;
+  }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import org.springframework.util.unit.DataSize;
+
+public final class LogStreamCfg {
+  private static final int DEFAULT_MAX_COALESCED_BATCH_COUNT = 32;
+
+  private int maxCoalescedBatchCount = DEFAULT_MAX_COALESCED_BATCH_COUNT;
+  private DataSize maxCoalescedBatchSize;
+
+  public int getMaxCoalescedBatchCount() {
+    return maxCoalescedBatchCount;
+  }
+
+  public void setMaxCoalescedBatchCount(final int maxCoalescedBatchCount) {
+    this.maxCoalescedBatchCount = maxCoalescedBatchCount;
+  }
+
+  /**
+   * @return the maximum size of a single append to the log, or null if it should be the maximum
+   *     message size
+   */
+  public DataSize getMaxCoalescedBatchSize() {
+    return maxCoalescedBatchSize;
+  }
+
+  public void setMaxCoalescedBatchSize(final DataSize maxCoalescedBatchSize) {
+    this.maxCoalescedBatchSize = maxCoalescedBatchSize;
+  }
+
+  @Override
+  public String toString() {
+    return "LogStreamCfg{"
+        + "maxCoalescedBatchCount="
+        + maxCoalescedBatchCount
+        + ", maxCoalescedBatchSize="
+        + maxCoalescedBatchSize
+        + '}';
+  }
+}
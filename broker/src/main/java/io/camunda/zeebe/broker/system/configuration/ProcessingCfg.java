@@ -12,6 +12,8 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enableGroupCommit = false;
+  private boolean enableFastReplay = false;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -37,6 +39,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnableGroupCommit() {
+    return enableGroupCommit;
+  }
+
+  public void setEnableGroupCommit(final boolean enableGroupCommit) {
+    this.enableGroupCommit = enableGroupCommit;
+  }
+
+  public boolean isEnableFastReplay() {
+    return enableFastReplay;
+  }
+
+  public void setEnableFastReplay(final boolean enableFastReplay) {
+    this.enableFastReplay = enableFastReplay;
+  }
+
   @Override
   public String toString() {
     return "ProcessingCfg{"
@@ -44,6 +62,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enableGroupCommit="
+        + enableGroupCommit
+        + ", enableFastReplay="
+        + enableFastReplay
         + '}';
   }
 }
@@ -7,7 +7,10 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -27,6 +30,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
 
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableNativeColumnFamilies =
+      RocksDbConfiguration.DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private boolean enableWriteBatchTransactions =
+      RocksDbConfiguration.DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED;
+  private Map<String, String> columnFamilyGroups = new HashMap<>();
+  private Map<String, ColumnFamilyProfile> columnFamilyProfiles = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -120,6 +129,38 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableNativeColumnFamilies() {
+    return enableNativeColumnFamilies;
+  }
+
+  public void setEnableNativeColumnFamilies(final boolean enableNativeColumnFamilies) {
+    this.enableNativeColumnFamilies = enableNativeColumnFamilies;
+  }
+
+  public boolean isEnableWriteBatchTransactions() {
+    return enableWriteBatchTransactions;
+  }
+
+  public void setEnableWriteBatchTransactions(final boolean enableWriteBatchTransactions) {
+    this.enableWriteBatchTransactions = enableWriteBatchTransactions;
+  }
+
+  public Map<String, String> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public void setColumnFamilyGroups(final Map<String, String> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+  }
+
+  public Map<String, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public void setColumnFamilyProfiles(final Map<String, ColumnFamilyProfile> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -130,7 +171,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setNativeColumnFamiliesEnabled(enableNativeColumnFamilies)
+        .setWriteBatchTransactionsEnabled(enableWriteBatchTransactions)
+        .setColumnFamilyGroups(columnFamilyGroups)
+        .setColumnFamilyProfiles(columnFamilyProfiles);
   }
 
   @Override
@@ -154,6 +199,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableNativeColumnFamilies="
+        + enableNativeColumnFamilies
+        + ", enableWriteBatchTransactions="
+        + enableWriteBatchTransactions
+        + ", columnFamilyGroups="
+        + columnFamilyGroups
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
         + '}';
   }
 
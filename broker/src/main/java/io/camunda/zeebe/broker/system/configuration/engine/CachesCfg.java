@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThan;
+import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThanOrEqual;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
+
+public final class CachesCfg implements ConfigurationEntry {
+
+  private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private DataSize processCacheMaxSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_WEIGHT);
+  private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+
+  public int getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public void setProcessCacheCapacity(final int processCacheCapacity) {
+    ensureGreaterThan("processCacheCapacity", processCacheCapacity, 0);
+    this.processCacheCapacity = processCacheCapacity;
+  }
+
+  public DataSize getProcessCacheMaxSize() {
+    return processCacheMaxSize;
+  }
+
+  public void setProcessCacheMaxSize(final DataSize processCacheMaxSize) {
+    ensureGreaterThan("processCacheMaxSize", processCacheMaxSize.toBytes(), 0);
+    this.processCacheMaxSize = processCacheMaxSize;
+  }
+
+  public int getDrgCacheCapacity() {
+    return drgCacheCapacity;
+  }
+
+  public void setDrgCacheCapacity(final int drgCacheCapacity) {
+    ensureGreaterThanOrEqual("drgCacheCapacity", drgCacheCapacity, 0);
+    this.drgCacheCapacity = drgCacheCapacity;
+  }
+
+  @Override
+  public String toString() {
+    return "CachesCfg{"
+        + "processCacheCapacity="
+        + processCacheCapacity
+        + ", processCacheMaxSize="
+        + processCacheMaxSize
+        + ", drgCacheCapacity="
+        + drgCacheCapacity
+        + '}';
+  }
+}
@@ -92,7 +92,8 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .zeebeDb(context.getZeebeDb())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
-            .exporterMode(exporterMode);
+            .exporterMode(exporterMode)
+            .parallelExporting(context.getBrokerCfg().getExperimental().isParallelExporting());
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
 
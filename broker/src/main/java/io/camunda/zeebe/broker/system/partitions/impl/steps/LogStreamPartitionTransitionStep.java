@@ -15,6 +15,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public final class LogStreamPartitionTransitionStep implements PartitionTransitionStep {
@@ -88,6 +89,12 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
 
   private ActorFuture<LogStream> buildLogstream(
       final PartitionTransitionContext context, final AtomixLogStorage atomixLogStorage) {
+    final var logStreamCfg = context.getBrokerCfg().getExperimental().getLogStream();
+    final var maxCoalescedBatchSize =
+        Optional.ofNullable(logStreamCfg.getMaxCoalescedBatchSize())
+            .map(size -> (int) size.toBytes())
+            .orElse(context.getMaxFragmentSize());
+
     return logStreamBuilderSupplier
         .get()
         .withLogStorage(atomixLogStorage)
@@ -95,6 +102,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withNodeId(context.getNodeId())
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withMaxCoalescedBatchCount(logStreamCfg.getMaxCoalescedBatchCount())
+        .withMaxCoalescedBatchSize(maxCoalescedBatchSize)
         .withActorSchedulingService(context.getActorSchedulingService())
         .buildAsync();
   }
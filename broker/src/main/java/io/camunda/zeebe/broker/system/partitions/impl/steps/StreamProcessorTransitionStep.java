@@ -146,6 +146,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .setEnableGroupCommit(context.getBrokerCfg().getProcessing().isEnableGroupCommit())
+        .setEnableFastReplay(context.getBrokerCfg().getProcessing().isEnableFastReplay())
         .listener(
             new StreamProcessorListener() {
               @Override
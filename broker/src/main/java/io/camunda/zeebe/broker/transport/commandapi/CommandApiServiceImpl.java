@@ -36,6 +36,7 @@ public final class CommandApiServiceImpl extends Actor
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
   private final CommandApiRequestHandler commandHandler;
+  private final CommandBatchApiRequestHandler commandBatchHandler;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
@@ -50,6 +51,7 @@ public final class CommandApiServiceImpl extends Actor
     this.limiter = limiter;
     this.scheduler = scheduler;
     commandHandler = new CommandApiRequestHandler();
+    commandBatchHandler = new CommandBatchApiRequestHandler();
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
 
@@ -62,6 +64,7 @@ public final class CommandApiServiceImpl extends Actor
   protected void onActorStarting() {
     scheduler.submitActor(queryHandler);
     scheduler.submitActor(commandHandler);
+    scheduler.submitActor(commandBatchHandler);
   }
 
   @Override
@@ -77,6 +80,14 @@ public final class CommandApiServiceImpl extends Actor
             Loggers.TRANSPORT_LOGGER.error("Error closing command api request handler", error);
           }
         });
+    actor.runOnCompletion(
+        commandBatchHandler.closeAsync(),
+        (ok, error) -> {
+          if (error != null) {
+            Loggers.TRANSPORT_LOGGER.error(
+                "Error closing command batch api request handler", error);
+          }
+        });
     actor.runOnCompletion(
         queryHandler.closeAsync(),
         (ok, error) -> {
@@ -114,6 +125,9 @@ public final class CommandApiServiceImpl extends Actor
                       final var requestLimiter = limiter.getLimiter(partitionId);
                       commandHandler.addPartition(partitionId, recordWriter, requestLimiter);
                       serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
+                      commandBatchHandler.addPartition(partitionId, recordWriter, requestLimiter);
+                      serverTransport.subscribe(
+                          partitionId, RequestType.COMMAND_BATCH, commandBatchHandler);
                       future.complete(null);
                     } else {
                       Loggers.SYSTEM_LOGGER.error(
@@ -138,6 +152,7 @@ public final class CommandApiServiceImpl extends Actor
 
   private void removeLeaderHandlers(final int partitionId) {
     commandHandler.removePartition(partitionId);
+    commandBatchHandler.removePartition(partitionId);
     queryHandler.removePartition(partitionId);
     cleanLeadingPartition(partitionId);
   }
@@ -150,12 +165,13 @@ public final class CommandApiServiceImpl extends Actor
   private void removeForPartitionId(final int partitionId) {
     limiter.removePartition(partitionId);
     serverTransport.unsubscribe(partitionId, RequestType.COMMAND);
+    serverTransport.unsubscribe(partitionId, RequestType.COMMAND_BATCH);
     serverTransport.unsubscribe(partitionId, RequestType.QUERY);
   }
 
   @Override
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(commandBatchHandler.interceptResponses(serverTransport));
   }
 
   @Override
@@ -171,10 +187,12 @@ public final class CommandApiServiceImpl extends Actor
   @Override
   public void onDiskSpaceNotAvailable() {
     actor.run(commandHandler::onDiskSpaceNotAvailable);
+    actor.run(commandBatchHandler::onDiskSpaceNotAvailable);
   }
 
   @Override
   public void onDiskSpaceAvailable() {
     actor.run(commandHandler::onDiskSpaceAvailable);
+    actor.run(commandBatchHandler::onDiskSpaceAvailable);
   }
 }
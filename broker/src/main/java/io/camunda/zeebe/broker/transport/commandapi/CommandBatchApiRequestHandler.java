@@ -0,0 +1,317 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler;
+import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
+import io.camunda.zeebe.broker.transport.backpressure.BackpressureMetrics;
+import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandResponseDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Handles {@link io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest}s. All commands
+ * of a request are written to the log as a single batch, and the request is answered once the
+ * engine responded to every command of the batch.
+ *
+ * <p>To collect the engine's responses, each command of a batch is written with its own request id
+ * and with {@link #BATCH_REQUEST_STREAM_ID} as request stream id. The {@link ServerOutput} returned
+ * by {@link #interceptResponses(ServerOutput)} hands the responses to these commands back to this
+ * handler, instead of sending them to the gateway.
+ */
+final class CommandBatchApiRequestHandler
+    extends AsyncApiRequestHandler<CommandBatchApiRequestReader, CommandBatchApiResponseWriter> {
+
+  /**
+   * The request stream id of commands which are written as part of a batch. Responses are sent to
+   * the request stream id of a command, which is otherwise the partition id, and is never negative.
+   */
+  static final int BATCH_REQUEST_STREAM_ID = -1;
+
+  private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
+
+  private final Int2ObjectHashMap<LeadingPartition> leadingPartitions = new Int2ObjectHashMap<>();
+  private final BackpressureMetrics metrics = new BackpressureMetrics();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final ExecuteCommandResponseDecoder responseDecoder = new ExecuteCommandResponseDecoder();
+  private boolean isDiskSpaceAvailable = true;
+
+  CommandBatchApiRequestHandler() {
+    super(CommandBatchApiRequestReader::new, CommandBatchApiResponseWriter::new);
+  }
+
+  @Override
+  protected ActorFuture<Either<ErrorResponseWriter, CommandBatchApiResponseWriter>> handleAsync(
+      final int partitionId,
+      final long requestId,
+      final CommandBatchApiRequestReader requestReader,
+      final CommandBatchApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+    if (!isDiskSpaceAvailable) {
+      return CompletableActorFuture.completed(Either.left(errorWriter.outOfDiskSpace(partitionId)));
+    }
+
+    final var partition = leadingPartitions.get(partitionId);
+    if (partition == null) {
+      return CompletableActorFuture.completed(
+          Either.left(errorWriter.partitionLeaderMismatch(partitionId)));
+    }
+
+    final var commands = requestReader.commands();
+    if (commands.isEmpty()) {
+      return CompletableActorFuture.completed(Either.right(responseWriter));
+    }
+
+    final var values = requestReader.values();
+    for (int i = 0; i < commands.size(); i++) {
+      if (values.get(i) == null) {
+        final var valueType = commands.get(i).getValueType();
+        return CompletableActorFuture.completed(
+            Either.left(
+                errorWriter.unsupportedMessage(
+                    valueType.name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray())));
+      }
+    }
+
+    final long firstRequestId = partition.nextCommandRequestId;
+    final long lastRequestId = firstRequestId + commands.size() - 1;
+    final var limiter = partition.limiter;
+    if (!tryAcquire(limiter, partitionId, requestReader, lastRequestId)) {
+      return CompletableActorFuture.completed(Either.left(errorWriter.resourceExhausted()));
+    }
+
+    try {
+      final var writeResult =
+          writeCommands(requestReader, firstRequestId, partition.writer, errorWriter, partitionId);
+      if (writeResult.isLeft()) {
+        limiter.onIgnore(BATCH_REQUEST_STREAM_ID, lastRequestId);
+        return CompletableActorFuture.completed(Either.left(writeResult.getLeft()));
+      }
+    } catch (final Exception error) {
+      limiter.onIgnore(BATCH_REQUEST_STREAM_ID, lastRequestId);
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      return CompletableActorFuture.completed(Either.left(errorWriter.internalError(errorMessage)));
+    }
+
+    partition.nextCommandRequestId += commands.size();
+    final var batch = new PendingBatch(firstRequestId, commands.size(), responseWriter);
+    for (int i = 0; i < commands.size(); i++) {
+      partition.pendingBatches.put(firstRequestId + i, batch);
+    }
+
+    return batch.future;
+  }
+
+  /**
+   * Returns a {@link ServerOutput} which hands the responses to commands of a batch back to this
+   * handler, and sends all other responses to the given output.
+   *
+   * @param output the output to send all other responses to
+   * @return the intercepting output
+   */
+  ServerOutput interceptResponses(final ServerOutput output) {
+    return response -> {
+      if (response.getPartitionId() != BATCH_REQUEST_STREAM_ID) {
+        output.sendResponse(response);
+        return;
+      }
+
+      // the response is reused by the caller, so it must be copied before switching threads
+      final var commandRequestId = response.getRequestId();
+      final var commandResponse = new UnsafeBuffer(new byte[response.getLength()]);
+      response.write(commandResponse, 0);
+      actor.run(() -> onCommandResponse(commandRequestId, commandResponse));
+    };
+  }
+
+  private void onCommandResponse(final long commandRequestId, final DirectBuffer response) {
+    // the request ids are only unique per partition, so the partition must be checked as well
+    headerDecoder.wrap(response, 0);
+    responseDecoder.wrap(
+        response,
+        headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final int partitionId = responseDecoder.partitionId();
+
+    final var partition = leadingPartitions.get(partitionId);
+    final var batch = partition != null ? partition.pendingBatches.remove(commandRequestId) : null;
+    if (batch == null) {
+      LOG.trace(
+          "Ignoring response to command {} of an unknown batch on partition {}",
+          commandRequestId,
+          partitionId);
+      return;
+    }
+
+    batch.responses[(int) (commandRequestId - batch.firstRequestId)] = response;
+    batch.pendingResponses--;
+    if (batch.pendingResponses == 0) {
+      for (final var commandResponse : batch.responses) {
+        batch.responseWriter.addResponse(commandResponse);
+      }
+      batch.future.complete(Either.right(batch.responseWriter));
+    }
+  }
+
+  /**
+   * Acquires a single slot of the limiter for the whole batch, such that a batch can be written
+   * even if the limit is lower than the number of its commands. The slot is acquired for the last
+   * command of the batch: the commands are processed in order, so the slot is released once all of
+   * them are processed.
+   */
+  private boolean tryAcquire(
+      final RequestLimiter<Intent> limiter,
+      final int partitionId,
+      final CommandBatchApiRequestReader reader,
+      final long lastRequestId) {
+    final var commands = reader.commands();
+    metrics.receivedRequest(partitionId);
+
+    // the gateway batches only commands of the same kind of request, so the batch is limited like
+    // its first command
+    if (!limiter.tryAcquire(BATCH_REQUEST_STREAM_ID, lastRequestId, commands.get(0).getIntent())) {
+      metrics.dropped(partitionId);
+      LOG.trace(
+          "Partition-{} receiving too many requests. Current limit {} inflight {}, dropping batch of {} commands from gateway",
+          partitionId,
+          limiter.getLimit(),
+          limiter.getInflightCount(),
+          commands.size());
+      return false;
+    }
+
+    return true;
+  }
+
+  private Either<ErrorResponseWriter, Long> writeCommands(
+      final CommandBatchApiRequestReader reader,
+      final long firstRequestId,
+      final LogStreamWriter logStreamWriter,
+      final ErrorResponseWriter errorWriter,
+      final int partitionId) {
+    final var commands = reader.commands();
+    final var values = reader.values();
+    final List<LogAppendEntry> appendEntries = new ArrayList<>(commands.size());
+    int batchLength = 0;
+
+    for (int i = 0; i < commands.size(); i++) {
+      final var command = commands.get(i);
+      final var metadata =
+          new RecordMetadata()
+              .protocolVersion(reader.getProtocolVersion())
+              .requestId(firstRequestId + i)
+              .requestStreamId(BATCH_REQUEST_STREAM_ID)
+              .recordType(RecordType.COMMAND)
+              .intent(command.getIntent())
+              .valueType(command.getValueType());
+
+      final LogAppendEntry appendEntry;
+      if (command.getKey() != ExecuteCommandRequestDecoder.keyNullValue()) {
+        appendEntry = LogAppendEntry.of(command.getKey(), metadata, values.get(i));
+      } else {
+        appendEntry = LogAppendEntry.of(metadata, values.get(i));
+      }
+      appendEntries.add(appendEntry);
+      batchLength += appendEntry.getLength();
+    }
+
+    if (!logStreamWriter.canWriteEvents(appendEntries.size(), batchLength)) {
+      return Either.left(
+          errorWriter
+              .errorCode(ErrorCode.MALFORMED_REQUEST)
+              .errorMessage("Request size is above configured maxMessageSize."));
+    }
+
+    return logStreamWriter
+        .tryWrite(appendEntries)
+        .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
+  }
+
+  void addPartition(
+      final int partitionId,
+      final LogStreamWriter logStreamWriter,
+      final RequestLimiter<Intent> limiter) {
+    actor.submit(
+        () -> leadingPartitions.put(partitionId, new LeadingPartition(logStreamWriter, limiter)));
+  }
+
+  void removePartition(final int partitionId) {
+    // like for single commands, the gateway's requests for pending batches time out
+    actor.submit(() -> leadingPartitions.remove(partitionId));
+  }
+
+  void onDiskSpaceNotAvailable() {
+    actor.submit(
+        () -> {
+          isDiskSpaceAvailable = false;
+          LOG.debug("Broker is out of disk space. All client requests will be rejected");
+        });
+  }
+
+  void onDiskSpaceAvailable() {
+    actor.submit(() -> isDiskSpaceAvailable = true);
+  }
+
+  private static final class LeadingPartition {
+    private final LogStreamWriter writer;
+    private final RequestLimiter<Intent> limiter;
+    private final Long2ObjectHashMap<PendingBatch> pendingBatches = new Long2ObjectHashMap<>();
+    private long nextCommandRequestId;
+
+    private LeadingPartition(final LogStreamWriter writer, final RequestLimiter<Intent> limiter) {
+      this.writer = writer;
+      this.limiter = limiter;
+      // a new leader processes the commands of the previous one and sends their responses, too, so
+      // the request ids of each leadership start at a random epoch in the upper bits to not
+      // collide with the ids of the previous leader
+      nextCommandRequestId = (long) ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE) << 32;
+    }
+  }
+
+  private static final class PendingBatch {
+    private final long firstRequestId;
+    private final DirectBuffer[] responses;
+    private final CommandBatchApiResponseWriter responseWriter;
+    private final CompletableActorFuture<Either<ErrorResponseWriter, CommandBatchApiResponseWriter>>
+        future = new CompletableActorFuture<>();
+    private int pendingResponses;
+
+    private PendingBatch(
+        final long firstRequestId,
+        final int size,
+        final CommandBatchApiResponseWriter responseWriter) {
+      this.firstRequestId = firstRequestId;
+      this.responseWriter = responseWriter;
+      responses = new DirectBuffer[size];
+      pendingResponses = size;
+    }
+  }
+}
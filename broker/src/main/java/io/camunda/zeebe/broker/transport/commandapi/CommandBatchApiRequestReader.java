@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.TEMPLATE_ID;
+
+import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler.RequestReader;
+import io.camunda.zeebe.broker.transport.RequestReaderException;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * Reads an {@link ExecuteCommandBatchRequest}. The values of the commands are read with the same
+ * record types as the {@link CommandApiRequestReader} uses for single commands; the value of a
+ * command with an unsupported value type is {@code null}.
+ */
+public final class CommandBatchApiRequestReader
+    implements RequestReader<ExecuteCommandBatchRequestDecoder> {
+
+  private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+  private final ExecuteCommandBatchRequestDecoder batchRequestDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final ExecuteCommandBatchRequest batchRequest = new ExecuteCommandBatchRequest();
+  private final List<UnifiedRecordValue> values = new ArrayList<>();
+
+  @Override
+  public void reset() {
+    batchRequest.reset();
+    values.clear();
+  }
+
+  @Override
+  public ExecuteCommandBatchRequestDecoder getMessageDecoder() {
+    return batchRequestDecoder;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    final int templateId = messageHeaderDecoder.templateId();
+    if (TEMPLATE_ID != templateId) {
+      throw new RequestReaderException.InvalidTemplateException(TEMPLATE_ID, templateId);
+    }
+
+    batchRequestDecoder.wrap(
+        buffer,
+        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+    batchRequest.wrap(buffer, offset, length);
+
+    values.clear();
+    for (final var command : batchRequest.getCommands()) {
+      values.add(readValue(command));
+    }
+  }
+
+  public int getProtocolVersion() {
+    return messageHeaderDecoder.version();
+  }
+
+  public List<ExecuteCommandRequest> commands() {
+    return batchRequest.getCommands();
+  }
+
+  /**
+   * @return the values of the commands, in the same order as {@link #commands()}
+   */
+  public List<UnifiedRecordValue> values() {
+    return values;
+  }
+
+  private UnifiedRecordValue readValue(final ExecuteCommandRequest command) {
+    final var recordSupplier = CommandApiRequestReader.RECORDS_BY_TYPE.get(command.getValueType());
+    if (recordSupplier == null) {
+      return null;
+    }
+
+    final var commandValue = command.getValue();
+    final var value = recordSupplier.get();
+    value.wrap(commandValue, 0, commandValue.capacity());
+    return value;
+  }
+}
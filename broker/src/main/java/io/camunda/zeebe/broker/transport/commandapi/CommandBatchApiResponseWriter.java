@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler.ResponseWriter;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Writes the {@link ExecuteCommandBatchResponse} of a batch request, which contains the responses
+ * the engine wrote for each command of the batch.
+ */
+public final class CommandBatchApiResponseWriter implements ResponseWriter {
+
+  private final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+  private final ServerResponseImpl response = new ServerResponseImpl();
+
+  public CommandBatchApiResponseWriter addResponse(final DirectBuffer commandResponse) {
+    batchResponse.addResponse(commandResponse);
+    return this;
+  }
+
+  @Override
+  public void tryWriteResponse(
+      final ServerOutput output, final int partitionId, final long requestId) {
+    try {
+      response.reset().writer(this).setPartitionId(partitionId).setRequestId(requestId);
+      output.sendResponse(response);
+    } finally {
+      reset();
+    }
+  }
+
+  @Override
+  public void reset() {
+    batchResponse.reset();
+  }
+
+  @Override
+  public int getLength() {
+    return batchResponse.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    batchResponse.write(buffer, offset);
+  }
+}
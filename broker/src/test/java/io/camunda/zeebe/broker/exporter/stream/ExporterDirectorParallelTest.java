@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.test.util.TestUtil.doRepeatedly;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final String FAST_EXPORTER_ID = "fast";
+  private static final String SLOW_EXPORTER_ID = "slow";
+  private static final long TIMEOUT = 2_000;
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+
+  private final AtomicBoolean isSlowExporterFailing = new AtomicBoolean(true);
+  private final List<ExporterDescriptor> descriptors = new ArrayList<>();
+  private ControlledTestExporter fastExporter;
+  private ControlledTestExporter slowExporter;
+
+  @Before
+  public void init() {
+    fastExporter = createExporter(FAST_EXPORTER_ID);
+    slowExporter = createExporter(SLOW_EXPORTER_ID);
+    slowExporter.onExport(
+        record -> {
+          if (isSlowExporterFailing.get()) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+  }
+
+  private ControlledTestExporter createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    descriptors.add(descriptor);
+    return exporter;
+  }
+
+  @Test
+  public void shouldNotHoldBackOtherExportersOnSlowExporter() {
+    // given
+    rule.startExporterDirector(descriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("fast exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(fastExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition));
+    assertThat(slowExporter.getExportedRecords()).isEmpty();
+  }
+
+  @Test
+  public void shouldTrackPositionPerExporter() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // when
+    final long position = writeEvent();
+
+    // then
+    Awaitility.await("fast exporter has updated its position")
+        .until(() -> state.getPosition(FAST_EXPORTER_ID), p -> p == position);
+    assertThat(state.getPosition(SLOW_EXPORTER_ID)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldReportLowestPositionOfAllExporters() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final ExportersState state = rule.getExportersState();
+    final long position = writeEvent();
+    Awaitility.await("fast exporter has updated its position")
+        .until(() -> state.getPosition(FAST_EXPORTER_ID), p -> p == position);
+
+    // when
+    final long lowestPosition = rule.getDirector().getLowestPosition().join();
+
+    // then
+    assertThat(lowestPosition).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldCatchUpWithSlowExporter() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final long position = writeEvent();
+    Awaitility.await("fast exporter has exported the record")
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(1));
+
+    // when
+    isSlowExporterFailing.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> !slowExporter.getExportedRecords().isEmpty());
+    assertThat(slowExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(position);
+    Awaitility.await("lowest position has caught up")
+        .until(() -> rule.getDirector().getLowestPosition().join(), p -> p == position);
+  }
+
+  @Test
+  public void shouldPauseAndResumeAllExporters() {
+    // given
+    isSlowExporterFailing.set(false);
+    rule.startExporterDirector(descriptors);
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    writeEvent();
+
+    // then
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.PAUSED);
+    verify(fastExporter, after(TIMEOUT).never()).export(any());
+    verify(slowExporter, never()).export(any());
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.EXPORTING);
+    verify(fastExporter, timeout(TIMEOUT)).export(any());
+    verify(slowExporter, timeout(TIMEOUT)).export(any());
+  }
+
+  @Test
+  public void shouldCloseAllExportersOnClose() throws Exception {
+    // given
+    rule.startExporterDirector(descriptors);
+    Awaitility.await("all exporters are opened")
+        .until(() -> fastExporter.getController() != null && slowExporter.getController() != null);
+
+    // when
+    rule.closeExporterDirector();
+
+    // then
+    verify(fastExporter).close();
+    verify(slowExporter).close();
+  }
+
+  @Test
+  public void shouldUpdateLagPerExporter() {
+    // given
+    rule.startExporterDirector(descriptors);
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+    Awaitility.await("fast exporter has exported all records")
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(2));
+
+    // when
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(5)))
+        .until(
+            r ->
+                getLagRecords(SLOW_EXPORTER_ID) != null && getLagRecords(FAST_EXPORTER_ID) != null);
+
+    // then
+    Awaitility.await("lag of all exporters is updated")
+        .untilAsserted(
+            () -> {
+              assertThat(getLagRecords(FAST_EXPORTER_ID)).isZero();
+              assertThat(getLagRecords(SLOW_EXPORTER_ID))
+                  .isEqualTo(secondPosition - firstPosition + 1);
+            });
+  }
+
+  private Double getLagRecords(final String exporterId) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_exporter_lag_records",
+        new String[] {"exporter", "partition"},
+        new String[] {exporterId, "1"});
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
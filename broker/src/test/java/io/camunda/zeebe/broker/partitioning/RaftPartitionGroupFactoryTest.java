@@ -181,6 +181,32 @@ final class RaftPartitionGroupFactoryTest {
     assertThat(config.getStorageConfig().isPreallocateSegmentFiles()).isEqualTo(value);
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetPersistSegmentIndex(final boolean value) {
+    // given
+    brokerCfg.getExperimental().getRaft().setPersistSegmentIndex(value);
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getStorageConfig().isPersistSegmentIndex()).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetAdaptiveAppendWindow(final boolean value) {
+    // given
+    brokerCfg.getExperimental().getRaft().setAdaptiveAppendWindow(value);
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getPartitionConfig().isAdaptiveAppendWindowEnabled()).isEqualTo(value);
+  }
+
   private RaftPartitionGroupConfig buildRaftPartitionGroup() {
     final var partitionGroup =
         factory.buildRaftPartitionGroup(
@@ -8,11 +8,13 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class EngineCfgTest {
 
@@ -29,6 +31,10 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(1000);
+    assertThat(configuration.getProcessCacheMaxWeight())
+        .isEqualTo(DataSize.ofMegabytes(128).toBytes());
+    assertThat(configuration.getDrgCacheCapacity()).isEqualTo(1000);
   }
 
   @Test
@@ -42,5 +48,49 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(100);
+    assertThat(configuration.getProcessCacheMaxWeight())
+        .isEqualTo(DataSize.ofMegabytes(16).toBytes());
+    assertThat(configuration.getDrgCacheCapacity()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldSetProcessCacheViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.caches.processCacheCapacity", "50");
+    environment.put("zeebe.broker.experimental.engine.caches.processCacheMaxSize", "8MB");
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // when
+    final var configuration = cfg.getExperimental().getEngine().createEngineConfiguration();
+
+    // then
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(50);
+    assertThat(configuration.getProcessCacheMaxWeight())
+        .isEqualTo(DataSize.ofMegabytes(8).toBytes());
+  }
+
+  @Test
+  void shouldRejectEmptyProcessCache() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.caches.processCacheCapacity", "0");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .rootCause()
+        .hasMessageContaining("processCacheCapacity");
+  }
+
+  @Test
+  void shouldRejectNegativeDrgCacheCapacity() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.caches.drgCacheCapacity", "-1");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .rootCause()
+        .hasMessageContaining("drgCacheCapacity");
   }
 }
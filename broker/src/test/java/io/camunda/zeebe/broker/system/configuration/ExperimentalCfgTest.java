@@ -15,6 +15,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class ExperimentalCfgTest {
@@ -181,4 +182,117 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetPersistSegmentIndexFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.persistSegmentIndex", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistSegmentIndex()).isTrue();
+  }
+
+  @Test
+  void shouldNotPersistSegmentIndexByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistSegmentIndex()).isFalse();
+  }
+
+  @Test
+  void shouldSetAdaptiveAppendWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.adaptiveAppendWindow", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isAdaptiveAppendWindow()).isTrue();
+  }
+
+  @Test
+  void shouldNotAdaptAppendWindowByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isAdaptiveAppendWindow()).isFalse();
+  }
+
+  @Test
+  void shouldSetLogStreamCoalescingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var logStreamCfg = cfg.getExperimental().getLogStream();
+
+    // then
+    assertThat(logStreamCfg.getMaxCoalescedBatchCount()).isEqualTo(8);
+    assertThat(logStreamCfg.getMaxCoalescedBatchSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldSetLogStreamCoalescingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.logStream.maxCoalescedBatchCount", "1");
+    environment.put("zeebe.broker.experimental.logStream.maxCoalescedBatchSize", "512KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var logStreamCfg = cfg.getExperimental().getLogStream();
+
+    // then
+    assertThat(logStreamCfg.getMaxCoalescedBatchCount()).isOne();
+    assertThat(logStreamCfg.getMaxCoalescedBatchSize()).isEqualTo(DataSize.ofKilobytes(512));
+  }
+
+  @Test
+  void shouldUseDefaultLogStreamCoalescing() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var logStreamCfg = cfg.getExperimental().getLogStream();
+
+    // then
+    assertThat(logStreamCfg.getMaxCoalescedBatchCount()).isEqualTo(32);
+    assertThat(logStreamCfg.getMaxCoalescedBatchSize()).isNull();
+  }
+
+  @Test
+  void shouldSetParallelExportingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isParallelExporting()).isTrue();
+  }
+
+  @Test
+  void shouldSetParallelExportingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.parallelExporting", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isParallelExporting()).isFalse();
+  }
+
+  @Test
+  void shouldNotExportInParallelByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isParallelExporting()).isFalse();
+  }
 }
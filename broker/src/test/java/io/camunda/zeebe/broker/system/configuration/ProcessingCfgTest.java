@@ -130,4 +130,108 @@ final class ProcessingCfgTest {
     // then
     assertThat(enabled).isTrue();
   }
+
+  @Test
+  void shouldDisableGroupCommitByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableGroupCommit();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetGroupCommit() {
+    // given
+    final var cfg = new ProcessingCfg();
+    cfg.setEnableGroupCommit(true);
+
+    // when
+    final var enabled = cfg.isEnableGroupCommit();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetGroupCommitFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableGroupCommit();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableGroupCommitFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableGroupCommit", "false");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableGroupCommit();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldDisableFastReplayByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableFastReplay();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetFastReplay() {
+    // given
+    final var cfg = new ProcessingCfg();
+    cfg.setEnableFastReplay(true);
+
+    // when
+    final var enabled = cfg.isEnableFastReplay();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetFastReplayFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableFastReplay();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableFastReplayFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableFastReplay", "false");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableFastReplay();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
 }
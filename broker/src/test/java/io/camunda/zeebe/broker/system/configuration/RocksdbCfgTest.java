@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -77,6 +78,10 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.isNativeColumnFamiliesEnabled()).isFalse();
+    assertThat(rocksDbConfiguration.isWriteBatchTransactionsEnabled()).isFalse();
+    assertThat(rocksDbConfiguration.getColumnFamilyGroups()).isEmpty();
+    assertThat(rocksDbConfiguration.getColumnFamilyProfiles()).isEmpty();
   }
 
   @Test
@@ -285,4 +290,85 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetEnableNativeColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableNativeColumnFamilies()).isTrue();
+    assertThat(rocksdb.getColumnFamilyGroups())
+        .containsEntry("JOB_ACTIVATABLE", "queues")
+        .containsEntry("TIMER_DUE_DATES", "queues")
+        .hasSize(2);
+  }
+
+  @Test
+  public void shouldSetEnableNativeColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableNativeColumnFamilies", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableNativeColumnFamilies()).isTrue();
+  }
+
+  @Test
+  public void shouldSetEnableWriteBatchTransactionsViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableWriteBatchTransactions()).isTrue();
+    assertThat(rocksdb.createRocksDbConfiguration().isWriteBatchTransactionsEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldSetEnableWriteBatchTransactionsViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableWriteBatchTransactions", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableWriteBatchTransactions()).isTrue();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getColumnFamilyProfiles())
+        .containsEntry("queues", ColumnFamilyProfile.WRITE_HEAVY_QUEUE)
+        .containsEntry("VARIABLES", ColumnFamilyProfile.LARGE_VALUE)
+        .hasSize(2);
+    assertThat(rocksdb.createRocksDbConfiguration().getColumnFamilyProfile("queues"))
+        .isEqualTo(ColumnFamilyProfile.WRITE_HEAVY_QUEUE);
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesViaEnvironmentVariables() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.columnFamilyProfiles.PROCESS_CACHE", "READ_MOSTLY");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getColumnFamilyProfiles())
+        .containsEntry("PROCESS_CACHE", ColumnFamilyProfile.READ_MOSTLY);
+  }
 }
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.when;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldCloseService;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldDoNothing;
@@ -44,6 +45,7 @@ class ExporterDirectorPartitionTransitionStepTest {
   void setup() {
     transitionContext.setLogStream(mock(LogStream.class));
     transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
+    transitionContext.setBrokerCfg(new BrokerCfg());
 
     when(exporterRepository.getExporters()).thenReturn(Map.of());
     transitionContext.setExporterRepository(exporterRepository);
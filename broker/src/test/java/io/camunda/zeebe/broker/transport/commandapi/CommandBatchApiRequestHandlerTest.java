@@ -0,0 +1,413 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.netflix.concurrency.limits.limit.SettableLimit;
+import io.camunda.zeebe.broker.transport.backpressure.CommandRateLimiter;
+import io.camunda.zeebe.broker.transport.backpressure.NoopRequestLimiter;
+import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerRule;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class CommandBatchApiRequestHandlerTest {
+  @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
+  final CommandBatchApiRequestHandler handler = new CommandBatchApiRequestHandler();
+  private LogStreamWriter logStreamWriter;
+
+  @Before
+  public void setup() {
+    scheduler.submitActor(handler);
+    logStreamWriter = mock(LogStreamWriter.class);
+    when(logStreamWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logStreamWriter.tryWrite(anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logStreamWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+  }
+
+  @Test
+  public void shouldWriteAllCommandsAsOneBatch() {
+    // given
+    final var request = batchOf(publishMessage("a"), publishMessage("b"), publishMessage("c"));
+
+    // when
+    handleRequest(request);
+
+    // then
+    final var entries = captureWrittenEntries();
+    assertThat(entries).hasSize(3);
+    assertThat(entries)
+        .extracting(LogAppendEntry::recordMetadata)
+        .allSatisfy(
+            metadata -> {
+              assertThat(metadata.getRecordType()).isEqualTo(RecordType.COMMAND);
+              assertThat(metadata.getIntent()).isEqualTo(MessageIntent.PUBLISH);
+              assertThat(metadata.getRequestStreamId())
+                  .isEqualTo(CommandBatchApiRequestHandler.BATCH_REQUEST_STREAM_ID);
+            });
+    assertThat(entries)
+        .extracting(entry -> entry.recordMetadata().getRequestId())
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldRespondOnceAllCommandsAreProcessed() {
+    // given
+    final var request = batchOf(publishMessage("a"), publishMessage("b"));
+    final var responseFuture = handleRequest(request);
+    final var entries = captureWrittenEntries();
+    final var engineOutput = handler.interceptResponses(response -> {});
+
+    // when
+    respondToCommand(engineOutput, 0, entries.get(1), 2L);
+    scheduler.workUntilDone();
+    assertThat(responseFuture).isNotDone();
+
+    respondToCommand(engineOutput, 0, entries.get(0), 1L);
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isRight)
+        .extracting(Either::get)
+        .extracting(ExecuteCommandBatchResponse::getResponses)
+        .satisfies(
+            responses -> {
+              assertThat(responses).hasSize(2);
+              assertThat(responses)
+                  .extracting(
+                      buffer -> {
+                        final var response = new ExecuteCommandResponse();
+                        response.wrap(buffer, 0, buffer.capacity());
+                        return response.getKey();
+                      })
+                  .containsExactly(1L, 2L);
+            });
+  }
+
+  @Test
+  public void shouldIgnoreResponseToCommandOfOtherPartition() {
+    // given
+    handler.addPartition(1, logStreamWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+    final var responseFuture = handleRequest(batchOf(publishMessage("a")));
+    final var entry = captureWrittenEntries().get(0);
+    final var engineOutput = handler.interceptResponses(response -> {});
+
+    // when
+    respondToCommand(engineOutput, 1, entry, 1L);
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(responseFuture).isNotDone();
+
+    // when
+    respondToCommand(engineOutput, 0, entry, 1L);
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(responseFuture).succeedsWithin(Duration.ofMinutes(1)).matches(Either::isRight);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldUseNewRequestIdsAfterBecomingLeaderAgain() {
+    // given
+    handleRequest(batchOf(publishMessage("a")));
+    final var previousRequestId = captureWrittenEntries().get(0).recordMetadata().getRequestId();
+
+    handler.removePartition(0);
+    handler.addPartition(0, logStreamWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(batchOf(publishMessage("b")));
+
+    // then
+    final ArgumentCaptor<List<LogAppendEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter, times(2)).tryWrite(captor.capture());
+    assertThat(captor.getValue().get(0).recordMetadata().getRequestId())
+        .isNotEqualTo(previousRequestId);
+  }
+
+  @Test
+  public void shouldForwardResponsesToSingleCommands() {
+    // given
+    final var forwardedResponses = new ArrayList<Long>();
+    final var engineOutput =
+        handler.interceptResponses(response -> forwardedResponses.add(response.getRequestId()));
+
+    // when
+    engineOutput.sendResponse(
+        new ServerResponseImpl()
+            .writer(new ExecuteCommandResponse())
+            .setPartitionId(1)
+            .setRequestId(5));
+
+    // then
+    assertThat(forwardedResponses).containsExactly(5L);
+  }
+
+  @Test
+  public void shouldRespondToEmptyBatch() {
+    // given
+    final var request = batchOf();
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isRight)
+        .extracting(Either::get)
+        .extracting(ExecuteCommandBatchResponse::getResponses)
+        .satisfies(responses -> assertThat(responses).isEmpty());
+  }
+
+  @Test
+  public void shouldRejectBatchIfNotLeader() {
+    // given
+    final var request = batchOf(publishMessage("a"));
+    handler.removePartition(0);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.PARTITION_LEADER_MISMATCH);
+  }
+
+  @Test
+  public void shouldRejectBatchWithUnknownCommand() {
+    // given
+    final var unknownCommand = new ExecuteCommandRequest();
+    unknownCommand.setValueType(ValueType.ERROR);
+    final var request = batchOf(publishMessage("a"), unknownCommand);
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.UNSUPPORTED_MESSAGE);
+  }
+
+  @Test
+  public void shouldRejectBatchIfResourcesExhausted() {
+    // given
+    final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(false);
+    handler.addPartition(0, logStreamWriter, limiter);
+    scheduler.workUntilDone();
+
+    final var request = batchOf(publishMessage("a"), publishMessage("b"));
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+    verify(logStreamWriter, never()).tryWrite(anyList());
+  }
+
+  @Test
+  public void shouldAcquireSingleSlotForBatchWithMoreCommandsThanLimit() {
+    // given
+    final var limiter = CommandRateLimiter.builder().limit(new SettableLimit(2)).build(0);
+    handler.addPartition(0, logStreamWriter, limiter);
+    scheduler.workUntilDone();
+
+    final var request =
+        batchOf(publishMessage("a"), publishMessage("b"), publishMessage("c"), publishMessage("d"));
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture).isNotDone();
+    assertThat(limiter.getInflightCount()).isOne();
+
+    // when
+    final var lastCommand = captureWrittenEntries().get(3).recordMetadata();
+    limiter.onResponse(lastCommand.getRequestStreamId(), lastCommand.getRequestId());
+
+    // then
+    assertThat(limiter.getInflightCount()).isZero();
+  }
+
+  @Test
+  public void shouldReturnPartitionLeaderMismatchWhenWriterClosed() {
+    // given
+    when(logStreamWriter.tryWrite(anyList())).thenReturn(Either.left(WriteFailure.CLOSED));
+    final var request = batchOf(publishMessage("a"));
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.PARTITION_LEADER_MISMATCH);
+  }
+
+  @Test
+  public void shouldRejectBatchIfTooLarge() {
+    // given
+    when(logStreamWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(false);
+    final var request = batchOf(publishMessage("a"));
+
+    // when
+    final var responseFuture = handleRequest(request);
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.MALFORMED_REQUEST);
+  }
+
+  private ExecuteCommandRequest publishMessage(final String name) {
+    final var request =
+        new BrokerPublishMessageRequest(name, "1").setMessageId(name).setTimeToLive(0);
+    request.serializeValue();
+
+    final var buffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(buffer, 0);
+    final var command = new ExecuteCommandRequest();
+    command.wrap(buffer, 0, buffer.capacity());
+    return command;
+  }
+
+  private ExecuteCommandBatchRequest batchOf(final ExecuteCommandRequest... commands) {
+    final var request = new ExecuteCommandBatchRequest().setPartitionId(0);
+    for (final var command : commands) {
+      request.addCommand(command);
+    }
+    return request;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<LogAppendEntry> captureWrittenEntries() {
+    final ArgumentCaptor<List<LogAppendEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(captor.capture());
+    return captor.getValue();
+  }
+
+  private void respondToCommand(
+      final ServerOutput output,
+      final int partitionId,
+      final LogAppendEntry command,
+      final long key) {
+    final var metadata = command.recordMetadata();
+    final var response =
+        new ExecuteCommandResponse()
+            .setPartitionId(partitionId)
+            .setKey(key)
+            .setRecordType(RecordType.EVENT)
+            .setValueType(metadata.getValueType())
+            .setIntent(MessageIntent.PUBLISHED);
+    output.sendResponse(
+        new ServerResponseImpl()
+            .writer(response)
+            .setPartitionId(metadata.getRequestStreamId())
+            .setRequestId(metadata.getRequestId()));
+  }
+
+  private CompletableFuture<Either<ErrorResponse, ExecuteCommandBatchResponse>> handleRequest(
+      final BufferWriter request) {
+    final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandBatchResponse>>();
+    final ServerOutput serverOutput = createServerOutput(future);
+    final var requestBuffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(requestBuffer, 0);
+    handler.onRequest(serverOutput, 0, 0, requestBuffer, 0, request.getLength());
+    scheduler.workUntilDone();
+    return future;
+  }
+
+  private ServerOutput createServerOutput(
+      final CompletableFuture<Either<ErrorResponse, ExecuteCommandBatchResponse>> future) {
+    return serverResponse -> {
+      final var buffer = new ExpandableArrayBuffer();
+      serverResponse.write(buffer, 0);
+
+      final var error = new ErrorResponse();
+      if (error.tryWrap(buffer)) {
+        error.wrap(buffer, 0, serverResponse.getLength());
+        future.complete(Either.left(error));
+        return;
+      }
+
+      final var response = new ExecuteCommandBatchResponse();
+      try {
+        response.wrap(buffer, 0, serverResponse.getLength());
+        future.complete(Either.right(response));
+      } catch (final Exception e) {
+        future.completeExceptionally(e);
+      }
+    };
+  }
+}
@@ -15,6 +15,9 @@
  */
 package io.camunda.zeebe.client;
 
+import io.camunda.zeebe.client.api.command.BatchCompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.BatchCreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.BatchPublishMessageCommandStep1;
 import io.camunda.zeebe.client.api.command.BroadcastSignalCommandStep1;
 import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
@@ -243,6 +246,54 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   BroadcastSignalCommandStep1 newBroadcastSignalCommand();
 
+  /**
+   * Command to complete several jobs with a single request. The jobs are completed independently of
+   * each other, and the result of each completion is reported separately.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newBatchCompleteJobCommand()
+   *  .add(zeebeClient.newCompleteCommand(jobKey).variables(json))
+   *  .add(zeebeClient.newCompleteCommand(otherJobKey))
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  BatchCompleteJobCommandStep1 newBatchCompleteJobCommand();
+
+  /**
+   * Command to publish several messages with a single request. The messages are published
+   * independently of each other, and the result of each message is reported separately.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newBatchPublishMessageCommand()
+   *  .add(zeebeClient.newPublishMessageCommand().messageName("canceled").correlationKey(orderId))
+   *  .add(zeebeClient.newPublishMessageCommand().messageName("canceled").correlationKey(otherId))
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  BatchPublishMessageCommandStep1 newBatchPublishMessageCommand();
+
+  /**
+   * Command to create several process instances with a single request. The instances are created
+   * independently of each other, and the result of each creation is reported separately.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newBatchCreateProcessInstanceCommand()
+   *  .add(zeebeClient.newCreateInstanceCommand().bpmnProcessId("process").latestVersion())
+   *  .add(zeebeClient.newCreateInstanceCommand().bpmnProcessId("process").latestVersion())
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  BatchCreateProcessInstanceCommandStep1 newBatchCreateProcessInstanceCommand();
+
   /**
    * Command to resolve an existing incident.
    *
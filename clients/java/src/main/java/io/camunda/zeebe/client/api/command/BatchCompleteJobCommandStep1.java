@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+
+public interface BatchCompleteJobCommandStep1
+    extends FinalCommandStep<BatchCommandResponse<CompleteJobResponse>> {
+
+  /**
+   * Add a job completion to the batch. The command must be created by this client, e.g. with {@link
+   * io.camunda.zeebe.client.api.worker.JobClient#newCompleteCommand(long)}, and is sent as part of
+   * the batch instead of on its own.
+   *
+   * @param command the command to complete the job
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   * @throws IllegalArgumentException if the command was not created by this client
+   */
+  BatchCompleteJobCommandStep1 add(CompleteJobCommandStep1 command);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1.CreateProcessInstanceCommandStep3;
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
+
+public interface BatchCreateProcessInstanceCommandStep1
+    extends FinalCommandStep<BatchCommandResponse<ProcessInstanceEvent>> {
+
+  /**
+   * Add a process instance to the batch. The command must be created by this client, i.e. with
+   * {@link io.camunda.zeebe.client.ZeebeClient#newCreateInstanceCommand()}, and is sent as part of
+   * the batch instead of on its own. Awaiting the result of the instance is not supported.
+   *
+   * @param command the command to create the process instance
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   * @throws IllegalArgumentException if the command was not created by this client
+   */
+  BatchCreateProcessInstanceCommandStep1 add(CreateProcessInstanceCommandStep3 command);
+}
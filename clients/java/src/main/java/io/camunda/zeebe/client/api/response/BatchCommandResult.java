@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.response;
+
+import io.grpc.Status.Code;
+
+public interface BatchCommandResult<T> {
+
+  /**
+   * @return true if the command was processed successfully, otherwise false
+   */
+  boolean isSuccessful();
+
+  /**
+   * @return the response to the command, or null if it was not successful
+   */
+  T getResponse();
+
+  /**
+   * @return the status code of the error, or {@link Code#OK} if the command was successful
+   */
+  Code getErrorCode();
+
+  /**
+   * @return the message of the error, or an empty string if the command was successful
+   */
+  String getErrorMessage();
+}
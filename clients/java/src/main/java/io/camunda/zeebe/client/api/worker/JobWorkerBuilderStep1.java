@@ -205,6 +205,12 @@ public interface JobWorkerBuilderStep1 {
      * <p>If the stream is closed, e.g. the server closed the connection, was restarted, etc., it
      * will be immediately recreated as long as the worker is opened.
      *
+     * <p>The job client passed to the handler then also sends the completions, failures and thrown
+     * errors of jobs over a long living stream, instead of with a call per job. If the gateway does
+     * not support this stream, they are sent with a call per job as before. The request timeout of
+     * such a command still applies: if its result isn't acknowledged in time, the command fails
+     * with a deadline exceeded error.
+     *
      * <p>NOTE: Job streaming is still under active development, and should be disabled if you
      * notice any issues.
      *
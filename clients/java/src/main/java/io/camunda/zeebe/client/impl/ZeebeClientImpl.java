@@ -21,6 +21,9 @@ import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.ZeebeClientConfiguration;
 import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.BatchCompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.BatchCreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.BatchPublishMessageCommandStep1;
 import io.camunda.zeebe.client.api.command.BroadcastSignalCommandStep1;
 import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ClientException;
@@ -42,6 +45,9 @@ import io.camunda.zeebe.client.api.command.UpdateRetriesJobCommandStep1;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
+import io.camunda.zeebe.client.impl.command.BatchCompleteJobCommandImpl;
+import io.camunda.zeebe.client.impl.command.BatchCreateProcessInstanceCommandImpl;
+import io.camunda.zeebe.client.impl.command.BatchPublishMessageCommandImpl;
 import io.camunda.zeebe.client.impl.command.BroadcastSignalCommandImpl;
 import io.camunda.zeebe.client.impl.command.CancelProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.CreateProcessInstanceCommandImpl;
@@ -312,6 +318,24 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public BatchCompleteJobCommandStep1 newBatchCompleteJobCommand() {
+    return new BatchCompleteJobCommandImpl(
+        asyncStub, config, credentialsProvider::shouldRetryRequest);
+  }
+
+  @Override
+  public BatchPublishMessageCommandStep1 newBatchPublishMessageCommand() {
+    return new BatchPublishMessageCommandImpl(
+        asyncStub, config, credentialsProvider::shouldRetryRequest);
+  }
+
+  @Override
+  public BatchCreateProcessInstanceCommandStep1 newBatchCreateProcessInstanceCommand() {
+    return new BatchCreateProcessInstanceCommandImpl(
+        asyncStub, config, credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public ResolveIncidentCommandStep1 newResolveIncidentCommand(final long incidentKey) {
     return new ResolveIncidentCommandImpl(
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.BatchCompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.BatchCommandResponseImpl;
+import io.camunda.zeebe.client.impl.response.BatchCommandResultImpl;
+import io.camunda.zeebe.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class BatchCompleteJobCommandImpl implements BatchCompleteJobCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final Predicate<Throwable> retryPredicate;
+  private final BatchCompleteJobRequest.Builder builder = BatchCompleteJobRequest.newBuilder();
+  private Duration requestTimeout;
+
+  public BatchCompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.retryPredicate = retryPredicate;
+    requestTimeout = configuration.getDefaultRequestTimeout();
+  }
+
+  @Override
+  public BatchCompleteJobCommandStep1 add(final CompleteJobCommandStep1 command) {
+    if (!(command instanceof CompleteJobCommandImpl)) {
+      throw new IllegalArgumentException(
+          "Expected a command which was created by this client, but got " + command);
+    }
+
+    builder.addRequests(((CompleteJobCommandImpl) command).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BatchCommandResponse<CompleteJobResponse>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchCommandResponse<CompleteJobResponse>> send() {
+    final BatchCompleteJobRequest request = builder.build();
+    final RetriableClientFutureImpl<
+            BatchCommandResponse<CompleteJobResponse>, BatchCompleteJobResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                BatchCompleteJobCommandImpl::toResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final BatchCompleteJobRequest request,
+      final StreamObserver<BatchCompleteJobResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .batchCompleteJob(request, streamObserver);
+  }
+
+  private static BatchCommandResponse<CompleteJobResponse> toResponse(
+      final BatchCompleteJobResponse response) {
+    return new BatchCommandResponseImpl<>(
+        response.getResultsList().stream()
+            .map(BatchCompleteJobCommandImpl::toResult)
+            .collect(Collectors.toList()));
+  }
+
+  private static BatchCommandResult<CompleteJobResponse> toResult(final CompleteJobResult result) {
+    if (result.hasResponse()) {
+      return BatchCommandResultImpl.success(new CompleteJobResponseImpl(result.getResponse()));
+    }
+
+    return BatchCommandResultImpl.failure(result.getError());
+  }
+}
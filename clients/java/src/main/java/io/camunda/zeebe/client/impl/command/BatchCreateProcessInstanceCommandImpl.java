@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.BatchCreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1.CreateProcessInstanceCommandStep3;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.BatchCommandResponseImpl;
+import io.camunda.zeebe.client.impl.response.BatchCommandResultImpl;
+import io.camunda.zeebe.client.impl.response.CreateProcessInstanceResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class BatchCreateProcessInstanceCommandImpl
+    implements BatchCreateProcessInstanceCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final Predicate<Throwable> retryPredicate;
+  private final BatchCreateProcessInstanceRequest.Builder builder =
+      BatchCreateProcessInstanceRequest.newBuilder();
+  private Duration requestTimeout;
+
+  public BatchCreateProcessInstanceCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.retryPredicate = retryPredicate;
+    requestTimeout = configuration.getDefaultRequestTimeout();
+  }
+
+  @Override
+  public BatchCreateProcessInstanceCommandStep1 add(
+      final CreateProcessInstanceCommandStep3 command) {
+    if (!(command instanceof CreateProcessInstanceCommandImpl)) {
+      throw new IllegalArgumentException(
+          "Expected a command which was created by this client, but got " + command);
+    }
+
+    builder.addRequests(((CreateProcessInstanceCommandImpl) command).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BatchCommandResponse<ProcessInstanceEvent>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchCommandResponse<ProcessInstanceEvent>> send() {
+    final BatchCreateProcessInstanceRequest request = builder.build();
+    final RetriableClientFutureImpl<
+            BatchCommandResponse<ProcessInstanceEvent>, BatchCreateProcessInstanceResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                BatchCreateProcessInstanceCommandImpl::toResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final BatchCreateProcessInstanceRequest request,
+      final StreamObserver<BatchCreateProcessInstanceResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .batchCreateProcessInstance(request, streamObserver);
+  }
+
+  private static BatchCommandResponse<ProcessInstanceEvent> toResponse(
+      final BatchCreateProcessInstanceResponse response) {
+    return new BatchCommandResponseImpl<>(
+        response.getResultsList().stream()
+            .map(BatchCreateProcessInstanceCommandImpl::toResult)
+            .collect(Collectors.toList()));
+  }
+
+  private static BatchCommandResult<ProcessInstanceEvent> toResult(
+      final CreateProcessInstanceResult result) {
+    if (result.hasResponse()) {
+      return BatchCommandResultImpl.success(
+          new CreateProcessInstanceResponseImpl(result.getResponse()));
+    }
+
+    return BatchCommandResultImpl.failure(result.getError());
+  }
+}
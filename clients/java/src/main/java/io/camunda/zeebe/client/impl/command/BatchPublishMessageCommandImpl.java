@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.BatchPublishMessageCommandStep1;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import io.camunda.zeebe.client.api.response.PublishMessageResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.BatchCommandResponseImpl;
+import io.camunda.zeebe.client.impl.response.BatchCommandResultImpl;
+import io.camunda.zeebe.client.impl.response.PublishMessageResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class BatchPublishMessageCommandImpl implements BatchPublishMessageCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final Predicate<Throwable> retryPredicate;
+  private final BatchPublishMessageRequest.Builder builder =
+      BatchPublishMessageRequest.newBuilder();
+  private Duration requestTimeout;
+
+  public BatchPublishMessageCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.retryPredicate = retryPredicate;
+    requestTimeout = configuration.getDefaultRequestTimeout();
+  }
+
+  @Override
+  public BatchPublishMessageCommandStep1 add(final PublishMessageCommandStep3 command) {
+    if (!(command instanceof PublishMessageCommandImpl)) {
+      throw new IllegalArgumentException(
+          "Expected a command which was created by this client, but got " + command);
+    }
+
+    builder.addRequests(((PublishMessageCommandImpl) command).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BatchCommandResponse<PublishMessageResponse>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchCommandResponse<PublishMessageResponse>> send() {
+    final BatchPublishMessageRequest request = builder.build();
+    final RetriableClientFutureImpl<
+            BatchCommandResponse<PublishMessageResponse>, BatchPublishMessageResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                BatchPublishMessageCommandImpl::toResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final BatchPublishMessageRequest request,
+      final StreamObserver<BatchPublishMessageResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .batchPublishMessage(request, streamObserver);
+  }
+
+  private static BatchCommandResponse<PublishMessageResponse> toResponse(
+      final BatchPublishMessageResponse response) {
+    return new BatchCommandResponseImpl<>(
+        response.getResultsList().stream()
+            .map(BatchPublishMessageCommandImpl::toResult)
+            .collect(Collectors.toList()));
+  }
+
+  private static BatchCommandResult<PublishMessageResponse> toResult(
+      final PublishMessageResult result) {
+    if (result.hasResponse()) {
+      return BatchCommandResultImpl.success(new PublishMessageResponseImpl(result.getResponse()));
+    }
+
+    return BatchCommandResultImpl.failure(result.getError());
+  }
+}
@@ -37,6 +37,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
   private Duration requestTimeout;
 
   public CompleteJobCommandImpl(
@@ -45,10 +46,25 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * Creates a command which is sent over the given job result stream, if it's not {@code null},
+   * instead of with its own call.
+   */
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
     builder = CompleteJobRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -70,10 +86,20 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
                 retryPredicate,
                 streamObserver -> send(request, streamObserver));
 
-    send(request, future);
+    if (resultStream != null) {
+      resultStream.complete(
+          request, requestTimeout, future, streamObserver -> send(request, streamObserver));
+    } else {
+      send(request, future);
+    }
     return future;
   }
 
+  /** Builds the request, e.g. to send it as part of a batch instead of on its own. */
+  CompleteJobRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
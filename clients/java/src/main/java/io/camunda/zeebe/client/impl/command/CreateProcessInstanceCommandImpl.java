@@ -130,6 +130,11 @@ public final class CreateProcessInstanceCommandImpl
     return this;
   }
 
+  /** Builds the request, e.g. to send it as part of a batch instead of on its own. */
+  CreateProcessInstanceRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final CreateProcessInstanceRequest request,
       final StreamObserver<GatewayOuterClass.CreateProcessInstanceResponse> future) {
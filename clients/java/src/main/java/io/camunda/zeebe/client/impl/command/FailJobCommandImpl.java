@@ -38,6 +38,7 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
   private Duration requestTimeout;
 
   public FailJobCommandImpl(
@@ -46,10 +47,25 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * Creates a command which is sent over the given job result stream, if it's not {@code null},
+   * instead of with its own call.
+   */
+  public FailJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
     builder = FailJobRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -94,7 +110,12 @@ public final class FailJobCommandImpl extends CommandWithVariables<FailJobComman
             retryPredicate,
             streamObserver -> send(request, streamObserver));
 
-    send(request, future);
+    if (resultStream != null) {
+      resultStream.fail(
+          request, requestTimeout, future, streamObserver -> send(request, streamObserver));
+    } else {
+      send(request, future);
+    }
     return future;
   }
 
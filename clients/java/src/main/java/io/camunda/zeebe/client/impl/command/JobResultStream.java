@@ -0,0 +1,297 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+
+/**
+ * A long-lived stream over which the results of jobs - completions, failures and thrown errors -
+ * are sent to the gateway, instead of sending each result with its own call. The stream is opened
+ * when the first result is sent, and reopened with the next result if it fails. Each result is
+ * acknowledged asynchronously on the stream. If a result isn't acknowledged within the request
+ * timeout of its command, it fails with {@link Code#DEADLINE_EXCEEDED}, like a call would.
+ *
+ * <p>If the gateway does not support the stream, or once the stream is closed, results are sent
+ * with their own calls instead, using the fallback given with each result.
+ */
+@ThreadSafe
+public final class JobResultStream implements Closeable {
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService scheduler;
+  private final Lock streamLock = new ReentrantLock();
+
+  @GuardedBy("streamLock")
+  private final Map<Long, PendingResult<?>> pendingResults = new HashMap<>();
+
+  @GuardedBy("streamLock")
+  private StreamObserver<JobResultRequest> requestObserver;
+
+  @GuardedBy("streamLock")
+  private long nextRequestId;
+
+  @GuardedBy("streamLock")
+  private boolean isClosed;
+
+  private volatile boolean isSupported = true;
+
+  public JobResultStream(final GatewayStub asyncStub, final ScheduledExecutorService scheduler) {
+    this.asyncStub = asyncStub;
+    this.scheduler = scheduler;
+  }
+
+  public void complete(
+      final CompleteJobRequest request,
+      final Duration timeout,
+      final StreamObserver<CompleteJobResponse> responseObserver,
+      final Consumer<StreamObserver<CompleteJobResponse>> fallback) {
+    send(
+        JobResultRequest.newBuilder().setComplete(request),
+        timeout,
+        new PendingResult<>(responseObserver, CompleteJobResponse.getDefaultInstance(), fallback));
+  }
+
+  public void fail(
+      final FailJobRequest request,
+      final Duration timeout,
+      final StreamObserver<FailJobResponse> responseObserver,
+      final Consumer<StreamObserver<FailJobResponse>> fallback) {
+    send(
+        JobResultRequest.newBuilder().setFail(request),
+        timeout,
+        new PendingResult<>(responseObserver, FailJobResponse.getDefaultInstance(), fallback));
+  }
+
+  public void throwError(
+      final ThrowErrorRequest request,
+      final Duration timeout,
+      final StreamObserver<ThrowErrorResponse> responseObserver,
+      final Consumer<StreamObserver<ThrowErrorResponse>> fallback) {
+    send(
+        JobResultRequest.newBuilder().setThrowError(request),
+        timeout,
+        new PendingResult<>(responseObserver, ThrowErrorResponse.getDefaultInstance(), fallback));
+  }
+
+  /**
+   * Closes the stream for new results. Results which were already sent are still acknowledged, and
+   * new results are sent with their own calls.
+   */
+  @Override
+  public void close() {
+    streamLock.lock();
+    try {
+      isClosed = true;
+      if (requestObserver != null) {
+        requestObserver.onCompleted();
+      }
+    } finally {
+      streamLock.unlock();
+    }
+  }
+
+  private void send(
+      final JobResultRequest.Builder request,
+      final Duration timeout,
+      final PendingResult<?> result) {
+    streamLock.lock();
+    try {
+      if (!isClosed && isSupported && requestObserver == null) {
+        openStream();
+      }
+
+      if (!isClosed && requestObserver != null) {
+        final long requestId = nextRequestId++;
+        pendingResults.put(requestId, result);
+        result.timeout =
+            scheduler.schedule(
+                () -> onTimeout(requestId, timeout), timeout.toMillis(), TimeUnit.MILLISECONDS);
+        requestObserver.onNext(request.setRequestId(requestId).build());
+        return;
+      }
+    } finally {
+      streamLock.unlock();
+    }
+
+    result.fallback();
+  }
+
+  private void onTimeout(final long requestId, final Duration timeout) {
+    final PendingResult<?> result;
+    streamLock.lock();
+    try {
+      result = pendingResults.remove(requestId);
+    } finally {
+      streamLock.unlock();
+    }
+
+    if (result != null) {
+      result.fail(
+          Status.DEADLINE_EXCEEDED
+              .withDescription(
+                  String.format(
+                      "Job result was not acknowledged within the request timeout of %s", timeout))
+              .asRuntimeException());
+    }
+  }
+
+  @GuardedBy("streamLock")
+  private void openStream() {
+    final ResponseObserver responseObserver = new ResponseObserver();
+    final StreamObserver<JobResultRequest> stream = asyncStub.jobResultStream(responseObserver);
+
+    // depending on the executor, the stream may already have failed, e.g. if it isn't supported
+    if (!responseObserver.isTerminated) {
+      requestObserver = stream;
+    }
+  }
+
+  private final class ResponseObserver implements StreamObserver<JobResultResponse> {
+
+    @GuardedBy("streamLock")
+    private boolean isTerminated;
+
+    @Override
+    public void onNext(final JobResultResponse response) {
+      final PendingResult<?> result;
+      streamLock.lock();
+      try {
+        result = pendingResults.remove(response.getRequestId());
+      } finally {
+        streamLock.unlock();
+      }
+
+      if (result == null) {
+        // the result may have timed out already
+        LOG.debug("Received acknowledgement of unknown job result {}", response.getRequestId());
+      } else if (response.hasError()) {
+        result.fail(
+            Status.fromCodeValue(response.getError().getCode())
+                .withDescription(response.getError().getMessage())
+                .asRuntimeException());
+      } else {
+        result.acknowledge();
+      }
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      final boolean isUnsupported = Status.fromThrowable(error).getCode() == Code.UNIMPLEMENTED;
+      if (isUnsupported) {
+        LOG.debug("Gateway does not support job result streams, sending job results one by one");
+        isSupported = false;
+      }
+
+      for (final PendingResult<?> result : removePendingResults()) {
+        if (isUnsupported) {
+          // nothing was applied, so the results can safely be sent again
+          result.fallback();
+        } else {
+          result.fail(error);
+        }
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      for (final PendingResult<?> result : removePendingResults()) {
+        result.fail(
+            Status.UNAVAILABLE
+                .withDescription("Job result stream was closed before the result was acknowledged")
+                .asRuntimeException());
+      }
+    }
+
+    private List<PendingResult<?>> removePendingResults() {
+      streamLock.lock();
+      try {
+        isTerminated = true;
+        requestObserver = null;
+        final List<PendingResult<?>> results = new ArrayList<>(pendingResults.values());
+        pendingResults.clear();
+        return results;
+      } finally {
+        streamLock.unlock();
+      }
+    }
+  }
+
+  private static final class PendingResult<T> {
+    private final StreamObserver<T> responseObserver;
+    private final T acknowledgement;
+    private final Consumer<StreamObserver<T>> fallback;
+    private Future<?> timeout;
+
+    private PendingResult(
+        final StreamObserver<T> responseObserver,
+        final T acknowledgement,
+        final Consumer<StreamObserver<T>> fallback) {
+      this.responseObserver = responseObserver;
+      this.acknowledgement = acknowledgement;
+      this.fallback = fallback;
+    }
+
+    private void acknowledge() {
+      cancelTimeout();
+      responseObserver.onNext(acknowledgement);
+      responseObserver.onCompleted();
+    }
+
+    private void fail(final Throwable error) {
+      cancelTimeout();
+      responseObserver.onError(error);
+    }
+
+    private void fallback() {
+      cancelTimeout();
+      fallback.accept(responseObserver);
+    }
+
+    private void cancelTimeout() {
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+    }
+  }
+}
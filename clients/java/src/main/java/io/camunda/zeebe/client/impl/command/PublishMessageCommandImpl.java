@@ -105,6 +105,11 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
     return future;
   }
 
+  /** Builds the request, e.g. to send it as part of a batch instead of on its own. */
+  PublishMessageRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final PublishMessageRequest request,
       final StreamObserver<GatewayOuterClass.PublishMessageResponse> streamObserver) {
@@ -36,6 +36,7 @@ public final class ThrowErrorCommandImpl extends CommandWithVariables<ThrowError
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
   private Duration requestTimeout;
 
   public ThrowErrorCommandImpl(
@@ -44,10 +45,25 @@ public final class ThrowErrorCommandImpl extends CommandWithVariables<ThrowError
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * Creates a command which is sent over the given job result stream, if it's not {@code null},
+   * instead of with its own call.
+   */
+  public ThrowErrorCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
     builder = ThrowErrorRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -84,7 +100,12 @@ public final class ThrowErrorCommandImpl extends CommandWithVariables<ThrowError
         new RetriableClientFutureImpl<>(
             retryPredicate, streamObserver -> send(request, streamObserver));
 
-    send(request, future);
+    if (resultStream != null) {
+      resultStream.throwError(
+          request, requestTimeout, future, streamObserver -> send(request, streamObserver));
+    } else {
+      send(request, future);
+    }
     return future;
   }
 
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import java.util.List;
+
+public final class BatchCommandResponseImpl<T> implements BatchCommandResponse<T> {
+
+  private final List<BatchCommandResult<T>> results;
+
+  public BatchCommandResponseImpl(final List<BatchCommandResult<T>> results) {
+    this.results = results;
+  }
+
+  @Override
+  public List<BatchCommandResult<T>> getResults() {
+    return results;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+
+public final class BatchCommandResultImpl<T> implements BatchCommandResult<T> {
+
+  private final T response;
+  private final Code errorCode;
+  private final String errorMessage;
+
+  private BatchCommandResultImpl(
+      final T response, final Code errorCode, final String errorMessage) {
+    this.response = response;
+    this.errorCode = errorCode;
+    this.errorMessage = errorMessage;
+  }
+
+  public static <T> BatchCommandResult<T> success(final T response) {
+    return new BatchCommandResultImpl<>(response, Code.OK, "");
+  }
+
+  public static <T> BatchCommandResult<T> failure(final BatchItemError error) {
+    return new BatchCommandResultImpl<>(
+        null, Status.fromCodeValue(error.getCode()).getCode(), error.getMessage());
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return errorCode == Code.OK;
+  }
+
+  @Override
+  public T getResponse() {
+    return response;
+  }
+
+  @Override
+  public Code getErrorCode() {
+    return errorCode;
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+}
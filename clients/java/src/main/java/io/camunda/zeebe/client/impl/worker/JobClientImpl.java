@@ -27,9 +27,11 @@ import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.impl.command.ActivateJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.CompleteJobCommandImpl;
 import io.camunda.zeebe.client.impl.command.FailJobCommandImpl;
+import io.camunda.zeebe.client.impl.command.JobResultStream;
 import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 public final class JobClientImpl implements JobClient {
@@ -38,22 +40,57 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<Throwable> retryPredicate;
+  private final JobResultStream resultStream;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
       final ZeebeClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, config, jsonMapper, retryPredicate, null);
+  }
+
+  private JobClientImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<Throwable> retryPredicate,
+      final JobResultStream resultStream) {
     this.asyncStub = asyncStub;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.resultStream = resultStream;
+  }
+
+  /**
+   * @param scheduler the scheduler on which results are timed out if they aren't acknowledged
+   * @return a new stream over which the results of jobs can be sent to the gateway
+   */
+  public JobResultStream newJobResultStream(final ScheduledExecutorService scheduler) {
+    return new JobResultStream(asyncStub, scheduler);
+  }
+
+  /**
+   * Returns a job client which sends the completions, failures and thrown errors of jobs over the
+   * given stream, instead of with a call per job. All other commands are sent as before.
+   *
+   * @param resultStream the stream to send the results of jobs over
+   * @return a job client which uses the given stream
+   */
+  public JobClientImpl withResultStream(final JobResultStream resultStream) {
+    return new JobClientImpl(asyncStub, config, jsonMapper, retryPredicate, resultStream);
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
     return new CompleteJobCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        resultStream);
   }
 
   @Override
@@ -64,7 +101,12 @@ public final class JobClientImpl implements JobClient {
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        resultStream);
   }
 
   @Override
@@ -75,7 +117,12 @@ public final class JobClientImpl implements JobClient {
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(final long jobKey) {
     return new ThrowErrorCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        resultStream);
   }
 
   @Override
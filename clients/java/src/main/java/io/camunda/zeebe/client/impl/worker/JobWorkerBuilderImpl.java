@@ -28,6 +28,7 @@ import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.camunda.zeebe.client.impl.command.JobResultStream;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
@@ -156,7 +157,8 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
+    JobClient handlerClient = jobClient;
+    JobResultStream resultStream = null;
     final JobPoller jobPoller =
         new JobPoller(
             jobClient, requestTimeout, jobType, workerName, timeout, fetchVariables, maxJobsActive);
@@ -177,10 +179,17 @@ public final class JobWorkerBuilderImpl
               backoffSupplier,
               executorService);
 
+      // only the client's own job client can send the results of jobs over a result stream
+      if (jobClient instanceof JobClientImpl) {
+        resultStream = ((JobClientImpl) jobClient).newJobResultStream(executorService);
+        handlerClient = ((JobClientImpl) jobClient).withResultStream(resultStream);
+      }
     } else {
       jobStreamer = JobStreamer.noop();
     }
 
+    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(handlerClient, handler);
+
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
             maxJobsActive,
@@ -189,6 +198,7 @@ public final class JobWorkerBuilderImpl
             jobRunnableFactory,
             jobPoller,
             jobStreamer,
+            resultStream,
             backoffSupplier);
     closeables.add(jobWorker);
     return jobWorker;
@@ -19,6 +19,7 @@ import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.BackoffSupplier;
 import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.client.impl.command.JobResultStream;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Optional;
@@ -65,6 +66,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private final JobRunnableFactory jobHandlerFactory;
   private final long initialPollInterval;
   private final JobStreamer jobStreamer;
+  private final JobResultStream resultStream;
   private final BackoffSupplier backoffSupplier;
 
   // state synchronization
@@ -82,6 +84,30 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final JobPoller jobPoller,
       final JobStreamer jobStreamer,
       final BackoffSupplier backoffSupplier) {
+    this(
+        maxJobsActive,
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        null,
+        backoffSupplier);
+  }
+
+  /**
+   * Creates a worker whose job handlers send the results of their jobs over the given stream, if
+   * it's not {@code null}. The stream is closed together with the worker.
+   */
+  public JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final JobResultStream resultStream,
+      final BackoffSupplier backoffSupplier) {
     this.maxJobsActive = maxJobsActive;
     activationThreshold = Math.round(maxJobsActive * 0.3f);
     remainingJobs = new AtomicInteger(0);
@@ -89,6 +115,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     this.executor = executor;
     this.jobHandlerFactory = jobHandlerFactory;
     this.jobStreamer = jobStreamer;
+    this.resultStream = resultStream;
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
 
@@ -117,6 +144,9 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   public void close() {
     acquiringJobs.set(false);
     jobStreamer.close();
+    if (resultStream != null) {
+      resultStream.close();
+    }
   }
 
   /**
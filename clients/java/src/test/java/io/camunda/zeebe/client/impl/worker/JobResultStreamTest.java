@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.camunda.zeebe.client.impl.command.JobResultStream;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Status.Code;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.migrationsupport.rules.ExternalResourceSupport;
+
+@ExtendWith(ExternalResourceSupport.class)
+final class JobResultStreamTest {
+  @Rule
+  public final GrpcCleanupRule grpcRule =
+      new GrpcCleanupRule().setTimeout(1, TimeUnit.MILLISECONDS);
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private JobResultStream resultStream;
+
+  @AfterEach
+  void tearDown() {
+    resultStream.close();
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void shouldSendResultsOverOneStream() throws IOException {
+    // given
+    final StreamingService service = new StreamingService();
+    final JobClient client = createClient(service);
+
+    // when
+    client.newCompleteCommand(1).send().join();
+    client.newFailCommand(2).retries(1).send().join();
+    client.newThrowErrorCommand(3).errorCode("error").send().join();
+
+    // then
+    assertThat(service.streamCount).isEqualTo(1);
+    assertThat(service.results)
+        .extracting(JobResultRequest::getResultCase)
+        .containsExactly(
+            JobResultRequest.ResultCase.COMPLETE,
+            JobResultRequest.ResultCase.FAIL,
+            JobResultRequest.ResultCase.THROWERROR);
+    assertThat(service.results).extracting(JobResultRequest::getRequestId).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldFailCommandIfResultIsRejected() throws IOException {
+    // given
+    final StreamingService service = new StreamingService();
+    service.error =
+        BatchItemError.newBuilder()
+            .setCode(Code.NOT_FOUND.value())
+            .setMessage("job not found")
+            .build();
+    final JobClient client = createClient(service);
+
+    // when - then
+    assertThatThrownBy(() -> client.newCompleteCommand(1).send().join())
+        .isInstanceOf(ClientStatusException.class)
+        .hasMessageContaining("job not found")
+        .extracting(error -> ((ClientStatusException) error).getStatusCode())
+        .isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  void shouldFailCommandIfResultIsNotAcknowledgedInTime() throws IOException {
+    // given
+    final StreamingService service = new StreamingService();
+    service.isAcknowledging = false;
+    final JobClient client = createClient(service);
+
+    // when - then
+    assertThatThrownBy(
+            () -> client.newCompleteCommand(1).requestTimeout(Duration.ofMillis(100)).send().join())
+        .isInstanceOf(ClientStatusException.class)
+        .extracting(error -> ((ClientStatusException) error).getStatusCode())
+        .isEqualTo(Code.DEADLINE_EXCEEDED);
+  }
+
+  @Test
+  void shouldCompleteJobsOneByOneIfStreamIsNotSupported() throws IOException {
+    // given
+    final UnaryService service = new UnaryService();
+    final JobClient client = createClient(service);
+
+    // when
+    client.newCompleteCommand(1).send().join();
+    client.newCompleteCommand(2).send().join();
+
+    // then
+    assertThat(service.requests).extracting(CompleteJobRequest::getJobKey).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldCompleteJobsOneByOneAfterClose() throws IOException {
+    // given
+    final UnaryService service = new UnaryService();
+    final JobClient client = createClient(service);
+
+    // when
+    resultStream.close();
+    client.newCompleteCommand(1).send().join();
+
+    // then
+    assertThat(service.requests).extracting(CompleteJobRequest::getJobKey).containsExactly(1L);
+  }
+
+  private JobClient createClient(final GatewayImplBase service) throws IOException {
+    final String name = InProcessServerBuilder.generateName();
+    final ManagedChannel clientChannel =
+        grpcRule.register(InProcessChannelBuilder.forName(name).directExecutor().build());
+    grpcRule.register(
+        InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start());
+
+    final GatewayStub asyncStub = GatewayGrpc.newStub(clientChannel);
+    final JobClientImpl client =
+        new JobClientImpl(
+            asyncStub, new ZeebeClientBuilderImpl(), new ZeebeObjectMapper(), ignored -> false);
+    resultStream = client.newJobResultStream(scheduler);
+    return client.withResultStream(resultStream);
+  }
+
+  private static final class StreamingService extends GatewayImplBase {
+    private final List<JobResultRequest> results = new ArrayList<>();
+    private int streamCount;
+    private BatchItemError error;
+    private boolean isAcknowledging = true;
+
+    @Override
+    public StreamObserver<JobResultRequest> jobResultStream(
+        final StreamObserver<JobResultResponse> responseObserver) {
+      streamCount++;
+      return new StreamObserver<JobResultRequest>() {
+        @Override
+        public void onNext(final JobResultRequest request) {
+          results.add(request);
+          if (!isAcknowledging) {
+            return;
+          }
+
+          final JobResultResponse.Builder response =
+              JobResultResponse.newBuilder().setRequestId(request.getRequestId());
+          if (error != null) {
+            response.setError(error);
+          }
+          responseObserver.onNext(response.build());
+        }
+
+        @Override
+        public void onError(final Throwable t) {}
+
+        @Override
+        public void onCompleted() {
+          responseObserver.onCompleted();
+        }
+      };
+    }
+  }
+
+  private static final class UnaryService extends GatewayImplBase {
+    private final List<CompleteJobRequest> requests = new ArrayList<>();
+
+    @Override
+    public void completeJob(
+        final CompleteJobRequest request,
+        final StreamObserver<CompleteJobResponse> responseObserver) {
+      requests.add(request);
+      responseObserver.onNext(CompleteJobResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+  }
+}
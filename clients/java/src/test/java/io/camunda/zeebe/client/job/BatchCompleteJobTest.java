@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.grpc.Status.Code;
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class BatchCompleteJobTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobsInOneRequest() {
+    // given
+    gatewayService.onBatchCompleteJobRequest(
+        BatchCompleteJobResponse.newBuilder()
+            .addResults(
+                CompleteJobResult.newBuilder()
+                    .setResponse(GatewayOuterClass.CompleteJobResponse.getDefaultInstance()))
+            .addResults(
+                CompleteJobResult.newBuilder()
+                    .setError(
+                        BatchItemError.newBuilder()
+                            .setCode(Code.NOT_FOUND.value())
+                            .setMessage("job not found")))
+            .build());
+
+    // when
+    final BatchCommandResponse<CompleteJobResponse> response =
+        client
+            .newBatchCompleteJobCommand()
+            .add(client.newCompleteCommand(1).variables(Collections.singletonMap("foo", "bar")))
+            .add(client.newCompleteCommand(2))
+            .send()
+            .join();
+
+    // then
+    final BatchCompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L);
+    JsonUtil.assertEquality(request.getRequests(0).getVariables(), "{\"foo\": \"bar\"}");
+
+    assertThat(response.getResults())
+        .extracting(BatchCommandResult::isSuccessful)
+        .containsExactly(true, false);
+    final BatchCommandResult<CompleteJobResponse> failure = response.getResults().get(1);
+    assertThat(failure.getResponse()).isNull();
+    assertThat(failure.getErrorCode()).isEqualTo(Code.NOT_FOUND);
+    assertThat(failure.getErrorMessage()).isEqualTo("job not found");
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldRejectCommandNotCreatedByClient() {
+    // given
+    final CompleteJobCommandStep1 command = Mockito.mock(CompleteJobCommandStep1.class);
+
+    // when - then
+    assertThatThrownBy(() -> client.newBatchCompleteJobCommand().add(command))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.BatchCommandResult;
+import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import io.grpc.Status.Code;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class BatchCreateProcessInstanceTest extends ClientTest {
+
+  @Test
+  public void shouldCreateProcessInstancesInOneRequest() {
+    // given
+    gatewayService.onBatchCreateProcessInstanceRequest(
+        BatchCreateProcessInstanceResponse.newBuilder()
+            .addResults(
+                CreateProcessInstanceResult.newBuilder()
+                    .setResponse(
+                        CreateProcessInstanceResponse.newBuilder()
+                            .setBpmnProcessId("process")
+                            .setProcessInstanceKey(123)))
+            .addResults(
+                CreateProcessInstanceResult.newBuilder()
+                    .setError(
+                        BatchItemError.newBuilder()
+                            .setCode(Code.RESOURCE_EXHAUSTED.value())
+                            .setMessage("exhausted")))
+            .build());
+
+    // when
+    final BatchCommandResponse<ProcessInstanceEvent> response =
+        client
+            .newBatchCreateProcessInstanceCommand()
+            .add(client.newCreateInstanceCommand().bpmnProcessId("process").latestVersion())
+            .add(client.newCreateInstanceCommand().processDefinitionKey(456))
+            .requestTimeout(Duration.ofSeconds(30))
+            .send()
+            .join();
+
+    // then
+    final BatchCreateProcessInstanceRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(CreateProcessInstanceRequest::getProcessDefinitionKey)
+        .containsExactly(0L, 456L);
+
+    assertThat(response.getResults().get(0).getResponse().getProcessInstanceKey()).isEqualTo(123);
+    assertThat(response.getResults().get(1))
+        .extracting(BatchCommandResult::getErrorCode)
+        .isEqualTo(Code.RESOURCE_EXHAUSTED);
+
+    rule.verifyRequestTimeout(Duration.ofSeconds(30));
+  }
+}
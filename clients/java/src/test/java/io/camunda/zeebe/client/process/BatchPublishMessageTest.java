@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.client.api.response.BatchCommandResponse;
+import io.camunda.zeebe.client.api.response.PublishMessageResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class BatchPublishMessageTest extends ClientTest {
+
+  @Test
+  public void shouldPublishMessagesInOneRequest() {
+    // given
+    gatewayService.onBatchPublishMessageRequest(
+        BatchPublishMessageResponse.newBuilder()
+            .addResults(
+                PublishMessageResult.newBuilder()
+                    .setResponse(GatewayOuterClass.PublishMessageResponse.newBuilder().setKey(0)))
+            .addResults(
+                PublishMessageResult.newBuilder()
+                    .setResponse(GatewayOuterClass.PublishMessageResponse.newBuilder().setKey(1)))
+            .build());
+
+    // when
+    final BatchCommandResponse<PublishMessageResponse> response =
+        client
+            .newBatchPublishMessageCommand()
+            .add(client.newPublishMessageCommand().messageName("name").correlationKey("a"))
+            .add(
+                client
+                    .newPublishMessageCommand()
+                    .messageName("name")
+                    .correlationKey("b")
+                    .timeToLive(Duration.ofMinutes(1)))
+            .send()
+            .join();
+
+    // then
+    final BatchPublishMessageRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(PublishMessageRequest::getCorrelationKey)
+        .containsExactly("a", "b");
+    assertThat(request.getRequests(1).getTimeToLive()).isEqualTo(Duration.ofMinutes(1).toMillis());
+
+    assertThat(response.getResults())
+        .extracting(result -> result.getResponse().getMessageKey())
+        .containsExactly(0L, 1L);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+}
@@ -21,6 +21,12 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -121,6 +127,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(
         BroadcastSignalRequest.class, r -> BroadcastSignalResponse.getDefaultInstance());
     addRequestHandler(StreamActivatedJobsRequest.class, r -> ActivatedJob.getDefaultInstance());
+    addRequestHandler(
+        BatchCompleteJobRequest.class, r -> BatchCompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        BatchPublishMessageRequest.class, r -> BatchPublishMessageResponse.getDefaultInstance());
+    addRequestHandler(
+        BatchCreateProcessInstanceRequest.class,
+        r -> BatchCreateProcessInstanceResponse.getDefaultInstance());
   }
 
   public static Partition partition(
@@ -346,6 +359,27 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void batchCompleteJob(
+      final BatchCompleteJobRequest request,
+      final StreamObserver<BatchCompleteJobResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
+  @Override
+  public void batchPublishMessage(
+      final BatchPublishMessageRequest request,
+      final StreamObserver<BatchPublishMessageResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
+  @Override
+  public void batchCreateProcessInstance(
+      final BatchCreateProcessInstanceRequest request,
+      final StreamObserver<BatchCreateProcessInstanceResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   public void onTopologyRequest(
       final int clusterSize,
       final int partitionsCount,
@@ -411,6 +445,19 @@ public final class RecordingGatewayService extends GatewayImplBase {
         request -> PublishMessageResponse.newBuilder().setKey(key).build());
   }
 
+  public void onBatchCompleteJobRequest(final BatchCompleteJobResponse response) {
+    addRequestHandler(BatchCompleteJobRequest.class, request -> response);
+  }
+
+  public void onBatchPublishMessageRequest(final BatchPublishMessageResponse response) {
+    addRequestHandler(BatchPublishMessageRequest.class, request -> response);
+  }
+
+  public void onBatchCreateProcessInstanceRequest(
+      final BatchCreateProcessInstanceResponse response) {
+    addRequestHandler(BatchCreateProcessInstanceRequest.class, request -> response);
+  }
+
   public void onBroadcastSignalRequest(final long key) {
     addRequestHandler(
         BroadcastSignalRequest.class,
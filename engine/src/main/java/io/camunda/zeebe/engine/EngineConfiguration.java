@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.engine;
 
+import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThan;
+import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThanOrEqual;
+
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -16,12 +19,19 @@ public final class EngineConfiguration {
 
   public static final int DEFAULT_MAX_ERROR_MESSAGE_SIZE = 10000;
 
+  public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final long DEFAULT_PROCESS_CACHE_MAX_WEIGHT = 128 * 1024 * 1024L;
+  public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+
   // This size (in bytes) is used as a buffer when filling an event/command up to the maximum
   // message size.
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private int processCacheCapacity = DEFAULT_PROCESS_CACHE_CAPACITY;
+  private long processCacheMaxWeight = DEFAULT_PROCESS_CACHE_MAX_WEIGHT;
+  private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -42,4 +52,42 @@ public final class EngineConfiguration {
     this.messagesTtlCheckerInterval = messagesTtlCheckerInterval;
     return this;
   }
+
+  public int getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public EngineConfiguration setProcessCacheCapacity(final int processCacheCapacity) {
+    ensureGreaterThan("processCacheCapacity", processCacheCapacity, 0);
+    this.processCacheCapacity = processCacheCapacity;
+    return this;
+  }
+
+  /**
+   * @return the maximum summed size in bytes of the persisted processes (mostly their BPMN
+   *     resources) kept in the process cache
+   */
+  public long getProcessCacheMaxWeight() {
+    return processCacheMaxWeight;
+  }
+
+  public EngineConfiguration setProcessCacheMaxWeight(final long processCacheMaxWeight) {
+    ensureGreaterThan("processCacheMaxWeight", processCacheMaxWeight, 0);
+    this.processCacheMaxWeight = processCacheMaxWeight;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of parsed decision requirements graphs kept in memory; 0 disables
+   *     the cache
+   */
+  public int getDrgCacheCapacity() {
+    return drgCacheCapacity;
+  }
+
+  public EngineConfiguration setDrgCacheCapacity(final int drgCacheCapacity) {
+    ensureGreaterThanOrEqual("drgCacheCapacity", drgCacheCapacity, 0);
+    this.drgCacheCapacity = drgCacheCapacity;
+    return this;
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class DrgCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("drg_cache_requests_total")
+          .help("Number of lookups of parsed decision requirements graphs in the cache, by result")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("drg_cache_evictions_total")
+          .help("Number of parsed decision requirements graphs evicted from the cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("drg_cache_size")
+          .help("Number of parsed decision requirements graphs currently in the cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Gauge.Child size;
+
+  public DrgCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = REQUESTS.labels(partitionIdLabel, "hit");
+    misses = REQUESTS.labels(partitionIdLabel, "miss");
+    evictions = EVICTIONS.labels(partitionIdLabel);
+    size = SIZE.labels(partitionIdLabel);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void evicted() {
+    evictions.inc();
+  }
+
+  public void setCacheSize(final int entries) {
+    size.set(entries);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class ProcessCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String RESULT_LABEL = "result";
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_requests_total")
+          .help("Number of lookups of deployed processes in the process cache, by result")
+          .labelNames(PARTITION_LABEL, RESULT_LABEL)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram LOAD_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_load_time_seconds")
+          .help("Time to read and transform a deployed process on a process cache miss")
+          .buckets(.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5)
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_size")
+          .help("Number of deployed processes currently in the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge WEIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_weight_bytes")
+          .help("Size of the resources of all deployed processes currently in the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Histogram.Child loadTime;
+  private final Gauge.Child size;
+  private final Gauge.Child weight;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = REQUESTS.labels(partitionIdLabel, "hit");
+    misses = REQUESTS.labels(partitionIdLabel, "miss");
+    evictions = EVICTIONS.labels(partitionIdLabel);
+    loadTime = LOAD_TIME.labels(partitionIdLabel);
+    size = SIZE.labels(partitionIdLabel);
+    weight = WEIGHT.labels(partitionIdLabel);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void evicted() {
+    evictions.inc();
+  }
+
+  public void observeLoadTime(final long nanos) {
+    loadTime.observe(nanos / 1e9);
+  }
+
+  public void setCacheSize(final int entries, final long weightInBytes) {
+    size.set(entries);
+    weight.set(weightInBytes);
+  }
+}
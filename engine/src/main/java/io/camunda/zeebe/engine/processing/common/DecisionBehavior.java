@@ -19,7 +19,6 @@ import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.dmn.impl.VariablesContext;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
-import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import io.camunda.zeebe.engine.state.immutable.DecisionState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
@@ -30,7 +29,6 @@ import io.camunda.zeebe.protocol.record.intent.DecisionEvaluationIntent;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.collection.Tuple;
-import java.io.ByteArrayInputStream;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
@@ -66,8 +64,8 @@ public class DecisionBehavior {
 
   public Either<Failure, ParsedDecisionRequirementsGraph> findAndParseDrgByDecision(
       final PersistedDecision persistedDecision) {
-    return findDrgByDecision(persistedDecision)
-        .flatMap(drg -> parseDrg(drg.getResource()))
+    return findParsedDrgByDecision(persistedDecision)
+        .flatMap(DecisionBehavior::validateDrg)
         .mapLeft(
             failure ->
                 formatDecisionLookupFailure(
@@ -152,27 +150,21 @@ public class DecisionBehavior {
     }
   }
 
-  private Either<Failure, PersistedDecisionRequirements> findDrgByDecision(
+  private Either<Failure, ParsedDecisionRequirementsGraph> findParsedDrgByDecision(
       final PersistedDecision decision) {
     final var key = decision.getDecisionRequirementsKey();
     final var id = decision.getDecisionRequirementsId();
-    return Either.ofOptional(decisionState.findDecisionRequirementsByKey(key))
+    return Either.ofOptional(decisionState.findParsedDecisionRequirementsByKey(key, decisionEngine))
         .orElse(new Failure("no drg found for id '%s'".formatted(bufferAsString(id))));
   }
 
-  private Either<Failure, ParsedDecisionRequirementsGraph> parseDrg(final DirectBuffer resource) {
-    return Either.<Failure, DirectBuffer>right(resource)
-        .map(BufferUtil::bufferAsArray)
-        .map(ByteArrayInputStream::new)
-        .map(decisionEngine::parse)
-        .flatMap(
-            parseResult -> {
-              if (parseResult.isValid()) {
-                return Either.right(parseResult);
-              } else {
-                return Either.left(new Failure(parseResult.getFailureMessage()));
-              }
-            });
+  private static Either<Failure, ParsedDecisionRequirementsGraph> validateDrg(
+      final ParsedDecisionRequirementsGraph drg) {
+    if (drg.isValid()) {
+      return Either.right(drg);
+    } else {
+      return Either.left(new Failure(drg.getFailureMessage()));
+    }
   }
 
   private void addDecisionToEvaluationEvent(
@@ -16,13 +16,20 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.DrgCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,8 +68,15 @@ public final class DbDecisionState implements MutableDecisionState {
   private final ColumnFamily<DbCompositeKey<DbString, DbInt>, DbForeignKey<DbLong>>
       decisionRequirementsKeyByIdAndVersion;
 
+  private final Map<Long, ParsedDecisionRequirementsGraph> parsedDrgsByKey;
+  private final DrgCacheMetrics drgCacheMetrics;
+  private final int drgCacheCapacity;
+
   public DbDecisionState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     dbDecisionKey = new DbLong();
     fkDecision = new DbForeignKey<>(dbDecisionKey, ZbColumnFamilies.DMN_DECISIONS);
 
@@ -125,6 +139,25 @@ public final class DbDecisionState implements MutableDecisionState {
             transactionContext,
             decisionRequirementsIdAndVersion,
             fkDecisionRequirements);
+
+    drgCacheMetrics = new DrgCacheMetrics(partitionId);
+    drgCacheCapacity = config.getDrgCacheCapacity();
+    parsedDrgsByKey = createParsedDrgCache(drgCacheCapacity);
+  }
+
+  private Map<Long, ParsedDecisionRequirementsGraph> createParsedDrgCache(final int capacity) {
+    // an access ordered map evicts the least recently used DRG first
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<Long, ParsedDecisionRequirementsGraph> eldest) {
+        if (size() > capacity) {
+          drgCacheMetrics.evicted();
+          return true;
+        }
+        return false;
+      }
+    };
   }
 
   @Override
@@ -160,6 +193,32 @@ public final class DbDecisionState implements MutableDecisionState {
         .map(PersistedDecisionRequirements::copy);
   }
 
+  @Override
+  public Optional<ParsedDecisionRequirementsGraph> findParsedDecisionRequirementsByKey(
+      final long decisionRequirementsKey, final DecisionEngine decisionEngine) {
+    final var cachedDrg = parsedDrgsByKey.get(decisionRequirementsKey);
+    if (cachedDrg != null) {
+      drgCacheMetrics.hit();
+      return Optional.of(cachedDrg);
+    }
+
+    drgCacheMetrics.miss();
+    dbDecisionRequirementsKey.wrapLong(decisionRequirementsKey);
+    final var persistedDrg = decisionRequirementsByKey.get(dbDecisionRequirementsKey);
+    if (persistedDrg == null) {
+      return Optional.empty();
+    }
+
+    final var parsedDrg =
+        decisionEngine.parse(
+            new ByteArrayInputStream(BufferUtil.bufferAsArray(persistedDrg.getResource())));
+    if (drgCacheCapacity > 0) {
+      parsedDrgsByKey.put(decisionRequirementsKey, parsedDrg);
+      drgCacheMetrics.setCacheSize(parsedDrgsByKey.size());
+    }
+    return Optional.of(parsedDrg);
+  }
+
   @Override
   public List<PersistedDecision> findDecisionsByDecisionRequirementsKey(
       final long decisionRequirementsKey) {
@@ -250,6 +309,7 @@ public final class DbDecisionState implements MutableDecisionState {
     dbDecisionRequirementsKey.wrapLong(record.getDecisionRequirementsKey());
     dbPersistedDecisionRequirements.wrap(record);
     decisionRequirementsByKey.upsert(dbDecisionRequirementsKey, dbPersistedDecisionRequirements);
+    invalidateParsedDrg(record.getDecisionRequirementsKey());
 
     dbDecisionRequirementsId.wrapString(record.getDecisionRequirementsId());
     dbDecisionRequirementsVersion.wrapInt(record.getDecisionRequirementsVersion());
@@ -323,6 +383,13 @@ public final class DbDecisionState implements MutableDecisionState {
 
     decisionRequirementsByKey.deleteExisting(dbDecisionRequirementsKey);
     decisionRequirementsKeyByIdAndVersion.deleteExisting(decisionRequirementsIdAndVersion);
+    invalidateParsedDrg(record.getDecisionRequirementsKey());
+  }
+
+  private void invalidateParsedDrg(final long decisionRequirementsKey) {
+    if (parsedDrgsByKey.remove(decisionRequirementsKey) != null) {
+      drgCacheMetrics.setCacheSize(parsedDrgsByKey.size());
+    }
   }
 
   private void updateLatestDecisionVersion(final DecisionRecord record) {
@@ -17,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -31,15 +33,12 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
@@ -50,9 +49,8 @@ public final class DbProcessState implements MutableProcessState {
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
-      processesByProcessIdAndVersion = new HashMap<>();
-  private final Long2ObjectHashMap<DeployedProcess> processesByKey;
+  private final ProcessCache processCache;
+  private final ProcessCacheMetrics processCacheMetrics;
 
   // process
   private final ColumnFamily<DbLong, PersistedProcess> processColumnFamily;
@@ -73,7 +71,10 @@ public final class DbProcessState implements MutableProcessState {
   private final ProcessVersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     processColumnFamily =
@@ -100,7 +101,12 @@ public final class DbProcessState implements MutableProcessState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID, transactionContext, fkProcessId, digest);
 
-    processesByKey = new Long2ObjectHashMap<>();
+    processCacheMetrics = new ProcessCacheMetrics(partitionId);
+    processCache =
+        new ProcessCache(
+            config.getProcessCacheCapacity(),
+            config.getProcessCacheMaxWeight(),
+            processCacheMetrics);
 
     versionManager = new ProcessVersionManager(DEFAULT_VERSION_VALUE, zeebeDb, transactionContext);
   }
@@ -142,7 +148,8 @@ public final class DbProcessState implements MutableProcessState {
     final var process = processColumnFamily.get(this.processDefinitionKey);
     process.setState(state);
     processColumnFamily.update(this.processDefinitionKey, process);
-    updateInMemoryState(process);
+    // the cached process still refers to the old state, it is reloaded lazily on the next access
+    processCache.remove(processDefinitionKey);
   }
 
   @Override
@@ -154,8 +161,7 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.deleteExisting(processDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(idAndVersionKey);
 
-    processesByProcessIdAndVersion.remove(processRecord.getBpmnProcessIdBuffer());
-    processesByKey.remove(processRecord.getProcessDefinitionKey());
+    processCache.remove(processRecord.getProcessDefinitionKey());
 
     final long latestVersion =
         versionManager.getLatestProcessVersion(processRecord.getBpmnProcessId());
@@ -190,6 +196,7 @@ public final class DbProcessState implements MutableProcessState {
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    final long startTime = System.nanoTime();
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedProcess.getLength()];
@@ -217,8 +224,8 @@ public final class DbProcessState implements MutableProcessState {
                             persistedProcess.getKey())));
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
-
-    addProcessToInMemoryState(deployedProcess);
+    processCache.put(deployedProcess, bytes.length);
+    processCacheMetrics.observeLoadTime(System.nanoTime() - startTime);
 
     return deployedProcess;
   }
@@ -229,80 +236,66 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
-  private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
-    processesByKey.put(deployedProcess.getKey(), deployedProcess);
-
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.computeIfAbsent(
-            bpmnProcessId, id -> new Long2ObjectHashMap<>());
-
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
-  }
-
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(final DirectBuffer processIdBuffer) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processIdBuffer);
-
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getLatestProcessVersion(processIdBuffer);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-      }
+    final DeployedProcess deployedProcess =
+        processCache.getByIdAndVersion(processIdBuffer, latestVersion);
+    if (deployedProcess != null) {
+      processCacheMetrics.hit();
+      return deployedProcess;
     }
-    return deployedProcess;
+
+    processCacheMetrics.miss();
+    return lookupProcessByIdAndPersistedVersion(latestVersion);
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processId);
+    final DeployedProcess deployedProcess = processCache.getByIdAndVersion(processId, version);
 
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null ? deployedProcess : lookupPersistenceState(processId, version);
+    if (deployedProcess != null) {
+      processCacheMetrics.hit();
+      return deployedProcess;
     } else {
+      processCacheMetrics.miss();
       return lookupPersistenceState(processId, version);
     }
   }
 
   @Override
   public DeployedProcess getProcessByKey(final long key) {
-    final DeployedProcess deployedProcess = processesByKey.get(key);
+    final DeployedProcess deployedProcess = processCache.getByKey(key);
 
     if (deployedProcess != null) {
+      processCacheMetrics.hit();
       return deployedProcess;
     } else {
+      processCacheMetrics.miss();
       return lookupPersistenceStateForProcessByKey(key);
     }
   }
 
   @Override
   public Collection<DeployedProcess> getProcesses() {
-    updateCompleteInMemoryState();
-    return processesByKey.values();
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processColumnFamily.forEach(process -> processes.add(getOrLoadProcess(process)));
+    return processes;
   }
 
   @Override
   public Collection<DeployedProcess> getProcessesByBpmnProcessId(final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedProcess> processesByVersions =
-        processesByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (processesByVersions != null) {
-      return processesByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processId.wrapBuffer(bpmnProcessId);
+    processByIdAndVersionColumnFamily.whileEqualPrefix(
+        processId,
+        (key, process) -> {
+          processes.add(getOrLoadProcess(process));
+        });
+    return processes;
   }
 
   @Override
@@ -348,8 +341,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processesByKey.clear();
-    processesByProcessIdAndVersion.clear();
+    processCache.clear();
     versionManager.clear();
   }
 
@@ -374,14 +366,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByProcessIdAndVersion.get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -392,15 +377,20 @@ public final class DbProcessState implements MutableProcessState {
 
     final PersistedProcess processWithKey = processColumnFamily.get(this.processDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processesByKey.get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
-  private void updateCompleteInMemoryState() {
-    processColumnFamily.forEach(this::updateInMemoryState);
+  private DeployedProcess getOrLoadProcess(final PersistedProcess persistedProcess) {
+    final DeployedProcess deployedProcess = processCache.getByKey(persistedProcess.getKey());
+    if (deployedProcess != null) {
+      processCacheMetrics.hit();
+      return deployedProcess;
+    }
+
+    processCacheMetrics.miss();
+    return updateInMemoryState(persistedProcess);
   }
 }
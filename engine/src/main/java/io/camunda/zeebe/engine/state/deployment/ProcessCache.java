@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A bounded cache of deployed processes, indexed by their key as well as by their process id and
+ * version. The cache is bounded by the number of processes and by their weight, which is the size
+ * of the persisted process (i.e. mostly the size of the BPMN resource). When either bound is
+ * exceeded, the least recently used processes are evicted, but the most recently added process is
+ * always kept, even if it exceeds the weight on its own.
+ *
+ * <p>Entries are linked in access order, such that hits don't allocate. The cache is not thread
+ * safe, and is meant to be used only from the stream processor actor.
+ */
+final class ProcessCache {
+
+  private final Long2ObjectHashMap<Entry> entriesByKey = new Long2ObjectHashMap<>();
+  private final Map<DirectBuffer, Long2ObjectHashMap<Entry>> entriesByIdAndVersion =
+      new HashMap<>();
+
+  /** Sentinel of the access order list; head.next is the least recently used entry */
+  private final Entry head = new Entry(null, 0);
+
+  private final int capacity;
+  private final long maxWeight;
+  private final ProcessCacheMetrics metrics;
+  private long weight;
+
+  ProcessCache(final int capacity, final long maxWeight, final ProcessCacheMetrics metrics) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          "Expected process cache capacity to be at least 1, but was " + capacity);
+    }
+
+    this.capacity = capacity;
+    this.maxWeight = maxWeight;
+    this.metrics = metrics;
+    head.previous = head;
+    head.next = head;
+  }
+
+  DeployedProcess getByKey(final long key) {
+    return access(entriesByKey.get(key));
+  }
+
+  DeployedProcess getByIdAndVersion(final DirectBuffer bpmnProcessId, final long version) {
+    final var versions = entriesByIdAndVersion.get(bpmnProcessId);
+    return versions == null ? null : access(versions.get(version));
+  }
+
+  void put(final DeployedProcess process, final int processWeight) {
+    remove(process.getKey());
+
+    final var entry = new Entry(process, processWeight);
+    entriesByKey.put(process.getKey(), entry);
+    entriesByIdAndVersion
+        .computeIfAbsent(process.getBpmnProcessId(), id -> new Long2ObjectHashMap<>())
+        .put(process.getVersion(), entry);
+    linkLast(entry);
+    weight += processWeight;
+
+    evict();
+    metrics.setCacheSize(entriesByKey.size(), weight);
+  }
+
+  void remove(final long key) {
+    final var entry = entriesByKey.remove(key);
+    if (entry != null) {
+      removeEntry(entry);
+      metrics.setCacheSize(entriesByKey.size(), weight);
+    }
+  }
+
+  void clear() {
+    entriesByKey.clear();
+    entriesByIdAndVersion.clear();
+    head.previous = head;
+    head.next = head;
+    weight = 0;
+    metrics.setCacheSize(0, 0);
+  }
+
+  int size() {
+    return entriesByKey.size();
+  }
+
+  long weight() {
+    return weight;
+  }
+
+  private DeployedProcess access(final Entry entry) {
+    if (entry == null) {
+      return null;
+    }
+
+    unlink(entry);
+    linkLast(entry);
+    return entry.process;
+  }
+
+  private void evict() {
+    while ((entriesByKey.size() > capacity || weight > maxWeight) && entriesByKey.size() > 1) {
+      final var eldest = head.next;
+      entriesByKey.remove(eldest.process.getKey());
+      removeEntry(eldest);
+      metrics.evicted();
+    }
+  }
+
+  private void removeEntry(final Entry entry) {
+    final var process = entry.process;
+    final var versions = entriesByIdAndVersion.get(process.getBpmnProcessId());
+    if (versions != null && versions.get(process.getVersion()) == entry) {
+      versions.remove(process.getVersion());
+      if (versions.isEmpty()) {
+        entriesByIdAndVersion.remove(process.getBpmnProcessId());
+      }
+    }
+
+    unlink(entry);
+    weight -= entry.weight;
+  }
+
+  private void linkLast(final Entry entry) {
+    entry.previous = head.previous;
+    entry.next = head;
+    head.previous.next = entry;
+    head.previous = entry;
+  }
+
+  private void unlink(final Entry entry) {
+    entry.previous.next = entry.next;
+    entry.next.previous = entry.previous;
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  private static final class Entry {
+    private final DeployedProcess process;
+    private final int weight;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(final DeployedProcess process, final int weight) {
+      this.process = process;
+      this.weight = weight;
+    }
+  }
+}
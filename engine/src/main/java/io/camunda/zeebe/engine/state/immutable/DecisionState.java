@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import java.util.List;
@@ -52,6 +54,19 @@ public interface DecisionState {
   Optional<PersistedDecisionRequirements> findDecisionRequirementsByKey(
       long decisionRequirementsKey);
 
+  /**
+   * Query decision requirements (DRGs) by the given decision requirements key and return the parsed
+   * DRG. Parsed DRGs are cached, such that the resource doesn't need to be parsed again for every
+   * evaluation.
+   *
+   * @param decisionRequirementsKey the key of the DRG
+   * @param decisionEngine the decision engine to parse the DRG with, if it isn't cached yet
+   * @return the parsed DRG, which may be invalid if its resource can't be parsed, or {@link
+   *     Optional#empty()} if no DRG is deployed with the given key
+   */
+  Optional<ParsedDecisionRequirementsGraph> findParsedDecisionRequirementsByKey(
+      long decisionRequirementsKey, DecisionEngine decisionEngine);
+
   /**
    * Query decisions by the given decision requirements (DRG) key.
    *
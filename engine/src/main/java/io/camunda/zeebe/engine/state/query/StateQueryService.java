@@ -7,26 +7,40 @@
  */
 package io.camunda.zeebe.engine.state.query;
 
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.engine.state.QueryService;
-import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
-import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.deployment.PersistedProcess;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
-import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
-import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 
+/**
+ * Answers queries from the state of a partition, outside of the stream processor. Only the state
+ * needed to answer the queries is created, and deployed processes are read directly from their
+ * column family, such that the query service does not create a second set of the caches (and their
+ * metrics) which are owned by the processing state.
+ */
 public final class StateQueryService implements QueryService {
 
   private volatile boolean isClosed;
-  private ProcessingState state;
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
 
+  private ColumnFamily<DbLong, PersistedProcess> processColumnFamily;
+  private DbLong processKey;
+  private ElementInstanceState elementInstanceState;
+  private JobState jobState;
+
   public StateQueryService(final ZeebeDb<ZbColumnFamilies> zeebeDb) {
     this.zeebeDb = zeebeDb;
   }
@@ -40,15 +54,16 @@ public final class StateQueryService implements QueryService {
   public Optional<DirectBuffer> getBpmnProcessIdForProcess(final long key) {
     ensureServiceIsOpened();
 
-    return Optional.ofNullable(state.getProcessState().getProcessByKey(key))
-        .map(DeployedProcess::getBpmnProcessId);
+    processKey.wrapLong(key);
+    return Optional.ofNullable(processColumnFamily.get(processKey))
+        .map(PersistedProcess::getBpmnProcessId);
   }
 
   @Override
   public Optional<DirectBuffer> getBpmnProcessIdForProcessInstance(final long key) {
     ensureServiceIsOpened();
 
-    return Optional.ofNullable(state.getElementInstanceState().getInstance(key))
+    return Optional.ofNullable(elementInstanceState.getInstance(key))
         .map(ElementInstance::getValue)
         .map(ProcessInstanceRecord::getBpmnProcessIdBuffer);
   }
@@ -57,27 +72,27 @@ public final class StateQueryService implements QueryService {
   public Optional<DirectBuffer> getBpmnProcessIdForJob(final long key) {
     ensureServiceIsOpened();
 
-    return Optional.ofNullable(state.getJobState().getJob(key))
-        .map(JobRecord::getBpmnProcessIdBuffer);
+    return Optional.ofNullable(jobState.getJob(key)).map(JobRecord::getBpmnProcessIdBuffer);
   }
 
   private void ensureServiceIsOpened() {
     if (isClosed) {
       throw new ClosedServiceException();
     }
-    if (state == null) {
+    if (jobState == null) {
       // service is used for the first time, create state now
-      // we don't need a key generator here, so we set it to unsupported
-      state =
-          new ProcessingDbState(
-              Protocol.DEPLOYMENT_PARTITION,
-              zeebeDb,
-              zeebeDb.createContext(),
-              () -> {
-                throw new UnsupportedOperationException("Not allowed to generate a new key");
-              },
-              new TransientPendingSubscriptionState(),
-              new TransientPendingSubscriptionState());
+      final TransactionContext transactionContext = zeebeDb.createContext();
+      processKey = new DbLong();
+      processColumnFamily =
+          zeebeDb.createColumnFamily(
+              ZbColumnFamilies.PROCESS_CACHE,
+              transactionContext,
+              processKey,
+              new PersistedProcess());
+      elementInstanceState =
+          new DbElementInstanceState(
+              zeebeDb, transactionContext, new DbVariableState(zeebeDb, transactionContext));
+      jobState = new DbJobState(zeebeDb, transactionContext);
     }
   }
 }
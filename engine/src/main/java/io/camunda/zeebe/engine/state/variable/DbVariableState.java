@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.variable;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
@@ -17,6 +18,7 @@ import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -24,12 +26,17 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final long NOT_CACHED = Long.MIN_VALUE;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -53,6 +60,15 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // caches the scope hierarchy and the scopes in which variables were found, to not walk up the
+  // hierarchy in the database again for every lookup; only valid until the transaction ends
+  // (child scope key) => (parent scope key)
+  private final Long2LongHashMap cachedParentScopeKeys = new Long2LongHashMap(NOT_CACHED);
+  // (variable name) => (scope key) => (key of the scope that contains the variable, or NO_PARENT)
+  private final Object2ObjectHashMap<DirectBuffer, Long2LongHashMap> cachedVariableScopes =
+      new Object2ObjectHashMap<>();
+  private final LongArrayList visitedScopeKeys = new LongArrayList();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -72,6 +88,19 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    transactionContext.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void onCommit() {
+            clearCaches();
+          }
+
+          @Override
+          public void onRollback() {
+            clearCaches();
+          }
+        });
   }
 
   @Override
@@ -106,6 +135,12 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+
+    final Long2LongHashMap variableScopes = cachedVariableScopes.get(variableNameView);
+    if (variableScopes != null && variableScopes.get(scopeKey) != scopeKey) {
+      // the variable is new in this scope, it may hide a variable of an outer scope
+      variableScopes.clear();
+    }
   }
 
   @Override
@@ -114,6 +149,11 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+
+    if (cachedParentScopeKeys.put(childKey, parentKey) != NOT_CACHED) {
+      // a lookup stopped at this scope before it had a parent
+      clearVariableScopes();
+    }
   }
 
   @Override
@@ -125,6 +165,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cachedParentScopeKeys.remove(scopeKey);
   }
 
   @Override
@@ -134,6 +175,8 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+
+    clearVariableScopes();
   }
 
   @Override
@@ -173,20 +216,8 @@ public class DbVariableState implements MutableVariableState {
   @Override
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
-
-    long currentScopeKey = scopeKey;
-    do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
-
-      if (variable != null) {
-        return variable.getValue();
-      }
-
-      currentScopeKey = getParentScopeKey(currentScopeKey);
-    } while (currentScopeKey >= 0);
-
-    return null;
+    final VariableInstance variable = findVariable(scopeKey, name, nameOffset, nameLength);
+    return variable != null ? variable.getValue() : null;
   }
 
   @Override
@@ -222,25 +253,28 @@ public class DbVariableState implements MutableVariableState {
   public DirectBuffer getVariablesAsDocument(
       final long scopeKey, final Collection<DirectBuffer> names) {
 
+    // the names which were already collected, to write every variable only once
     variablesToCollect.clear();
-    variablesToCollect.addAll(names);
 
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    int variableCount = 0;
+    for (final DirectBuffer name : names) {
+      if (!variablesToCollect.add(name)) {
+        continue;
+      }
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+      final VariableInstance variable = findVariable(scopeKey, name, 0, name.capacity());
+      if (variable != null) {
+        writer.writeString(name);
+        writer.writeRaw(variable.getValue());
+        variableCount++;
+      }
+    }
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, variableCount);
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -281,10 +315,79 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final long cachedParentScopeKey = cachedParentScopeKeys.get(childScopeKey);
+    if (cachedParentScopeKey != NOT_CACHED) {
+      return cachedParentScopeKey;
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentKey = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    cachedParentScopeKeys.put(childScopeKey, parentKey);
+    return parentKey;
+  }
+
+  /**
+   * Finds the variable with the given name in the given scope or, if it is not present there, in
+   * the closest parent scope. The scope in which it was found, or that it wasn't found, is cached
+   * for all visited scopes.
+   *
+   * @return the variable, or {@code null} if it is not present in the variable scope
+   */
+  private VariableInstance findVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final Long2LongHashMap variableScopes = getVariableScopes(name, nameOffset, nameLength);
+    visitedScopeKeys.clear();
+
+    VariableInstance variable = null;
+    long currentScopeKey = scopeKey;
+    while (currentScopeKey >= 0) {
+      final long cachedScopeKey = variableScopes.get(currentScopeKey);
+      if (cachedScopeKey != NOT_CACHED) {
+        currentScopeKey = cachedScopeKey;
+        if (cachedScopeKey >= 0) {
+          variable = getVariableLocal(cachedScopeKey, name, nameOffset, nameLength);
+        }
+        break;
+      }
+
+      visitedScopeKeys.addLong(currentScopeKey);
+      variable = getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      if (variable != null) {
+        break;
+      }
+
+      currentScopeKey = getParentScopeKey(currentScopeKey);
+    }
+
+    final long variableScopeKey = variable != null ? currentScopeKey : NO_PARENT;
+    for (int i = 0; i < visitedScopeKeys.size(); i++) {
+      variableScopes.put(visitedScopeKeys.getLong(i), variableScopeKey);
+    }
+
+    return variable;
+  }
+
+  private Long2LongHashMap getVariableScopes(
+      final DirectBuffer name, final int nameOffset, final int nameLength) {
+    variableNameView.wrap(name, nameOffset, nameLength);
+
+    Long2LongHashMap variableScopes = cachedVariableScopes.get(variableNameView);
+    if (variableScopes == null) {
+      variableScopes = new Long2LongHashMap(NOT_CACHED);
+      cachedVariableScopes.put(BufferUtil.cloneBuffer(variableNameView), variableScopes);
+    }
+    return variableScopes;
+  }
+
+  private void clearVariableScopes() {
+    cachedVariableScopes.values().forEach(Long2LongHashMap::clear);
+  }
+
+  private void clearCaches() {
+    cachedParentScopeKeys.clear();
+    cachedVariableScopes.clear();
   }
 
   private VariableInstance getVariableLocal(
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.client.DecisionEvaluationClient;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.value.DecisionEvaluationRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of evaluating a decision with and without caching the parsed decision
+ * requirements graph. A cache capacity of 0 disables the cache, such that the DRG is parsed again
+ * for every evaluation.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DecisionEvaluationPerformanceTest {
+
+  private static final String DMN_RESOURCE = "/dmn/drg-force-user.dmn";
+
+  @Param({"0", "1000"})
+  public int drgCacheCapacity;
+
+  private TestContext testContext;
+  private TestEngine singlePartitionEngine;
+  private DecisionEvaluationClient decisionEvaluationClient;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext,
+            DefaultZeebeDbFactory.defaultFactory(),
+            new EngineConfiguration().setDrgCacheCapacity(drgCacheCapacity));
+
+    singlePartitionEngine.createDeploymentClient().withXmlClasspathResource(DMN_RESOURCE).deploy();
+
+    decisionEvaluationClient =
+        singlePartitionEngine
+            .createDecisionEvaluationClient()
+            .ofDecisionId("force_user")
+            .withVariables(Map.of("lightsaberColor", "blue", "height", 182));
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<DecisionEvaluationRecordValue> measureDecisionEvaluation() {
+    final var evaluation = decisionEvaluationClient.evaluate();
+    singlePartitionEngine.reset();
+    return evaluation;
+  }
+}
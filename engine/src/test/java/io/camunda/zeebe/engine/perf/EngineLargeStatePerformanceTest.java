@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Record;
@@ -26,6 +28,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -45,6 +48,10 @@ public class EngineLargeStatePerformanceTest {
   public static final Logger LOG =
       LoggerFactory.getLogger(EngineLargeStatePerformanceTest.class.getName());
 
+  /** Whether each column family is stored in its own native RocksDB column family */
+  @Param({"false", "true"})
+  public boolean nativeColumnFamilies;
+
   private long count;
   private ProcessInstanceClient processInstanceClient;
   private TestEngine.TestContext testContext;
@@ -54,7 +61,11 @@ public class EngineLargeStatePerformanceTest {
   public void setup() throws Throwable {
     testContext = createTestContext();
 
-    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+    final var rocksDbConfiguration =
+        new RocksDbConfiguration().setNativeColumnFamiliesEnabled(nativeColumnFamilies);
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, DefaultZeebeDbFactory.defaultFactory(rocksDbConfiguration));
 
     setupState(singlePartitionEngine);
   }
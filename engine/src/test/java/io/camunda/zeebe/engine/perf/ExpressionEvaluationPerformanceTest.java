@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.util.Either;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of evaluating expressions which access one or two entries of a variable
+ * with {@link #documentSize} entries, like a condition on a large order document.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ExpressionEvaluationPerformanceTest {
+
+  /** The number of entries of the accessed variable */
+  @Param({"10", "100", "1000"})
+  public int documentSize;
+
+  private ExpressionProcessor expressionProcessor;
+  private Expression conditionExpression;
+  private Expression stringExpression;
+
+  @Setup
+  public void setup() {
+    final var entries = new HashMap<String, Object>();
+    for (int i = 0; i < documentSize; i++) {
+      entries.put("key" + i, "value" + i);
+    }
+    entries.put("amount", 250);
+    final DirectBuffer order = asMsgPack(entries);
+
+    final ExpressionLanguage expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage();
+    expressionProcessor =
+        new ExpressionProcessor(
+            expressionLanguage, scopeKey -> name -> "order".equals(name) ? order : null);
+
+    conditionExpression = expressionLanguage.parseExpression("=order.amount > 100");
+    stringExpression =
+        expressionLanguage.parseExpression("=order.key" + (documentSize - 1) + " + \"-suffix\"");
+  }
+
+  @Benchmark
+  public Either<?, Boolean> evaluateCondition() {
+    return expressionProcessor.evaluateBooleanExpression(conditionExpression, 1L);
+  }
+
+  @Benchmark
+  public Either<?, String> evaluateStringConcatenation() {
+    return expressionProcessor.evaluateStringExpression(stringExpression, 1L);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many commands per second the engine processes when several client commands are
+ * available on the log at once, with and without group commit. Each invocation writes a burst of
+ * {@link #BURST_SIZE} commands in one batch and waits until all of them are processed.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(GroupCommitPerformanceTest.BURST_SIZE)
+@State(Scope.Benchmark)
+public class GroupCommitPerformanceTest {
+
+  static final int BURST_SIZE = 50;
+  private static final String PROCESS_ID = "process";
+  private static final String JOB_TYPE = "task";
+
+  /** Whether commands which are available at once are processed in one transaction */
+  @Param({"false", "true"})
+  public boolean groupCommit;
+
+  private TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, DefaultZeebeDbFactory.defaultFactory(), groupCommit);
+
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask("task", (t) -> t.zeebeJobType(JOB_TYPE))
+                .endEvent()
+                .done())
+        .deploy();
+    singlePartitionEngine.reset();
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public List<Record<JobRecordValue>> createProcessInstances() {
+    return createJobs();
+  }
+
+  @Benchmark
+  public List<Record<JobRecordValue>> completeJobs(final CreatedJobs createdJobs) {
+    final var commands = new RecordToWrite[BURST_SIZE];
+    for (int i = 0; i < BURST_SIZE; i++) {
+      commands[i] = RecordToWrite.command().key(createdJobs.jobKeys[i]).job(JobIntent.COMPLETE);
+    }
+    singlePartitionEngine.writeBatch(commands);
+
+    final var completedJobs =
+        RecordingExporter.jobRecords(JobIntent.COMPLETED).limit(BURST_SIZE).asList();
+    singlePartitionEngine.reset();
+    return completedJobs;
+  }
+
+  private List<Record<JobRecordValue>> createJobs() {
+    final var commands = new RecordToWrite[BURST_SIZE];
+    for (int i = 0; i < BURST_SIZE; i++) {
+      commands[i] =
+          RecordToWrite.command()
+              .key(-1)
+              .processInstanceCreation(
+                  ProcessInstanceCreationIntent.CREATE,
+                  new ProcessInstanceCreationRecord().setBpmnProcessId(PROCESS_ID));
+    }
+    singlePartitionEngine.writeBatch(commands);
+
+    final var createdJobs =
+        RecordingExporter.jobRecords(JobIntent.CREATED)
+            .withType(JOB_TYPE)
+            .limit(BURST_SIZE)
+            .asList();
+    singlePartitionEngine.reset();
+    return createdJobs;
+  }
+
+  /** The jobs to complete in the next invocation; creating them is not measured. */
+  @State(Scope.Benchmark)
+  public static class CreatedJobs {
+
+    private final long[] jobKeys = new long[BURST_SIZE];
+
+    @Setup(Level.Invocation)
+    public void createJobs(final GroupCommitPerformanceTest benchmark) {
+      final var jobs = benchmark.createJobs();
+      for (int i = 0; i < BURST_SIZE; i++) {
+        jobKeys[i] = jobs.get(i).getKey();
+      }
+    }
+  }
+}
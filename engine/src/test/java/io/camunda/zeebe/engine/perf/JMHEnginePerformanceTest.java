@@ -26,8 +26,12 @@ public class JMHEnginePerformanceTest {
   @Test
   public void runJmhBenchmark() throws RunnerException {
     // given
+    // the reference score was measured with all column families in the default column family
     final var opt =
-        new OptionsBuilder().include(EngineLargeStatePerformanceTest.class.getSimpleName()).build();
+        new OptionsBuilder()
+            .include(EngineLargeStatePerformanceTest.class.getSimpleName())
+            .param("nativeColumnFamilies", "false")
+            .build();
 
     // when
     final var runResults = new Runner(opt).run();
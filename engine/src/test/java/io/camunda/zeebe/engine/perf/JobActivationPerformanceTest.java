@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many jobs per second are activated, if every job fetches {@link #FETCH_VARIABLES}
+ * variables of its process instance and the job's element is nested in {@link #depth} scopes. Each
+ * invocation activates a batch of {@link #BATCH_SIZE} jobs of one process instance, like a worker
+ * of a multi-instance task.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(JobActivationPerformanceTest.BATCH_SIZE)
+@State(Scope.Benchmark)
+public class JobActivationPerformanceTest {
+
+  static final int BATCH_SIZE = 50;
+  static final int FETCH_VARIABLES = 10;
+  private static final String PROCESS_ID = "process";
+  private static final String JOB_TYPE = "task";
+
+  /** The number of scopes which contain the job's element, including the process */
+  @Param({"1", "5", "10"})
+  public int depth;
+
+  private TestContext testContext;
+  private TestEngine singlePartitionEngine;
+  private DirectBuffer processVariables;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(testContext, DefaultZeebeDbFactory.defaultFactory());
+
+    singlePartitionEngine.createDeploymentClient().withXmlResource(createProcess()).deploy();
+
+    // twice as many variables as are fetched, the others are not collected
+    final var variables = new HashMap<String, Object>();
+    for (int i = 0; i < 2 * FETCH_VARIABLES; i++) {
+      variables.put("variable" + i, "value" + i);
+    }
+    variables.put("items", new int[BATCH_SIZE]);
+    processVariables = MsgPackUtil.asMsgPack(variables);
+
+    singlePartitionEngine.reset();
+  }
+
+  private BpmnModelInstance createProcess() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+    for (int i = 1; i < depth; i++) {
+      builder = builder.subProcess("subProcess" + i).embeddedSubProcess().startEvent();
+    }
+
+    builder =
+        builder
+            .serviceTask(
+                "task",
+                t ->
+                    t.zeebeJobType(JOB_TYPE)
+                        .multiInstance(m -> m.parallel().zeebeInputCollectionExpression("items")))
+            .endEvent();
+    for (int i = 1; i < depth; i++) {
+      builder = builder.subProcessDone().endEvent();
+    }
+
+    return builder.done();
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Setup(Level.Invocation)
+  public void createJobs() {
+    singlePartitionEngine.writeBatch(
+        RecordToWrite.command()
+            .key(-1)
+            .processInstanceCreation(
+                ProcessInstanceCreationIntent.CREATE,
+                new ProcessInstanceCreationRecord()
+                    .setBpmnProcessId(PROCESS_ID)
+                    .setVariables(processVariables)));
+
+    RecordingExporter.jobRecords(JobIntent.CREATED).withType(JOB_TYPE).limit(BATCH_SIZE).await();
+    singlePartitionEngine.reset();
+  }
+
+  @Benchmark
+  public Record<JobBatchRecordValue> activateJobs() {
+    final var jobBatch =
+        new JobBatchRecord()
+            .setType(JOB_TYPE)
+            .setWorker("worker")
+            .setTimeout(TimeUnit.MINUTES.toMillis(5))
+            .setMaxJobsToActivate(BATCH_SIZE);
+    for (int i = 0; i < FETCH_VARIABLES; i++) {
+      jobBatch.variables().add().wrap(("variable" + i).getBytes());
+    }
+
+    singlePartitionEngine.writeBatch(
+        RecordToWrite.command().jobBatch(JobBatchIntent.ACTIVATE, jobBatch));
+
+    final var activatedJobs =
+        RecordingExporter.jobBatchRecords(JobBatchIntent.ACTIVATED).getFirst();
+    singlePartitionEngine.reset();
+    return activatedJobs;
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a process cache miss compared to a hit when creating process instances.
+ * Instances are created alternately for two large processes; with a cache capacity of one, every
+ * creation has to read and transform its process again, while with the default capacity both
+ * processes stay cached.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ProcessCachePerformanceTest {
+
+  private static final String[] PROCESS_IDS = {"first", "second"};
+  private static final int PROCESS_SIZE = 200;
+
+  /** 1 results in a miss for every process instance, 1000 in a hit */
+  @Param({"1", "1000"})
+  public int processCacheCapacity;
+
+  private long count;
+  private ProcessInstanceClient processInstanceClient;
+  private TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext,
+            DefaultZeebeDbFactory.defaultFactory(),
+            new EngineConfiguration().setProcessCacheCapacity(processCacheCapacity));
+
+    final var deploymentClient = singlePartitionEngine.createDeploymentClient();
+    for (final String processId : PROCESS_IDS) {
+      deploymentClient.withXmlResource(processId + ".bpmn", createLargeProcess(processId));
+    }
+    deploymentClient.deploy();
+
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<?> measureProcessInstanceCreation() {
+    final var processId = PROCESS_IDS[(int) (count++ % PROCESS_IDS.length)];
+    final long piKey = processInstanceClient.ofBpmnProcessId(processId).create();
+
+    final Record<JobRecordValue> task =
+        RecordingExporter.jobRecords()
+            .withIntent(JobIntent.CREATED)
+            .withType("task")
+            .withProcessInstanceKey(piKey)
+            .getFirst();
+
+    singlePartitionEngine.reset();
+    return task;
+  }
+
+  /**
+   * Creates a process with a long chain of tasks after the first job, such that transforming it is
+   * noticeably expensive, while the instances we create only ever reach the first job.
+   */
+  private static BpmnModelInstance createLargeProcess(final String processId) {
+    AbstractFlowNodeBuilder<?, ?> builder =
+        Bpmn.createExecutableProcess(processId)
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobType("task"));
+    for (int i = 0; i < PROCESS_SIZE; i++) {
+      builder =
+          builder.serviceTask(
+              "task-" + i, t -> t.zeebeJobType("other").zeebeInputExpression("=x + 1", "y"));
+    }
+    return builder.endEvent().done();
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.engine.processing.EngineProcessors;
+import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
+import io.camunda.zeebe.engine.util.TestStreams;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
+import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
+import io.camunda.zeebe.stream.impl.StreamProcessorMode;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.util.FeatureFlags;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long the stream processor takes to replay a log of {@link #EVENT_COUNT} events on
+ * start up, with and without fast replay. The log is written once per trial, and each invocation
+ * replays it into an empty state. The events are variable events, written in batches of {@link
+ * #EVENTS_PER_BATCH} which share a source position, like the follow-up events of a command.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx8g", "-Xms8g"})
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ReplayPerformanceTest {
+
+  static final int EVENT_COUNT = 10_000_000;
+  static final int EVENTS_PER_BATCH = 10;
+  private static final int PARTITION_ID = 1;
+  private static final String LOG_NAME = "replay";
+  private static final DirectBuffer VARIABLE_VALUE =
+      new UnsafeBuffer(MsgPackConverter.convertToMsgPack("\"value\""));
+
+  /** Whether several batches of events are replayed in one transaction */
+  @Param({"false", "true"})
+  public boolean fastReplay;
+
+  private AutoCloseableRule autoCloseableRule;
+  private TestStreams testStreams;
+
+  @Setup
+  public void setup() throws Throwable {
+    autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+
+    testStreams = new TestStreams(temporaryFolder, autoCloseableRule, actorScheduler);
+    testStreams.withStreamProcessorMode(StreamProcessorMode.PROCESSING);
+    testStreams.withFastReplay(fastReplay);
+    autoCloseableRule.manage(testStreams.createLogStream(LOG_NAME, PARTITION_ID));
+
+    writeEvents();
+  }
+
+  @TearDown
+  public void tearDown() {
+    autoCloseableRule.after();
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeStreamProcessor() throws Exception {
+    // also deletes the replayed state, so the next invocation starts from scratch
+    testStreams.closeProcessor(LOG_NAME);
+  }
+
+  @Benchmark
+  public Phase replay() {
+    final var streamProcessor = startStreamProcessor();
+
+    Phase phase;
+    do {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+      phase = streamProcessor.getCurrentPhase().join();
+    } while (phase == Phase.INITIAL || phase == Phase.REPLAY);
+
+    return phase;
+  }
+
+  private StreamProcessor startStreamProcessor() {
+    final var interPartitionCommandSender =
+        new TestInterPartitionCommandSender(
+            partitionId -> testStreams.newLogStreamWriter(LOG_NAME));
+    final var streamProcessor =
+        testStreams.buildStreamProcessor(
+            testStreams.getLogStream(LOG_NAME),
+            DefaultZeebeDbFactory.defaultFactory(),
+            (recordProcessorContext) ->
+                EngineProcessors.createEngineProcessors(
+                    recordProcessorContext,
+                    1,
+                    new SubscriptionCommandSender(PARTITION_ID, interPartitionCommandSender),
+                    interPartitionCommandSender,
+                    FeatureFlags.createDefaultForTests(),
+                    JobStreamer.noop()),
+            false,
+            Optional.empty());
+    interPartitionCommandSender.initializeWriters(1);
+    return streamProcessor;
+  }
+
+  private void writeEvents() {
+    final var writer = testStreams.newLogStreamWriter(LOG_NAME);
+    long sourcePosition = -1;
+    long key = 0;
+
+    for (int written = 0; written < EVENT_COUNT; written += EVENTS_PER_BATCH) {
+      // the entries are serialized only once they are appended, so they can't be reused
+      final var entries = new ArrayList<LogAppendEntry>(EVENTS_PER_BATCH);
+      for (int i = 0; i < EVENTS_PER_BATCH; i++) {
+        key++;
+        entries.add(
+            LogAppendEntry.of(
+                Protocol.encodePartitionId(PARTITION_ID, key),
+                new RecordMetadata()
+                    .protocolVersion(Protocol.PROTOCOL_VERSION)
+                    .recordType(RecordType.EVENT)
+                    .valueType(ValueType.VARIABLE)
+                    .intent(VariableIntent.CREATED),
+                new VariableRecord()
+                    .setName(wrapString("variable" + i))
+                    .setValue(VARIABLE_VALUE)
+                    .setScopeKey(key / EVENTS_PER_BATCH)
+                    .setProcessInstanceKey(key / EVENTS_PER_BATCH)
+                    .setProcessDefinitionKey(1)
+                    .setBpmnProcessId(wrapString("process"))));
+      }
+
+      var result = writer.tryWrite(entries, sourcePosition);
+      while (result.isLeft()) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        result = writer.tryWrite(entries, sourcePosition);
+      }
+      sourcePosition = result.get();
+    }
+
+    testStreams.getLogStream(LOG_NAME).awaitPositionWritten(sourcePosition);
+  }
+}
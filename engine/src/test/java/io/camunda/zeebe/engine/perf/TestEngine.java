@@ -7,16 +7,21 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.ProcessingExporterTransistor;
+import io.camunda.zeebe.engine.util.RecordToWrite;
 import io.camunda.zeebe.engine.util.StreamProcessingComposite;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
+import io.camunda.zeebe.engine.util.client.DecisionEvaluationClient;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
@@ -34,7 +39,12 @@ public final class TestEngine {
   private final int partitionCount;
 
   private TestEngine(
-      final int partitionId, final int partitionCount, final TestContext testContext) {
+      final int partitionId,
+      final int partitionCount,
+      final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
+      final EngineConfiguration engineConfiguration,
+      final boolean enableGroupCommit) {
     this.partitionCount = partitionCount;
 
     testStreams =
@@ -45,6 +55,8 @@ public final class TestEngine {
     testStreams.withStreamProcessorMode(StreamProcessorMode.PROCESSING);
     // for performance reasons we want to enable batch processing
     testStreams.maxCommandsInBatch(100);
+    testStreams.withGroupCommit(enableGroupCommit);
+    testStreams.withEngineConfiguration(engineConfiguration);
 
     testContext
         .autoCloseableRule()
@@ -54,10 +66,7 @@ public final class TestEngine {
 
     streamProcessingComposite =
         new StreamProcessingComposite(
-            testStreams,
-            partitionId,
-            DefaultZeebeDbFactory.defaultFactory(),
-            testContext.actorScheduler());
+            testStreams, partitionId, zeebeDbFactory, testContext.actorScheduler());
 
     final var interPartitionCommandSenders = new ArrayList<TestInterPartitionCommandSender>();
     final var featureFlags = FeatureFlags.createDefaultForTests();
@@ -86,6 +95,16 @@ public final class TestEngine {
     interPartitionCommandSenders.forEach(s -> s.initializeWriters(partitionCount));
   }
 
+  /**
+   * Writes the given records in one batch, without waiting for them to be processed; useful to make
+   * several commands available to the stream processor at once.
+   *
+   * @return the position of the last written record
+   */
+  public long writeBatch(final RecordToWrite... recordsToWrite) {
+    return streamProcessingComposite.writeBatch(recordsToWrite);
+  }
+
   public DeploymentClient createDeploymentClient() {
     return new DeploymentClient(streamProcessingComposite, (p) -> p.accept(1), partitionCount);
   }
@@ -94,8 +113,32 @@ public final class TestEngine {
     return new ProcessInstanceClient(streamProcessingComposite);
   }
 
+  public DecisionEvaluationClient createDecisionEvaluationClient() {
+    return new DecisionEvaluationClient(streamProcessingComposite);
+  }
+
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext);
+    return createSinglePartitionEngine(testContext, DefaultZeebeDbFactory.defaultFactory());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
+    return createSinglePartitionEngine(testContext, zeebeDbFactory, new EngineConfiguration());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
+      final EngineConfiguration engineConfiguration) {
+    return new TestEngine(1, 1, testContext, zeebeDbFactory, engineConfiguration, false);
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
+      final boolean enableGroupCommit) {
+    return new TestEngine(
+        1, 1, testContext, zeebeDbFactory, new EngineConfiguration(), enableGroupCommit);
   }
 
   public void reset() {
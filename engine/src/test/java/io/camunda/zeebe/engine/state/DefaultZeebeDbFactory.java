@@ -16,8 +16,13 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 public final class DefaultZeebeDbFactory {
 
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory() {
+    return defaultFactory(new RocksDbConfiguration());
+  }
+
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final RocksDbConfiguration rocksDbConfiguration) {
     // enable consistency checks for tests
     final var consistencyChecks = new ConsistencyChecksSettings(true, true);
-    return new ZeebeRocksDbFactory<>(new RocksDbConfiguration(), consistencyChecks);
+    return new ZeebeRocksDbFactory<>(rocksDbConfiguration, consistencyChecks);
   }
 }
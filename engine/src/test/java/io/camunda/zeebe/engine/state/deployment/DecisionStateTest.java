@@ -9,14 +9,18 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +31,7 @@ public final class DecisionStateTest {
 
   private MutableProcessingState processingState;
   private MutableDecisionState decisionState;
+  private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
 
   @BeforeEach
   public void setup() {
@@ -518,6 +523,56 @@ public final class DecisionStateTest {
         .isEmpty();
   }
 
+  @DisplayName("should find parsed DRG by key and reuse it for subsequent lookups")
+  @Test
+  void shouldFindParsedDrgByKey() throws IOException {
+    // given
+    final var drg = sampleDecisionRequirementsRecord().setResource(wrapArray(readDmnResource()));
+    decisionState.storeDecisionRequirements(drg);
+
+    // when
+    final var parsedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(
+            drg.getDecisionRequirementsKey(), decisionEngine);
+
+    // then
+    assertThat(parsedDrg).isPresent();
+    assertThat(parsedDrg.get().isValid()).isTrue();
+    assertThat(
+            decisionState.findParsedDecisionRequirementsByKey(
+                drg.getDecisionRequirementsKey(), decisionEngine))
+        .containsSame(parsedDrg.get());
+  }
+
+  @DisplayName("should return empty if no DRG is deployed when looking up the parsed DRG")
+  @Test
+  void shouldReturnEmptyIfNoDrgIsDeployedForParsedDrg() {
+    // when
+    final var parsedDrg = decisionState.findParsedDecisionRequirementsByKey(1L, decisionEngine);
+
+    // then
+    assertThat(parsedDrg).isEmpty();
+  }
+
+  @DisplayName("should not find parsed DRG after it has been deleted")
+  @Test
+  void shouldNotFindParsedDrgAfterItHasBeenDeleted() throws IOException {
+    // given
+    final var drg = sampleDecisionRequirementsRecord().setResource(wrapArray(readDmnResource()));
+    decisionState.storeDecisionRequirements(drg);
+    decisionState.findParsedDecisionRequirementsByKey(
+        drg.getDecisionRequirementsKey(), decisionEngine);
+
+    // when
+    decisionState.deleteDecisionRequirements(drg);
+
+    // then
+    assertThat(
+            decisionState.findParsedDecisionRequirementsByKey(
+                drg.getDecisionRequirementsKey(), decisionEngine))
+        .isEmpty();
+  }
+
   @DisplayName("should find version 2 as latest DRG after version 1 has been deleted")
   @Test
   void shouldFindVersion2AsLatestDrgAfterVersion1HasBeenDeleted() {
@@ -608,6 +663,12 @@ public final class DecisionStateTest {
         .isEqualTo(drg1.getDecisionRequirementsVersion());
   }
 
+  private byte[] readDmnResource() throws IOException {
+    try (final var resource = getClass().getResourceAsStream("/dmn/decision-table.dmn")) {
+      return resource.readAllBytes();
+    }
+  }
+
   private DecisionRecord sampleDecisionRecord() {
     return new DecisionRecord()
         .setDecisionId("decision-id")
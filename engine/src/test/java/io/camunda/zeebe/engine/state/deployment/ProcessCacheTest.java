@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import org.junit.jupiter.api.Test;
+
+final class ProcessCacheTest {
+
+  private final ProcessCacheMetrics metrics = new ProcessCacheMetrics(1);
+
+  @Test
+  void shouldGetProcessByKeyAndByIdAndVersion() {
+    // given
+    final var cache = new ProcessCache(10, Long.MAX_VALUE, metrics);
+    final var process = createProcess(1, "process", 1);
+
+    // when
+    cache.put(process, 100);
+
+    // then
+    assertThat(cache.getByKey(1)).isSameAs(process);
+    assertThat(cache.getByIdAndVersion(wrapString("process"), 1)).isSameAs(process);
+    assertThat(cache.getByIdAndVersion(wrapString("process"), 2)).isNull();
+    assertThat(cache.getByIdAndVersion(wrapString("other"), 1)).isNull();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedProcessWhenCapacityIsExceeded() {
+    // given
+    final var cache = new ProcessCache(2, Long.MAX_VALUE, metrics);
+    cache.put(createProcess(1, "process", 1), 100);
+    cache.put(createProcess(2, "process", 2), 100);
+    cache.getByKey(1);
+
+    // when
+    cache.put(createProcess(3, "process", 3), 100);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getByKey(1)).isNotNull();
+    assertThat(cache.getByKey(2)).isNull();
+    assertThat(cache.getByIdAndVersion(wrapString("process"), 2)).isNull();
+    assertThat(cache.getByKey(3)).isNotNull();
+  }
+
+  @Test
+  void shouldEvictProcessesWhenWeightIsExceeded() {
+    // given
+    final var cache = new ProcessCache(10, 250, metrics);
+    cache.put(createProcess(1, "first", 1), 100);
+    cache.put(createProcess(2, "second", 1), 100);
+
+    // when
+    cache.put(createProcess(3, "third", 1), 100);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.weight()).isEqualTo(200);
+    assertThat(cache.getByKey(1)).isNull();
+    assertThat(cache.getByIdAndVersion(wrapString("first"), 1)).isNull();
+  }
+
+  @Test
+  void shouldKeepMostRecentProcessEvenIfItExceedsWeight() {
+    // given
+    final var cache = new ProcessCache(10, 250, metrics);
+    cache.put(createProcess(1, "process", 1), 100);
+
+    // when
+    cache.put(createProcess(2, "process", 2), 500);
+
+    // then
+    assertThat(cache.size()).isOne();
+    assertThat(cache.getByKey(2)).isNotNull();
+  }
+
+  @Test
+  void shouldRemoveProcess() {
+    // given
+    final var cache = new ProcessCache(10, Long.MAX_VALUE, metrics);
+    cache.put(createProcess(1, "process", 1), 100);
+    cache.put(createProcess(2, "process", 2), 100);
+
+    // when
+    cache.remove(1);
+
+    // then
+    assertThat(cache.getByKey(1)).isNull();
+    assertThat(cache.getByIdAndVersion(wrapString("process"), 1)).isNull();
+    assertThat(cache.getByIdAndVersion(wrapString("process"), 2)).isNotNull();
+    assertThat(cache.weight()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldReplaceProcessWithSameKey() {
+    // given
+    final var cache = new ProcessCache(10, Long.MAX_VALUE, metrics);
+    cache.put(createProcess(1, "process", 1), 100);
+    final var replacement = createProcess(1, "process", 1);
+
+    // when
+    cache.put(replacement, 150);
+
+    // then
+    assertThat(cache.size()).isOne();
+    assertThat(cache.weight()).isEqualTo(150);
+    assertThat(cache.getByKey(1)).isSameAs(replacement);
+    assertThat(cache.getByIdAndVersion(wrapString("process"), 1)).isSameAs(replacement);
+  }
+
+  @Test
+  void shouldClear() {
+    // given
+    final var cache = new ProcessCache(10, Long.MAX_VALUE, metrics);
+    cache.put(createProcess(1, "process", 1), 100);
+
+    // when
+    cache.clear();
+
+    // then
+    assertThat(cache.size()).isZero();
+    assertThat(cache.weight()).isZero();
+    assertThat(cache.getByKey(1)).isNull();
+
+    cache.put(createProcess(2, "process", 2), 100);
+    assertThat(cache.getByKey(2)).isNotNull();
+  }
+
+  @Test
+  void shouldRejectCapacityLowerThanOne() {
+    assertThatThrownBy(() -> new ProcessCache(0, Long.MAX_VALUE, metrics))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private DeployedProcess createProcess(
+      final long key, final String bpmnProcessId, final int version) {
+    final var record =
+        new ProcessRecord()
+            .setBpmnProcessId(bpmnProcessId)
+            .setVersion(version)
+            .setResourceName("process.bpmn")
+            .setResource(wrapString("<definitions />"))
+            .setChecksum(wrapString("checksum"));
+    final var persistedProcess = new PersistedProcess();
+    persistedProcess.wrap(record, key);
+    return new DeployedProcess(null, persistedProcess);
+  }
+}
@@ -25,6 +25,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.junit.After;
@@ -362,6 +363,110 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldGetVariableSetInParentScopeInSameTransaction() throws Exception {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    final DirectBuffer variableBeforeSet = variableState.getVariable(child, wrapString("a"));
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    final DirectBuffer variableAfterSet =
+        cloneBuffer(variableState.getVariable(child, wrapString("a")));
+    transaction.commit();
+
+    // then
+    assertThat(variableBeforeSet).isNull();
+    assertEquality(variableAfterSet, "1");
+  }
+
+  @Test
+  public void shouldGetVariableHidingParentVariableInSameTransaction() throws Exception {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(child, child2);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    final DirectBuffer variableBeforeSet =
+        cloneBuffer(variableState.getVariable(child2, wrapString("a")));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+    final DirectBuffer variablesAfterSet =
+        cloneBuffer(variableState.getVariablesAsDocument(child2, List.of(wrapString("a"))));
+    transaction.commit();
+
+    // then
+    assertEquality(variableBeforeSet, "1");
+    assertEquality(variablesAfterSet, "{'a': 2}");
+  }
+
+  @Test
+  public void shouldNotGetRemovedVariableInSameTransaction() throws Exception {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    final DirectBuffer variableBeforeRemove =
+        cloneBuffer(variableState.getVariable(child, wrapString("a")));
+
+    // when
+    variableState.removeAllVariables(parent);
+    final DirectBuffer variableAfterRemove = variableState.getVariable(child, wrapString("a"));
+    transaction.commit();
+
+    // then
+    assertEquality(variableBeforeRemove, "1");
+    assertThat(variableAfterRemove).isNull();
+  }
+
+  @Test
+  public void shouldGetVariableOfScopeCreatedInSameTransaction() throws Exception {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    final DirectBuffer variableBeforeCreate = variableState.getVariable(child, wrapString("a"));
+
+    // when
+    declareScope(parent, child);
+    final DirectBuffer variableAfterCreate =
+        cloneBuffer(variableState.getVariable(child, wrapString("a")));
+    transaction.commit();
+
+    // then
+    assertThat(variableBeforeCreate).isNull();
+    assertEquality(variableAfterCreate, "1");
+  }
+
+  @Test
+  public void shouldNotGetVariableAfterRollback() throws Exception {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final var transaction = ZEEBE_STATE_RULE.getTransactionContext().getCurrentTransaction();
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    final DirectBuffer variableBeforeRollback =
+        cloneBuffer(variableState.getVariable(child, wrapString("a")));
+
+    // when
+    transaction.rollback();
+    final DirectBuffer variableAfterRollback = variableState.getVariable(child, wrapString("a"));
+
+    // then
+    assertEquality(variableBeforeRollback, "1");
+    assertThat(variableAfterRollback).isNull();
+  }
+
   @Test
   public void shouldNotGetVariableInstanceLocal() {
     // given
@@ -88,6 +88,9 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private boolean enableGroupCommit = false;
+  private boolean enableFastReplay = false;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -256,9 +259,11 @@ public final class TestStreams {
             .actorSchedulingService(actorScheduler)
             .commandResponseWriter(mockCommandResponseWriter)
             .listener(new StreamProcessorListenerRelay(streamProcessorListeners))
-            .recordProcessors(List.of(new Engine(wrappedFactory, new EngineConfiguration())))
+            .recordProcessors(List.of(new Engine(wrappedFactory, engineConfiguration)))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
+            .setEnableGroupCommit(enableGroupCommit)
+            .setEnableFastReplay(enableFastReplay)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     final StreamProcessor streamProcessor = builder.build();
@@ -317,6 +322,18 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void withGroupCommit(final boolean enableGroupCommit) {
+    this.enableGroupCommit = enableGroupCommit;
+  }
+
+  public void withFastReplay(final boolean enableFastReplay) {
+    this.enableFastReplay = enableFastReplay;
+  }
+
+  public void withEngineConfiguration(final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+  }
+
   public static class FluentLogWriter {
 
     protected final RecordMetadata metadata = new RecordMetadata();
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps track of bulk requests which were sent without waiting for their response, such that the
+ * exporter can serialize the next bulk while earlier ones are still in flight. Bulks are
+ * acknowledged in the order in which they were added, once they and all bulks before them were
+ * flushed, so the exported position never skips a bulk which is still in flight.
+ *
+ * <p>Bulks are added only by the exporter, but acknowledged by the threads which complete their
+ * responses, which is why the access to the pending bulks is synchronized.
+ */
+final class BulkRequestPipeline {
+
+  private final Deque<PendingBulk> pendingBulks = new ArrayDeque<>();
+  private final int maxInFlightRequests;
+  private final Duration timeout;
+  private final Acknowledger acknowledger;
+
+  BulkRequestPipeline(
+      final int maxInFlightRequests, final Duration timeout, final Acknowledger acknowledger) {
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.timeout = timeout;
+    this.acknowledger = acknowledger;
+  }
+
+  /** Returns true if another bulk can be added without waiting for earlier ones. */
+  synchronized boolean hasCapacity() {
+    return pendingBulks.size() < maxInFlightRequests;
+  }
+
+  /** Returns the number of bulks which were added, but not acknowledged yet. */
+  synchronized int size() {
+    return pendingBulks.size();
+  }
+
+  /**
+   * Blocks until another bulk can be added. As only the exporter adds bulks, there is still
+   * capacity when it adds the next one.
+   *
+   * @throws ElasticsearchExporterException if there is no capacity before the timeout elapsed
+   */
+  synchronized void awaitCapacity() {
+    awaitPendingBulks(maxInFlightRequests - 1);
+    if (!hasCapacity()) {
+      throw new ElasticsearchExporterException(
+          String.format(
+              "Expected to flush bulk, but %d bulk requests are still in flight after %s",
+              pendingBulks.size(), timeout));
+    }
+  }
+
+  /**
+   * Blocks until all bulks were acknowledged, or the timeout elapsed.
+   *
+   * @return true if all bulks were acknowledged
+   */
+  synchronized boolean awaitAll() {
+    awaitPendingBulks(0);
+    return pendingBulks.isEmpty();
+  }
+
+  /**
+   * Adds a bulk, which is acknowledged with the given position and metadata once the response is
+   * completed successfully, and all bulks added before were acknowledged. If the response is
+   * completed exceptionally, e.g. because the client was closed, the bulk is never acknowledged.
+   */
+  void add(final long position, final byte[] metadata, final CompletableFuture<Void> response) {
+    final var bulk = new PendingBulk(position, metadata);
+    synchronized (this) {
+      pendingBulks.add(bulk);
+    }
+
+    response.thenRun(() -> onFlushed(bulk));
+  }
+
+  private synchronized void onFlushed(final PendingBulk bulk) {
+    bulk.isFlushed = true;
+
+    while (!pendingBulks.isEmpty() && pendingBulks.peekFirst().isFlushed) {
+      final var flushedBulk = pendingBulks.pollFirst();
+      acknowledger.acknowledge(flushedBulk.position, flushedBulk.metadata);
+    }
+
+    notifyAll();
+  }
+
+  private void awaitPendingBulks(final int maxPendingBulks) {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    try {
+      long remaining = timeout.toNanos();
+      while (pendingBulks.size() > maxPendingBulks && remaining > 0) {
+        wait(Math.max(1, remaining / 1_000_000));
+        remaining = deadline - System.nanoTime();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ElasticsearchExporterException("Interrupted while waiting for bulk requests", e);
+    }
+  }
+
+  @FunctionalInterface
+  interface Acknowledger {
+    void acknowledge(long position, byte[] metadata);
+  }
+
+  private static final class PendingBulk {
+    private final long position;
+    private final byte[] metadata;
+    private boolean isFlushed;
+
+    private PendingBulk(final long position, final byte[] metadata) {
+      this.position = position;
+      this.metadata = metadata;
+    }
+  }
+}
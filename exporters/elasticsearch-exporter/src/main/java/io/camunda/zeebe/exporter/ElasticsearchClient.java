@@ -23,15 +23,26 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class ElasticsearchClient implements AutoCloseable {
   private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchClient.class);
+  private static final Duration MIN_RETRY_DELAY = Duration.ofMillis(100);
+  private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(10);
 
   private final RestClient client;
   private final ElasticsearchExporterConfiguration configuration;
@@ -40,6 +51,7 @@ class ElasticsearchClient implements AutoCloseable {
   private final BulkIndexRequest bulkIndexRequest;
 
   private ElasticsearchMetrics metrics;
+  private volatile boolean isClosed;
 
   ElasticsearchClient(final ElasticsearchExporterConfiguration configuration) {
     this(configuration, new BulkIndexRequest());
@@ -74,6 +86,7 @@ class ElasticsearchClient implements AutoCloseable {
 
   @Override
   public void close() throws IOException {
+    isClosed = true;
     client.close();
   }
 
@@ -100,11 +113,14 @@ class ElasticsearchClient implements AutoCloseable {
       return;
     }
 
-    metrics.recordBulkSize(bulkIndexRequest.size());
-    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+    final int bulkSize = bulkIndexRequest.size();
+    final int bulkMemorySize = bulkIndexRequest.memoryUsageBytes();
+    metrics.recordBulkSize(bulkSize);
+    metrics.recordBulkMemorySize(bulkMemorySize);
 
     try (final Histogram.Timer ignored = metrics.measureFlushDuration()) {
       exportBulk();
+      metrics.recordFlushedBulk(bulkSize, bulkMemorySize);
 
       // all records where flushed, create new bulk request, otherwise retry next time
       bulkIndexRequest.clear();
@@ -114,6 +130,40 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Sends the bulk request to Elastic without waiting for the response, unless it's currently
+   * empty, and starts a new bulk request. The bulk is serialized up front, such that the next one
+   * can be filled while this one is in flight. If not all items of the bulk were flushed
+   * successfully, the whole bulk is sent again after a backoff, until it succeeds or the client is
+   * closed; as documents are indexed by their id, sending them again is idempotent.
+   *
+   * @return a future which is completed once all items of the bulk were flushed, or completed
+   *     exceptionally if the client was closed before
+   */
+  public CompletableFuture<Void> flushAsync() {
+    if (bulkIndexRequest.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final int bulkSize = bulkIndexRequest.size();
+    final int bulkMemorySize = bulkIndexRequest.memoryUsageBytes();
+    metrics.recordBulkSize(bulkSize);
+    metrics.recordBulkMemorySize(bulkMemorySize);
+
+    // the buffer of the bulk request is reused for the next bulk, so the body has to be a copy
+    final var request = new Request("POST", "/_bulk");
+    final var entity = new ByteArrayEntity(bulkIndexRequest.toByteArray());
+    entity.setContentType("application/x-ndjson");
+    request.setEntity(entity);
+    bulkIndexRequest.clear();
+
+    final var flushed = new CompletableFuture<Void>();
+    metrics.incrementInFlightBulkRequests();
+    flushed.whenComplete((ignored, error) -> metrics.decrementInFlightBulkRequests());
+    sendBulkAsync(request, bulkSize, bulkMemorySize, MIN_RETRY_DELAY, flushed);
+    return flushed;
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -167,6 +217,54 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private void sendBulkAsync(
+      final Request request,
+      final int bulkSize,
+      final int bulkMemorySize,
+      final Duration retryDelay,
+      final CompletableFuture<Void> flushed) {
+    final Histogram.Timer flushTimer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+            } catch (final IOException | ElasticsearchExporterException e) {
+              onFailure(e);
+              return;
+            }
+
+            flushTimer.observeDuration();
+            metrics.recordFlushedBulk(bulkSize, bulkMemorySize);
+            flushed.complete(null);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            metrics.recordFailedFlush();
+            if (isClosed) {
+              flushed.completeExceptionally(exception);
+              return;
+            }
+
+            LOG.warn("Failed to flush bulk, will retry in {}", retryDelay, exception);
+            final var nextRetryDelay =
+                retryDelay.multipliedBy(2).compareTo(MAX_RETRY_DELAY) < 0
+                    ? retryDelay.multipliedBy(2)
+                    : MAX_RETRY_DELAY;
+            CompletableFuture.delayedExecutor(retryDelay.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(
+                    () ->
+                        sendBulkAsync(request, bulkSize, bulkMemorySize, nextRetryDelay, flushed));
+          }
+        });
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -229,7 +327,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private static <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
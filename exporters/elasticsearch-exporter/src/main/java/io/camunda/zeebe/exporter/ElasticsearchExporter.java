@@ -37,6 +37,8 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
   private ElasticsearchRecordCounters recordCounters;
+  // only set if bulks are flushed asynchronously
+  private BulkRequestPipeline bulkPipeline;
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
@@ -66,6 +68,16 @@ public class ElasticsearchExporter implements Exporter {
             .map(ElasticsearchRecordCounters::new)
             .orElse(new ElasticsearchRecordCounters());
 
+    if (configuration.bulk.maxInFlightRequests > 0) {
+      // the controller can be called from any thread, so bulks can be acknowledged as soon as they
+      // are flushed
+      bulkPipeline =
+          new BulkRequestPipeline(
+              configuration.bulk.maxInFlightRequests,
+              Duration.ofMillis(configuration.requestTimeoutMs),
+              controller::updateLastExportedRecordPosition);
+    }
+
     scheduleDelayedFlush();
     log.info("Exporter opened");
   }
@@ -74,8 +86,17 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (bulkPipeline == null) {
+        flush();
+        updateLastExportedPosition();
+      } else {
+        bulkPipeline.awaitCapacity();
+        flushAsync();
+        if (!bulkPipeline.awaitAll()) {
+          log.warn(
+              "Failed to flush {} bulk requests before closing exporter.", bulkPipeline.size());
+        }
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -100,11 +121,19 @@ public class ElasticsearchExporter implements Exporter {
     lastPosition = record.getPosition();
 
     if (client.shouldFlush()) {
-      flush();
-      // Update the record counters only after the flush was successful. If the synchronous flush
-      // fails then the exporter will be invoked with the same record again.
-      recordCounters.updateRecordCounters(record, recordSequence);
-      updateLastExportedPosition();
+      if (bulkPipeline == null) {
+        flush();
+        // Update the record counters only after the flush was successful. If the synchronous flush
+        // fails then the exporter will be invoked with the same record again.
+        recordCounters.updateRecordCounters(record, recordSequence);
+        updateLastExportedPosition();
+      } else {
+        // Wait until the bulk can be sent before updating the record counters. If it can't, the
+        // exporter will be invoked with the same record again, which is then already indexed.
+        bulkPipeline.awaitCapacity();
+        recordCounters.updateRecordCounters(record, recordSequence);
+        flushAsync();
+      }
     } else {
       // If the exporter doesn't flush synchronously then it can update the record counters
       // immediately. If the asynchronous flush fails then it will retry only the flush operation
@@ -121,6 +150,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 0. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -149,8 +185,14 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (bulkPipeline == null) {
+        flush();
+        updateLastExportedPosition();
+      } else if (bulkPipeline.hasCapacity()) {
+        // don't block the exporter here; if there is no capacity, the bulk is flushed once it is
+        // full or on the next scheduled flush
+        flushAsync();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -166,6 +208,16 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  /**
+   * Sends the current bulk without waiting for the response. Its position is acknowledged together
+   * with the record counters as of now, once it and all bulks sent before are flushed.
+   */
+  private void flushAsync() {
+    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    final var serializedExporterMetadata = serializeExporterMetadata(exporterMetadata);
+    bulkPipeline.add(lastPosition, serializedExporterMetadata, client.flushAsync());
+  }
+
   private void updateLastExportedPosition() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
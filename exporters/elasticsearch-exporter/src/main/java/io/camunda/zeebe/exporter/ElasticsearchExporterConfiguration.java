@@ -283,6 +283,8 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulks which may be in flight while the next one is filled; 0 flushes synchronously
+    public int maxInFlightRequests = 0;
 
     @Override
     public String toString() {
@@ -293,6 +295,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -48,6 +48,30 @@ public class ElasticsearchMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Counter FLUSHED_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("flushed_records")
+          .help("Number of records flushed successfully")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter FLUSHED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("flushed_bytes")
+          .help("Approximate size of the records flushed successfully in bytes")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge IN_FLIGHT_BULK_REQUESTS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("in_flight_bulk_requests")
+          .help("Number of bulk requests which were sent, but not flushed successfully yet")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -69,4 +93,17 @@ public class ElasticsearchMetrics {
   public void recordFailedFlush() {
     FAILED_FLUSH.labels(partitionIdLabel).inc();
   }
+
+  public void recordFlushedBulk(final int bulkSize, final int bulkMemorySize) {
+    FLUSHED_RECORDS.labels(partitionIdLabel).inc(bulkSize);
+    FLUSHED_BYTES.labels(partitionIdLabel).inc(bulkMemorySize);
+  }
+
+  public void incrementInFlightBulkRequests() {
+    IN_FLIGHT_BULK_REQUESTS.labels(partitionIdLabel).inc();
+  }
+
+  public void decrementInFlightBulkRequests() {
+    IN_FLIGHT_BULK_REQUESTS.labels(partitionIdLabel).dec();
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of indexing a record into a {@link BulkIndexRequest} and writing out the bulk
+ * body, compared to serializing every record and action into their own byte arrays first, which is
+ * what the request did before it was backed by a reusable buffer. Every invocation indexes one
+ * record, and every {@link #BULK_SIZE} invocations the bulk is written out and cleared.
+ *
+ * <p>Run it with the GC profiler (i.e. {@code -prof gc}) to compare the bytes allocated per record,
+ * reported as {@code gc.alloc.rate.norm}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BulkIndexRequestPerformanceTest {
+
+  private static final int BULK_SIZE = 1000;
+  private static final int RECORD_COUNT = 64;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private final List<byte[]> serializedRecords = new ArrayList<>(BULK_SIZE);
+  private final List<BulkIndexAction> serializedActions = new ArrayList<>(BULK_SIZE);
+  private final OutputStream sink = new DiscardingOutputStream();
+
+  private List<Record<RecordValue>> records;
+  private List<BulkIndexAction> actions;
+  private long sequence;
+
+  @Setup
+  public void setup() {
+    records = new ProtocolFactory().generateRecords().limit(RECORD_COUNT).toList();
+    actions =
+        records.stream()
+            .map(
+                record ->
+                    new BulkIndexAction(
+                        "zeebe-record-" + record.getValueType(),
+                        record.getPartitionId() + "-" + record.getPosition(),
+                        String.valueOf(record.getPartitionId())))
+            .toList();
+  }
+
+  @Benchmark
+  public int indexIntoBuffer() throws IOException {
+    final int index = nextIndex();
+    request.index(actions.get(index), records.get(index), new RecordSequence(1, sequence));
+
+    if (request.size() >= BULK_SIZE) {
+      request.writeTo(sink);
+      request.clear();
+    }
+
+    return request.size();
+  }
+
+  @Benchmark
+  public int serializeIntoArrays() throws IOException {
+    final int index = nextIndex();
+    serializedActions.add(actions.get(index));
+    serializedRecords.add(MAPPER.writeValueAsBytes(records.get(index)));
+
+    if (serializedRecords.size() >= BULK_SIZE) {
+      for (int i = 0; i < serializedRecords.size(); i++) {
+        MAPPER.writeValue(sink, serializedActions.get(i));
+        sink.write('\n');
+        sink.write(serializedRecords.get(i));
+        sink.write('\n');
+      }
+      serializedActions.clear();
+      serializedRecords.clear();
+    }
+
+    return serializedRecords.size();
+  }
+
+  private int nextIndex() {
+    // index distinct actions, as the request skips an action equal to the last one
+    return (int) (sequence++ % RECORD_COUNT);
+  }
+
+  /** Unlike {@link OutputStream#nullOutputStream()}, can still be written to after being closed */
+  private static final class DiscardingOutputStream extends OutputStream {
+    @Override
+    public void write(final int b) {}
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {}
+  }
+}
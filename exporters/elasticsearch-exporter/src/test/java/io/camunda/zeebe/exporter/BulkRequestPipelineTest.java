@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class BulkRequestPipelineTest {
+
+  private final List<Long> acknowledgedPositions = new ArrayList<>();
+  private final BulkRequestPipeline pipeline =
+      new BulkRequestPipeline(
+          2, Duration.ofMillis(100), (position, metadata) -> acknowledgedPositions.add(position));
+
+  @Test
+  void shouldAcknowledgeFlushedBulk() {
+    // given
+    final var response = new CompletableFuture<Void>();
+    pipeline.add(1, new byte[0], response);
+
+    // when
+    response.complete(null);
+
+    // then
+    assertThat(acknowledgedPositions).containsExactly(1L);
+    assertThat(pipeline.size()).isZero();
+  }
+
+  @Test
+  void shouldNotAcknowledgeBulkBeforeEarlierBulksAreFlushed() {
+    // given
+    final var firstResponse = new CompletableFuture<Void>();
+    final var secondResponse = new CompletableFuture<Void>();
+    pipeline.add(1, new byte[0], firstResponse);
+    pipeline.add(2, new byte[0], secondResponse);
+
+    // when
+    secondResponse.complete(null);
+
+    // then
+    assertThat(acknowledgedPositions).isEmpty();
+    assertThat(pipeline.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldAcknowledgeBulksInOrder() {
+    // given
+    final var firstResponse = new CompletableFuture<Void>();
+    final var secondResponse = new CompletableFuture<Void>();
+    pipeline.add(1, new byte[0], firstResponse);
+    pipeline.add(2, new byte[0], secondResponse);
+    secondResponse.complete(null);
+
+    // when
+    firstResponse.complete(null);
+
+    // then
+    assertThat(acknowledgedPositions).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldNeverAcknowledgeFailedBulk() {
+    // given
+    final var firstResponse = new CompletableFuture<Void>();
+    final var secondResponse = new CompletableFuture<Void>();
+    pipeline.add(1, new byte[0], firstResponse);
+    pipeline.add(2, new byte[0], secondResponse);
+
+    // when
+    firstResponse.completeExceptionally(new RuntimeException("closed"));
+    secondResponse.complete(null);
+
+    // then
+    assertThat(acknowledgedPositions).isEmpty();
+  }
+
+  @Test
+  void shouldHaveNoCapacityIfTooManyBulksAreInFlight() {
+    // given
+    pipeline.add(1, new byte[0], new CompletableFuture<>());
+    assertThat(pipeline.hasCapacity()).isTrue();
+
+    // when
+    pipeline.add(2, new byte[0], new CompletableFuture<>());
+
+    // then
+    assertThat(pipeline.hasCapacity()).isFalse();
+    assertThatThrownBy(pipeline::awaitCapacity).isInstanceOf(ElasticsearchExporterException.class);
+  }
+
+  @Test
+  void shouldAwaitCapacityUntilBulkIsFlushed() {
+    // given
+    final var firstResponse = new CompletableFuture<Void>();
+    pipeline.add(1, new byte[0], firstResponse);
+    pipeline.add(2, new byte[0], new CompletableFuture<>());
+
+    // when
+    CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS)
+        .execute(() -> firstResponse.complete(null));
+
+    // then
+    pipeline.awaitCapacity();
+    assertThat(pipeline.hasCapacity()).isTrue();
+  }
+
+  @Test
+  void shouldAwaitAllBulks() {
+    // given
+    final var response = new CompletableFuture<Void>();
+    pipeline.add(1, new byte[0], response);
+    assertThat(pipeline.awaitAll()).isFalse();
+
+    // when
+    response.complete(null);
+
+    // then
+    assertThat(pipeline.awaitAll()).isTrue();
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the pipelined flush of the exporter against a local stand-in for Elasticsearch, which
+ * can hold back or reject bulk requests.
+ */
+final class ElasticsearchExporterPipelineTest {
+
+  private static final String BULK_RESPONSE = "{\"errors\":false,\"items\":[]}";
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final ElasticsearchExporterConfiguration config =
+      new ElasticsearchExporterConfiguration();
+  private final ExporterTestController controller = new ExporterTestController();
+  private final ElasticsearchExporter exporter = new ElasticsearchExporter();
+  private final List<String> receivedBulks = new CopyOnWriteArrayList<>();
+  private final CountDownLatch releaseHeldBulks = new CountDownLatch(1);
+  private final AtomicInteger bulksToHold = new AtomicInteger();
+  private final AtomicInteger bulksToReject = new AtomicInteger();
+  private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+  private HttpServer server;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/_bulk", this::handleBulk);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    config.url = "http://localhost:" + server.getAddress().getPort();
+    config.index.createTemplate = false;
+    config.requestTimeoutMs = 1_000;
+    config.bulk.size = 1;
+    config.bulk.maxInFlightRequests = 2;
+
+    exporter.configure(
+        new ExporterTestContext()
+            .setConfiguration(new ExporterTestConfiguration<>("elastic", config)));
+    exporter.open(controller);
+  }
+
+  @AfterEach
+  void afterEach() {
+    releaseHeldBulks.countDown();
+    exporter.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void shouldAcknowledgeBulksInOrder() {
+    // given
+    bulksToHold.set(1);
+    final Record<?> first = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+    final Record<?> second = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+
+    // when
+    exporter.export(first);
+    exporter.export(second);
+    Awaitility.await("both bulks were sent").until(receivedBulks::size, size -> size == 2);
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(-1L);
+
+    // when
+    releaseHeldBulks.countDown();
+
+    // then
+    Awaitility.await("both bulks are acknowledged")
+        .until(controller::getPosition, position -> position == second.getPosition());
+  }
+
+  @Test
+  void shouldRetryRejectedBulk() {
+    // given
+    bulksToReject.set(2);
+    final Record<?> record = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+
+    // when
+    exporter.export(record);
+
+    // then
+    Awaitility.await("bulk is acknowledged after retries")
+        .until(controller::getPosition, position -> position == record.getPosition());
+    assertThat(receivedBulks).hasSize(3).containsOnly(receivedBulks.get(0));
+  }
+
+  @Test
+  void shouldNotExceedMaxInFlightRequests() {
+    // given
+    bulksToHold.set(Integer.MAX_VALUE);
+    final Record<?> first = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+    final Record<?> second = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+    final Record<?> third = factory.generateRecord(ValueType.PROCESS_INSTANCE);
+    exporter.export(first);
+    exporter.export(second);
+
+    // when - then
+    assertThatThrownBy(() -> exporter.export(third))
+        .isInstanceOf(ElasticsearchExporterException.class);
+
+    // when
+    releaseHeldBulks.countDown();
+    exporter.export(third);
+
+    // then
+    Awaitility.await("all bulks are acknowledged")
+        .until(controller::getPosition, position -> position == third.getPosition());
+  }
+
+  private void handleBulk(final HttpExchange exchange) throws IOException {
+    try (exchange) {
+      receivedBulks.add(
+          new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+      if (bulksToReject.getAndDecrement() > 0) {
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+
+      if (bulksToHold.getAndDecrement() > 0) {
+        releaseHeldBulks.await(30, TimeUnit.SECONDS);
+      }
+
+      final var response = BULK_RESPONSE.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, response.length);
+      exchange.getResponseBody().write(response);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
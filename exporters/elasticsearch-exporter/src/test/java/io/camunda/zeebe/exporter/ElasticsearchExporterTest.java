@@ -31,6 +31,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -311,6 +312,35 @@ final class ElasticsearchExporterTest {
           .isInstanceOf(ElasticsearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldUpdateLastExportedPositionOnceAsynchronousFlushCompleted() {
+      // given
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      final var flushed = new CompletableFuture<Void>();
+      config.bulk.maxInFlightRequests = 1;
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.flushAsync()).thenReturn(flushed);
+
+      // when
+      exporter.export(record);
+
+      // then
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      flushed.complete(null);
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
   }
 
   @Nested
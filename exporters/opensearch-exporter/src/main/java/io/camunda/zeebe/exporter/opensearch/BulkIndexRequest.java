@@ -9,19 +9,27 @@ package io.camunda.zeebe.exporter.opensearch;
 
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.util.buffer.NdJsonBuffer;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * avoid having to serialize it again on retry. Operations are streamed directly into a reusable
+ * {@link NdJsonBuffer}, which already is the body of the bulk request, such that neither indexing
+ * nor flushing allocates an intermediate copy per record.
  */
 final class BulkIndexRequest implements ContentProducer {
 
@@ -33,9 +41,12 @@ final class BulkIndexRequest implements ContentProducer {
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private static final ObjectWriter ACTION_WRITER = MAPPER.writerFor(BulkIndexAction.class);
+
+  private final NdJsonBuffer buffer = new NdJsonBuffer(MAPPER);
 
   private BulkIndexAction lastIndexedMetadata;
+  private int size = 0;
   private int memoryUsageBytes = 0;
 
   /**
@@ -55,36 +66,39 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int bufferLength = buffer.length();
+    final int sourceLength;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      buffer.append(ACTION_WRITER, action);
+      sourceLength = serializeRecord(record, recordSequence);
     } catch (final IOException e) {
+      // don't leave the action behind without its source
+      buffer.truncate(bufferLength);
       throw new OpensearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
-    operations.add(command);
+    size++;
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private int serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Opensearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/zeebe/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+    return buffer.append(
+        MAPPER
+            .writer()
+            // Enhance the serialized record by its sequence number. The sequence number is not a
+            // part of the record itself but a special property for Opensearch. It can be used to
+            // limit the number of records when reading from the index, for example, by using a
+            // range query. Read https://github.com/camunda/zeebe/issues/10568 for details.
+            .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence()),
+        record);
   }
 
   /** Returns the number of operations indexed so far. */
   int size() {
-    return operations.size();
+    return size;
   }
 
   /** Returns an approximate amount of memory used by this buffer. */
@@ -94,12 +108,13 @@ final class BulkIndexRequest implements ContentProducer {
 
   /** Returns true if no operations were indexed, i.e. {@link #size()} is 0, false otherwise. */
   boolean isEmpty() {
-    return operations.isEmpty();
+    return size == 0;
   }
 
   /** Clears the buffer entirely. */
   void clear() {
-    operations.clear();
+    buffer.clear();
+    size = 0;
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -109,23 +124,41 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /**
+   * Returns a copy of the currently indexed operations, read back from the serialized buffer. This
+   * is expensive, and only meant for inspection, e.g. in tests.
+   */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    final List<BulkOperation> operations = new ArrayList<>(size);
+    try (final var reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new ByteArrayInputStream(buffer.toByteArray()), StandardCharsets.UTF_8))) {
+      String metadata;
+      while ((metadata = reader.readLine()) != null) {
+        final var source = reader.readLine().getBytes(StandardCharsets.UTF_8);
+        operations.add(
+            new BulkOperation(MAPPER.readValue(metadata, BulkIndexAction.class), source));
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return operations;
+  }
+
+  /** Returns a copy of the serialized bulk request, i.e. the nd-json body. */
+  byte[] toByteArray() {
+    return buffer.toByteArray();
   }
 
   /**
    * Writes the JSON serialized entries, separated by a line ending for each, effectively writing
-   * nd-json.
+   * nd-json. As the entries are serialized when indexed, this only copies the buffer.
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
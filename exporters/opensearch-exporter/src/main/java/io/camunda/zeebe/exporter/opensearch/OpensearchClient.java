@@ -20,7 +20,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import org.apache.http.entity.EntityTemplate;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.opensearch.client.Request;
 import org.opensearch.client.RestClient;
 
@@ -147,8 +148,8 @@ class OpensearchClient implements AutoCloseable {
     final BulkIndexResponse response;
     try {
       final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      request.setJsonEntity(new String(body.getContent().readAllBytes()));
+      request.setEntity(
+          new ByteArrayEntity(bulkIndexRequest.toByteArray(), ContentType.APPLICATION_JSON));
 
       response = sendRequest(request, BulkIndexResponse.class);
     } catch (final IOException e) {
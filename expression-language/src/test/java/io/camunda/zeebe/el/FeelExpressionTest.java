@@ -14,8 +14,11 @@ import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class FeelExpressionTest {
@@ -75,6 +78,65 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getString()).isEqualTo("z");
   }
 
+  @Test
+  public void pathExpressionWithManyEntries() {
+    final var entries = new HashMap<String, Object>();
+    for (int i = 0; i < 100; i++) {
+      entries.put("y" + i, i);
+    }
+    final var context = Map.of("x", asMsgPack(entries));
+    final var evaluationResult = evaluateExpression("x.y99 + x.y0 + x.y99", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(198L);
+  }
+
+  @Test
+  public void pathExpressionWithNonAsciiKey() {
+    final var context = Map.of("x", asMsgPack(Map.of("grüße", "hallo", "gruse", "hello")));
+    final var evaluationResult = evaluateExpression("get value(x, \"grüße\")", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("hallo");
+  }
+
+  @Test
+  public void pathExpressionWithNonExistingKey() {
+    final var context = Map.of("x", asMsgPack(Map.of("y", "z")));
+    final var evaluationResult = evaluateExpression("x.z = null", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isTrue();
+  }
+
+  @Test
+  public void pathExpressionWithDuplicateKey() {
+    final var context = Map.of("x", duplicateKeyMsgPack());
+    final var evaluationResult = evaluateExpression("x.y", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("b");
+  }
+
+  @Test
+  public void contextFunctionInvocationWithDuplicateKey() {
+    final var context = Map.of("x", duplicateKeyMsgPack());
+    final var evaluationResult = evaluateExpression("context put(x, \"z\", 1)", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{\"y\":\"b\",\"z\":1}"));
+  }
+
+  @Test
+  public void contextFunctionInvocation() {
+    final var context = Map.of("x", asMsgPack("{\"a\":1,\"b\":{\"c\":[2]}}"));
+    final var evaluationResult = evaluateExpression("context put(x, \"d\", 3)", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer())
+        .isEqualTo(asMsgPack("{\"a\":1,\"b\":{\"c\":[2]},\"d\":3}"));
+  }
+
   @Test
   public void comparison() {
     final var context = Map.of("x", asMsgPack("2"));
@@ -239,4 +301,12 @@ public class FeelExpressionTest {
 
     return evaluationResult;
   }
+
+  private static DirectBuffer duplicateKeyMsgPack() {
+    // {"y":"a","y":"b"} - can't be created from a Java map or a JSON document
+    return new UnsafeBuffer(
+        new byte[] {
+          (byte) 0x82, (byte) 0xa1, 'y', (byte) 0xa1, 'a', (byte) 0xa1, 'y', (byte) 0xa1, 'b'
+        });
+  }
 }
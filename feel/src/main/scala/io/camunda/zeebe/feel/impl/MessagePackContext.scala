@@ -7,19 +7,29 @@
  */
 package io.camunda.zeebe.feel.impl
 
-import io.camunda.zeebe.msgpack.spec.MsgPackReader
+import io.camunda.zeebe.msgpack.spec.{MsgPackReader, MsgPackType}
 import io.camunda.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer}
 import org.agrona.DirectBuffer
+import org.agrona.collections.Object2LongHashMap
 import org.agrona.concurrent.UnsafeBuffer
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
+import java.nio.charset.StandardCharsets
+import scala.collection.mutable
+
+/**
+ * A context of a MessagePack map. The entries are not read up front, since an expression usually
+ * accesses only a few of them. Instead, the keys are compared in place when a variable is
+ * accessed, and only the offsets of the accessed variables are remembered.
+ */
 class MessagePackContext(
                           reader: MsgPackReader,
                           bufferOffset: Int,
                           size: Int
                         ) extends CustomContext {
 
-  private val valueOffsets: Map[String, (Int, Int)] = readValueOffsets(reader, size)
+  // the map header is already read, so skipping its keys and values moves the reader behind the map
+  reader.skipValues(2L * size)
   private val length = reader.getOffset - bufferOffset
 
   val messagePackMap: DirectBuffer = cloneBuffer(reader.getBuffer, bufferOffset, length)
@@ -28,40 +38,105 @@ class MessagePackContext(
 
   class MessagePackMapVariableProvider(entries: DirectBuffer) extends VariableProvider {
 
-    private val resultView = new UnsafeBuffer
+    private val NotRead = -1L
+    private val NotFound = -2L
 
-    override def keys: Iterable[String] = valueOffsets.keys
+    private val resultView = new UnsafeBuffer
+    private lazy val entryReader = new MsgPackReader
+    // the offset and the length of a value, packed in a long - or NotFound if no entry has the key
+    private lazy val valueOffsets = new Object2LongHashMap[String](NotRead)
+
+    override def keys: Iterable[String] = {
+      // a map may contain a key more than once, but the context has only one entry for it
+      val keys = mutable.LinkedHashSet.empty[String]
+      forEachEntry { (keyBuffer, _, _) =>
+        keys += bufferAsString(keyBuffer)
+      }
+      keys
+    }
 
     override def getVariable(name: String): Option[Any] = {
-      valueOffsets
-        .get(name)
-        .map { case (offset, length) =>
-          resultView.wrap(entries, offset, length)
-          resultView
-        }
+      var value = valueOffsets.getValue(name)
+      if (value == NotRead) {
+        value = findValue(name)
+        valueOffsets.put(name, value)
+      }
+
+      if (value == NotFound) {
+        None
+      } else {
+        resultView.wrap(entries, (value >>> 32).toInt, value.toInt)
+        Some(resultView)
+      }
     }
 
-    override def getVariables: Map[String, Any] = valueOffsets.map { case (key, (offset, length)) =>
-      key -> cloneBuffer(entries, offset, length)
+    override def getVariables: Map[String, Any] = {
+      val variables = Map.newBuilder[String, Any]
+      forEachEntry { (keyBuffer, valueOffset, valueLength) =>
+        // the entries are a copy which is never modified, so the values don't need to be copied
+        variables += bufferAsString(keyBuffer) -> new UnsafeBuffer(entries, valueOffset, valueLength)
+      }
+      variables.result()
     }
 
-  }
+    private def findValue(name: String): Long = {
+      val nameBytes = name.getBytes(StandardCharsets.UTF_8)
+
+      entryReader.wrap(entries, 0, entries.capacity())
+      entryReader.readMapHeader()
+
+      // if a key occurs more than once, the last value wins - like when all entries are read
+      var value = NotFound
+      var index = 0
+      while (index < size) {
+        val keyToken = entryReader.readToken()
+        if (keyToken.getType == MsgPackType.STRING && equalsKey(keyToken.getValueBuffer, nameBytes)) {
+          val valueOffset = entryReader.getOffset
+          entryReader.skipValue()
+          val valueLength = entryReader.getOffset - valueOffset
+
+          value = (valueOffset.toLong << 32) | valueLength
+        } else {
+          entryReader.skipValue()
+        }
+        index += 1
+      }
+
+      value
+    }
+
+    private def equalsKey(keyBuffer: DirectBuffer, nameBytes: Array[Byte]): Boolean = {
+      if (keyBuffer.capacity() != nameBytes.length) {
+        return false
+      }
+
+      var i = 0
+      while (i < nameBytes.length) {
+        if (keyBuffer.getByte(i) != nameBytes(i)) {
+          return false
+        }
+        i += 1
+      }
+      true
+    }
 
-  private def readValueOffsets(reader: MsgPackReader, size: Int): Map[String, (Int, Int)] = {
-    val offsets = (0 until size).map { _ =>
+    private def forEachEntry(consumer: (DirectBuffer, Int, Int) => Unit): Unit = {
+      entryReader.wrap(entries, 0, entries.capacity())
+      entryReader.readMapHeader()
 
-      val keyToken = reader.readToken()
-      val keyBuffer = keyToken.getValueBuffer
-      val key = bufferAsString(keyBuffer)
+      var index = 0
+      while (index < size) {
+        val keyBuffer = entryReader.readToken().getValueBuffer
 
-      val valueOffset = reader.getOffset
-      reader.skipValue()
-      val valueLength = reader.getOffset - valueOffset
+        val valueOffset = entryReader.getOffset
+        entryReader.skipValue()
+        val valueLength = entryReader.getOffset - valueOffset
 
-      key -> (valueOffset - bufferOffset, valueLength)
+        consumer(keyBuffer, valueOffset, valueLength)
+        index += 1
+      }
     }
 
-    offsets.toMap
   }
 
 }
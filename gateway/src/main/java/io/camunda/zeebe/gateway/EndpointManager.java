@@ -9,17 +9,35 @@ package io.camunda.zeebe.gateway;
 
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
+import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
+import io.camunda.zeebe.gateway.cmd.NoTopologyAvailableException;
+import io.camunda.zeebe.gateway.cmd.PartitionNotFoundException;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatch;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.BatchCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobResultStreamHandler;
 import io.camunda.zeebe.gateway.impl.stream.ClientStreamAdapter;
+import io.camunda.zeebe.gateway.metrics.JobResultStreamMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -28,8 +46,10 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -42,6 +62,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
@@ -49,6 +71,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -59,14 +82,26 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.util.EnsureUtil;
 import io.camunda.zeebe.util.VersionUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -76,15 +111,30 @@ public final class EndpointManager {
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
   private final ClientStreamAdapter clientStreamAdapter;
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
+  private final AtomicInteger nextCreateProcessInstancePartition = new AtomicInteger();
+  private final JobResultStreamMetrics jobResultMetrics = new JobResultStreamMetrics();
+  private final int maxBatchCommands;
+  private final long maxBatchSize;
 
   public EndpointManager(
       final BrokerClient brokerClient,
       final ActivateJobsHandler activateJobsHandler,
       final ClientStreamer<JobActivationProperties> jobStreamer,
-      final Executor executor) {
+      final Executor executor,
+      final BatchCfg batchCfg) {
     this.brokerClient = brokerClient;
     this.activateJobsHandler = activateJobsHandler;
 
+    maxBatchCommands = batchCfg.getMaxCommands();
+    maxBatchSize = batchCfg.getMaxSize().toBytes();
+    EnsureUtil.ensureGreaterThan("maxCommands", maxBatchCommands, 0);
+    if (maxBatchCommands > ExecuteCommandBatchRequest.MAX_COMMANDS) {
+      throw new IllegalArgumentException(
+          "maxCommands must be less than or equal to " + ExecuteCommandBatchRequest.MAX_COMMANDS);
+    }
+    EnsureUtil.ensureGreaterThan("maxSize", maxBatchSize, 0);
+
     clientStreamAdapter = new ClientStreamAdapter(jobStreamer, executor);
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
@@ -372,6 +422,93 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void batchCompleteJob(
+      final BatchCompleteJobRequest request,
+      final ServerStreamObserver<BatchCompleteJobResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCompleteJobRequest,
+        (jobRequest, index, topology) -> Protocol.decodePartitionId(jobRequest.getJobKey()),
+        ResponseMapper::toCompleteJobResponse,
+        new BatchResultMapper<>(
+            response -> CompleteJobResult.newBuilder().setResponse(response).build(),
+            error -> CompleteJobResult.newBuilder().setError(error).build()),
+        results ->
+            consumeResponse(
+                responseObserver,
+                BatchCompleteJobResponse.newBuilder().addAllResults(results).build()),
+        responseObserver::onError);
+  }
+
+  public void batchPublishMessage(
+      final BatchPublishMessageRequest request,
+      final ServerStreamObserver<BatchPublishMessageResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toPublishMessageRequest,
+        (messageRequest, index, topology) ->
+            SubscriptionUtil.getSubscriptionPartitionId(
+                BufferUtil.wrapString(messageRequest.getCorrelationKey()),
+                topology.getPartitionsCount()),
+        ResponseMapper::toPublishMessageResponse,
+        new BatchResultMapper<>(
+            response -> PublishMessageResult.newBuilder().setResponse(response).build(),
+            error -> PublishMessageResult.newBuilder().setError(error).build()),
+        results ->
+            consumeResponse(
+                responseObserver,
+                BatchPublishMessageResponse.newBuilder().addAllResults(results).build()),
+        responseObserver::onError);
+  }
+
+  public void batchCreateProcessInstance(
+      final BatchCreateProcessInstanceRequest request,
+      final ServerStreamObserver<BatchCreateProcessInstanceResponse> responseObserver) {
+    // distribute the instances round-robin over all partitions, continuing with the partition
+    // after the one which was picked last
+    final int firstPartitionIndex =
+        nextCreateProcessInstancePartition.getAndAdd(request.getRequestsCount());
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCreateProcessInstanceRequest,
+        (instanceRequest, index, topology) -> {
+          final var partitions = topology.getPartitions();
+          return partitions.get(Math.floorMod(firstPartitionIndex + index, partitions.size()));
+        },
+        ResponseMapper::toCreateProcessInstanceResponse,
+        new BatchResultMapper<>(
+            response -> CreateProcessInstanceResult.newBuilder().setResponse(response).build(),
+            error -> CreateProcessInstanceResult.newBuilder().setError(error).build()),
+        results ->
+            consumeResponse(
+                responseObserver,
+                BatchCreateProcessInstanceResponse.newBuilder().addAllResults(results).build()),
+        responseObserver::onError);
+  }
+
+  public StreamObserver<JobResultRequest> jobResultStream(
+      final ServerStreamObserver<JobResultResponse> responseObserver) {
+    return new JobResultStreamHandler(
+        this::sendJobResults, responseObserver, jobResultMetrics, maxBatchCommands, maxBatchSize);
+  }
+
+  private void sendJobResults(
+      final List<JobResultRequest> requests, final Consumer<List<JobResultResponse>> onResults) {
+    sendBatchRequest(
+        requests,
+        RequestMapper::toJobResultRequest,
+        (resultRequest, index, topology) ->
+            Protocol.decodePartitionId(JobResultStreamHandler.getJobKey(resultRequest)),
+        (key, response) -> JobResultResponse.getDefaultInstance(),
+        new BatchResultMapper<>(
+            Function.identity(), error -> JobResultResponse.newBuilder().setError(error).build()),
+        onResults,
+        error -> {
+          final var result = JobResultResponse.newBuilder().setError(toBatchItemError(error));
+          onResults.accept(Collections.nCopies(requests.size(), result.build()));
+        });
+  }
+
   private <GrpcRequestT, BrokerResponseT, GrpcResponseT> void sendRequest(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
@@ -434,13 +571,176 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends the given requests grouped by partition, with one broker request per partition, and
+   * passes the results to {@code onResults} once all broker requests are answered. The result of
+   * each request is reported separately and in the order of the requests: if a request can't be
+   * mapped, is rejected, or its broker request fails, only the results of the affected requests are
+   * errors. Only if the requests can't be sent at all, {@code onError} is called instead.
+   */
+  private <GrpcRequestT, BrokerResponseT, GrpcResponseT, GrpcResultT> void sendBatchRequest(
+      final List<GrpcRequestT> grpcRequests,
+      final Function<GrpcRequestT, ? extends BrokerExecuteCommand<BrokerResponseT>> requestMapper,
+      final PartitionSelector<GrpcRequestT> partitionSelector,
+      final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
+      final BatchResultMapper<GrpcResponseT, GrpcResultT> resultMapper,
+      final Consumer<List<GrpcResultT>> onResults,
+      final Consumer<Throwable> onError) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null || topology.getPartitionsCount() == 0) {
+      onError.accept(new NoTopologyAvailableException());
+      return;
+    }
+
+    final var results = new AtomicReferenceArray<GrpcResultT>(grpcRequests.size());
+    final var commandsByPartition = new TreeMap<Integer, List<BatchItem<BrokerResponseT>>>();
+    for (int i = 0; i < grpcRequests.size(); i++) {
+      final var grpcRequest = grpcRequests.get(i);
+      try {
+        final var command = requestMapper.apply(grpcRequest);
+        final int partitionId = partitionSelector.selectPartition(grpcRequest, i, topology);
+        if (!topology.getPartitions().contains(partitionId)) {
+          throw new PartitionNotFoundException(partitionId);
+        }
+
+        command.setPartitionId(partitionId);
+        commandsByPartition
+            .computeIfAbsent(partitionId, ignored -> new ArrayList<>())
+            .add(new BatchItem<>(i, command, getEncodedLength(command)));
+      } catch (final Exception e) {
+        results.set(i, resultMapper.onError.apply(toBatchItemError(e)));
+      }
+    }
+
+    final var batches = new ArrayList<List<BatchItem<BrokerResponseT>>>();
+    commandsByPartition.forEach((partitionId, items) -> splitIntoBatches(items, batches));
+
+    final var pendingBatches = new AtomicInteger(batches.size());
+    final Runnable onBatchCompleted =
+        () -> {
+          if (pendingBatches.decrementAndGet() == 0) {
+            onResults.accept(toList(results));
+          }
+        };
+    if (batches.isEmpty()) {
+      onResults.accept(toList(results));
+      return;
+    }
+
+    for (final var batchItems : batches) {
+      final var batch =
+          new BrokerExecuteCommandBatch<BrokerResponseT>(
+              batchItems.get(0).command().getPartitionId(), batchItems.get(0).command().getType());
+      batchItems.forEach(item -> batch.addCommand(item.command()));
+
+      brokerClient
+          .sendRequestWithRetry(batch)
+          .whenComplete(
+              (batchResponse, error) -> {
+                if (error != null) {
+                  final var itemError = resultMapper.onError.apply(toBatchItemError(error));
+                  batchItems.forEach(item -> results.set(item.index(), itemError));
+                } else {
+                  final var responses = batchResponse.getResponse();
+                  for (int i = 0; i < batchItems.size(); i++) {
+                    results.set(
+                        batchItems.get(i).index(),
+                        toBatchItemResult(responses.get(i), responseMapper, resultMapper));
+                  }
+                }
+                onBatchCompleted.run();
+              });
+    }
+  }
+
+  /**
+   * Splits the items of a partition into batches of at most {@link #maxBatchCommands} commands and
+   * at most {@link #maxBatchSize} bytes, such that the broker can write each batch to its log and
+   * doesn't need to reject it because of its size. A command which alone exceeds the maximum size
+   * is sent in a batch of its own, which the broker rejects like it would reject the single
+   * command.
+   */
+  private <BrokerResponseT> void splitIntoBatches(
+      final List<BatchItem<BrokerResponseT>> items,
+      final List<List<BatchItem<BrokerResponseT>>> batches) {
+    int batchStart = 0;
+    long batchSize = 0;
+    for (int i = 0; i < items.size(); i++) {
+      final int length = items.get(i).length();
+      if (i > batchStart
+          && (i - batchStart == maxBatchCommands || batchSize + length > maxBatchSize)) {
+        batches.add(items.subList(batchStart, i));
+        batchStart = i;
+        batchSize = 0;
+      }
+      batchSize += length;
+    }
+
+    batches.add(items.subList(batchStart, items.size()));
+  }
+
+  private static int getEncodedLength(final BrokerExecuteCommand<?> command) {
+    // the value is only serialized when the batch is sent, so its length must be added
+    final var valueWriter = command.getRequestWriter();
+    return command.getLength() + (valueWriter != null ? valueWriter.getLength() : 0);
+  }
+
+  private <BrokerResponseT, GrpcResponseT, GrpcResultT> GrpcResultT toBatchItemResult(
+      final BrokerResponse<BrokerResponseT> response,
+      final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
+      final BatchResultMapper<GrpcResponseT, GrpcResultT> resultMapper) {
+    if (response.isResponse()) {
+      return resultMapper.onResponse.apply(
+          responseMapper.apply(response.getKey(), response.getResponse()));
+    } else if (response.isRejection()) {
+      return resultMapper.onError.apply(
+          toBatchItemError(new BrokerRejectionException(response.getRejection())));
+    } else {
+      return resultMapper.onError.apply(
+          toBatchItemError(new BrokerErrorException(response.getError())));
+    }
+  }
+
+  private BatchItemError toBatchItemError(final Throwable error) {
+    final var status = errorMapper.mapErrorToStatus(error);
+    return BatchItemError.newBuilder()
+        .setCode(status.getCode())
+        .setMessage(status.getMessage())
+        .build();
+  }
+
+  private static <T> List<T> toList(final AtomicReferenceArray<T> array) {
+    final List<T> list = new ArrayList<>(array.length());
+    for (int i = 0; i < array.length(); i++) {
+      list.add(array.get(i));
+    }
+    return list;
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
       final long key,
       final BrokerResponseT response) {
     final GrpcResponseT grpcResponse = responseMapper.apply(key, response);
+    consumeResponse(streamObserver, grpcResponse);
+  }
+
+  private <GrpcResponseT> void consumeResponse(
+      final ServerStreamObserver<GrpcResponseT> streamObserver, final GrpcResponseT grpcResponse) {
     streamObserver.onNext(grpcResponse);
     streamObserver.onCompleted();
   }
+
+  @FunctionalInterface
+  private interface PartitionSelector<GrpcRequestT> {
+    int selectPartition(GrpcRequestT request, int index, BrokerClusterState topology);
+  }
+
+  private record BatchItem<BrokerResponseT>(
+      int index, BrokerExecuteCommand<BrokerResponseT> command, int length) {}
+
+  private record BatchResultMapper<GrpcResponseT, GrpcResultT>(
+      Function<GrpcResponseT, GrpcResultT> onResponse,
+      Function<BatchItemError, GrpcResultT> onError) {}
 }
@@ -126,7 +126,8 @@ public final class Gateway implements CloseableSilently {
     applySecurityConfiguration(serverBuilder);
 
     final var endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, jobStreamer, grpcExecutor);
+        new EndpointManager(
+            brokerClient, activateJobsHandler, jobStreamer, grpcExecutor, gatewayCfg.getBatch());
     final var gatewayGrpcService = new GatewayGrpcService(endpointManager);
     return buildServer(serverBuilder, gatewayGrpcService);
   }
@@ -12,6 +12,12 @@ import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
@@ -32,6 +38,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
@@ -202,4 +210,35 @@ public class GatewayGrpcService extends GatewayImplBase {
     endpointManager.broadcastSignal(
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
+
+  @Override
+  public void batchCompleteJob(
+      final BatchCompleteJobRequest request,
+      final StreamObserver<BatchCompleteJobResponse> responseObserver) {
+    endpointManager.batchCompleteJob(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
+  @Override
+  public void batchPublishMessage(
+      final BatchPublishMessageRequest request,
+      final StreamObserver<BatchPublishMessageResponse> responseObserver) {
+    endpointManager.batchPublishMessage(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
+  @Override
+  public void batchCreateProcessInstance(
+      final BatchCreateProcessInstanceRequest request,
+      final StreamObserver<BatchCreateProcessInstanceResponse> responseObserver) {
+    endpointManager.batchCreateProcessInstance(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
+  @Override
+  public StreamObserver<JobResultRequest> jobResultStream(
+      final StreamObserver<JobResultResponse> responseObserver) {
+    return endpointManager.jobResultStream(
+        ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
 }
@@ -67,6 +67,11 @@ public final class ErrorMappingStreamObserver<GrpcResponseT>
     delegate.disableAutoInboundFlowControl();
   }
 
+  @Override
+  public void disableAutoRequest() {
+    delegate.disableAutoRequest();
+  }
+
   @Override
   public void onNext(final GrpcResponseT value) {
     delegate.onNext(value);
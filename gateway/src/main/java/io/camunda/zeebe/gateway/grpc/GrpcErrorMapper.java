@@ -41,6 +41,14 @@ public final class GrpcErrorMapper {
     return StatusProto.toStatusRuntimeException(mapErrorToStatus(error, logger));
   }
 
+  /**
+   * Maps the given error to a {@link Status} without wrapping it into an exception, e.g. to report
+   * the error of a single item of a batch request.
+   */
+  public Status mapErrorToStatus(final Throwable error) {
+    return mapErrorToStatus(error, Loggers.GATEWAY_LOGGER);
+  }
+
   private Status mapErrorToStatus(final Throwable error, final Logger logger) {
     return mapErrorToStatus(error, error, logger);
   }
@@ -29,4 +29,14 @@ public interface ServerStreamObserver<GrpcResponseT> extends StreamObserver<Grpc
    * @see ServerCallStreamObserver#setOnCancelHandler(Runnable)
    */
   void setOnCancelHandler(final Runnable handler);
+
+  /**
+   * @see ServerCallStreamObserver#disableAutoRequest()
+   */
+  void disableAutoRequest();
+
+  /**
+   * @see ServerCallStreamObserver#request(int)
+   */
+  void request(final int count);
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Sends several commands to a single partition with one request. The broker writes all commands to
+ * the log as one batch, and responds with the response to each command, in the order in which the
+ * commands were added. Each command's response is read by the command itself, so it is either a
+ * response, a rejection or an error, as if the command had been sent on its own.
+ *
+ * @param <T> the response type of the commands
+ */
+public final class BrokerExecuteCommandBatch<T> extends BrokerRequest<List<BrokerResponse<T>>> {
+
+  private final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  private final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final List<BrokerExecuteCommand<T>> commands = new ArrayList<>();
+  private final String type;
+
+  public BrokerExecuteCommandBatch(final int partitionId, final String type) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    request.setPartitionId(partitionId);
+    this.type = type + "#BATCH";
+  }
+
+  public BrokerExecuteCommandBatch<T> addCommand(final BrokerExecuteCommand<T> command) {
+    commands.add(command);
+    request.addCommand(command.request);
+    return this;
+  }
+
+  public List<BrokerExecuteCommand<T>> getCommands() {
+    return commands;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return getPartitionId() != ExecuteCommandBatchRequestEncoder.partitionIdNullValue();
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  @Override
+  public BufferWriter getRequestWriter() {
+    return null;
+  }
+
+  @Override
+  public void serializeValue() {
+    for (final var command : commands) {
+      command.serializeValue();
+    }
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected the values of the commands to be serialized by the commands themselves");
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<T>>> readResponse() {
+    final var commandResponses = response.getResponses();
+    if (commandResponses.size() != commands.size()) {
+      throw new IllegalStateException(
+          "Expected a response for each of the %d commands of the batch, but got %d responses"
+              .formatted(commands.size(), commandResponses.size()));
+    }
+
+    final List<BrokerResponse<T>> responses = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      responses.add(commands.get(i).getResponse(commandResponses.get(i)));
+    }
+
+    return new BrokerResponse<>(responses, getPartitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<T>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected the responses of the commands to be read by the commands themselves");
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND_BATCH;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+}
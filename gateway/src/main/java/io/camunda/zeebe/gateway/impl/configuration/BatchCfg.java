@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_BATCH_MAX_COMMANDS;
+
+import java.util.Objects;
+import org.springframework.util.unit.DataSize;
+
+public final class BatchCfg {
+
+  private int maxCommands = DEFAULT_BATCH_MAX_COMMANDS;
+  private DataSize maxSize = DataSize.ofMegabytes(1);
+
+  public int getMaxCommands() {
+    return maxCommands;
+  }
+
+  public BatchCfg setMaxCommands(final int maxCommands) {
+    this.maxCommands = maxCommands;
+    return this;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public BatchCfg setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(maxCommands, maxSize);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final BatchCfg that = (BatchCfg) o;
+    return maxCommands == that.maxCommands && Objects.equals(maxSize, that.maxSize);
+  }
+
+  @Override
+  public String toString() {
+    return "BatchCfg{" + "maxCommands=" + maxCommands + ", maxSize=" + maxSize + '}';
+  }
+}
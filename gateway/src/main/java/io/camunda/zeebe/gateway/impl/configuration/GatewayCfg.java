@@ -26,6 +26,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private BatchCfg batch = new BatchCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
 
   public void init() {
@@ -81,6 +82,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public BatchCfg getBatch() {
+    return batch;
+  }
+
+  public GatewayCfg setBatch(final BatchCfg batch) {
+    this.batch = batch;
+    return this;
+  }
+
   public List<InterceptorCfg> getInterceptors() {
     return interceptors;
   }
@@ -91,7 +101,7 @@ public class GatewayCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, security, longPolling, interceptors);
+    return Objects.hash(network, cluster, threads, security, longPolling, batch, interceptors);
   }
 
   @Override
@@ -108,6 +118,7 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(batch, that.batch)
         && Objects.equals(interceptors, that.interceptors);
   }
 
@@ -124,6 +135,8 @@ public class GatewayCfg {
         + security
         + ", longPollingCfg="
         + longPolling
+        + ", batchCfg="
+        + batch
         + ", interceptors="
         + interceptors
         + '}';
@@ -0,0 +1,188 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.metrics.JobResultStreamMetrics;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Handles a job result stream: the job results received on the stream are sent to the brokers in
+ * batches, and each result is acknowledged on the stream once its batch was processed.
+ *
+ * <p>Results are grouped by the partition of their job, and coalesced without waiting for more
+ * results to arrive. A result which is received while no batch of its partition is in flight is
+ * sent right away, and the results which are received while a batch is in flight are sent together
+ * once that batch is processed, up to the maximum number and size of the commands of a batch. The
+ * size of the batches thus adapts to the rate at which the worker sends results, and a slow
+ * partition doesn't delay the results of other partitions.
+ *
+ * <p>The stream uses manual flow control: at most {@link #MAX_UNACKNOWLEDGED_RESULTS} results are
+ * requested from the client which weren't acknowledged yet, so the results which are waiting to be
+ * sent are bounded.
+ */
+public final class JobResultStreamHandler implements StreamObserver<JobResultRequest> {
+
+  static final int MAX_UNACKNOWLEDGED_RESULTS = 1000;
+
+  private final JobResultSender sender;
+  private final ServerStreamObserver<JobResultResponse> responseObserver;
+  private final JobResultStreamMetrics metrics;
+  private final int maxBatchCommands;
+  private final long maxBatchSize;
+
+  private final Map<Integer, PartitionResults> partitions = new HashMap<>();
+  private int batchesInFlight;
+  private boolean isHalfClosed;
+  private boolean isClosed;
+
+  public JobResultStreamHandler(
+      final JobResultSender sender,
+      final ServerStreamObserver<JobResultResponse> responseObserver,
+      final JobResultStreamMetrics metrics,
+      final int maxBatchCommands,
+      final long maxBatchSize) {
+    this.sender = sender;
+    this.responseObserver = responseObserver;
+    this.metrics = metrics;
+    this.maxBatchCommands = maxBatchCommands;
+    this.maxBatchSize = maxBatchSize;
+
+    // must be called before the stream is started, i.e. before the handler is returned to gRPC
+    responseObserver.disableAutoRequest();
+    responseObserver.request(MAX_UNACKNOWLEDGED_RESULTS);
+    metrics.streamOpened();
+  }
+
+  /**
+   * Returns the key of the job to which the given result belongs, or -1 if the result is invalid.
+   */
+  public static long getJobKey(final JobResultRequest request) {
+    return switch (request.getResultCase()) {
+      case COMPLETE -> request.getComplete().getJobKey();
+      case FAIL -> request.getFail().getJobKey();
+      case THROWERROR -> request.getThrowError().getJobKey();
+      case RESULT_NOT_SET -> -1;
+    };
+  }
+
+  @Override
+  public synchronized void onNext(final JobResultRequest request) {
+    if (isClosed) {
+      return;
+    }
+
+    metrics.resultReceived(request.getResultCase());
+    // invalid results have no partition, and are sent together to be rejected
+    final int partitionId = Protocol.decodePartitionId(getJobKey(request));
+    final var partition = partitions.computeIfAbsent(partitionId, id -> new PartitionResults());
+    partition.pendingResults.add(request);
+    if (!partition.isSending) {
+      sendPendingResults(partition);
+    }
+  }
+
+  @Override
+  public synchronized void onError(final Throwable error) {
+    // the client cancelled the stream, so nobody is left to acknowledge the results to; results
+    // which are already in flight are still processed, like unary requests which are cancelled
+    partitions.values().forEach(partition -> partition.pendingResults.clear());
+    close();
+  }
+
+  @Override
+  public synchronized void onCompleted() {
+    // the client won't send more results, but still expects the pending ones to be acknowledged
+    isHalfClosed = true;
+    if (batchesInFlight == 0) {
+      responseObserver.onCompleted();
+      close();
+    }
+  }
+
+  private void sendPendingResults(final PartitionResults partition) {
+    final var results = new ArrayList<JobResultRequest>();
+    long batchSize = 0;
+    while (!partition.pendingResults.isEmpty() && results.size() < maxBatchCommands) {
+      final int size = partition.pendingResults.peek().getSerializedSize();
+      if (!results.isEmpty() && batchSize + size > maxBatchSize) {
+        break;
+      }
+
+      results.add(partition.pendingResults.poll());
+      batchSize += size;
+    }
+
+    partition.isSending = true;
+    batchesInFlight++;
+
+    metrics.observeBatchSize(results.size());
+    sender.send(results, responses -> onResultsProcessed(partition, results, responses));
+  }
+
+  private synchronized void onResultsProcessed(
+      final PartitionResults partition,
+      final List<JobResultRequest> results,
+      final List<JobResultResponse> responses) {
+    partition.isSending = false;
+    batchesInFlight--;
+    if (isClosed) {
+      return;
+    }
+
+    for (int i = 0; i < results.size(); i++) {
+      responseObserver.onNext(
+          responses.get(i).toBuilder().setRequestId(results.get(i).getRequestId()).build());
+    }
+    responseObserver.request(results.size());
+
+    if (!partition.pendingResults.isEmpty()) {
+      sendPendingResults(partition);
+    } else if (isHalfClosed && batchesInFlight == 0) {
+      responseObserver.onCompleted();
+      close();
+    }
+  }
+
+  private void close() {
+    if (!isClosed) {
+      isClosed = true;
+      metrics.streamClosed();
+    }
+  }
+
+  /** Sends job results to the brokers. */
+  @FunctionalInterface
+  public interface JobResultSender {
+
+    /**
+     * Sends the given results, and passes the response to each result to {@code onResults}, in the
+     * order of the results. The response to a result is either empty, or contains the error with
+     * which the result was rejected; its request id is not set.
+     *
+     * @param results the results to send
+     * @param onResults called with the responses once all results are processed
+     */
+    void send(List<JobResultRequest> results, Consumer<List<JobResultResponse>> onResults);
+  }
+
+  private static final class PartitionResults {
+    private final Queue<JobResultRequest> pendingResults = new ArrayDeque<>();
+    private boolean isSending;
+  }
+}
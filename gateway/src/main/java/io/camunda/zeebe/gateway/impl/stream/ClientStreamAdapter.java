@@ -22,6 +22,8 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.DirectBuffer;
@@ -94,6 +96,41 @@ public class ClientStreamAdapter {
       return CompletableFuture.runAsync(() -> handlePushedJob(payload), executor);
     }
 
+    /**
+     * Forwards the whole batch with a single hop to the executor. If forwarding a job fails, the
+     * stream is closed, so the remaining jobs of the batch are failed without trying them.
+     */
+    @Override
+    public List<CompletableFuture<Void>> pushAll(final List<DirectBuffer> payloads) {
+      final List<CompletableFuture<Void>> results = new ArrayList<>(payloads.size());
+      for (int i = 0; i < payloads.size(); i++) {
+        results.add(new CompletableFuture<>());
+      }
+
+      try {
+        executor.execute(() -> handlePushedJobs(payloads, results));
+      } catch (final Exception e) {
+        results.forEach(result -> result.completeExceptionally(e));
+      }
+
+      return results;
+    }
+
+    private void handlePushedJobs(
+        final List<DirectBuffer> payloads, final List<CompletableFuture<Void>> results) {
+      for (int i = 0; i < payloads.size(); i++) {
+        try {
+          handlePushedJob(payloads.get(i));
+          results.get(i).complete(null);
+        } catch (final Exception e) {
+          for (int j = i; j < results.size(); j++) {
+            results.get(j).completeExceptionally(e);
+          }
+          return;
+        }
+      }
+    }
+
     private void handlePushedJob(final DirectBuffer payload) {
       final ActivatedJobImpl deserializedJob = new ActivatedJobImpl();
       deserializedJob.wrap(payload);
@@ -103,7 +140,8 @@ public class ClientStreamAdapter {
         responseObserver.onNext(activatedJob);
       } catch (final Exception e) {
         responseObserver.onError(e);
-        CompletableFuture.failedFuture(e);
+        // rethrow, such that the job is reported as not pushed and can be yielded
+        throw e;
       }
     }
   }
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest.ResultCase;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of the job result streams, over which workers send the completions, failures and thrown
+ * errors of their jobs. The rate of results per worker connection is the rate of {@code results}
+ * divided by the number of open {@code streams}.
+ */
+public final class JobResultStreamMetrics {
+  private static final String NAMESPACE = "zeebe_gateway_job_result_stream";
+
+  private static final Gauge STREAMS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("streams")
+          .help("Number of open job result streams")
+          .register();
+  private static final Counter RESULTS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("results")
+          .help(
+              "Number of job results received on job result streams, by type (complete, fail, throw_error)")
+          .labelNames("type")
+          .register();
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("batch_size")
+          .help("Number of job results of a stream which are sent to the brokers together")
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500)
+          .register();
+
+  private final Counter.Child completeCount = RESULTS.labels("complete");
+  private final Counter.Child failCount = RESULTS.labels("fail");
+  private final Counter.Child throwErrorCount = RESULTS.labels("throw_error");
+
+  public void streamOpened() {
+    STREAMS.inc();
+  }
+
+  public void streamClosed() {
+    STREAMS.dec();
+  }
+
+  public void resultReceived(final ResultCase type) {
+    switch (type) {
+      case COMPLETE -> completeCount.inc();
+      case FAIL -> failCount.inc();
+      case THROWERROR -> throwErrorCount.inc();
+      default -> {
+        // invalid results are rejected, and aren't counted
+      }
+    }
+  }
+
+  public void observeBatchSize(final int size) {
+    BATCH_SIZE.observe(size);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.rpc.Code;
+import io.camunda.zeebe.gateway.api.util.CommandBatchStub;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.BatchCfg;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.unit.DataSize;
+
+public final class BatchCompleteJobTest extends GatewayTest {
+
+  private static final long FIRST_JOB_ON_PARTITION_ONE = Protocol.encodePartitionId(1, 1);
+  private static final long FIRST_JOB_ON_PARTITION_TWO = Protocol.encodePartitionId(2, 1);
+  private static final long SECOND_JOB_ON_PARTITION_ONE = Protocol.encodePartitionId(1, 2);
+  private static final int MAX_BATCH_COMMANDS = 2;
+  private static final DataSize MAX_BATCH_SIZE = DataSize.ofKilobytes(1);
+
+  public BatchCompleteJobTest() {
+    super(
+        new GatewayCfg()
+            .setBatch(
+                new BatchCfg().setMaxCommands(MAX_BATCH_COMMANDS).setMaxSize(MAX_BATCH_SIZE)));
+  }
+
+  @Before
+  public void registerStubs() {
+    new CompleteJobStub().registerWith(brokerClient);
+    new CommandBatchStub<>().registerWith(brokerClient);
+  }
+
+  @Test
+  public void shouldSendOneBatchPerPartition() {
+    // given
+    final var request =
+        BatchCompleteJobRequest.newBuilder()
+            .addRequests(completeJob(FIRST_JOB_ON_PARTITION_ONE))
+            .addRequests(completeJob(FIRST_JOB_ON_PARTITION_TWO))
+            .addRequests(completeJob(SECOND_JOB_ON_PARTITION_ONE))
+            .build();
+
+    // when
+    final BatchCompleteJobResponse response = client.batchCompleteJob(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(3).allMatch(CompleteJobResult::hasResponse);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allMatch(BrokerExecuteCommandBatch.class::isInstance)
+        .extracting(
+            brokerRequest ->
+                ((BrokerExecuteCommandBatch<?>) brokerRequest)
+                    .getCommands().stream().map(BrokerExecuteCommand::getKey).toList())
+        .containsExactly(
+            List.of(FIRST_JOB_ON_PARTITION_ONE, SECOND_JOB_ON_PARTITION_ONE),
+            List.of(FIRST_JOB_ON_PARTITION_TWO));
+  }
+
+  @Test
+  public void shouldSplitBatchByNumberOfCommands() {
+    // given
+    final var jobKeys =
+        LongStream.rangeClosed(1, 5)
+            .map(key -> Protocol.encodePartitionId(1, key))
+            .boxed()
+            .toList();
+    final var request = BatchCompleteJobRequest.newBuilder();
+    jobKeys.forEach(jobKey -> request.addRequests(completeJob(jobKey)));
+
+    // when
+    final BatchCompleteJobResponse response = client.batchCompleteJob(request.build());
+
+    // then
+    assertThat(response.getResultsList()).hasSize(5).allMatch(CompleteJobResult::hasResponse);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(
+            brokerRequest ->
+                ((BrokerExecuteCommandBatch<?>) brokerRequest)
+                    .getCommands().stream().map(BrokerExecuteCommand::getKey).toList())
+        .containsExactly(jobKeys.subList(0, 2), jobKeys.subList(2, 4), jobKeys.subList(4, 5));
+  }
+
+  @Test
+  public void shouldSplitBatchBySize() {
+    // given
+    final var variables = "{\"foo\":\"%s\"}".formatted("x".repeat(600));
+    final var request =
+        BatchCompleteJobRequest.newBuilder()
+            .addRequests(
+                completeJob(FIRST_JOB_ON_PARTITION_ONE).toBuilder().setVariables(variables))
+            .addRequests(
+                completeJob(SECOND_JOB_ON_PARTITION_ONE).toBuilder().setVariables(variables))
+            .build();
+
+    // when
+    final BatchCompleteJobResponse response = client.batchCompleteJob(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2).allMatch(CompleteJobResult::hasResponse);
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(brokerRequest -> ((BrokerExecuteCommandBatch<?>) brokerRequest).getCommands())
+        .extracting(List::size)
+        .containsExactly(1, 1);
+  }
+
+  @Test
+  public void shouldReportRejectionOfSingleJob() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (BrokerCompleteJobRequest command) -> {
+          if (command.getKey() == FIRST_JOB_ON_PARTITION_TWO) {
+            return new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    JobIntent.COMPLETE, command.getKey(), RejectionType.NOT_FOUND, "not found"));
+          }
+          return new BrokerResponse<>(new JobRecord(), 1, command.getKey());
+        });
+
+    final var request =
+        BatchCompleteJobRequest.newBuilder()
+            .addRequests(completeJob(FIRST_JOB_ON_PARTITION_ONE))
+            .addRequests(completeJob(FIRST_JOB_ON_PARTITION_TWO))
+            .addRequests(completeJob(SECOND_JOB_ON_PARTITION_ONE))
+            .build();
+
+    // when
+    final BatchCompleteJobResponse response = client.batchCompleteJob(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::hasResponse)
+        .containsExactly(true, false, true);
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+    assertThat(response.getResults(1).getError().getMessage()).contains("not found");
+  }
+
+  @Test
+  public void shouldReportJobOnUnknownPartition() {
+    // given
+    final long jobOnUnknownPartition = Protocol.encodePartitionId(100, 1);
+    final var request =
+        BatchCompleteJobRequest.newBuilder()
+            .addRequests(completeJob(FIRST_JOB_ON_PARTITION_ONE))
+            .addRequests(completeJob(jobOnUnknownPartition))
+            .build();
+
+    // when
+    final BatchCompleteJobResponse response = client.batchCompleteJob(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::hasResponse)
+        .containsExactly(true, false);
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo(Code.UNAVAILABLE_VALUE);
+    assertThat(brokerClient.getBrokerRequests()).hasSize(1);
+  }
+
+  private static CompleteJobRequest completeJob(final long jobKey) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).build();
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.rpc.Code;
+import io.camunda.zeebe.gateway.api.util.CommandBatchStub;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.StreamRecorder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class JobResultStreamTest extends GatewayTest {
+
+  private static final long FIRST_JOB_ON_PARTITION_ONE = Protocol.encodePartitionId(1, 1);
+  private static final long FIRST_JOB_ON_PARTITION_TWO = Protocol.encodePartitionId(2, 1);
+  private static final long SECOND_JOB_ON_PARTITION_ONE = Protocol.encodePartitionId(1, 2);
+
+  private final StreamRecorder<JobResultResponse> responses = StreamRecorder.create();
+
+  @Before
+  public void registerStubs() {
+    new CompleteJobStub().registerWith(brokerClient);
+    new FailJobStub().registerWith(brokerClient);
+    new ThrowErrorStub().registerWith(brokerClient);
+    new CommandBatchStub<>().registerWith(brokerClient);
+  }
+
+  @Test
+  public void shouldAcknowledgeResults() throws Exception {
+    // given
+    final StreamObserver<JobResultRequest> stream = asyncClient.jobResultStream(responses);
+
+    // when
+    stream.onNext(complete(1, FIRST_JOB_ON_PARTITION_ONE));
+    stream.onNext(fail(2, FIRST_JOB_ON_PARTITION_TWO));
+    stream.onNext(throwError(3, SECOND_JOB_ON_PARTITION_ONE));
+    stream.onCompleted();
+
+    // then
+    responses.awaitCompletion(10, TimeUnit.SECONDS);
+    assertThat(responses.getError()).isNull();
+    assertThat(responses.getValues())
+        .allMatch(response -> !response.hasError())
+        .extracting(JobResultResponse::getRequestId)
+        .containsExactlyInAnyOrder(1L, 2L, 3L);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .allMatch(BrokerExecuteCommandBatch.class::isInstance)
+        .flatExtracting(
+            brokerRequest -> ((BrokerExecuteCommandBatch<?>) brokerRequest).getCommands())
+        .extracting(BrokerExecuteCommand::getKey)
+        .containsExactlyInAnyOrder(
+            FIRST_JOB_ON_PARTITION_ONE, FIRST_JOB_ON_PARTITION_TWO, SECOND_JOB_ON_PARTITION_ONE);
+    assertThat(brokerClient.getBrokerRequests())
+        .flatExtracting(
+            brokerRequest -> ((BrokerExecuteCommandBatch<?>) brokerRequest).getCommands())
+        .hasAtLeastOneElementOfType(BrokerCompleteJobRequest.class)
+        .hasAtLeastOneElementOfType(BrokerFailJobRequest.class)
+        .hasAtLeastOneElementOfType(BrokerThrowErrorRequest.class);
+  }
+
+  @Test
+  public void shouldReportRejectionOfSingleResult() throws Exception {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (BrokerCompleteJobRequest command) -> {
+          if (command.getKey() == FIRST_JOB_ON_PARTITION_TWO) {
+            return new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    JobIntent.COMPLETE, command.getKey(), RejectionType.NOT_FOUND, "not found"));
+          }
+          return new BrokerResponse<>(new JobRecord(), 1, command.getKey());
+        });
+    final StreamObserver<JobResultRequest> stream = asyncClient.jobResultStream(responses);
+
+    // when
+    stream.onNext(complete(1, FIRST_JOB_ON_PARTITION_ONE));
+    stream.onNext(complete(2, FIRST_JOB_ON_PARTITION_TWO));
+    stream.onCompleted();
+
+    // then
+    responses.awaitCompletion(10, TimeUnit.SECONDS);
+    final List<JobResultResponse> acknowledgements = responses.getValues();
+    assertThat(acknowledgements)
+        .filteredOn(JobResultResponse::hasError)
+        .singleElement()
+        .satisfies(
+            response -> {
+              assertThat(response.getRequestId()).isEqualTo(2L);
+              assertThat(response.getError().getCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+              assertThat(response.getError().getMessage()).contains("not found");
+            });
+    assertThat(acknowledgements).hasSize(2);
+  }
+
+  @Test
+  public void shouldRejectResultWithoutJob() throws Exception {
+    // given
+    final StreamObserver<JobResultRequest> stream = asyncClient.jobResultStream(responses);
+
+    // when
+    stream.onNext(JobResultRequest.newBuilder().setRequestId(1).build());
+    stream.onCompleted();
+
+    // then
+    responses.awaitCompletion(10, TimeUnit.SECONDS);
+    assertThat(responses.getValues())
+        .singleElement()
+        .satisfies(
+            response -> {
+              assertThat(response.getRequestId()).isEqualTo(1L);
+              assertThat(response.getError().getCode()).isEqualTo(Code.INVALID_ARGUMENT_VALUE);
+            });
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static JobResultRequest complete(final long requestId, final long jobKey) {
+    return JobResultRequest.newBuilder()
+        .setRequestId(requestId)
+        .setComplete(CompleteJobRequest.newBuilder().setJobKey(jobKey))
+        .build();
+  }
+
+  private static JobResultRequest fail(final long requestId, final long jobKey) {
+    return JobResultRequest.newBuilder()
+        .setRequestId(requestId)
+        .setFail(FailJobRequest.newBuilder().setJobKey(jobKey).setRetries(1))
+        .build();
+  }
+
+  private static JobResultRequest throwError(final long requestId, final long jobKey) {
+    return JobResultRequest.newBuilder()
+        .setRequestId(requestId)
+        .setThrowError(ThrowErrorRequest.newBuilder().setJobKey(jobKey).setErrorCode("error"))
+        .build();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.CommandBatchStub;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import org.junit.Test;
+
+public final class BatchCreateProcessInstanceTest extends GatewayTest {
+
+  @Test
+  public void shouldDistributeInstancesOverPartitions() {
+    // given
+    final CreateProcessInstanceStub stub = new CreateProcessInstanceStub();
+    stub.registerWith(brokerClient);
+    new CommandBatchStub<>().registerWith(brokerClient);
+
+    final var instance =
+        CreateProcessInstanceRequest.newBuilder().setBpmnProcessId(stub.getProcessId());
+    final var request =
+        BatchCreateProcessInstanceRequest.newBuilder()
+            .addRequests(instance)
+            .addRequests(instance)
+            .addRequests(instance)
+            .build();
+
+    // when
+    final BatchCreateProcessInstanceResponse response = client.batchCreateProcessInstance(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(3)
+        .extracting(CreateProcessInstanceResult::getResponse)
+        .allSatisfy(
+            created ->
+                assertThat(created.getProcessInstanceKey())
+                    .isEqualTo(stub.getProcessInstanceKey()));
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(3)
+        .extracting(BrokerRequest::getPartitionId)
+        .doesNotHaveDuplicates();
+  }
+}
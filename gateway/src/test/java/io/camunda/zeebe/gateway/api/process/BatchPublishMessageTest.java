@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.CommandBatchStub;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchPublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class BatchPublishMessageTest extends GatewayTest {
+
+  @Test
+  public void shouldSendMessagesToPartitionOfCorrelationKey() {
+    // given
+    new PublishMessageStub().registerWith(brokerClient);
+    new CommandBatchStub<>().registerWith(brokerClient);
+
+    final var request = BatchPublishMessageRequest.newBuilder();
+    IntStream.range(0, 20)
+        .forEach(
+            i ->
+                request.addRequests(
+                    PublishMessageRequest.newBuilder()
+                        .setName("message")
+                        .setCorrelationKey("key-" + i)));
+
+    // when
+    final BatchPublishMessageResponse response = client.batchPublishMessage(request.build());
+
+    // then
+    assertThat(response.getResultsList()).hasSize(20).allMatch(PublishMessageResult::hasResponse);
+    assertThat(brokerClient.getBrokerRequests())
+        .allSatisfy(
+            brokerRequest -> {
+              final var batch = (BrokerExecuteCommandBatch<?>) brokerRequest;
+              assertThat(batch.getCommands())
+                  .map(BrokerPublishMessageRequest.class::cast)
+                  .allSatisfy(
+                      message ->
+                          assertThat(
+                                  SubscriptionUtil.getSubscriptionPartitionId(
+                                      message.getCorrelationKey(), 8))
+                              .isEqualTo(batch.getPartitionId()));
+            });
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(brokerRequest -> ((BrokerExecuteCommandBatch<?>) brokerRequest).getCommands())
+        .flatExtracting(commands -> commands)
+        .extracting(
+            message ->
+                BufferUtil.bufferAsString(
+                    ((BrokerPublishMessageRequest) message).getCorrelationKey()))
+        .containsExactlyInAnyOrderElementsOf(
+            IntStream.range(0, 20).mapToObj(i -> "key-" + i).toList());
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.util;
+
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Responds to each command of a batch with the stub which is registered for the type of the
+ * command, as if the commands had been sent on their own.
+ */
+public final class CommandBatchStub<T>
+    implements RequestStub<BrokerExecuteCommandBatch<T>, BrokerResponse<List<BrokerResponse<T>>>> {
+
+  private StubbedBrokerClient brokerClient;
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    brokerClient = gateway;
+    gateway.registerHandler(BrokerExecuteCommandBatch.class, this);
+  }
+
+  @Override
+  public BrokerResponse<List<BrokerResponse<T>>> handle(final BrokerExecuteCommandBatch<T> request)
+      throws Exception {
+    final List<BrokerResponse<T>> responses = new ArrayList<>();
+    for (final var command : request.getCommands()) {
+      responses.add(brokerClient.handleCommand(command));
+    }
+
+    return new BrokerResponse<>(responses, request.getPartitionId(), -1);
+  }
+}
@@ -132,6 +132,11 @@ public final class StubbedBrokerClient implements BrokerClient {
     requestHandlers.put(requestType, requestHandler);
   }
 
+  <T> BrokerResponse<T> handleCommand(final BrokerRequest<T> command) throws Exception {
+    final RequestHandler requestHandler = requestHandlers.get(command.getClass());
+    return requestHandler.handle(command);
+  }
+
   public void notifyJobsAvailable(final String type) {
     jobsAvailableHandler.accept(type);
   }
@@ -68,7 +68,8 @@ public final class StubbedGateway {
     submitActorToActivateJobs(activateJobsHandler);
 
     final EndpointManager endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, jobStreamer, Runnable::run);
+        new EndpointManager(
+            brokerClient, activateJobsHandler, jobStreamer, Runnable::run, config.getBatch());
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     final InProcessServerBuilder serverBuilder =
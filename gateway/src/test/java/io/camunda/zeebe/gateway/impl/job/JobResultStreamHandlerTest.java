@@ -0,0 +1,243 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.metrics.JobResultStreamMetrics;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobResultResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings("unchecked")
+final class JobResultStreamHandlerTest {
+
+  private static final int MAX_BATCH_COMMANDS = 2;
+
+  private final List<SentResults> sentResults = new ArrayList<>();
+  private final ServerStreamObserver<JobResultResponse> responseObserver =
+      mock(ServerStreamObserver.class);
+  private final JobResultStreamHandler handler = createHandler(Long.MAX_VALUE);
+
+  @Test
+  void shouldRequestResultsWithManualFlowControl() {
+    // then
+    final var inOrder = inOrder(responseObserver);
+    inOrder.verify(responseObserver).disableAutoRequest();
+    inOrder.verify(responseObserver).request(JobResultStreamHandler.MAX_UNACKNOWLEDGED_RESULTS);
+  }
+
+  @Test
+  void shouldRequestMoreResultsOnceAcknowledged() {
+    // given
+    handler.onNext(complete(1));
+    handler.onNext(complete(2));
+    handler.onNext(complete(3));
+
+    // when
+    sentResults.get(0).acknowledge();
+    sentResults.get(1).acknowledge();
+
+    // then
+    verify(responseObserver).request(1);
+    verify(responseObserver).request(2);
+  }
+
+  @Test
+  void shouldSendResultRightAwayIfNoneInFlight() {
+    // when
+    handler.onNext(complete(1));
+
+    // then
+    assertThat(sentResults).singleElement().satisfies(sent -> assertRequestIds(sent, 1L));
+  }
+
+  @Test
+  void shouldCoalesceResultsReceivedWhileInFlight() {
+    // given
+    handler.onNext(complete(1));
+
+    // when
+    handler.onNext(complete(2));
+    handler.onNext(complete(3));
+    sentResults.get(0).acknowledge();
+
+    // then
+    assertThat(sentResults).hasSize(2);
+    assertRequestIds(sentResults.get(1), 2L, 3L);
+  }
+
+  @Test
+  void shouldLimitNumberOfResultsPerBatch() {
+    // given
+    handler.onNext(complete(1));
+    handler.onNext(complete(2));
+    handler.onNext(complete(3));
+    handler.onNext(complete(4));
+
+    // when
+    sentResults.get(0).acknowledge();
+    sentResults.get(1).acknowledge();
+
+    // then
+    assertThat(sentResults).hasSize(3);
+    assertRequestIds(sentResults.get(1), 2L, 3L);
+    assertRequestIds(sentResults.get(2), 4L);
+  }
+
+  @Test
+  void shouldLimitSizeOfResultsPerBatch() {
+    // given
+    final var smallBatchHandler = createHandler(complete(1).getSerializedSize());
+    smallBatchHandler.onNext(complete(1));
+    smallBatchHandler.onNext(complete(2));
+    smallBatchHandler.onNext(complete(3));
+
+    // when
+    sentResults.get(0).acknowledge();
+
+    // then
+    assertThat(sentResults).hasSize(2);
+    assertRequestIds(sentResults.get(1), 2L);
+  }
+
+  @Test
+  void shouldSendResultsOfOtherPartitionWhileInFlight() {
+    // given
+    handler.onNext(complete(1, 1));
+
+    // when
+    handler.onNext(complete(2, 2));
+    handler.onNext(complete(3, 1));
+
+    // then
+    assertThat(sentResults).hasSize(2);
+    assertRequestIds(sentResults.get(0), 1L);
+    assertRequestIds(sentResults.get(1), 2L);
+
+    // when
+    sentResults.get(0).acknowledge();
+
+    // then
+    assertThat(sentResults).hasSize(3);
+    assertRequestIds(sentResults.get(2), 3L);
+  }
+
+  @Test
+  void shouldAcknowledgeResultsWithTheirRequestId() {
+    // given
+    handler.onNext(complete(1));
+    handler.onNext(complete(2));
+
+    // when
+    sentResults.get(0).acknowledge();
+    sentResults.get(1).acknowledge();
+
+    // then
+    final var acknowledgements = ArgumentCaptor.forClass(JobResultResponse.class);
+    verify(responseObserver, times(2)).onNext(acknowledgements.capture());
+    assertThat(acknowledgements.getAllValues())
+        .extracting(JobResultResponse::getRequestId)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldCompleteStreamOnceAllResultsAreAcknowledged() {
+    // given
+    handler.onNext(complete(1));
+
+    // when
+    handler.onCompleted();
+
+    // then
+    verify(responseObserver, never()).onCompleted();
+    sentResults.get(0).acknowledge();
+    verify(responseObserver).onCompleted();
+  }
+
+  @Test
+  void shouldCompleteStreamOnceResultsOfAllPartitionsAreAcknowledged() {
+    // given
+    handler.onNext(complete(1, 1));
+    handler.onNext(complete(2, 2));
+
+    // when
+    handler.onCompleted();
+    sentResults.get(1).acknowledge();
+
+    // then
+    verify(responseObserver, never()).onCompleted();
+    sentResults.get(0).acknowledge();
+    verify(responseObserver).onCompleted();
+  }
+
+  @Test
+  void shouldNotSendResultsAfterCancel() {
+    // given
+    handler.onNext(complete(1));
+    handler.onNext(complete(2));
+
+    // when
+    handler.onError(new RuntimeException("cancelled"));
+    sentResults.get(0).acknowledge();
+
+    // then
+    assertThat(sentResults).hasSize(1);
+    verify(responseObserver, never()).onNext(any());
+  }
+
+  private JobResultStreamHandler createHandler(final long maxBatchSize) {
+    return new JobResultStreamHandler(
+        (results, onResults) -> sentResults.add(new SentResults(results, onResults)),
+        responseObserver,
+        new JobResultStreamMetrics(),
+        MAX_BATCH_COMMANDS,
+        maxBatchSize);
+  }
+
+  private static void assertRequestIds(final SentResults sent, final Long... requestIds) {
+    assertThat(sent.results())
+        .extracting(JobResultRequest::getRequestId)
+        .containsExactly(requestIds);
+  }
+
+  private static JobResultRequest complete(final long requestId) {
+    return complete(requestId, 1);
+  }
+
+  private static JobResultRequest complete(final long requestId, final int partitionId) {
+    return JobResultRequest.newBuilder()
+        .setRequestId(requestId)
+        .setComplete(
+            CompleteJobRequest.newBuilder()
+                .setJobKey(Protocol.encodePartitionId(partitionId, requestId)))
+        .build();
+  }
+
+  private record SentResults(
+      List<JobResultRequest> results, Consumer<List<JobResultResponse>> onResults) {
+
+    void acknowledge() {
+      onResults.accept(Collections.nCopies(results.size(), JobResultResponse.getDefaultInstance()));
+    }
+  }
+}
@@ -18,6 +18,8 @@ package io.camunda.zeebe.journal;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public interface Journal extends AutoCloseable {
 
@@ -62,7 +64,19 @@ public interface Journal extends AutoCloseable {
    * @param checksum checksum of serializedRecord
    * @param serializedRecord serializedRecord
    */
-  JournalRecord append(long checksum, byte[] serializedRecord);
+  default JournalRecord append(final long checksum, final byte[] serializedRecord) {
+    return append(checksum, new UnsafeBuffer(serializedRecord));
+  }
+
+  /**
+   * Appends already serialized journal record. See {@link JournalRecord#serializedRecord()}
+   *
+   * <p>The record is copied into the journal, so the given buffer may be reused once this returns.
+   *
+   * @param checksum checksum of serializedRecord
+   * @param serializedRecord serializedRecord
+   */
+  JournalRecord append(long checksum, DirectBuffer serializedRecord);
 
   /**
    * Delete all records after indexExclusive. After a call to this method, {@link
@@ -0,0 +1,224 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the index of each sealed segment into its own file, next to the segment file (see {@link
+ * SegmentFile#indexFile()}). The file is laid out as follows, in little endian:
+ *
+ * <pre>
+ * version (byte) | segment id (long) | first index (long) | last index (long)
+ * | last position (int) | last asqn (long) | entry count (int)
+ * | entries: [index (long) | position (int) | asqn (long)] * entry count
+ * | CRC32C checksum of everything before (long)
+ * </pre>
+ *
+ * <p>The file is written without being flushed: if it is only partially written when the node
+ * crashes, its checksum will not match, and it is ignored. Similarly, it is only restored if it
+ * describes the segment exactly as it was loaded, i.e. same id, first and last index. Any mismatch
+ * means the segment was modified after its index was persisted, and the file is deleted.
+ */
+final class FileSegmentIndexStore implements SegmentIndexStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileSegmentIndexStore.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private static final byte VERSION = 1;
+  private static final int VERSION_OFFSET = 0;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Byte.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_ASQN_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_ASQN_OFFSET + Long.BYTES;
+  private static final int ENTRIES_OFFSET = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final JournalIndex journalIndex;
+
+  FileSegmentIndexStore(final JournalIndex journalIndex) {
+    this.journalIndex = journalIndex;
+  }
+
+  @Override
+  public void persist(final Segment segment) {
+    final var buffer = new ExpandableArrayBuffer(ENTRIES_OFFSET + 64 * ENTRY_LENGTH);
+    buffer.putByte(VERSION_OFFSET, VERSION);
+    buffer.putLong(SEGMENT_ID_OFFSET, segment.id(), ENDIANNESS);
+    buffer.putLong(FIRST_INDEX_OFFSET, segment.index(), ENDIANNESS);
+    buffer.putLong(LAST_INDEX_OFFSET, segment.lastIndex(), ENDIANNESS);
+    buffer.putInt(LAST_POSITION_OFFSET, segment.descriptor().lastPosition(), ENDIANNESS);
+    buffer.putLong(LAST_ASQN_OFFSET, segment.lastAsqn(), ENDIANNESS);
+
+    final int[] entryCount = {0};
+    journalIndex.forEach(
+        segment.index(),
+        segment.lastIndex(),
+        (index, position, asqn) -> {
+          final int offset = ENTRIES_OFFSET + entryCount[0] * ENTRY_LENGTH;
+          buffer.putLong(offset, index, ENDIANNESS);
+          buffer.putInt(offset + Long.BYTES, position, ENDIANNESS);
+          buffer.putLong(offset + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+          entryCount[0]++;
+        });
+    buffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = ENTRIES_OFFSET + entryCount[0] * ENTRY_LENGTH;
+    buffer.putLong(checksumOffset, checksum(buffer.byteArray(), checksumOffset), ENDIANNESS);
+
+    final var indexFile = segment.file().indexFile();
+    try (final var channel =
+        FileChannel.open(
+            indexFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var content = ByteBuffer.wrap(buffer.byteArray(), 0, checksumOffset + CHECKSUM_LENGTH);
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+
+      LOGGER.trace(
+          "Persisted {} index entries of segment {} to {}", entryCount[0], segment, indexFile);
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to persist index of segment {}; it will be rebuilt lazily after a restart",
+          segment,
+          e);
+      delete(segment);
+    }
+  }
+
+  @Override
+  public boolean restore(final Segment segment) {
+    final var indexFile = segment.file().indexFile();
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(indexFile);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to read persisted index of segment {}, ignoring it", segment, e);
+      return false;
+    }
+
+    final var buffer = new UnsafeBuffer(content);
+    final var rejection = validate(segment, buffer);
+    if (rejection != null) {
+      LOGGER.debug("Ignoring persisted index of segment {}: {}", segment, rejection);
+      delete(segment);
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = ENTRIES_OFFSET + i * ENTRY_LENGTH;
+      journalIndex.index(
+          buffer.getLong(offset, ENDIANNESS),
+          buffer.getInt(offset + Long.BYTES, ENDIANNESS),
+          buffer.getLong(offset + Long.BYTES + Integer.BYTES, ENDIANNESS));
+    }
+
+    segment.writer().restoreLastAsqn(buffer.getLong(LAST_ASQN_OFFSET, ENDIANNESS));
+    LOGGER.trace("Restored {} index entries of segment {}", entryCount, segment);
+    return true;
+  }
+
+  @Override
+  public void delete(final Segment segment) {
+    final var indexFile = segment.file().indexFile();
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to delete persisted index {} of segment {}; it will be ignored on restart",
+          indexFile,
+          segment,
+          e);
+    }
+  }
+
+  /** Returns the reason why the persisted index cannot be trusted, or null if it can be. */
+  private String validate(final Segment segment, final UnsafeBuffer buffer) {
+    if (buffer.capacity() < ENTRIES_OFFSET + CHECKSUM_LENGTH) {
+      return "file is too short";
+    }
+
+    if (buffer.getByte(VERSION_OFFSET) != VERSION) {
+      return "unknown version " + buffer.getByte(VERSION_OFFSET);
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    final long expectedLength = ENTRIES_OFFSET + (long) entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    if (entryCount < 0 || expectedLength != buffer.capacity()) {
+      return "unexpected entry count " + entryCount;
+    }
+
+    final int checksumOffset = buffer.capacity() - CHECKSUM_LENGTH;
+    if (buffer.getLong(checksumOffset, ENDIANNESS)
+        != checksum(buffer.byteArray(), checksumOffset)) {
+      return "checksum mismatch";
+    }
+
+    final long segmentId = buffer.getLong(SEGMENT_ID_OFFSET, ENDIANNESS);
+    final long firstIndex = buffer.getLong(FIRST_INDEX_OFFSET, ENDIANNESS);
+    final long lastIndex = buffer.getLong(LAST_INDEX_OFFSET, ENDIANNESS);
+    final int lastPosition = buffer.getInt(LAST_POSITION_OFFSET, ENDIANNESS);
+    if (segmentId != segment.id()
+        || firstIndex != segment.index()
+        || lastIndex != segment.lastIndex()) {
+      return "expected segment %d with indexes [%d, %d], but it was persisted for segment %d with indexes [%d, %d]"
+          .formatted(
+              segment.id(), segment.index(), segment.lastIndex(), segmentId, firstIndex, lastIndex);
+    }
+
+    if (lastPosition != segment.writer().getLastEntryPosition()) {
+      return "expected last entry at position %d, but it was persisted at position %d"
+          .formatted(segment.writer().getLastEntryPosition(), lastPosition);
+    }
+
+    final int minPosition = segment.descriptor().length();
+    final int maxPosition = segment.descriptor().maxSegmentSize();
+    long previousIndex = firstIndex - 1;
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = ENTRIES_OFFSET + i * ENTRY_LENGTH;
+      final long index = buffer.getLong(offset, ENDIANNESS);
+      final int position = buffer.getInt(offset + Long.BYTES, ENDIANNESS);
+      if (index <= previousIndex || index > lastIndex) {
+        return "entry index %d is out of order or out of bounds".formatted(index);
+      }
+
+      if (position < minPosition || position >= maxPosition) {
+        return "entry position %d is out of bounds".formatted(position);
+      }
+
+      previousIndex = index;
+    }
+
+    return null;
+  }
+
+  private static long checksum(final byte[] content, final int length) {
+    final var crc = new CRC32C();
+    crc.update(content, 0, length);
+    return crc.getValue();
+  }
+}
@@ -31,6 +31,25 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given entry as is, regardless of the index density, e.g. to restore entries which
+   * were previously indexed.
+   *
+   * @param index the index of the entry
+   * @param position the position of the entry within its segment
+   * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void index(long index, int position, long asqn);
+
+  /**
+   * Visits, in ascending order, all indexed entries between the given indexes (inclusive).
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called for each indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, EntryVisitor visitor);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +108,16 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface EntryVisitor {
+
+    /**
+     * @param index the index of the entry
+     * @param position the position of the entry within its segment
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if none was
+     *     indexed
+     */
+    void visit(long index, int position, long asqn);
+  }
 }
@@ -33,6 +33,7 @@ public final class SegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -125,6 +126,17 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the file in which the segment's index may be persisted, next to the segment
+   * file itself. As its name does not end with the segment file extension, it is never mistaken for
+   * a segment file.
+   */
+  Path indexFile() {
+    return Path.of(
+        file.getParent(),
+        String.format("%s%c%s", file.getName(), EXTENSION_SEPARATOR, INDEX_EXTENSION));
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * Persists the {@link JournalIndex} entries of sealed segments, i.e. segments which are full and
+ * will not be written to anymore, such that they can be restored when the journal is opened again
+ * instead of being rebuilt by scanning the segments.
+ *
+ * <p>A persisted index is only ever an optimization: if it is missing or cannot be trusted, the
+ * journal behaves as if there never was one.
+ */
+interface SegmentIndexStore {
+
+  /**
+   * Persists the index entries of the given segment, which was just sealed. Failing to do so is not
+   * an error, and must not be surfaced to the caller.
+   *
+   * @param segment the sealed segment
+   */
+  void persist(Segment segment);
+
+  /**
+   * Restores the previously persisted index entries of the given segment, if any, and if they match
+   * the segment as it was loaded.
+   *
+   * @param segment the segment that was just loaded
+   * @return true if the index was restored, false otherwise
+   */
+  boolean restore(Segment segment);
+
+  /**
+   * Deletes the persisted index of the given segment, if any, e.g. because the segment is deleted
+   * or may be written to again.
+   *
+   * @param segment the segment whose index should be deleted
+   */
+  void delete(Segment segment);
+
+  /** Returns a store which never persists anything. */
+  static SegmentIndexStore noop() {
+    return new SegmentIndexStore() {
+      @Override
+      public void persist(final Segment segment) {}
+
+      @Override
+      public boolean restore(final Segment segment) {
+        return false;
+      }
+
+      @Override
+      public void delete(final Segment segment) {}
+    };
+  }
+}
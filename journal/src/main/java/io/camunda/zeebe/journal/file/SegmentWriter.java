@@ -35,6 +35,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -112,6 +113,14 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Restores the last asqn of a segment loaded without scanning it, which may be greater than the
+   * asqn of its last entry if that entry has none.
+   */
+  void restoreLastAsqn(final long asqn) {
+    lastAsqn = Math.max(lastAsqn, asqn);
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
@@ -160,11 +169,11 @@ final class SegmentWriter {
   }
 
   Either<SegmentFull, JournalRecord> append(
-      final long expectedChecksum, final byte[] serializedRecord) {
+      final long expectedChecksum, final DirectBuffer serializedRecord) {
 
     final int startPosition = buffer.position();
     final int frameLength = FrameUtil.getLength();
-    final int recordLength = serializedRecord.length;
+    final int recordLength = serializedRecord.capacity();
     final int metadataLength = serializer.getMetadataLength();
 
     if (startPosition + frameLength + metadataLength + recordLength > buffer.capacity()) {
@@ -172,7 +181,8 @@ final class SegmentWriter {
     }
 
     // write serialized RecordData
-    writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
+    writeBuffer.putBytes(
+        startPosition + frameLength + metadataLength, serializedRecord, 0, recordLength);
 
     finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
     return Either.right(lastEntry);
@@ -32,6 +32,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +44,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +142,19 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the index of a segment is persisted next to it once it is full. If true, the index
+   * of these segments is restored when the journal is opened, instead of being rebuilt lazily by
+   * readers scanning the segments.
+   *
+   * @param persistSegmentIndex true to persist the index of full segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -167,6 +182,8 @@ public class SegmentedJournalBuilder {
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
     final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentIndexStore =
+        persistSegmentIndex ? new FileSegmentIndexStore(journalIndex) : SegmentIndexStore.noop();
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -175,7 +192,8 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            segmentIndexStore);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -22,6 +22,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.function.Function;
+import org.agrona.DirectBuffer;
 
 final class SegmentedJournalWriter {
   private final SegmentsManager segments;
@@ -60,7 +61,7 @@ final class SegmentedJournalWriter {
     appendInCurrentSegmentOrNext(segmentWriter -> segmentWriter.append(journalRecord));
   }
 
-  JournalRecord append(final long checksum, final byte[] serializedRecord) {
+  JournalRecord append(final long checksum, final DirectBuffer serializedRecord) {
     return appendInCurrentSegmentOrNext(
         segmentWriter -> segmentWriter.append(checksum, serializedRecord));
   }
@@ -111,8 +112,9 @@ final class SegmentedJournalWriter {
     }
 
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
-    // the old truncated entry.
+    // the old truncated entry. For the same reason, drop its persisted index if it was sealed.
     currentSegment.resetLastEntryInDescriptor();
+    segments.deletePersistedIndex(currentSegment);
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
     currentWriter.truncate(index);
@@ -52,6 +52,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final SegmentIndexStore segmentIndexStore;
 
   private volatile Segment currentSegment;
 
@@ -62,7 +63,8 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final SegmentIndexStore segmentIndexStore) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -70,6 +72,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.segmentIndexStore = segmentIndexStore;
   }
 
   @Override
@@ -116,6 +119,8 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is full, and will not be written to anymore
+    segmentIndexStore.persist(currentSegment);
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -193,6 +198,7 @@ final class SegmentsManager implements AutoCloseable {
         compactSegments.size());
     for (final Segment segment : compactSegments.values()) {
       LOG.trace("{} - Deleting segment: {}", name, segment);
+      segmentIndexStore.delete(segment);
       segment.delete();
       journalMetrics.decSegmentCount();
     }
@@ -228,6 +234,7 @@ final class SegmentsManager implements AutoCloseable {
       // underlying buffer
       //noinspection resource
       final var segment = it.next();
+      segmentIndexStore.delete(segment);
       segment.delete();
       it.remove();
       journalMetrics.decSegmentCount();
@@ -254,10 +261,20 @@ final class SegmentsManager implements AutoCloseable {
     //noinspection resource
     segments.remove(segment.index());
     journalMetrics.decSegmentCount();
+    segmentIndexStore.delete(segment);
     segment.delete();
     resetCurrentSegment();
   }
 
+  /**
+   * Deletes the persisted index of the given segment, e.g. because it is about to be modified.
+   *
+   * @param segment the segment whose persisted index is outdated
+   */
+  void deletePersistedIndex(final Segment segment) {
+    segmentIndexStore.delete(segment);
+  }
+
   /** Resets the current segment, creating a new segment if necessary. */
   private void resetCurrentSegment() {
     final Segment lastSegment = getLastSegment();
@@ -380,6 +397,8 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        // restores the index and the exact last asqn, which the next segment depends on
+        segmentIndexStore.restore(segment);
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -391,6 +410,11 @@ final class SegmentsManager implements AutoCloseable {
       }
     }
 
+    // the last segment is the one we write to next, so its persisted index would become outdated
+    if (previousSegment != null) {
+      segmentIndexStore.delete(previousSegment);
+    }
+
     return segments;
   }
 
@@ -440,6 +464,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        Files.deleteIfExists(new SegmentFile(file).indexFile());
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -16,19 +16,34 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * Indexes every {@code density}-th record in sorted, parallel primitive arrays, such that neither
+ * keys nor values are boxed and lookups are a binary search over contiguous memory.
+ *
+ * <p>Records are almost always indexed in ascending order, so indexing appends to the end of the
+ * arrays. The live entries are the range {@code [head, tail)}, which means truncating either end
+ * (i.e. {@link #deleteAfter(long)} and {@link #deleteUntil(long)}) only moves a bound, and never
+ * copies or frees anything. Space before the head is reclaimed when the arrays would otherwise
+ * grow.
+ *
+ * <p>Since the ASQN of records is strictly increasing with their index, ignoring records without an
+ * ASQN, the ASQNs are kept in their own pair of arrays sorted by both index and ASQN, which
+ * replaces the previous two redundant maps.
+ *
+ * <p>The index is written to by the journal writer and, while seeking, by readers, and read by
+ * readers on other threads, so all accesses are guarded by a lock.
+ */
 final class SparseJournalIndex implements JournalIndex {
+  private static final int INITIAL_CAPACITY = 64;
 
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  private final Entries positions = new Entries();
+  private final Entries asqns = new Entries();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +53,59 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
+      index(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public void index(final long index, final int position, final long asqn) {
+    final var stamp = lock.writeLock();
+    try {
+      positions.put(index, position);
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        asqns.put(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final EntryVisitor visitor) {
+    final var stamp = lock.readLock();
+    try {
+      // asqns are indexed for a subset of the positions' keys, so both can be walked in lockstep
+      int asqnOffset = asqns.ceilingByKey(fromIndex);
+      for (int offset = positions.ceilingByKey(fromIndex);
+          offset < positions.tail && positions.keys[offset] <= toIndex;
+          offset++) {
+        final long index = positions.keys[offset];
+        while (asqnOffset < asqns.tail && asqns.keys[asqnOffset] < index) {
+          asqnOffset++;
+        }
+
+        final long asqn =
+            asqnOffset < asqns.tail && asqns.keys[asqnOffset] == index
+                ? asqns.values[asqnOffset]
+                : SegmentedJournal.ASQN_IGNORE;
+        visitor.visit(index, (int) positions.values[offset], asqn);
       }
+    } finally {
+      lock.unlockRead(stamp);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final var stamp = lock.readLock();
+    try {
+      final int offset = positions.floorByKey(index);
+      return offset >= 0
+          ? new IndexInfo(positions.keys[offset], (int) positions.values[offset])
+          : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,46 +115,55 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final var stamp = lock.readLock();
+    try {
+      final int offset = asqns.floorByValue(asqn);
+      if (offset < 0) {
+        return null;
       }
+
+      if (asqns.keys[offset] <= indexUpperBound) {
+        return asqns.keys[offset];
+      }
+
+      final int boundedOffset = asqns.floorByKey(indexUpperBound);
+      return boundedOffset >= 0 ? asqns.keys[boundedOffset] : null;
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final var stamp = lock.writeLock();
+    try {
+      positions.truncateAfter(index);
+      asqns.truncateAfter(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    final var stamp = lock.writeLock();
+    try {
+      positions.truncateBefore(index);
+      asqns.truncateBefore(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final var stamp = lock.writeLock();
+    try {
+      positions.clear();
+      asqns.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +175,117 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  /**
+   * Parallel arrays of entries sorted by key, where the live entries are within {@code [head,
+   * tail)}. Values must be sorted in the same order as the keys for {@link #floorByValue(long)} to
+   * be meaningful. Not thread safe.
+   */
+  private static final class Entries {
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    private void put(final long key, final long value) {
+      // fast path: records are indexed in order, so we almost always append
+      if (head == tail || keys[tail - 1] < key) {
+        ensureCapacity();
+        keys[tail] = key;
+        values[tail] = value;
+        tail++;
+        return;
+      }
+
+      final int offset = Arrays.binarySearch(keys, head, tail, key);
+      if (offset >= 0) {
+        values[offset] = value;
+        return;
+      }
+
+      // a reader indexed a record the writer had skipped; rare enough that shifting is fine
+      final int headBefore = head;
+      ensureCapacity();
+      final int insertAt = -(offset + 1) - (headBefore - head);
+      System.arraycopy(keys, insertAt, keys, insertAt + 1, tail - insertAt);
+      System.arraycopy(values, insertAt, values, insertAt + 1, tail - insertAt);
+      keys[insertAt] = key;
+      values[insertAt] = value;
+      tail++;
+    }
+
+    /** Returns the offset of the greatest key less than or equal to the given key, or -1. */
+    private int floorByKey(final long key) {
+      return floor(keys, key);
+    }
+
+    /** Returns the offset of the least key greater than or equal to the given key, or the tail. */
+    private int ceilingByKey(final long key) {
+      final int offset = Arrays.binarySearch(keys, head, tail, key);
+      return offset >= 0 ? offset : -(offset + 1);
+    }
+
+    /** Returns the offset of the greatest value less than or equal to the given value, or -1. */
+    private int floorByValue(final long value) {
+      return floor(values, value);
+    }
+
+    private int floor(final long[] sorted, final long needle) {
+      final int offset = Arrays.binarySearch(sorted, head, tail, needle);
+      if (offset >= 0) {
+        return offset;
+      }
+
+      final int floor = -(offset + 1) - 1;
+      return floor >= head ? floor : -1;
+    }
+
+    /** Removes all entries with a key greater than the given key. */
+    private void truncateAfter(final long key) {
+      final int floor = floorByKey(key);
+      tail = floor >= 0 ? floor + 1 : head;
+    }
+
+    /** Removes all entries with a key less than the given key. */
+    private void truncateBefore(final long key) {
+      final int floor = floorByKey(key);
+      if (floor < 0) {
+        return;
+      }
+
+      head = keys[floor] == key ? floor : floor + 1;
+      if (head == tail) {
+        clear();
+      }
+    }
+
+    private void clear() {
+      head = 0;
+      tail = 0;
+    }
+
+    private void ensureCapacity() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      final int size = tail - head;
+      if (head > 0 && size <= keys.length / 2) {
+        // reclaim the space freed by compaction instead of growing
+        System.arraycopy(keys, head, keys, 0, size);
+        System.arraycopy(values, head, values, 0, size);
+      } else {
+        final int capacity = keys.length * 2;
+        final long[] newKeys = new long[capacity];
+        final long[] newValues = new long[capacity];
+        System.arraycopy(keys, head, newKeys, 0, size);
+        System.arraycopy(values, head, newValues, 0, size);
+        keys = newKeys;
+        values = newValues;
+      }
+
+      head = 0;
+      tail = size;
+    }
+  }
 }
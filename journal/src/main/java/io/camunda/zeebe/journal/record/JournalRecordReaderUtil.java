@@ -19,6 +19,9 @@ public final class JournalRecordReaderUtil {
 
   private final JournalRecordSerializer serializer;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  // reused to decode every record in place, instead of wrapping a new slice of the segment each
+  // time
+  private final UnsafeBuffer readBuffer = new UnsafeBuffer();
 
   public JournalRecordReaderUtil(final JournalRecordSerializer serializer) {
     this.serializer = serializer;
@@ -40,11 +43,13 @@ public final class JournalRecordReaderUtil {
 
     final int startPosition = buffer.position();
 
-    final UnsafeBuffer directBuffer = new UnsafeBuffer(buffer.slice());
+    if (readBuffer.byteBuffer() != buffer) {
+      readBuffer.wrap(buffer);
+    }
 
-    final RecordMetadata metadata = serializer.readMetadata(directBuffer, 0);
+    final RecordMetadata metadata = serializer.readMetadata(readBuffer, startPosition);
 
-    final int metadataLength = serializer.getMetadataLength(directBuffer, 0);
+    final int metadataLength = serializer.getMetadataLength(readBuffer, startPosition);
     final var recordLength = metadata.length();
     if (buffer.position() + metadataLength + recordLength > buffer.limit()) {
       // There is no valid record here. This should not happen, if we have magic headers before
@@ -67,7 +72,7 @@ public final class JournalRecordReaderUtil {
     }
 
     // Read record
-    final RecordData record = serializer.readData(directBuffer, metadataLength);
+    final RecordData record = serializer.readData(readBuffer, startPosition + metadataLength);
 
     if (record != null && expectedIndex != record.index()) {
       buffer.reset();
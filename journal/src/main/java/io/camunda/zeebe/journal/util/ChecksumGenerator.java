@@ -10,15 +10,37 @@ package io.camunda.zeebe.journal.util;
 import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 
+/**
+ * Computes the CRC32C checksum of a range of a buffer. {@link CRC32C} is intrinsified by the JVM on
+ * common platforms, and when given a direct buffer, such as a mapped segment, reads straight from
+ * its memory.
+ *
+ * <p>The range is selected on a view of the buffer which is reused for as long as the same buffer
+ * is passed, so computing a checksum neither allocates nor modifies the position, limit or mark of
+ * the given buffer. As a consequence, this class is not thread safe.
+ */
 public final class ChecksumGenerator {
 
   private final CRC32C crc32 = new CRC32C();
+  private ByteBuffer source;
+  private ByteBuffer view;
 
   /** Compute checksum of given ByteBuffer */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
+    final var range = view(buffer);
+    range.clear().position(offset).limit(offset + length);
+
     crc32.reset();
-    crc32.update(slice.limit(length));
+    crc32.update(range);
     return crc32.getValue();
   }
+
+  private ByteBuffer view(final ByteBuffer buffer) {
+    if (buffer != source) {
+      source = buffer;
+      view = buffer.duplicate();
+    }
+
+    return view;
+  }
 }
@@ -17,10 +17,13 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.SBESerializer;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.function.Consumer;
 import org.agrona.CloseHelper;
@@ -340,6 +343,46 @@ final class JournalAppendTest {
     }
   }
 
+  @Test
+  void shouldReadRecordsWrittenAtDifferentVersionsAfterReopen() {
+    // given - a record replicated from an old leader, written at version 1 of the record schema,
+    // followed by a record written at the current version
+    final var legacyRecord = legacyRecord(1, 10);
+    journal.append(legacyRecord);
+    final var currentRecord = journal.append(20, otherRecordDataWriter);
+    CloseHelper.close(journal);
+
+    // when
+    journal = openJournal();
+
+    // then
+    try (final var reader = journal.openReader()) {
+      final var firstRecord = reader.next();
+      assertThat(firstRecord.index()).isOne();
+      assertThat(firstRecord.asqn()).isEqualTo(10);
+      assertThat(firstRecord.checksum()).isEqualTo(legacyRecord.checksum());
+      assertThat(firstRecord.data()).isEqualTo(legacyRecord.data());
+      assertThat(reader.next()).isEqualTo(currentRecord);
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  private TestJournalRecord legacyRecord(final long index, final long asqn) {
+    final var serialized = new UnsafeBuffer(ByteBuffer.allocateDirect(256));
+    final int length =
+        new SBESerializer()
+            .writeDataAtVersion(1, index, asqn, recordDataWriter, serialized, 0)
+            .get();
+    final long checksum = new ChecksumGenerator().compute(serialized.byteBuffer(), 0, length);
+
+    return new TestJournalRecord(
+        index,
+        asqn,
+        checksum,
+        new UnsafeBuffer("TestData".getBytes()),
+        new UnsafeBuffer(serialized, 0, length));
+  }
+
   private static byte[] getSerializedBytes(final JournalRecord record) {
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
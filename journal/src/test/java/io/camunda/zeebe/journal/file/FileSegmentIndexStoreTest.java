@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FileSegmentIndexStoreTest {
+  private static final int ENTRIES_PER_SEGMENT = 2;
+
+  private @TempDir Path directory;
+  private TestJournalFactory journalFactory;
+  private SegmentedJournal journal;
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(journal);
+  }
+
+  @Test
+  void shouldRestoreIndexOfSealedSegmentsOnOpen() {
+    // given - segments [1, 2], [3, 4] and [5]
+    journal = openJournal();
+    appendEntries(5);
+    final var firstPosition = journal.getJournalIndex().lookup(1);
+    final var thirdPosition = journal.getJournalIndex().lookup(3);
+
+    // when
+    journal.close();
+    journal = openJournal();
+
+    // then
+    final var index = journal.getJournalIndex();
+    assertThat(index.lookup(1)).isEqualTo(firstPosition);
+    assertThat(index.lookup(3)).isEqualTo(thirdPosition);
+    assertThat(index.lookupAsqn(1)).isOne();
+    assertThat(index.lookupAsqn(3)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotRestoreIndexWithoutPersistedIndex() {
+    // given
+    journal = openJournal();
+    appendEntries(5);
+    journal.close();
+
+    // when
+    journal = openJournalWithoutIndexStore();
+
+    // then - only the last entry of each segment is indexed when loading it
+    assertThat(journal.getJournalIndex().lookup(1)).isNull();
+    assertThat(journal.getJournalIndex().lookup(3).index()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldOnlyPersistIndexOfSealedSegments() {
+    // given
+    journal = openJournal();
+
+    // when
+    appendEntries(5);
+
+    // then
+    assertThat(indexFile(journal.getFirstSegment())).exists();
+    assertThat(indexFile(journal.getSegment(3))).exists();
+    assertThat(indexFile(journal.getLastSegment())).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreLastAsqnOfSealedSegment() {
+    // given - the last entry of the first segment has no asqn
+    journal = openJournal();
+    journal.append(10, journalFactory.entry());
+    journal.append(SegmentedJournal.ASQN_IGNORE, journalFactory.entry());
+    journal.append(SegmentedJournal.ASQN_IGNORE, journalFactory.entry());
+    journal.close();
+
+    // when
+    journal = openJournal();
+
+    // then
+    assertThat(journal.getFirstSegment().lastAsqn()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndex() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(5);
+    final var indexFile = indexFile(journal.getFirstSegment());
+    journal.close();
+
+    final byte[] content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile, content, StandardOpenOption.TRUNCATE_EXISTING);
+
+    // when
+    journal = openJournal();
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(1)).isNull();
+    assertThat(journal.getJournalIndex().lookup(3).index()).isEqualTo(3);
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldIgnoreTruncatedIndex() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(5);
+    final var indexFile = indexFile(journal.getFirstSegment());
+    journal.close();
+
+    final byte[] content = Files.readAllBytes(indexFile);
+    Files.write(indexFile, Arrays.copyOf(content, content.length - 1));
+
+    // when
+    journal = openJournal();
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(1)).isNull();
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexOfTruncatedSegments() {
+    // given
+    journal = openJournal();
+    appendEntries(5);
+    final var firstIndexFile = indexFile(journal.getFirstSegment());
+    final var secondIndexFile = indexFile(journal.getSegment(3));
+
+    // when
+    journal.deleteAfter(3);
+
+    // then
+    assertThat(firstIndexFile).exists();
+    assertThat(secondIndexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexOfCompactedSegments() {
+    // given
+    journal = openJournal();
+    appendEntries(5);
+    final var firstIndexFile = indexFile(journal.getFirstSegment());
+    final var secondIndexFile = indexFile(journal.getSegment(3));
+
+    // when
+    journal.deleteUntil(3);
+
+    // then
+    assertThat(firstIndexFile).doesNotExist();
+    assertThat(secondIndexFile).exists();
+  }
+
+  @Test
+  void shouldDeleteIndexOnReset() {
+    // given
+    journal = openJournal();
+    appendEntries(5);
+    final var firstIndexFile = indexFile(journal.getFirstSegment());
+
+    // when
+    journal.reset(100);
+
+    // then
+    assertThat(firstIndexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldNotRestoreIndexOfRewrittenSegment() {
+    // given - the second segment is truncated and rewritten, so its persisted index is outdated
+    journal = openJournal();
+    appendEntries(5);
+    journal.deleteAfter(3);
+    journal.append(journalFactory.entry());
+    journal.close();
+
+    // when
+    journal = openJournal();
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(1).index()).isOne();
+    assertThat(journal.getJournalIndex().lookup(3).index()).isEqualTo(3);
+    assertThat(journal.getLastIndex()).isEqualTo(4);
+  }
+
+  private void appendEntries(final int count) {
+    for (int i = 1; i <= count; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+  }
+
+  private Path indexFile(final Segment segment) {
+    return segment.file().indexFile();
+  }
+
+  private SegmentedJournal openJournal() {
+    journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+    final var segments =
+        journalFactory.segmentsManager(
+            directory,
+            journalFactory.segmentLoader(),
+            metaStore,
+            journalFactory.segmentIndexStore());
+    return journalFactory.journal(segments);
+  }
+
+  private SegmentedJournal openJournalWithoutIndexStore() {
+    journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+    return journalFactory.journal(
+        journalFactory.segmentsManager(directory, journalFactory.segmentLoader(), metaStore));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures opening an existing journal and seeking to an ASQN in its middle, as done when a
+ * partition is restarted and starts replaying its log, with and without persisting the index of
+ * sealed segments.
+ *
+ * <p>The default journal size is kept small enough to run quickly; pass larger sizes with e.g.
+ * {@code -p journalSizeMb=1024,10240,51200}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SegmentedJournalOpenPerformanceTest {
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+  private static final int ENTRY_SIZE = 1024;
+  private static final int INDEX_DENSITY = 100;
+
+  @Param({"512"})
+  private int journalSizeMb;
+
+  @Param({"false", "true"})
+  private boolean persistSegmentIndex;
+
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+  private Path directory;
+  private long lastAsqn;
+  private SegmentedJournal journal;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-open");
+    final var writer = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[ENTRY_SIZE]));
+    final long entryCount = (long) journalSizeMb * 1024 * 1024 / ENTRY_SIZE;
+
+    try (final var journal = openJournal()) {
+      for (long asqn = 1; asqn <= entryCount; asqn++) {
+        journal.append(asqn, writer);
+      }
+      journal.flush();
+    }
+
+    lastAsqn = entryCount;
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeJournal() {
+    journal.close();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long openAndSeek() {
+    journal = openJournal();
+    try (final var reader = journal.openReader()) {
+      return reader.seekToAsqn(lastAsqn / 2);
+    }
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withName("journal")
+        .withMaxSegmentSize(SEGMENT_SIZE)
+        .withJournalIndexDensity(INDEX_DENSITY)
+        .withPersistSegmentIndex(persistSegmentIndex)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of appending records to, and reading them back from, a journal for
+ * different record sizes. Both paths checksum every record, so this also tracks the cost of
+ * checksumming, and of decoding records in place.
+ *
+ * <p>Run it with the GC profiler (i.e. {@code -prof gc}) to also compare the bytes allocated per
+ * operation.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SegmentedJournalPerformanceTest {
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int MAX_JOURNAL_SIZE = 4 * SEGMENT_SIZE;
+
+  @Param({"128", "1024", "16384"})
+  private int recordSize;
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+  private DirectBufferWriter writer;
+  private long asqn;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-perf");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withName("journal")
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+
+    final var data = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+    writer = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+
+    // fill the journal once so reads have something to read from the start
+    final long recordCount = (long) MAX_JOURNAL_SIZE / 2 / recordSize;
+    for (long i = 0; i < recordCount; i++) {
+      journal.append(++asqn, writer);
+    }
+
+    reader = journal.openReader();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public JournalRecord append() {
+    final var record = journal.append(++asqn, writer);
+
+    // bound the disk used by the benchmark by regularly dropping what was appended
+    if (record.index() * recordSize >= MAX_JOURNAL_SIZE) {
+      journal.deleteAfter(journal.getFirstIndex());
+      reader.seekToFirst();
+    }
+
+    return record;
+  }
+
+  @Benchmark
+  public JournalRecord read() {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    return reader.next();
+  }
+}
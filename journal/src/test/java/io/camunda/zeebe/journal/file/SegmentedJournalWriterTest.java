@@ -158,7 +158,7 @@ final class SegmentedJournalWriterTest {
         new SegmentedJournalReader(
             followerJournalFactory.journal(followerSegments), new JournalMetrics("1"))) {
       // when
-      final byte[] serializedRecord = BufferUtil.bufferAsArray(writtenRecord.serializedRecord());
+      final var serializedRecord = BufferUtil.cloneBuffer(writtenRecord.serializedRecord());
       followerWriter.append(writtenRecord.checksum(), serializedRecord);
 
       // then
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hot operations of the {@link SparseJournalIndex}: looking up positions and ASQNs (as
+ * done on every reader seek), indexing new records (as done on every append), and truncating the
+ * index (as done when a follower's log diverges from the leader's).
+ *
+ * <p>Run it with the GC profiler (i.e. {@code -prof gc}) to also compare the bytes allocated per
+ * operation.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SparseJournalIndexPerformanceTest {
+  private static final int DENSITY = 100;
+  private static final int MAX_APPENDED_ENTRIES = 1_000_000;
+
+  @Param({"100000", "10000000"})
+  private int entryCount;
+
+  private SparseJournalIndex index;
+  private long nextIndex;
+  private long lastIndex;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    index = new SparseJournalIndex(DENSITY);
+    for (long i = 1; i <= entryCount; i++) {
+      index.index(record(i), (int) i);
+    }
+
+    lastIndex = entryCount;
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return index.lookup(randomIndex());
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    return index.lookupAsqn(randomIndex(), lastIndex);
+  }
+
+  @Benchmark
+  public long append() {
+    // only every DENSITY-th record is actually indexed, so jump straight to the next one
+    nextIndex = Math.max(nextIndex, lastIndex) + DENSITY;
+    index.index(record(nextIndex), (int) nextIndex);
+
+    // bound the memory used by the benchmark by regularly dropping what was appended
+    if (nextIndex - lastIndex >= (long) MAX_APPENDED_ENTRIES * DENSITY) {
+      index.deleteAfter(lastIndex);
+      nextIndex = lastIndex;
+    }
+
+    return nextIndex;
+  }
+
+  @Benchmark
+  public long deleteAfterAndReindex() {
+    // truncate the last few entries, as a follower would, then append them again such that the
+    // size of the index stays constant across invocations
+    final long truncateAfter = lastIndex - 10L * DENSITY;
+    index.deleteAfter(truncateAfter);
+    for (long i = truncateAfter + DENSITY; i <= lastIndex; i += DENSITY) {
+      index.index(record(i), (int) i);
+    }
+
+    return truncateAfter;
+  }
+
+  private long randomIndex() {
+    return ThreadLocalRandom.current().nextLong(1, lastIndex + 1);
+  }
+
+  private static JournalRecord record(final long index) {
+    // use the index as ASQN to keep ASQNs strictly increasing
+    return new TestJournalRecord(index, index, 0, null, null);
+  }
+}
@@ -265,4 +265,130 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(10, index.lookupAsqn(140));
+    assertEquals(15, index.lookupAsqn(150));
+  }
+
+  @Test
+  void shouldOverwriteAlreadyIndexedEntry() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.index(asJournalRecord(5, 50), 12);
+
+    // then
+    assertEquals(12, index.lookup(5).position());
+    assertEquals(20, index.lookup(10).position());
+  }
+
+  @Test
+  void shouldSkipRecordsWithoutAsqn() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // when
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 20);
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(5, index.lookupAsqn(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldIndexBeyondInitialCapacity() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(1, index.lookup(1).index());
+    assertEquals(500, index.lookup(500).index());
+    assertEquals(2000, index.lookup(1000).position());
+    assertEquals(999, index.lookupAsqn(9995));
+  }
+
+  @Test
+  void shouldKeepIndexingAfterCompaction() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // when - compacting and indexing repeatedly, reusing the space freed by compaction
+    for (int i = 1_001; i <= 10_000; i++) {
+      index.deleteUntil(i - 100);
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // then
+    assertNull(index.lookup(9_899));
+    assertEquals(9_900, index.lookup(9_900).index());
+    assertEquals(10_000, index.lookup(10_000).position());
+    assertEquals(9_950, index.lookupAsqn(9_950));
+  }
+
+  @Test
+  void shouldIndexOutOfOrderAfterCompaction() {
+    // given - every index is added, and the space before the head is reclaimable
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 65; i++) {
+      if (i != 60) {
+        index.index(asJournalRecord(i, i), i);
+      }
+    }
+    index.deleteUntil(40);
+
+    // when
+    index.index(asJournalRecord(60, 60), 600);
+    index.index(asJournalRecord(66, 66), 660);
+
+    // then
+    assertEquals(59, index.lookup(59).index());
+    assertEquals(600, index.lookup(60).position());
+    assertEquals(61, index.lookup(61).index());
+    assertEquals(65, index.lookup(65).index());
+    assertEquals(660, index.lookup(66).position());
+    assertEquals(60, index.lookupAsqn(60));
+  }
+
+  @Test
+  void shouldClearIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.clear();
+    index.index(asJournalRecord(20, 200), 2);
+
+    // then
+    assertNull(index.lookup(10));
+    assertNull(index.lookupAsqn(100));
+    assertEquals(20, index.lookup(20).index());
+    assertEquals(20, index.lookupAsqn(200));
+  }
 }
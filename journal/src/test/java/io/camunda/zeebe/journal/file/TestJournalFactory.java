@@ -103,6 +103,14 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, SegmentIndexStore.noop());
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final SegmentIndexStore segmentIndexStore) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -110,7 +118,17 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        segmentIndexStore);
+  }
+
+  /** Returns a store which persists the index of sealed segments using this factory's index. */
+  SegmentIndexStore segmentIndexStore() {
+    return new FileSegmentIndexStore(index);
+  }
+
+  JournalIndex index() {
+    return index;
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
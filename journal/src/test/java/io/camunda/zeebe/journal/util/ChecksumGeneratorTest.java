@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ChecksumGeneratorTest {
+  private final ChecksumGenerator generator = new ChecksumGenerator();
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldComputeChecksumOfRange(final boolean direct) {
+    // given
+    final var buffer = randomBuffer(direct, 1024);
+
+    // when
+    final long checksum = generator.compute(buffer, 100, 500);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(buffer, 100, 500));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldNotModifyBuffer(final boolean direct) {
+    // given
+    final var buffer = randomBuffer(direct, 1024);
+    buffer.position(10).mark().position(20).limit(30);
+
+    // when
+    generator.compute(buffer, 100, 500);
+
+    // then
+    assertThat(buffer.position()).isEqualTo(20);
+    assertThat(buffer.limit()).isEqualTo(30);
+    assertThat(buffer.reset().position()).isEqualTo(10);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldComputeChecksumOfDifferentBuffers(final boolean direct) {
+    // given
+    final var buffer = randomBuffer(direct, 1024);
+    final var otherBuffer = randomBuffer(direct, 1024);
+    generator.compute(buffer, 0, 1024);
+
+    // when
+    final long checksum = generator.compute(otherBuffer, 0, 1024);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(otherBuffer, 0, 1024));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSeeChangesToBuffer(final boolean direct) {
+    // given
+    final var buffer = randomBuffer(direct, 1024);
+    generator.compute(buffer, 0, 1024);
+
+    // when
+    buffer.put(512, (byte) (buffer.get(512) + 1));
+
+    // then
+    assertThat(generator.compute(buffer, 0, 1024)).isEqualTo(expectedChecksum(buffer, 0, 1024));
+  }
+
+  private static ByteBuffer randomBuffer(final boolean direct, final int capacity) {
+    final var bytes = new byte[capacity];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    final var buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    return buffer.put(0, bytes);
+  }
+
+  private static long expectedChecksum(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final var bytes = new byte[length];
+    buffer.get(offset, bytes);
+
+    final var crc = new CRC32C();
+    crc.update(bytes);
+    return crc.getValue();
+  }
+}
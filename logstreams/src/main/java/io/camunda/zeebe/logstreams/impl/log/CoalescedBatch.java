@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Multiple sequenced batches with contiguous positions, which are written to the log storage as a
+ * single block. Every batch keeps its own {@link AppendListener}, which is notified of all events
+ * of the block's append in the order of the batches.
+ */
+final class CoalescedBatch implements BufferWriter, AppendListener {
+  private final List<SequencedBatch> batches = new ArrayList<>();
+  private final List<AppendListener> listeners = new ArrayList<>();
+  private int length;
+
+  CoalescedBatch(final SequencedBatch batch, final AppendListener listener) {
+    add(batch, listener);
+  }
+
+  void add(final SequencedBatch batch, final AppendListener listener) {
+    batches.add(batch);
+    listeners.add(listener);
+    length += batch.length();
+  }
+
+  int batchCount() {
+    return batches.size();
+  }
+
+  long lowestPosition() {
+    return batches.get(0).firstPosition();
+  }
+
+  long highestPosition() {
+    final var lastBatch = batches.get(batches.size() - 1);
+    return lastBatch.firstPosition() + lastBatch.entries().size() - 1;
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int currentOffset = offset;
+    for (final var batch : batches) {
+      batch.write(buffer, currentOffset);
+      currentOffset += batch.length();
+    }
+  }
+
+  @Override
+  public void onWrite(final long address) {
+    listeners.forEach(listener -> listener.onWrite(address));
+  }
+
+  @Override
+  public void onWriteError(final Throwable error) {
+    listeners.forEach(listener -> listener.onWriteError(error));
+  }
+
+  @Override
+  public void onCommit(final long address) {
+    listeners.forEach(listener -> listener.onCommit(address));
+  }
+
+  @Override
+  public void onCommitError(final long address, final Throwable error) {
+    listeners.forEach(listener -> listener.onCommitError(address, error));
+  }
+}
@@ -23,7 +23,12 @@ import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
 
-/** Consume the write buffer and append the blocks to the distributedlog. */
+/**
+ * Consume the write buffer and append the blocks to the distributedlog. When multiple batches are
+ * available, up to a configurable amount of them are coalesced into a single block, such that they
+ * are appended as a single entry of the underlying storage. Each batch still acquires its own
+ * in-flight append, so backpressure and append metrics are unaffected by coalescing.
+ */
 final class LogStorageAppender extends Actor implements HealthMonitorable, AppendErrorHandler {
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
   private final String name;
@@ -33,17 +38,25 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
   private final Set<FailureListener> failureListeners = new HashSet<>();
   private final ActorFuture<Void> closeFuture;
   private final int partitionId;
+  private final int maxCoalescedBatchCount;
+  private final int maxCoalescedBatchSize;
+  private final LogStorageAppenderMetrics metrics;
 
   LogStorageAppender(
       final String name,
       final int partitionId,
       final LogStorage logStorage,
-      final Sequencer sequencer) {
+      final Sequencer sequencer,
+      final int maxCoalescedBatchCount,
+      final int maxCoalescedBatchSize) {
     this.name = name;
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     this.sequencer = sequencer;
+    this.maxCoalescedBatchCount = maxCoalescedBatchCount;
+    this.maxCoalescedBatchSize = maxCoalescedBatchSize;
     flowControl = new AppenderFlowControl(this, partitionId);
+    metrics = new LogStorageAppenderMetrics(partitionId);
     closeFuture = new CompletableActorFuture<>();
   }
 
@@ -122,14 +135,54 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
       return;
     }
 
-    final var lowestPosition = sequencedBatch.firstPosition();
-    final var highestPosition =
-        sequencedBatch.firstPosition() + sequencedBatch.entries().size() - 1;
-    append.start(highestPosition);
-    logStorage.append(lowestPosition, highestPosition, sequencedBatch, append);
+    append.start(highestPosition(sequencedBatch));
+    if (canCoalesce(1, sequencedBatch.length())) {
+      writeCoalescedBatch(new CoalescedBatch(sequencedBatch, append));
+    } else {
+      final var lowestPosition = sequencedBatch.firstPosition();
+      metrics.observeAppend(1, sequencedBatch.length());
+      logStorage.append(lowestPosition, highestPosition(sequencedBatch), sequencedBatch, append);
+    }
     actor.submit(this::tryWriteBatch);
   }
 
+  private void writeCoalescedBatch(final CoalescedBatch coalescedBatch) {
+    while (canCoalesce(coalescedBatch.batchCount(), coalescedBatch.getLength())) {
+      final var inflightAppend = flowControl.tryAcquire();
+      if (inflightAppend.isEmpty()) {
+        break;
+      }
+
+      final var sequencedBatch = sequencer.tryRead();
+      coalescedBatch.add(
+          sequencedBatch, inflightAppend.get().start(highestPosition(sequencedBatch)));
+    }
+
+    metrics.observeAppend(coalescedBatch.batchCount(), coalescedBatch.getLength());
+    logStorage.append(
+        coalescedBatch.lowestPosition(),
+        coalescedBatch.highestPosition(),
+        coalescedBatch,
+        coalescedBatch);
+  }
+
+  /**
+   * Returns true if the next available batch can be added to a block with the given amount of
+   * batches and length, without exceeding the configured limits.
+   */
+  private boolean canCoalesce(final int batchCount, final int length) {
+    if (batchCount >= maxCoalescedBatchCount) {
+      return false;
+    }
+
+    final var nextBatch = sequencer.peek();
+    return nextBatch != null && length + nextBatch.length() <= maxCoalescedBatchSize;
+  }
+
+  private static long highestPosition(final SequencedBatch sequencedBatch) {
+    return sequencedBatch.firstPosition() + sequencedBatch.entries().size() - 1;
+  }
+
   private void onFailure(final Throwable error) {
     LOG.error("Actor {} failed in phase {}.", name, actor.getLifecyclePhase(), error);
     actor.fail(error);
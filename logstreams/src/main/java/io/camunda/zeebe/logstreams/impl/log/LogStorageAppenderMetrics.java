@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.prometheus.client.Histogram;
+
+final class LogStorageAppenderMetrics {
+  private static final Histogram COALESCED_BATCH_COUNT =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_coalesced_batch_count")
+          .help("Histogram over the number of sequenced batches written as a single append")
+          .buckets(1, 2, 3, 5, 10, 25, 50, 100)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram COALESCED_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_coalesced_batch_size_bytes")
+          .help("Histogram over the size, in bytes, of the blocks written as a single append")
+          .exponentialBuckets(256, 4, 9)
+          .labelNames("partition")
+          .register();
+
+  private final Histogram.Child coalescedBatchCount;
+  private final Histogram.Child coalescedBatchSize;
+
+  LogStorageAppenderMetrics(final int partitionId) {
+    final var partitionLabel = String.valueOf(partitionId);
+    coalescedBatchCount = COALESCED_BATCH_COUNT.labels(partitionLabel);
+    coalescedBatchSize = COALESCED_BATCH_SIZE.labels(partitionLabel);
+  }
+
+  void observeAppend(final int batchCount, final int lengthBytes) {
+    coalescedBatchCount.observe(batchCount);
+    coalescedBatchSize.observe(lengthBytes);
+  }
+}
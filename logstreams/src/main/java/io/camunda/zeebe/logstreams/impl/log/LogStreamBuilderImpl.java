@@ -17,7 +17,11 @@ import java.util.Objects;
 
 public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private static final int MINIMUM_FRAGMENT_SIZE = 4 * 1024;
+  private static final int DEFAULT_MAX_COALESCED_BATCH_COUNT = 32;
   private int maxFragmentSize = 1024 * 1024 * 4;
+  private int maxCoalescedBatchCount = DEFAULT_MAX_COALESCED_BATCH_COUNT;
+  // defaults to the max fragment size if not set
+  private int maxCoalescedBatchSize = -1;
   private int partitionId = -1;
   private ActorSchedulingService actorSchedulingService;
   private LogStorage logStorage;
@@ -37,6 +41,18 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withMaxCoalescedBatchCount(final int maxCoalescedBatchCount) {
+    this.maxCoalescedBatchCount = maxCoalescedBatchCount;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withMaxCoalescedBatchSize(final int maxCoalescedBatchSize) {
+    this.maxCoalescedBatchSize = maxCoalescedBatchSize;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withLogStorage(final LogStorage logStorage) {
     this.logStorage = logStorage;
@@ -67,7 +83,14 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
 
     final var logStreamService =
         new LogStreamImpl(
-            actorSchedulingService, logName, partitionId, nodeId, maxFragmentSize, logStorage);
+            actorSchedulingService,
+            logName,
+            partitionId,
+            nodeId,
+            maxFragmentSize,
+            maxCoalescedBatchCount,
+            getMaxCoalescedBatchSize(),
+            logStorage);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -94,5 +117,24 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
               "Expected fragment size to be at least '%d', but was '%d'",
               MINIMUM_FRAGMENT_SIZE, maxFragmentSize));
     }
+
+    if (maxCoalescedBatchCount < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected max coalesced batch count to be at least '1', but was '%d'",
+              maxCoalescedBatchCount));
+    }
+
+    if (getMaxCoalescedBatchSize() > maxFragmentSize) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected max coalesced batch size to be at most the max fragment size '%d', but was"
+                  + " '%d'",
+              maxFragmentSize, maxCoalescedBatchSize));
+    }
+  }
+
+  private int getMaxCoalescedBatchSize() {
+    return maxCoalescedBatchSize < 0 ? maxFragmentSize : maxCoalescedBatchSize;
   }
 }
@@ -41,6 +41,8 @@ public final class LogStreamImpl extends Actor
   private final ActorSchedulingService actorSchedulingService;
   private final List<LogStreamReader> readers;
   private final int maxFragmentSize;
+  private final int maxCoalescedBatchCount;
+  private final int maxCoalescedBatchSize;
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final int nodeId;
@@ -58,6 +60,8 @@ public final class LogStreamImpl extends Actor
       final int partitionId,
       final int nodeId,
       final int maxFragmentSize,
+      final int maxCoalescedBatchCount,
+      final int maxCoalescedBatchSize,
       final LogStorage logStorage) {
     this.actorSchedulingService = actorSchedulingService;
     this.logName = logName;
@@ -67,6 +71,8 @@ public final class LogStreamImpl extends Actor
     actorName = buildActorName("LogStream", partitionId);
 
     this.maxFragmentSize = maxFragmentSize;
+    this.maxCoalescedBatchCount = maxCoalescedBatchCount;
+    this.maxCoalescedBatchSize = maxCoalescedBatchSize;
     this.logStorage = logStorage;
     closeFuture = new CompletableActorFuture<>();
 
@@ -306,7 +312,12 @@ public final class LogStreamImpl extends Actor
   private ActorFuture<Void> createAndScheduleLogStorageAppender(final Sequencer sequencer) {
     appender =
         new LogStorageAppender(
-            buildActorName("LogAppender", partitionId), partitionId, logStorage, sequencer);
+            buildActorName("LogAppender", partitionId),
+            partitionId,
+            logStorage,
+            sequencer,
+            maxCoalescedBatchCount,
+            maxCoalescedBatchSize);
     return actorSchedulingService.submitActor(appender);
   }
 
@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 import static io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor.FRAME_ALIGNMENT;
 
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorCondition;
@@ -18,9 +19,9 @@ import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,21 +34,40 @@ import org.slf4j.LoggerFactory;
  * <p>The sequencer assigns all entries a position and makes that position available to its
  * consumer. The sequencer does not copy or serialize entries, it only keeps a reference to them
  * until they are handed off to the consumer.
+ *
+ * <p>The queue is a lock-free ring of preallocated slots, which are indexed by position. A producer
+ * claims the positions of its batch with a single CAS, which also claims the slot of its first
+ * position, and then publishes the batch into that slot. The consumer reads the slot of the next
+ * expected position, such that batches are always read in the order of their positions, even if a
+ * later batch is published first. A batch may contain more entries than the ring has slots, as only
+ * its first position must fall within the capacity.
+ *
+ * <p>The consumer is only signalled when it may be idle, i.e. after it tried to read from an empty
+ * queue, so that producers don't signal it for every single write while it's still draining.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
+  /** Number of positions which may be buffered before rejecting writes; must be a power of two */
+  static final int CAPACITY = 1024;
+
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
   private final int maxFragmentSize;
 
-  private volatile long position;
+  /** The next position to claim by a producer */
+  private final AtomicLong position;
+
+  /** The next position to read by the consumer; only written by the consumer */
+  private final AtomicLong readPosition;
+
+  private final AtomicReferenceArray<SequencedBatch> slots = new AtomicReferenceArray<>(CAPACITY);
+  private final AtomicBoolean isConsumerIdle = new AtomicBoolean(true);
   private volatile boolean isClosed = false;
   private volatile ActorCondition consumer;
-  private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
-  private final ReentrantLock lock = new ReentrantLock();
   private final SequencerMetrics metrics;
 
   Sequencer(final long initialPosition, final int maxFragmentSize, final SequencerMetrics metrics) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
+    position = new AtomicLong(initialPosition);
+    readPosition = new AtomicLong(initialPosition);
     this.maxFragmentSize = maxFragmentSize;
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
   }
@@ -82,43 +102,60 @@ final class Sequencer implements LogStreamWriter, Closeable {
       return Either.left(WriteFailure.INVALID_ARGUMENT);
     }
 
-    final long currentPosition;
-    final boolean isEnqueued;
-    lock.lock();
-    try {
-      currentPosition = position;
-      final var sequencedBatch =
-          new SequencedBatch(
-              ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
-      isEnqueued = queue.offer(sequencedBatch);
-      if (isEnqueued) {
-        metrics.observeBatchLengthBytes(sequencedBatch.length());
-        position = currentPosition + batchSize;
-      }
-    } finally {
-      lock.unlock();
-    }
+    // everything which may fail is done before claiming, as the consumer would otherwise wait
+    // forever for a claimed but never published slot
+    final var timestamp = ActorClock.currentTimeMillis();
+    final var length = SequencedBatchSerializer.calculateBatchSize(appendEntries);
 
-    if (consumer != null) {
-      consumer.signal();
-    }
-    metrics.setQueueSize(queue.size());
-    if (isEnqueued) {
-      metrics.observeBatchSize(batchSize);
-      return Either.right(currentPosition + batchSize - 1);
-    } else {
+    final long firstPosition = claim(batchSize);
+    if (firstPosition < 0) {
       LOG.trace("Rejecting write of {}, sequencer queue is full", appendEntries);
+      signalConsumer();
       return Either.left(WriteFailure.FULL);
     }
+
+    slots.set(
+        slotIndex(firstPosition),
+        new SequencedBatch(timestamp, firstPosition, sourcePosition, appendEntries, length));
+
+    if (isConsumerIdle.get() && isConsumerIdle.compareAndSet(true, false)) {
+      signalConsumer();
+    }
+    return Either.right(firstPosition + batchSize - 1);
   }
 
   /**
-   * Retrieves, but does not remove, the first item in the sequenced batch queue.
+   * Retrieves and removes the next batch in the sequenced batch queue. If none is available, the
+   * consumer is considered idle and will be signalled on the next write.
    *
    * @return A {@link SequencedBatch} or null if none is available
    */
   SequencedBatch tryRead() {
-    return queue.poll();
+    var batch = poll();
+    if (batch == null) {
+      isConsumerIdle.set(true);
+      // a producer may have published right before we became idle without signalling us
+      batch = poll();
+      if (batch == null) {
+        return null;
+      }
+      isConsumerIdle.set(false);
+    }
+
+    metrics.setQueueSize((int) (position.get() - readPosition.get()));
+    metrics.observeBatchSize(batch.entries().size());
+    metrics.observeBatchLengthBytes(batch.length());
+    return batch;
+  }
+
+  /**
+   * Retrieves, but does not remove, the next batch in the sequenced batch queue. Unlike {@link
+   * #tryRead()}, this does not mark the consumer as idle if none is available.
+   *
+   * @return A {@link SequencedBatch} or null if none is available
+   */
+  SequencedBatch peek() {
+    return slots.get(slotIndex(readPosition.get()));
   }
 
   /**
@@ -135,6 +172,49 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.consumer = consumer;
   }
 
+  /**
+   * Claims the positions for a batch of the given size. Only the first position of the batch must
+   * fit into the ring, as the batch is stored in that position's slot only.
+   *
+   * @return the first claimed position, or -1 if the queue is full
+   */
+  private long claim(final int batchSize) {
+    long firstPosition;
+    do {
+      firstPosition = position.get();
+      if (firstPosition - readPosition.get() >= CAPACITY) {
+        return -1;
+      }
+    } while (!position.compareAndSet(firstPosition, firstPosition + batchSize));
+
+    return firstPosition;
+  }
+
+  private SequencedBatch poll() {
+    final var nextPosition = readPosition.get();
+    final var index = slotIndex(nextPosition);
+    final var batch = slots.get(index);
+    if (batch == null) {
+      return null;
+    }
+
+    // the slot must be cleared before moving on, such that producers only ever claim empty slots
+    slots.lazySet(index, null);
+    readPosition.lazySet(nextPosition + batch.entries().size());
+    return batch;
+  }
+
+  private void signalConsumer() {
+    final var currentConsumer = consumer;
+    if (currentConsumer != null) {
+      currentConsumer.signal();
+    }
+  }
+
+  private static int slotIndex(final long position) {
+    return (int) (position & (CAPACITY - 1));
+  }
+
   private boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null
         && entry.recordValue().getLength() > 0
@@ -25,6 +25,14 @@ public interface LogAppendEntry {
    */
   int sourceIndex();
 
+  /**
+   * @return the position of the command which caused that entry, if it is not part of the same
+   *     batch; a negative value means the source position of the batch applies
+   */
+  default long sourcePosition() {
+    return -1;
+  }
+
   /**
    * @return metadata of the record, like ValueType, Intent, RecordType etc.
    */
@@ -102,4 +110,16 @@ public interface LogAppendEntry {
   static LogAppendEntry ofProcessed(final LogAppendEntry entry) {
     return new ProcessedLogAppendEntryImpl(entry);
   }
+
+  /**
+   * Creates a new {@link LogAppendEntry} which wraps the given {@link LogAppendEntry} and sets its
+   * source position, such that entries caused by different commands can be written in one batch.
+   *
+   * @param entry the entry which should be written to the log
+   * @param sourcePosition the position of the command which caused the entry
+   * @return a simple value class implementation of a {@link LogAppendEntry} with the parameters
+   */
+  static LogAppendEntry ofSource(final LogAppendEntry entry, final long sourcePosition) {
+    return new SourcedLogAppendEntryImpl(entry, sourcePosition);
+  }
 }
@@ -31,6 +31,26 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMaxFragmentSize(int maxFragmentSize);
 
+  /**
+   * The maximum number of sequenced batches which are coalesced into a single append to the log
+   * storage, i.e. into a single entry of the underlying storage. Setting it to 1 disables
+   * coalescing.
+   *
+   * @param maxCoalescedBatchCount the maximum number of batches per append
+   * @return this builder
+   */
+  LogStreamBuilder withMaxCoalescedBatchCount(int maxCoalescedBatchCount);
+
+  /**
+   * The maximum size of a block of coalesced batches which is appended to the log storage. Must not
+   * be greater than the {@link #withMaxFragmentSize(int) maximum fragment size}, which is also the
+   * default.
+   *
+   * @param maxCoalescedBatchSize the maximum size in bytes of a single append
+   * @return this builder
+   */
+  LogStreamBuilder withMaxCoalescedBatchSize(int maxCoalescedBatchSize);
+
   /**
    * The underlying log storage to read from/write to.
    *
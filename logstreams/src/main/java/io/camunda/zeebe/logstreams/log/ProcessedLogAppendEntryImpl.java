@@ -22,6 +22,11 @@ record ProcessedLogAppendEntryImpl(LogAppendEntry entry) implements LogAppendEnt
     return entry.sourceIndex();
   }
 
+  @Override
+  public long sourcePosition() {
+    return entry.sourcePosition();
+  }
+
   @Override
   public RecordMetadata recordMetadata() {
     return entry.recordMetadata();
@@ -39,7 +39,9 @@ public final class LogStorageAppenderHealthTest {
     failingLogStorage = new ControllableLogStorage();
     sequencer = new Sequencer(0, 4 * 1024 * 1024, new SequencerMetrics(1));
 
-    appender = new LogStorageAppender("appender", PARTITION_ID, failingLogStorage, sequencer);
+    appender =
+        new LogStorageAppender(
+            "appender", PARTITION_ID, failingLogStorage, sequencer, 1, 4 * 1024 * 1024);
   }
 
   @After
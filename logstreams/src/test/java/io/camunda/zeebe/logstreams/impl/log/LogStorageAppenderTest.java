@@ -15,6 +15,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
@@ -39,6 +40,8 @@ final class LogStorageAppenderTest {
 
   private static final int PARTITION_ID = 0;
   private static final long INITIAL_POSITION = 2L;
+  private static final int MAX_FRAGMENT_SIZE = 4 * 1024 * 1024;
+  private static final int MAX_COALESCED_BATCH_COUNT = 3;
 
   private final ActorScheduler scheduler =
       ActorScheduler.newActorScheduler()
@@ -55,8 +58,15 @@ final class LogStorageAppenderTest {
   @BeforeEach
   void beforeEach() {
     scheduler.start();
-    sequencer = new Sequencer(INITIAL_POSITION, 4 * 1024 * 1024, new SequencerMetrics(1));
-    appender = new LogStorageAppender("appender", PARTITION_ID, logStorage, sequencer);
+    sequencer = new Sequencer(INITIAL_POSITION, MAX_FRAGMENT_SIZE, new SequencerMetrics(1));
+    appender =
+        new LogStorageAppender(
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            sequencer,
+            MAX_COALESCED_BATCH_COUNT,
+            MAX_FRAGMENT_SIZE);
     reader = new LogStreamReaderImpl(logStorage.newReader());
   }
 
@@ -113,4 +123,98 @@ final class LogStorageAppenderTest {
       assertThatEntry(entry).matchesLoggedEvent(reader.next());
     }
   }
+
+  @Test
+  void shouldCoalesceAvailableBatchesIntoSingleAppend() throws InterruptedException {
+    // given
+    final var latch = new CountDownLatch(1);
+    final var entries = List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3));
+    final var lowestPosition = sequencer.tryWrite(entries.get(0)).get();
+    sequencer.tryWrite(entries.get(1));
+    final var highestPosition = sequencer.tryWrite(entries.get(2)).get();
+
+    // when
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).as("value was written within 5 seconds").isTrue();
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(lowestPosition),
+            eq(highestPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+
+    assertThat(reader.seek(lowestPosition)).isTrue();
+    for (final var entry : entries) {
+      assertThat(reader.hasNext()).isTrue();
+      assertThatEntry(entry).matchesLoggedEvent(reader.next());
+    }
+  }
+
+  @Test
+  void shouldNotCoalesceMoreBatchesThanConfigured() throws InterruptedException {
+    // given
+    final var batches = MAX_COALESCED_BATCH_COUNT + 1;
+    final var latch = new CountDownLatch(2);
+    final var positions =
+        IntStream.range(0, batches)
+            .mapToObj(i -> sequencer.tryWrite(TestEntry.ofKey(i)).get())
+            .toList();
+
+    // when
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).as("value was written within 5 seconds").isTrue();
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(positions.get(0)),
+            eq(positions.get(MAX_COALESCED_BATCH_COUNT - 1)),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(positions.get(MAX_COALESCED_BATCH_COUNT)),
+            eq(positions.get(MAX_COALESCED_BATCH_COUNT)),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+  }
+
+  @Test
+  void shouldNotCoalesceBatchesExceedingMaxSize() throws InterruptedException {
+    // given
+    final var entry = TestEntry.ofDefaults();
+    final var batchLength = SequencedBatchSerializer.calculateBatchSize(List.of(entry));
+    appender =
+        new LogStorageAppender(
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            sequencer,
+            MAX_COALESCED_BATCH_COUNT,
+            batchLength * 2);
+    final var latch = new CountDownLatch(2);
+    final var firstPosition = sequencer.tryWrite(entry).get();
+    sequencer.tryWrite(entry);
+    final var lastPosition = sequencer.tryWrite(entry).get();
+
+    // when
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).as("value was written within 5 seconds").isTrue();
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(firstPosition),
+            eq(firstPosition + 1),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(lastPosition), eq(lastPosition), any(ByteBuffer.class), any(AppendListener.class));
+  }
 }
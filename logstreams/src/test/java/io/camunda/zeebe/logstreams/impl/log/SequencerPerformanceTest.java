@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput and latency of appending to the {@link Sequencer} with one to eight
+ * concurrent producers, while a single consumer drains it the same way the {@link
+ * LogStorageAppender} does. Writes which are rejected because the queue is full are retried, such
+ * that the latency includes the time spent waiting for the consumer.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SequencerPerformanceTest {
+
+  @Param({"1", "4"})
+  public int entriesPerBatch;
+
+  private Sequencer sequencer;
+  private Thread consumer;
+  private volatile boolean isRunning;
+  private List<LogAppendEntry> batch;
+
+  @Setup
+  public void setup() {
+    sequencer = new Sequencer(1, 4 * 1024 * 1024, new SequencerMetrics(1));
+    batch = Collections.nCopies(entriesPerBatch, TestEntry.ofDefaults());
+
+    isRunning = true;
+    consumer = new Thread(this::consume, "sequencer-consumer");
+    consumer.setDaemon(true);
+    consumer.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    isRunning = false;
+    consumer.join();
+    sequencer.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long oneProducer() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(2)
+  public long twoProducers() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long fourProducers() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public long eightProducers() {
+    return write();
+  }
+
+  private long write() {
+    var result = sequencer.tryWrite(batch);
+    while (result.isLeft()) {
+      Thread.onSpinWait();
+      result = sequencer.tryWrite(batch);
+    }
+
+    return result.get();
+  }
+
+  private void consume() {
+    while (isRunning) {
+      if (sequencer.tryRead() == null) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+}
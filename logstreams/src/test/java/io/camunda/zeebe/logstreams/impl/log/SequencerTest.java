@@ -55,6 +55,39 @@ final class SequencerTest {
     Mockito.verify(consumer).signal();
   }
 
+  @Test
+  void notifiesConsumerOnlyOnceUntilItRead() {
+    // given
+    final var sequencer = new Sequencer(0, 16, new SequencerMetrics(1));
+    final var consumer = Mockito.mock(ActorCondition.class);
+    sequencer.registerConsumer(consumer);
+
+    // when
+    sequencer.tryWrite(TestEntry.ofDefaults());
+    sequencer.tryWrite(TestEntry.ofDefaults());
+    sequencer.tryWrite(TestEntry.ofDefaults());
+
+    // then
+    Mockito.verify(consumer).signal();
+  }
+
+  @Test
+  void notifiesConsumerAgainAfterItReadEverything() {
+    // given
+    final var sequencer = new Sequencer(0, 16, new SequencerMetrics(1));
+    final var consumer = Mockito.mock(ActorCondition.class);
+    sequencer.registerConsumer(consumer);
+    sequencer.tryWrite(TestEntry.ofDefaults());
+    sequencer.tryRead();
+    sequencer.tryRead();
+
+    // when
+    sequencer.tryWrite(TestEntry.ofDefaults());
+
+    // then
+    Mockito.verify(consumer, Mockito.times(2)).signal();
+  }
+
   @Test
   void canReadAfterSingleWrite() {
     // given
@@ -84,6 +117,29 @@ final class SequencerTest {
     Assertions.assertThat(read.entries()).containsAnyElementsOf(entries);
   }
 
+  @Test
+  void canWriteBatchWithMoreEntriesThanCapacity() {
+    // given
+    final long initialPosition = 1L;
+    final var sequencer = new Sequencer(initialPosition, 16 * 1024 * 1024, new SequencerMetrics(1));
+    final var entries =
+        IntStream.range(0, Sequencer.CAPACITY * 2).mapToObj(TestEntry::ofKey).toList();
+
+    // when
+    final var result = sequencer.tryWrite(entries);
+
+    // then
+    EitherAssert.assertThat(result)
+        .isRight()
+        .right()
+        .isEqualTo(initialPosition + entries.size() - 1);
+    Assertions.assertThat(sequencer.tryRead().entries()).containsExactlyElementsOf(entries);
+    EitherAssert.assertThat(sequencer.tryWrite(TestEntry.ofDefaults()))
+        .isRight()
+        .right()
+        .isEqualTo(initialPosition + entries.size());
+  }
+
   @Test
   void cannotReadEmpty() {
     // given
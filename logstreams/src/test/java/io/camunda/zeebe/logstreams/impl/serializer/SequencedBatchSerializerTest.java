@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.impl.log.SequencedBatch;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.util.TestEntry;
 import java.util.List;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -40,4 +41,25 @@ final class SequencedBatchSerializerTest {
     assertThat(secondEvent.getPosition()).isEqualTo(2);
     assertThat(secondEvent.getSourceEventPosition()).isEqualTo(-1);
   }
+
+  @Test
+  void shouldUseSourcePositionOfEntry() {
+    // given
+    final var entries = List.of(TestEntry.ofKey(1), LogAppendEntry.ofSource(TestEntry.ofKey(2), 7));
+    final var batch = new SequencedBatch(0, 10, 5, entries);
+
+    // when
+    final var serialized = SequencedBatchSerializer.serializeBatch(batch);
+
+    // then
+    final var firstEvent = new LoggedEventImpl();
+    firstEvent.wrap(new UnsafeBuffer(serialized), 0);
+    assertThat(firstEvent.getSourceEventPosition()).isEqualTo(5);
+
+    final var secondEvent = new LoggedEventImpl();
+    secondEvent.wrap(new UnsafeBuffer(serialized), firstEvent.getLength());
+    assertThatEntry(entries.get(1)).matchesLoggedEvent(secondEvent);
+    assertThat(secondEvent.getPosition()).isEqualTo(11);
+    assertThat(secondEvent.getSourceEventPosition()).isEqualTo(7);
+  }
 }
@@ -42,6 +42,18 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withMaxCoalescedBatchCount(final int maxCoalescedBatchCount) {
+    delegate.withMaxCoalescedBatchCount(maxCoalescedBatchCount);
+    return this;
+  }
+
+  @Override
+  public SyncLogStreamBuilder withMaxCoalescedBatchSize(final int maxCoalescedBatchSize) {
+    delegate.withMaxCoalescedBatchSize(maxCoalescedBatchSize);
+    return this;
+  }
+
   @Override
   public SyncLogStreamBuilder withLogStorage(final LogStorage logStorage) {
     delegate.withLogStorage(logStorage);
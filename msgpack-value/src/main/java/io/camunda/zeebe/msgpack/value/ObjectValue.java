@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
@@ -22,8 +23,13 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table over the keys of the declared properties, built on the first read;
+  // each slot holds the index of a declared property plus one, or zero if the slot is empty
+  private int[] keyIndex;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    keyIndex = null;
     return this;
   }
 
@@ -90,18 +96,7 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(decodedKey);
       if (prop == null) {
         prop = newUndeclaredProperty(decodedKey);
       }
@@ -123,6 +118,60 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(final StringValue key) {
+    if (keyIndex == null) {
+      keyIndex = buildKeyIndex();
+    }
+
+    final int mask = keyIndex.length - 1;
+    for (int slot = hashKey(key.getValue(), key.getLength()) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = keyIndex[slot];
+      if (entry == 0) {
+        return null;
+      }
+
+      final BaseProperty<? extends BaseValue> declaredProperty = declaredProperties.get(entry - 1);
+      if (declaredProperty.getKey().equals(key)) {
+        return declaredProperty;
+      }
+    }
+  }
+
+  private int[] buildKeyIndex() {
+    // at most half full, such that a miss is detected after a few probes
+    final int size = Integer.highestOneBit(Math.max(1, declaredProperties.size()) * 2) << 1;
+    final int[] index = new int[size];
+    final int mask = size - 1;
+
+    // insert in declaration order, such that the first declared property wins on duplicate keys
+    for (int i = 0; i < declaredProperties.size(); i++) {
+      final StringValue key = declaredProperties.get(i).getKey();
+      int slot = hashKey(key.getValue(), key.getLength()) & mask;
+      while (index[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = i + 1;
+    }
+
+    return index;
+  }
+
+  /**
+   * A cheap hash over the length and a few bytes of the key, which is enough to tell apart the
+   * properties of an object; collisions are resolved by comparing the whole key.
+   */
+  private static int hashKey(final DirectBuffer key, final int length) {
+    if (length == 0) {
+      return 0;
+    }
+
+    int hash = length;
+    hash = 31 * hash + key.getByte(0);
+    hash = 31 * hash + key.getByte(length >> 1);
+    hash = 31 * hash + key.getByte(length - 1);
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
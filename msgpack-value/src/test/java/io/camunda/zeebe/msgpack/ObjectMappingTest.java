@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -387,4 +388,63 @@ public final class ObjectMappingTest {
     assertThatBuffer(pojo.getString()).hasBytes(BUF1);
     assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
   }
+
+  @Test
+  public void shouldDeserializePropertiesWithSimilarKeys() {
+    // given - keys of the same length, which share their first, middle and last byte
+    final LongProperty first = new LongProperty("aXbca");
+    final LongProperty second = new LongProperty("aYbca");
+    final LongProperty third = new LongProperty("aZbca");
+    final UnpackedObject object = new UnpackedObject();
+    object.declareProperty(first).declareProperty(second).declareProperty(third);
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(4);
+              w.writeString(wrapString("aZbca"));
+              w.writeInteger(3L);
+              w.writeString(wrapString("aWbca"));
+              w.writeInteger(4L);
+              w.writeString(wrapString("aXbca"));
+              w.writeInteger(1L);
+              w.writeString(wrapString("aYbca"));
+              w.writeInteger(2L);
+            });
+
+    // when
+    object.wrap(buffer);
+
+    // then
+    assertThat(first.getValue()).isEqualTo(1L);
+    assertThat(second.getValue()).isEqualTo(2L);
+    assertThat(third.getValue()).isEqualTo(3L);
+    assertThat(object.getLength()).isEqualTo(buffer.capacity());
+  }
+
+  @Test
+  public void shouldDeserializePropertyDeclaredAfterRead() {
+    // given
+    final MinimalPOJO pojo = new MinimalPOJO();
+    final LongProperty otherProp = new LongProperty("otherProp");
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(2);
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(1L);
+              w.writeString(wrapString("otherProp"));
+              w.writeInteger(2L);
+            });
+    pojo.wrap(buffer);
+
+    // when
+    pojo.declareProperty(otherProp);
+    pojo.reset();
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getLongProp()).isEqualTo(1L);
+    assertThat(otherProp.getValue()).isEqualTo(2L);
+  }
 }
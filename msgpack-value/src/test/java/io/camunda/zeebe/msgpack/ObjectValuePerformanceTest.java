@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.PackedProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.value.DocumentValue;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing objects shaped like the records the engine decodes most often: a job
+ * record, with many properties and a variables document, and a process instance record, with mostly
+ * keys. The properties are written in the reverse order of their declaration, which is the worst
+ * case for looking them up by a linear scan.
+ *
+ * <p>Run it with the GC profiler (i.e. {@code -prof gc}) to also compare the bytes allocated per
+ * operation.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ObjectValuePerformanceTest {
+
+  private final JobLikeObject job = new JobLikeObject();
+  private final ProcessInstanceLikeObject processInstance = new ProcessInstanceLikeObject();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer encodedJob;
+  private DirectBuffer encodedProcessInstance;
+
+  @Setup
+  public void setup() {
+    final DirectBuffer variables =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(3);
+              w.writeString(wrapString("orderId"));
+              w.writeString(wrapString("order-12345"));
+              w.writeString(wrapString("amount"));
+              w.writeInteger(250);
+              w.writeString(wrapString("customer"));
+              w.writeString(wrapString("a customer with a reasonably long name"));
+            });
+
+    encodedJob =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(17);
+              writeString(w, "tenantId", "<default>");
+              writeLong(w, "elementInstanceKey", 2251799813685260L);
+              writeString(w, "elementId", "service-task");
+              writeLong(w, "processInstanceKey", 2251799813685251L);
+              writeLong(w, "processDefinitionKey", 2251799813685249L);
+              writeLong(w, "processDefinitionVersion", 1);
+              writeString(w, "bpmnProcessId", "order-process");
+              writeString(w, "errorCode", "");
+              writeString(w, "errorMessage", "");
+              w.writeString(wrapString("variables"));
+              w.writeBinary(variables);
+              w.writeString(wrapString("customHeaders"));
+              w.writeRaw(DocumentValue.EMPTY_DOCUMENT);
+              writeString(w, "type", "payment-service");
+              writeLong(w, "recurringTime", -1);
+              writeLong(w, "retryBackoff", 0);
+              writeLong(w, "retries", 3);
+              writeString(w, "worker", "payment-worker-1");
+              writeLong(w, "deadline", 1690000000000L);
+            });
+
+    encodedProcessInstance =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(11);
+              writeString(w, "tenantId", "<default>");
+              writeLong(w, "parentElementInstanceKey", -1);
+              writeLong(w, "parentProcessInstanceKey", -1);
+              writeString(w, "bpmnEventType", "UNSPECIFIED");
+              writeLong(w, "flowScopeKey", 2251799813685251L);
+              writeString(w, "bpmnElementType", "SERVICE_TASK");
+              writeString(w, "elementId", "service-task");
+              writeLong(w, "processInstanceKey", 2251799813685251L);
+              writeLong(w, "processDefinitionKey", 2251799813685249L);
+              writeLong(w, "version", 1);
+              writeString(w, "bpmnProcessId", "order-process");
+            });
+
+    job.wrap(encodedJob);
+    processInstance.wrap(encodedProcessInstance);
+  }
+
+  @Benchmark
+  public JobLikeObject readJob() {
+    job.reset();
+    job.wrap(encodedJob);
+    return job;
+  }
+
+  @Benchmark
+  public int writeJob() {
+    job.write(writeBuffer, 0);
+    return job.getLength();
+  }
+
+  @Benchmark
+  public ProcessInstanceLikeObject readProcessInstance() {
+    processInstance.reset();
+    processInstance.wrap(encodedProcessInstance);
+    return processInstance;
+  }
+
+  @Benchmark
+  public int writeProcessInstance() {
+    processInstance.write(writeBuffer, 0);
+    return processInstance.getLength();
+  }
+
+  private static void writeString(
+      final MsgPackWriter writer, final String key, final String value) {
+    writer.writeString(wrapString(key));
+    writer.writeString(wrapString(value));
+  }
+
+  private static void writeLong(final MsgPackWriter writer, final String key, final long value) {
+    writer.writeString(wrapString(key));
+    writer.writeInteger(value);
+  }
+
+  /** Declares the same properties as the job record of the protocol. */
+  public static final class JobLikeObject extends UnpackedObject {
+
+    public JobLikeObject() {
+      declareProperty(new LongProperty("deadline", -1))
+          .declareProperty(new StringProperty("worker", ""))
+          .declareProperty(new IntegerProperty("retries", -1))
+          .declareProperty(new LongProperty("retryBackoff", 0))
+          .declareProperty(new LongProperty("recurringTime", -1))
+          .declareProperty(new StringProperty("type", ""))
+          .declareProperty(new PackedProperty("customHeaders", DocumentValue.EMPTY_DOCUMENT))
+          .declareProperty(new DocumentProperty("variables"))
+          .declareProperty(new StringProperty("errorMessage", ""))
+          .declareProperty(new StringProperty("errorCode", ""))
+          .declareProperty(new StringProperty("bpmnProcessId", ""))
+          .declareProperty(new IntegerProperty("processDefinitionVersion", -1))
+          .declareProperty(new LongProperty("processDefinitionKey", -1))
+          .declareProperty(new LongProperty("processInstanceKey", -1))
+          .declareProperty(new StringProperty("elementId", ""))
+          .declareProperty(new LongProperty("elementInstanceKey", -1))
+          .declareProperty(new StringProperty("tenantId", ""));
+    }
+  }
+
+  /** Declares the same properties as the process instance record of the protocol. */
+  public static final class ProcessInstanceLikeObject extends UnpackedObject {
+
+    public ProcessInstanceLikeObject() {
+      declareProperty(new StringProperty("bpmnProcessId", ""))
+          .declareProperty(new IntegerProperty("version", -1))
+          .declareProperty(new LongProperty("processDefinitionKey", -1))
+          .declareProperty(new LongProperty("processInstanceKey", -1))
+          .declareProperty(new StringProperty("elementId", ""))
+          .declareProperty(new StringProperty("bpmnElementType", ""))
+          .declareProperty(new LongProperty("flowScopeKey", -1))
+          .declareProperty(new StringProperty("bpmnEventType", ""))
+          .declareProperty(new LongProperty("parentProcessInstanceKey", -1))
+          .declareProperty(new LongProperty("parentElementInstanceKey", -1))
+          .declareProperty(new StringProperty("tenantId", ""));
+    }
+  }
+}
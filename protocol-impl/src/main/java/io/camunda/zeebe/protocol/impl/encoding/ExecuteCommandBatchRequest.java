@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * A batch of commands for a single partition. The broker writes all commands of a batch to the log
+ * at once, and responds with an {@link ExecuteCommandBatchResponse} once every command has been
+ * processed.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  /** The maximum number of commands which fit into a single batch request. */
+  public static final int MAX_COMMANDS = CommandsEncoder.countMaxValue();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final List<ExecuteCommandRequest> commands = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    commands.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  /**
+   * @return the commands of this batch, in the order in which they are written to the log
+   */
+  public List<ExecuteCommandRequest> getCommands() {
+    return commands;
+  }
+
+  /**
+   * Adds a command to this batch. Only its key, value type, intent and value are sent, its
+   * partition id is replaced by the partition id of the batch.
+   *
+   * @param command the command to add
+   * @return this request for chaining
+   */
+  public ExecuteCommandBatchRequest addCommand(final ExecuteCommandRequest command) {
+    commands.add(command);
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    bodyDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    partitionId = bodyDecoder.partitionId();
+
+    for (final var commandDecoder : bodyDecoder.commands()) {
+      final var command = new ExecuteCommandRequest();
+      final var valueType = commandDecoder.valueType();
+      command
+          .setKey(commandDecoder.key())
+          .setPartitionId(partitionId)
+          .setValueType(valueType)
+          .setIntent(Intent.fromProtocolValue(valueType, commandDecoder.intent()));
+      commandDecoder.wrapValue(command.getValue());
+      commands.add(command);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.HEADER_SIZE;
+
+    for (final var command : commands) {
+      length +=
+          CommandsEncoder.sbeBlockLength()
+              + CommandsEncoder.valueHeaderLength()
+              + command.getValue().capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    bodyEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder).partitionId(partitionId);
+
+    final var commandsEncoder = bodyEncoder.commandsCount(commands.size());
+    for (final var command : commands) {
+      final var value = command.getValue();
+      commandsEncoder
+          .next()
+          .key(command.getKey())
+          .valueType(command.getValueType())
+          .intent(command.getIntent().value())
+          .putValue(value, 0, value.capacity());
+    }
+  }
+}
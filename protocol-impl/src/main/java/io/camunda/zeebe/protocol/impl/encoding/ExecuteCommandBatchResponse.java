@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The responses to the commands of an {@link ExecuteCommandBatchRequest}, in the same order as the
+ * commands. Each response is a complete, encoded {@link ExecuteCommandResponse} or {@link
+ * ErrorResponse}, exactly as it would have been sent for the command on its own.
+ */
+public final class ExecuteCommandBatchResponse implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchResponseEncoder bodyEncoder =
+      new ExecuteCommandBatchResponseEncoder();
+  private final ExecuteCommandBatchResponseDecoder bodyDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+  private final List<DirectBuffer> responses = new ArrayList<>();
+
+  public ExecuteCommandBatchResponse reset() {
+    responses.clear();
+    return this;
+  }
+
+  public List<DirectBuffer> getResponses() {
+    return responses;
+  }
+
+  public ExecuteCommandBatchResponse addResponse(final DirectBuffer response) {
+    responses.add(response);
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    bodyDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    for (final var responseDecoder : bodyDecoder.responses()) {
+      final var response = new UnsafeBuffer(0, 0);
+      responseDecoder.wrapResponse(response);
+      responses.add(response);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+            + ResponsesEncoder.HEADER_SIZE;
+
+    for (final var response : responses) {
+      length +=
+          ResponsesEncoder.sbeBlockLength()
+              + ResponsesEncoder.responseHeaderLength()
+              + response.capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    bodyEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var responsesEncoder = bodyEncoder.responsesCount(responses.size());
+    for (final var response : responses) {
+      responsesEncoder.next().putResponse(response, 0, response.capacity());
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ExecuteCommandRequestEncoder;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ExecuteCommandBatchRequestTest {
+
+  @Test
+  void shouldEncodeAndDecodeCommands() {
+    // given
+    final var jobKey = Protocol.encodePartitionId(2, 123);
+    final var toEncode =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(2)
+            .addCommand(
+                new ExecuteCommandRequest()
+                    .setKey(jobKey)
+                    .setValueType(ValueType.JOB)
+                    .setIntent(JobIntent.COMPLETE)
+                    .setValue(wrapString("job"), 0, 3))
+            .addCommand(
+                new ExecuteCommandRequest()
+                    .setValueType(ValueType.MESSAGE)
+                    .setIntent(MessageIntent.PUBLISH)
+                    .setValue(wrapString("message"), 0, 7));
+
+    // when
+    final var buffer = new UnsafeBuffer(new byte[toEncode.getLength()]);
+    toEncode.write(buffer, 0);
+    final var decoded = new ExecuteCommandBatchRequest();
+    decoded.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(decoded.getPartitionId()).isEqualTo(2);
+    assertThat(decoded.getCommands()).hasSize(2);
+
+    final var job = decoded.getCommands().get(0);
+    assertThat(job.getPartitionId()).isEqualTo(2);
+    assertThat(job.getKey()).isEqualTo(jobKey);
+    assertThat(job.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(job.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(job.getValue()).isEqualTo(wrapString("job"));
+
+    final var message = decoded.getCommands().get(1);
+    assertThat(message.getPartitionId()).isEqualTo(2);
+    assertThat(message.getKey()).isEqualTo(ExecuteCommandRequestEncoder.keyNullValue());
+    assertThat(message.getValueType()).isEqualTo(ValueType.MESSAGE);
+    assertThat(message.getIntent()).isEqualTo(MessageIntent.PUBLISH);
+    assertThat(message.getValue()).isEqualTo(wrapString("message"));
+  }
+
+  @Test
+  void shouldEncodeMoreCommandsThanFitIntoADefaultGroup() {
+    // given
+    final var toEncode = new ExecuteCommandBatchRequest().setPartitionId(1);
+    for (int i = 0; i < 1_000; i++) {
+      toEncode.addCommand(
+          new ExecuteCommandRequest()
+              .setKey(Protocol.encodePartitionId(1, i))
+              .setValueType(ValueType.JOB)
+              .setIntent(JobIntent.COMPLETE));
+    }
+
+    // when
+    final var buffer = new UnsafeBuffer(new byte[toEncode.getLength()]);
+    toEncode.write(buffer, 0);
+    final var decoded = new ExecuteCommandBatchRequest();
+    decoded.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(decoded.getCommands())
+        .hasSize(1_000)
+        .extracting(ExecuteCommandRequest::getKey)
+        .last()
+        .isEqualTo(Protocol.encodePartitionId(1, 999));
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ExecuteCommandBatchResponseTest {
+
+  @Test
+  void shouldEncodeAndDecodeResponses() {
+    // given
+    final var commandResponse =
+        encode(
+            new ExecuteCommandResponse()
+                .setPartitionId(1)
+                .setKey(123)
+                .setRecordType(RecordType.EVENT)
+                .setValueType(ValueType.JOB)
+                .setIntent(JobIntent.COMPLETED)
+                .setValue(wrapString("job"), 0, 3));
+    final var errorResponse =
+        encode(
+            new ErrorResponse()
+                .setErrorCode(ErrorCode.RESOURCE_EXHAUSTED)
+                .setErrorData(wrapString("exhausted")));
+    final var toEncode =
+        new ExecuteCommandBatchResponse().addResponse(commandResponse).addResponse(errorResponse);
+
+    // when
+    final var buffer = encode(toEncode);
+    final var decoded = new ExecuteCommandBatchResponse();
+    decoded.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(decoded.getResponses()).containsExactly(commandResponse, errorResponse);
+
+    final var decodedCommandResponse = new ExecuteCommandResponse();
+    final var firstResponse = decoded.getResponses().get(0);
+    decodedCommandResponse.wrap(firstResponse, 0, firstResponse.capacity());
+    assertThat(decodedCommandResponse.getKey()).isEqualTo(123);
+    assertThat(decodedCommandResponse.getIntent()).isEqualTo(JobIntent.COMPLETED);
+  }
+
+  private DirectBuffer encode(final BufferWriter writer) {
+    final var buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -10,11 +10,13 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
@@ -31,6 +33,7 @@ import io.camunda.zeebe.stream.api.ProcessingResult;
 import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
+import io.camunda.zeebe.stream.api.records.RecordBatchSizePredicate;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
@@ -38,6 +41,7 @@ import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
@@ -50,6 +54,8 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -90,6 +96,13 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>With group commit enabled, {@code processCommand()} additionally processes the commands which
+ * directly follow the current one on the log, if they are already available. The whole group is
+ * processed in one transaction, written in one batch and committed together, before the responses
+ * are sent. Each grouped command is processed on top of a save point, such that a command which
+ * fails, or whose records would exceed the batch size, can be rolled back on its own; it then ends
+ * the group and is processed as the first command of the next one.
  */
 public final class ProcessingStateMachine {
 
@@ -159,6 +172,14 @@ public final class ProcessingStateMachine {
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
 
+  // group commit; the commands and results of the current group, besides the first command
+  private final boolean enableGroupCommit;
+  private final List<TypedRecord<?>> groupedCommands = new ArrayList<>();
+  private final List<ProcessingResult> groupedResults = new ArrayList<>();
+  private final ExpandableArrayBuffer groupHeadBuffer = new ExpandableArrayBuffer();
+  private final LoggedEventImpl groupHeadRecord = new LoggedEventImpl();
+  private RecordProcessor groupHeadProcessor;
+
   public ProcessingStateMachine(
       final StreamProcessorContext context,
       final BooleanSupplier shouldProcessNext,
@@ -173,6 +194,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    enableGroupCommit = context.enableGroupCommit();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -266,14 +288,20 @@ public final class ProcessingStateMachine {
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
-        zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
+        zeebeDbTransaction.run(
+            () -> batchProcessing(typedCommand, logStreamWriter::canWriteEvents));
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
 
+      final var commandsInGroup = processedCommandsCount;
       finalizeCommandProcessing();
+      if (enableGroupCommit && !currentProcessingResult.isEmpty()) {
+        processGroup(commandsInGroup);
+      }
       writeRecords();
     } catch (final RecoverableException recoverableException) {
       // recoverable
+      resetGroup();
       LOG.error(
           ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING,
           loggedEvent,
@@ -299,6 +327,7 @@ public final class ProcessingStateMachine {
             });
       }
     } catch (final Exception e) {
+      resetGroup();
       onError(
           () -> {
             errorHandlingInTransaction(e);
@@ -323,9 +352,11 @@ public final class ProcessingStateMachine {
    * and applies all follow-up commands until the command limit is reached or no more follow-up
    * commands are created.
    */
-  private void batchProcessing(final TypedRecord<?> initialCommand) {
+  private void batchProcessing(
+      final TypedRecord<?> initialCommand,
+      final RecordBatchSizePredicate recordBatchSizePredicate) {
     final ProcessingResultBuilder processingResultBuilder =
-        new BufferedProcessingResultBuilder(logStreamWriter::canWriteEvents);
+        new BufferedProcessingResultBuilder(recordBatchSizePredicate);
     var lastProcessingResultSize = 0;
 
     // It might be that we reached the batch size limit during processing a command.
@@ -371,6 +402,161 @@ public final class ProcessingStateMachine {
     }
   }
 
+  /**
+   * Extends the group of the current command with the commands which directly follow it on the log,
+   * as long as they are already available and the group stays within {@code maxCommandsInBatch} and
+   * the maximum batch size. The records of each grouped command point to that command as their
+   * source, like they would if the commands were processed one by one.
+   *
+   * @param commandsInGroup the commands processed so far for the current command, including its
+   *     follow-up commands
+   */
+  private void processGroup(final int commandsInGroup) throws Exception {
+    var groupCommandsCount = commandsInGroup;
+    final var groupWrites = new ArrayList<>(pendingWrites);
+    final var groupResponses = new ArrayList<>(pendingResponses);
+    var groupWritesLength = groupWrites.stream().mapToInt(LogAppendEntry::getLength).sum();
+
+    while (groupCommandsCount < maxCommandsInBatch
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext()) {
+      final var nextRecord = logStreamReader.peekNext();
+      if (!eventFilter.applies(nextRecord) || nextRecord.shouldSkipProcessing()) {
+        break;
+      }
+
+      final var groupedRecord = copyRecord(nextRecord);
+      final var groupedCommand = readCommand(groupedRecord);
+      if (groupedCommand == null) {
+        break;
+      }
+
+      if (groupedCommands.isEmpty()) {
+        startGroup();
+      }
+
+      final var previousProcessor = currentProcessor;
+      final var previousResult = currentProcessingResult;
+      final var writtenCount = groupWrites.size();
+      final var writtenLength = groupWritesLength;
+      // limits the follow-up commands of the grouped command to what is left of the batch
+      processedCommandsCount = maxCommandsInBatch - groupCommandsCount;
+      zeebeDbTransaction.setSavePoint();
+      try {
+        zeebeDbTransaction.run(
+            () ->
+                batchProcessing(
+                    groupedCommand,
+                    (count, length) ->
+                        logStreamWriter.canWriteEvents(
+                            writtenCount + count, writtenLength + length)));
+      } catch (final Exception e) {
+        // the command stays on the log, and is processed on its own as the next command
+        zeebeDbTransaction.rollbackToSavePoint();
+        processedCommandsCount = 0;
+        currentProcessor = previousProcessor;
+        currentProcessingResult = previousResult;
+        break;
+      }
+
+      logStreamReader.next();
+      metrics.processingLatency(groupedRecord.getTimestamp(), ActorClock.currentTimeMillis());
+      processingMetrics.observeCommandCount(processedCommandsCount);
+      lastProcessedPositionState.markAsProcessed(groupedCommand.getPosition());
+      groupCommandsCount += processedCommandsCount;
+      processedCommandsCount = 0;
+
+      for (final var entry : pendingWrites) {
+        groupWrites.add(LogAppendEntry.ofSource(entry, groupedCommand.getPosition()));
+        groupWritesLength += entry.getLength();
+      }
+      groupResponses.addAll(pendingResponses);
+      groupedCommands.add(groupedCommand);
+      groupedResults.add(currentProcessingResult);
+      currentRecord = groupedRecord;
+    }
+
+    pendingWrites = groupWrites;
+    pendingResponses = groupResponses;
+    if (!groupedCommands.isEmpty()) {
+      processingMetrics.observeGroupSize(groupedCommands.size() + 1);
+    }
+  }
+
+  /**
+   * Detaches the current command from the reader, which is moved forward while the group is built,
+   * and remembers how to handle errors for it if the group has to be given up.
+   */
+  private void startGroup() {
+    currentRecord.write(groupHeadBuffer, 0);
+    groupHeadRecord.wrap(groupHeadBuffer, 0);
+    currentRecord = groupHeadRecord;
+
+    metadata.reset();
+    groupHeadRecord.readMetadata(metadata);
+    final var value = recordValues.readRecordValue(groupHeadRecord, metadata.getValueType());
+    typedCommand.wrap(groupHeadRecord, metadata, value);
+
+    groupHeadProcessor = currentProcessor;
+    groupedResults.add(currentProcessingResult);
+  }
+
+  /**
+   * Gives up the current group, e.g. if its records could not be written, such that only the first
+   * command is handled by the error handling; the reader is moved back to process the other
+   * commands again afterwards.
+   */
+  private void resetGroup() {
+    if (groupedResults.isEmpty()) {
+      // no group was started
+      return;
+    }
+
+    if (!groupedCommands.isEmpty()) {
+      logStreamReader.seekToNextEvent(typedCommand.getPosition());
+    }
+    currentRecord = groupHeadRecord;
+    currentProcessor = groupHeadProcessor;
+    clearGroup();
+  }
+
+  private void clearGroup() {
+    groupedCommands.clear();
+    groupedResults.clear();
+    groupHeadProcessor = null;
+  }
+
+  private LoggedEvent copyRecord(final LoggedEvent record) {
+    final var buffer = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(buffer, 0);
+
+    final var copiedRecord = new LoggedEventImpl();
+    copiedRecord.wrap(buffer, 0);
+    return copiedRecord;
+  }
+
+  /**
+   * @return the command of the given record with its own metadata and value, or null if no
+   *     processor accepts it
+   */
+  private TypedRecord<?> readCommand(final LoggedEvent record) {
+    final var commandMetadata = new RecordMetadata();
+    record.readMetadata(commandMetadata);
+
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(commandMetadata.getValueType());
+    if (valueClass == null
+        || recordProcessors.stream().noneMatch(p -> p.accepts(commandMetadata.getValueType()))) {
+      return null;
+    }
+
+    final UnifiedRecordValue value = ReflectUtil.newInstance(valueClass);
+    record.readValue(value);
+
+    final var command = new TypedRecordImpl(context.getPartitionId());
+    command.wrap(record, commandMetadata, value);
+    return command;
+  }
+
   /**
    * Collects from the given processing result the commands which should be processed further, and
    * the records which should be written to the log.
@@ -497,6 +683,7 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
+            resetGroup();
             onError(
                 () -> {
                   errorHandlingInTransaction(t);
@@ -577,6 +764,8 @@ public final class ProcessingStateMachine {
           }
 
           notifyProcessedListener(typedCommand);
+          groupedCommands.forEach(this::notifyProcessedListener);
+          clearGroup();
 
           // observe the processing duration
           processingTimer.close();
@@ -589,7 +778,15 @@ public final class ProcessingStateMachine {
 
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      if (groupedResults.isEmpty()) {
+        return currentProcessingResult.executePostCommitTasks();
+      }
+
+      boolean success = true;
+      for (final var processingResult : groupedResults) {
+        success &= processingResult.executePostCommitTasks();
+      }
+      return success;
     }
   }
 
@@ -38,9 +38,20 @@ import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>By default, each batch of events which share the same source position is replayed in its own
+ * transaction. With fast replay enabled, consecutive batches are replayed in the same transaction,
+ * until {@link #FAST_REPLAY_MAX_EVENTS_PER_TRANSACTION} records were read or no more records are
+ * available. The events are applied in the same order either way, so the resulting state is the
+ * same; there are just fewer, larger commits.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
+  /** The number of records after which a transaction is committed in fast replay mode */
+  static final int FAST_REPLAY_MAX_EVENTS_PER_TRANSACTION = 10_000;
+
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
 
   private static final String LOG_STMT_REPLAY_FINISHED = "Processor finished replay, with {}";
@@ -69,9 +80,15 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxEventsPerTransaction;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  // current transaction, which may span several batches
+  private long transactionStartPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private int transactionEventCount;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
@@ -108,6 +125,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    maxEventsPerTransaction =
+        context.enableFastReplay() ? FAST_REPLAY_MAX_EVENTS_PER_TRANSACTION : 1;
   }
 
   /**
@@ -160,19 +179,22 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        transactionStartPosition = lastReadRecordPosition;
+        transactionStartReplayedEventPosition = lastReplayedEventPosition;
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(this::tryToReplayBatches, abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(failure);
                   } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // observe the replay duration and throughput
+                    final var duration = replayDurationTimer.observeDuration();
+                    replayMetrics.observeThroughput(transactionEventCount, duration);
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -194,22 +216,36 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  private boolean tryToReplayBatches() throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches of the transaction from the beginning again
+      lastReadRecordPosition = transactionStartPosition;
+      lastReplayedEventPosition = transactionStartReplayedEventPosition;
+      logStreamBatchReader.seekToNextBatch(
+          transactionStartPosition != StreamProcessor.UNSET_POSITION
+              ? transactionStartPosition
+              : snapshotPosition);
     }
 
+    transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+    transactionEventCount = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
-          }
+          do {
+            final Batch batch = logStreamBatchReader.next();
+            batch.forEachRemaining(this::replayEvent);
+
+            if (batchSourceEventPosition > snapshotPosition) {
+              lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+            }
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+          } while (transactionEventCount < maxEventsPerTransaction
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean());
         });
 
     zeebeDbTransaction.commit();
@@ -266,6 +302,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    transactionEventCount++;
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
     final var currentPosition = currentEvent.getPosition();
     final var currentRecordKey = currentEvent.getKey();
@@ -140,4 +140,14 @@ public final class StreamProcessorBuilder {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
   }
+
+  public StreamProcessorBuilder setEnableGroupCommit(final boolean enabled) {
+    streamProcessorContext.setEnableGroupCommit(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setEnableFastReplay(final boolean enabled) {
+    streamProcessorContext.setEnableFastReplay(enabled);
+    return this;
+  }
 }
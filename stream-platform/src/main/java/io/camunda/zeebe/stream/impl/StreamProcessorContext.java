@@ -57,6 +57,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enableGroupCommit = false;
+  private boolean enableFastReplay = false;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -216,4 +218,22 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   public boolean enableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
+
+  public StreamProcessorContext setEnableGroupCommit(final boolean enabled) {
+    enableGroupCommit = enabled;
+    return this;
+  }
+
+  public boolean enableGroupCommit() {
+    return enableGroupCommit;
+  }
+
+  public StreamProcessorContext setEnableFastReplay(final boolean enabled) {
+    enableFastReplay = enabled;
+    return this;
+  }
+
+  public boolean enableFastReplay() {
+    return enableFastReplay;
+  }
 }
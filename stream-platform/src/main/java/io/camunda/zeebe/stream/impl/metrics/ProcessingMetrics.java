@@ -33,6 +33,15 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram GROUP_COMMIT_COMMANDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_group_commit_commands")
+          .help("Records the distribution of independent commands committed together in a group")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Histogram BATCH_PROCESSING_POST_COMMIT_TASKS =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -54,12 +63,14 @@ public class ProcessingMetrics {
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Child groupCommitCommands;
 
   public ProcessingMetrics(final String partitionIdLabel) {
     batchProcessingDuration = BATCH_PROCESSING_DURATION.labels(partitionIdLabel);
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    groupCommitCommands = GROUP_COMMIT_COMMANDS.labels(partitionIdLabel);
   }
 
   public Histogram.Timer startBatchProcessingDurationTimer() {
@@ -70,6 +81,10 @@ public class ProcessingMetrics {
     batchProcessingCommands.observe(commandCount);
   }
 
+  public void observeGroupSize(final int commandCount) {
+    groupCommitCommands.observe(commandCount);
+  }
+
   public void countRetry() {
     batchProcessingRetries.inc();
   }
@@ -41,7 +41,21 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge REPLAY_THROUGHPUT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_events_per_second")
+          .help(
+              "Number of events replayed per second by the stream processor, not counting the time it waited for new events")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  /** The throughput is measured over windows of at least this much replay time */
+  private static final double THROUGHPUT_WINDOW_SECONDS = 1.0;
+
   private final String partitionIdLabel;
+  private long windowEvents;
+  private double windowDuration;
 
   public ReplayMetrics(final int partitionId) {
     partitionIdLabel = String.valueOf(partitionId);
@@ -55,6 +69,26 @@ public final class ReplayMetrics {
     return REPLAY_DURATION.labels(partitionIdLabel).startTimer();
   }
 
+  /**
+   * Updates the replay throughput with events which were replayed at once, e.g. in one transaction.
+   *
+   * @param eventCount the number of replayed events
+   * @param durationSeconds the time it took to replay them, in seconds
+   */
+  public void observeThroughput(final int eventCount, final double durationSeconds) {
+    windowEvents += eventCount;
+    windowDuration += durationSeconds;
+    if (windowDuration <= 0) {
+      return;
+    }
+
+    REPLAY_THROUGHPUT.labels(partitionIdLabel).set(windowEvents / windowDuration);
+    if (windowDuration >= THROUGHPUT_WINDOW_SECONDS) {
+      windowEvents = 0;
+      windowDuration = 0;
+    }
+  }
+
   public void setLastSourcePosition(final long position) {
     LAST_SOURCE_POSITION.labels(partitionIdLabel).set(position);
   }
@@ -70,6 +70,8 @@ public final class StreamPlatform {
   private final ZeebeDbFactory zeebeDbFactory;
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
   private final StreamProcessorListener mockStreamProcessorListener;
+  private boolean enableGroupCommit = false;
+  private boolean enableFastReplay = false;
 
   public StreamPlatform(
       final Path dataDirectory,
@@ -208,6 +210,16 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withGroupCommit(final boolean enableGroupCommit) {
+    this.enableGroupCommit = enableGroupCommit;
+    return this;
+  }
+
+  public StreamPlatform withFastReplay(final boolean enableFastReplay) {
+    this.enableFastReplay = enableFastReplay;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -259,6 +271,8 @@ public final class StreamPlatform {
             .recordProcessors(recordProcessors)
             .streamProcessorMode(processorMode)
             .listener(mockStreamProcessorListener)
+            .setEnableGroupCommit(enableGroupCommit)
+            .setEnableFastReplay(enableFastReplay)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     builder.addLifecycleListener(mockProcessorLifecycleAware);
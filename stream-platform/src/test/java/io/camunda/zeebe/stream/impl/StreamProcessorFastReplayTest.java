@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorFastReplayTest {
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldReplayAllBatchesInOrder() {
+    // given
+    final var replayedKeys = recordReplayedKeys();
+    writeCommandsWithEvents(3);
+
+    // when
+    final var streamProcessor = streamPlatform.withFastReplay(true).startStreamProcessor();
+
+    // then
+    await("should replay all events").until(() -> replayedKeys, keys -> keys.size() == 3);
+    assertThat(replayedKeys).containsExactly(eventKey(0), eventKey(1), eventKey(2));
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+    assertThat(streamPlatform.getCurrentKey()).isEqualTo(eventKey(2));
+  }
+
+  @Test
+  void shouldReplayWholeTransactionAgainOnRecoverableError() {
+    // given
+    final var replayedKeys = new CopyOnWriteArrayList<Long>();
+    final var failed = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> event = invocation.getArgument(0);
+              if (event.getKey() == eventKey(1) && !failed.getAndSet(true)) {
+                throw new ZeebeDbException(new RuntimeException("expected"));
+              }
+              replayedKeys.add(event.getKey());
+              return null;
+            })
+        .when(streamPlatform.getDefaultMockedRecordProcessor())
+        .replay(any());
+    writeCommandsWithEvents(3);
+
+    // when
+    final var streamProcessor = streamPlatform.withFastReplay(true).startStreamProcessor();
+
+    // then
+    await("should replay all events").until(() -> replayedKeys, keys -> keys.size() == 4);
+    assertThat(replayedKeys).containsExactly(eventKey(0), eventKey(0), eventKey(1), eventKey(2));
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    assertThat(streamPlatform.getCurrentKey()).isEqualTo(eventKey(2));
+  }
+
+  @Test
+  void shouldReplayContinuously() {
+    // given
+    final var replayedKeys = recordReplayedKeys();
+    writeCommandsWithEvents(2);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.withFastReplay(true).startStreamProcessorInReplayOnlyMode();
+    await("should replay existing events").until(() -> replayedKeys, keys -> keys.size() == 2);
+    writeCommandsWithEvents(1);
+
+    // then
+    await("should replay new events").until(() -> replayedKeys, keys -> keys.size() == 3);
+    assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
+  }
+
+  private List<Long> recordReplayedKeys() {
+    final var replayedKeys = new CopyOnWriteArrayList<Long>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> event = invocation.getArgument(0);
+              replayedKeys.add(event.getKey());
+              return null;
+            })
+        .when(streamPlatform.getDefaultMockedRecordProcessor())
+        .replay(any());
+    return replayedKeys;
+  }
+
+  /** Writes each command with its follow-up event in its own batch, so they are replayed apart. */
+  private void writeCommandsWithEvents(final int count) {
+    for (int i = 0; i < count; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .key(eventKey(i))
+              .causedBy(0));
+    }
+  }
+
+  private static long eventKey(final int index) {
+    return Protocol.encodePartitionId(1, 19L + index);
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.EmptyProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorGroupCommitTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldSendResponsesAfterGroupIsProcessed() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(recordProcessor.process(any(), any()))
+        .then(invocation -> activateElement(invocation.getArgument(0), invocation.getArgument(1)));
+    streamPlatform.withGroupCommit(true).startStreamProcessor();
+
+    // when
+    writeCommands(3);
+
+    // then
+    final var responseWriter = streamPlatform.getMockCommandResponseWriter();
+    final var inOrder = inOrder(recordProcessor, responseWriter);
+    inOrder.verify(recordProcessor, TIMEOUT.times(3)).process(any(), any());
+    inOrder.verify(responseWriter, TIMEOUT.times(3)).tryWriteResponse(anyInt(), anyLong());
+  }
+
+  @Test
+  void shouldSendResponseAfterEachCommandByDefault() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(recordProcessor.process(any(), any()))
+        .then(invocation -> activateElement(invocation.getArgument(0), invocation.getArgument(1)));
+    streamPlatform.startStreamProcessor();
+
+    // when
+    writeCommands(2);
+
+    // then
+    final var responseWriter = streamPlatform.getMockCommandResponseWriter();
+    final var inOrder = inOrder(recordProcessor, responseWriter);
+    inOrder.verify(recordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(responseWriter, TIMEOUT).tryWriteResponse(anyInt(), anyLong());
+    inOrder.verify(recordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(responseWriter, TIMEOUT).tryWriteResponse(anyInt(), anyLong());
+  }
+
+  @Test
+  void shouldSourceFollowUpRecordsByTheirCommand() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(recordProcessor.process(any(), any()))
+        .then(invocation -> activateElement(invocation.getArgument(0), invocation.getArgument(1)));
+    streamPlatform.withGroupCommit(true).startStreamProcessor();
+
+    // when
+    final var lastCommandPosition = writeCommands(3);
+
+    // then
+    final var sourcePositions =
+        awaitFollowUpEvents(3).stream()
+            .map(LoggedEvent::getSourceEventPosition)
+            .collect(Collectors.toList());
+    assertThat(sourcePositions)
+        .containsExactly(lastCommandPosition - 2, lastCommandPosition - 1, lastCommandPosition);
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+  }
+
+  @Test
+  void shouldProcessFailingCommandOnItsOwn() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var lastCommandPosition = writeCommands(3);
+    final var failingPosition = lastCommandPosition - 1;
+    final var failedPositions = new CopyOnWriteArrayList<Long>();
+    when(recordProcessor.process(any(), any()))
+        .then(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              if (command.getPosition() == failingPosition) {
+                throw new RuntimeException("expected");
+              }
+              return activateElement(command, invocation.getArgument(1));
+            });
+    when(recordProcessor.onProcessingError(any(), any(), any()))
+        .then(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(1);
+              failedPositions.add(command.getPosition());
+              return EmptyProcessingResult.INSTANCE;
+            });
+
+    // when
+    streamPlatform.withGroupCommit(true).startStreamProcessor();
+
+    // then
+    final Map<Long, Long> eventsBySource =
+        awaitFollowUpEvents(2).stream()
+            .collect(
+                Collectors.groupingBy(LoggedEvent::getSourceEventPosition, Collectors.counting()));
+    assertThat(eventsBySource)
+        .containsOnlyKeys(lastCommandPosition - 2, lastCommandPosition)
+        .containsValues(1L, 1L);
+    assertThat(failedPositions).containsExactly(failingPosition);
+  }
+
+  private long writeCommands(final int count) {
+    final var commands = new RecordToWrite[count];
+    for (int i = 0; i < count; i++) {
+      commands[i] =
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i));
+    }
+    return streamPlatform.writeBatch(commands);
+  }
+
+  private List<LoggedEvent> awaitFollowUpEvents(final int count) {
+    final var followUpEvents = new ArrayList<LoggedEvent>();
+    await("should write follow up events")
+        .untilAsserted(
+            () -> {
+              followUpEvents.clear();
+              streamPlatform
+                  .events()
+                  .filter(event -> event.getSourceEventPosition() >= 0)
+                  .forEach(followUpEvents::add);
+              assertThat(followUpEvents).hasSize(count);
+            });
+    return followUpEvents;
+  }
+
+  private static Object activateElement(
+      final TypedRecord<?> command, final ProcessingResultBuilder resultBuilder) {
+    resultBuilder.appendRecordReturnEither(
+        command.getKey(),
+        Records.processInstance(1),
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .intent(ELEMENT_ACTIVATING)
+            .rejectionType(RejectionType.NULL_VAL)
+            .rejectionReason(""));
+    resultBuilder.withResponse(
+        RecordType.EVENT,
+        command.getKey(),
+        ELEMENT_ACTIVATING,
+        Records.processInstance(1),
+        ValueType.PROCESS_INSTANCE,
+        RejectionType.NULL_VAL,
+        "",
+        1,
+        12);
+    return resultBuilder.build();
+  }
+}
@@ -19,6 +19,7 @@ package io.camunda.zeebe.transport;
 public enum RequestType {
   // Supported request types
   COMMAND("command"),
+  COMMAND_BATCH("command-batch"),
   QUERY("query"),
   ADMIN("admin"),
 
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.transport.stream.api;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.DirectBuffer;
 
@@ -24,4 +26,26 @@ public interface ClientStreamConsumer {
    * @param payload the data to be consumed by the client
    */
   CompletableFuture<Void> push(DirectBuffer payload);
+
+  /**
+   * Consumes multiple payloads at once, e.g. when the server pushed them as a single batch. By
+   * default, each payload is consumed separately via {@link #push(DirectBuffer)}; implementations
+   * may override this to consume the whole batch at once, but must still report the result of each
+   * payload separately.
+   *
+   * @param payloads the data to be consumed by the client, in order
+   * @return one future per payload, in the same order, completed once that payload was consumed
+   */
+  default List<CompletableFuture<Void>> pushAll(final List<DirectBuffer> payloads) {
+    final List<CompletableFuture<Void>> results = new ArrayList<>(payloads.size());
+    for (final var payload : payloads) {
+      try {
+        results.add(push(payload));
+      } catch (final Exception e) {
+        results.add(CompletableFuture.failedFuture(e));
+      }
+    }
+
+    return results;
+  }
 }
@@ -21,6 +21,15 @@ public interface RemoteStreamMetrics {
   /** Invoked if pushing a payload to a stream failed */
   default void pushFailed() {}
 
+  /** Invoked when a batch of payloads is sent out to a stream, with the number of payloads in it */
+  default void observeBatchSize(final int size) {}
+
+  /**
+   * Invoked when a batch of payloads was acknowledged or failed, with the time elapsed since its
+   * first payload was pushed, i.e. including the time it waited to be batched
+   */
+  default void observePushLatency(final long latencyNanos) {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -15,8 +15,10 @@ import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -178,6 +180,88 @@ final class AggregatedClientStream<M extends BufferWriter> {
             });
   }
 
+  /**
+   * Pushes a batch of payloads to one of the client streams, picked randomly. Payloads which that
+   * client fails to consume are retried with the next client, in a round-robin fashion, until every
+   * client was tried.
+   *
+   * @param payloads the payloads to push
+   * @param future completed with the indexes of the payloads which could not be pushed to any
+   *     client
+   * @param executor the executor on which the results of the clients are handled
+   * @throws NoSuchStreamException if there are no client streams to push to
+   */
+  void pushAll(
+      final List<DirectBuffer> payloads,
+      final ActorFuture<BitSet> future,
+      final ConcurrencyControl executor) {
+    final var streams = clientStreams.values();
+    if (streams.isEmpty()) {
+      throw new NoSuchStreamException(
+          "Cannot forward remote payloads as there is no known client streams for aggregated stream %s"
+              .formatted(logicalId));
+    }
+
+    final var targets = new ArrayList<>(streams);
+    final var index = ThreadLocalRandom.current().nextInt(streams.size());
+    final var pending = new BitSet(payloads.size());
+    pending.set(0, payloads.size());
+
+    tryPushAll(targets, index, 1, payloads, pending, future, executor);
+  }
+
+  private void tryPushAll(
+      final ArrayList<ClientStreamImpl<M>> targets,
+      final int index,
+      final int currentCount,
+      final List<DirectBuffer> payloads,
+      final BitSet pending,
+      final ActorFuture<BitSet> future,
+      final ConcurrencyControl executor) {
+    final var clientStream = targets.get(index);
+    final int[] indexes = pending.stream().toArray();
+    final List<DirectBuffer> batch = new ArrayList<>(indexes.length);
+    for (final int payloadIndex : indexes) {
+      batch.add(payloads.get(payloadIndex));
+    }
+
+    LOGGER.trace(
+        "Pushing {} payloads from stream [{}] to client [{}]",
+        batch.size(),
+        streamId,
+        clientStream.streamId());
+    clientStream
+        .pushAll(batch, executor)
+        .onComplete(
+            (failedInBatch, error) -> {
+              // map the failures back to the indexes of the whole batch
+              final var failed = new BitSet(payloads.size());
+              if (error != null) {
+                failed.or(pending);
+              } else {
+                failedInBatch.stream().forEach(i -> failed.set(indexes[i]));
+              }
+
+              if (failed.isEmpty() || currentCount >= targets.size()) {
+                future.complete(failed);
+              } else {
+                LOGGER.warn(
+                    "Failed to push {} payloads to client [{}], retrying with next client.",
+                    failed.cardinality(),
+                    clientStream.streamId(),
+                    error);
+                tryPushAll(
+                    targets,
+                    (index + 1) % targets.size(),
+                    currentCount + 1,
+                    payloads,
+                    failed,
+                    future,
+                    executor);
+              }
+            });
+  }
+
   void open(final ClientStreamRequestManager<M> requestManager, final Set<MemberId> servers) {
     if (isOpened) {
       return;
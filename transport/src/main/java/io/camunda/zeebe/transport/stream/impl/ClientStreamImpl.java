@@ -13,7 +13,10 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStream;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.DirectBuffer;
 
 /** Represents a registered client stream. * */
@@ -35,6 +38,39 @@ record ClientStreamImpl<M extends BufferWriter>(
     return result;
   }
 
+  /**
+   * Pushes all payloads to the consumer at once.
+   *
+   * @return a future completed with the indexes of the payloads which could not be pushed, once all
+   *     of them were consumed or failed
+   */
+  ActorFuture<BitSet> pushAll(
+      final List<DirectBuffer> payloads, final ConcurrencyControl executor) {
+    final ActorFuture<BitSet> result = executor.createFuture();
+    final List<CompletableFuture<Void>> pushed;
+    try {
+      pushed = clientStreamConsumer.pushAll(payloads);
+    } catch (final Exception e) {
+      final var failed = new BitSet(payloads.size());
+      failed.set(0, payloads.size());
+      result.complete(failed);
+      return result;
+    }
+
+    CompletableFuture.allOf(pushed.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (ok, error) -> {
+              final var failed = new BitSet(pushed.size());
+              for (int i = 0; i < pushed.size(); i++) {
+                if (pushed.get(i).isCompletedExceptionally()) {
+                  failed.set(i);
+                }
+              }
+              result.complete(failed);
+            });
+    return result;
+  }
+
   @Override
   public Set<MemberId> liveConnections() {
     return serverStream().liveConnections();
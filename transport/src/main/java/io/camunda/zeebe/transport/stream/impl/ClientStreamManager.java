@@ -14,8 +14,10 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import org.agrona.DirectBuffer;
@@ -122,4 +124,50 @@ final class ClientStreamManager<M extends BufferWriter> {
                       .formatted(streamId)));
         });
   }
+
+  /**
+   * Pushes a batch of payloads to the client stream it was sent to. The response future is
+   * completed with the indexes of the payloads which could not be pushed, or exceptionally if none
+   * could be pushed because the stream does not exist (anymore).
+   */
+  void onPayloadsReceived(
+      final PushStreamBatchRequest pushStreamBatchRequest,
+      final ActorFuture<BitSet> responseFuture,
+      final ConcurrencyControl executor) {
+    final var streamId = pushStreamBatchRequest.streamId();
+    final var payloads = pushStreamBatchRequest.payloads();
+
+    responseFuture.onComplete(
+        (failed, error) -> {
+          final int failedCount = error != null ? payloads.size() : failed.cardinality();
+          for (int i = 0; i < failedCount; i++) {
+            metrics.pushFailed();
+          }
+          for (int i = failedCount; i < payloads.size(); i++) {
+            metrics.pushSucceeded();
+          }
+        });
+
+    final var clientStream = registry.get(streamId);
+    clientStream.ifPresentOrElse(
+        stream -> {
+          try {
+            stream.pushAll(payloads, responseFuture, executor);
+          } catch (final Exception e) {
+            responseFuture.completeExceptionally(e);
+          }
+        },
+        () -> {
+          // see onPayloadReceived for why we send a remove request again
+          requestManager.removeUnreliable(streamId, servers);
+          LOG.warn(
+              "Expected to push {} payloads to stream {}, but no stream found.",
+              payloads.size(),
+              streamId);
+          responseFuture.completeExceptionally(
+              new NoSuchStreamException(
+                  "Cannot forward pushed payloads as chosen client stream %s was already closed"
+                      .formatted(streamId)));
+        });
+  }
 }
@@ -20,8 +20,11 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.ClientStreamService;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -81,6 +84,34 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
           return responseFuture;
         },
         ignore -> new byte[0]);
+
+    communicationService.replyTo(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        request -> {
+          final CompletableFuture<PushStreamBatchResponse> responseFuture =
+              new CompletableFuture<>();
+          actor.run(
+              () -> {
+                try {
+                  final ActorFuture<BitSet> payloadsPushed = new CompletableActorFuture<>();
+                  clientStreamManager.onPayloadsReceived(request, payloadsPushed, actor);
+                  payloadsPushed.onComplete(
+                      (failed, error) -> {
+                        if (error == null) {
+                          responseFuture.complete(
+                              new PushStreamBatchResponse().failedPayloads(failed));
+                        } else {
+                          responseFuture.completeExceptionally(error);
+                        }
+                      });
+                } catch (final Exception e) {
+                  responseFuture.completeExceptionally(e);
+                }
+              });
+          return responseFuture;
+        },
+        BufferUtil::bufferAsArray);
   }
 
   @Override
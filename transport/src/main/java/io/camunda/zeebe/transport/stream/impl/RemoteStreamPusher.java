@@ -10,9 +10,15 @@ package io.camunda.zeebe.transport.stream.impl;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
+import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
-import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -20,22 +26,56 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A naive implementation to push jobs out, which performs no retries of any kind, but reports
- * errors on failure.
+ * Pushes payloads out to their streams, performing no retries of any kind, but reporting errors on
+ * failure.
+ *
+ * <p>Payloads for the same stream are batched into a single request. A batch is sent out once the
+ * executor has processed all pushes which were already submitted when the batch was started, or
+ * earlier, as soon as it reaches its maximum size in payloads or bytes. This means batching adds no
+ * artificial delay: under low load, every payload is sent on its own, and under high load, the
+ * pushes which pile up in the executor's queue are sent together. For this to work, the executor
+ * must run tasks in the order they were submitted, even when submitted from one of its own tasks.
+ *
+ * <p>Errors are still reported per payload; if the receiver could only push some payloads of a
+ * batch, only the others are reported as failed.
  *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
+  static final int DEFAULT_MAX_BATCH_SIZE = 32;
+  static final int DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final int maxBatchSize;
+  private final int maxBatchBytes;
+  private final Map<StreamId, Batch<P>> pendingBatches = new HashMap<>();
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(transport, executor, metrics, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_BYTES);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final int maxBatchSize,
+      final int maxBatchBytes) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+
+    if (maxBatchSize < 1 || maxBatchSize > PushStreamBatchRequest.MAX_PAYLOAD_COUNT) {
+      throw new IllegalArgumentException(
+          "Expected max batch size to be between 1 and %d, but was %d"
+              .formatted(PushStreamBatchRequest.MAX_PAYLOAD_COUNT, maxBatchSize));
+    }
+
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchBytes = maxBatchBytes;
   }
 
   public void pushAsync(
@@ -44,7 +84,10 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
     executor.execute(
-        () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+        () ->
+            enqueue(
+                new PendingPush<>(payload, instrumentingErrorHandler(errorHandler, streamId)),
+                streamId));
   }
 
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
@@ -58,25 +101,59 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     };
   }
 
-  private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
-    final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
+  private void enqueue(final PendingPush<P> push, final StreamId streamId) {
+    final var existingBatch = pendingBatches.get(streamId);
+    final var batch = existingBatch != null ? existingBatch : new Batch<P>(System.nanoTime());
+    batch.add(push);
+
+    if (batch.size() >= maxBatchSize || batch.length >= maxBatchBytes) {
+      pendingBatches.remove(streamId);
+      push(batch, streamId);
+    } else if (existingBatch == null) {
+      pendingBatches.put(streamId, batch);
+      // submitted after all pushes queued so far, which can then still join this batch
+      executor.execute(() -> flush(streamId, batch));
+    }
+  }
+
+  private void flush(final StreamId streamId, final Batch<P> batch) {
+    // the batch may have been sent already because it was full
+    if (pendingBatches.remove(streamId, batch)) {
+      push(batch, streamId);
+    }
+  }
+
+  private void push(final Batch<P> batch, final StreamId streamId) {
+    metrics.observeBatchSize(batch.size());
+    final var request =
+        new PushStreamBatchRequest().streamId(streamId.streamId()).payloads(batch.payloads());
     try {
       transport
           .send(request, streamId.receiver())
-          .whenCompleteAsync((ok, error) -> onPush(payload, errorHandler, error), executor);
-      LOG.trace("Pushed {} to stream {}", payload, streamId);
+          .whenCompleteAsync((response, error) -> onPush(batch, response, error), executor);
+      LOG.trace("Pushed {} payloads to stream {}", batch.size(), streamId);
     } catch (final Exception e) {
-      errorHandler.handleError(e, payload);
+      metrics.observePushLatency(System.nanoTime() - batch.startedAtNanos);
+      batch.pushes.forEach(push -> push.errorHandler.handleError(e, push.payload));
     }
   }
 
   private void onPush(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final Throwable error) {
-    if (error != null) {
-      errorHandler.handleError(error, payload);
-    } else {
-      metrics.pushSucceeded();
+      final Batch<P> batch, final PushStreamBatchResponse response, final Throwable error) {
+    metrics.observePushLatency(System.nanoTime() - batch.startedAtNanos);
+
+    for (int i = 0; i < batch.size(); i++) {
+      final var push = batch.pushes.get(i);
+      if (error != null) {
+        push.errorHandler.handleError(error, push.payload);
+      } else if (response.failedPayloads().get(i)) {
+        push.errorHandler.handleError(
+            new StreamExhaustedException(
+                "Receiver failed to push payload to any of the clients of the stream"),
+            push.payload);
+      } else {
+        metrics.pushSucceeded();
+      }
     }
   }
 
@@ -93,11 +170,38 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      *
      * @param request the request to send
      * @param receiver the expected target
-     * @return a future which is completed when the request has been acknowledged by the receiver,
-     *     or an error occurred
+     * @return a future which is completed with the receiver's response once it has handled the
+     *     request, or an error occurred
      * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
      */
-    CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver)
-        throws Exception;
+    CompletableFuture<PushStreamBatchResponse> send(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception;
+  }
+
+  private record PendingPush<P>(P payload, RemoteStreamErrorHandler<P> errorHandler) {}
+
+  private static final class Batch<P extends BufferWriter> {
+    private final List<PendingPush<P>> pushes = new ArrayList<>();
+    private final long startedAtNanos;
+    private int length;
+
+    private Batch(final long startedAtNanos) {
+      this.startedAtNanos = startedAtNanos;
+    }
+
+    private void add(final PendingPush<P> push) {
+      pushes.add(push);
+      length += push.payload.getLength();
+    }
+
+    private int size() {
+      return pushes.size();
+    }
+
+    private List<P> payloads() {
+      final List<P> payloads = new ArrayList<>(pushes.size());
+      pushes.forEach(push -> payloads.add(push.payload));
+      return payloads;
+    }
   }
 }
@@ -9,11 +9,17 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.cluster.messaging.NoRemoteHandlerTracker;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
@@ -21,6 +27,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,6 +36,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@link RemoteStreamImpl} is an actor, and any payload pushed will be pushed asynchronously.
@@ -36,15 +45,25 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>NOTE: any payload pushed is sent via the stream from {@link #streamFor(DirectBuffer)} will be
  * asynchronous, so the payload should be immutable, and the errors reported to the given {@link
  * RemoteStreamErrorHandler} may be reported on different threads.
+ *
+ * <p>Payloads are pushed in batches. Receivers running an older version have no handler for
+ * batches; when a receiver rejects a batch for this reason, its payloads are pushed one by one
+ * instead, and so are any further payloads for this receiver, until {@link #BATCH_PROBE_INTERVAL}
+ * has passed and a batch is tried again, e.g. because the receiver was updated in the meantime.
  */
 public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWriter> extends Actor
     implements RemoteStreamer<M, P> {
+  static final Duration BATCH_PROBE_INTERVAL = Duration.ofMinutes(1);
   private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+  private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamerImpl.class);
 
   private final ClusterCommunicationService transport;
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  // receivers without a handler for batches
+  private final NoRemoteHandlerTracker singlePushReceivers =
+      new NoRemoteHandlerTracker(BATCH_PROBE_INTERVAL, ActorClock::currentTimeMillis);
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
@@ -55,7 +74,9 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    // submit, unlike run, queues tasks in order even from within the actor, which the pusher relies
+    // on to batch pushes
+    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::submit, metrics);
   }
 
   @Override
@@ -84,15 +105,75 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
     return Optional.empty();
   }
 
-  private CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver) {
+  private CompletableFuture<PushStreamBatchResponse> send(
+      final PushStreamBatchRequest request, final MemberId receiver) {
+    if (singlePushReceivers.hasNoHandler(receiver)) {
+      return sendOneByOne(request, receiver);
+    }
+
     return transport
         .send(
-            StreamTopics.PUSH.topic(),
+            StreamTopics.PUSH_BATCH.topic(),
             request,
             BufferUtil::bufferAsArray,
-            Function.identity(),
+            MessageUtil::parsePushBatchResponse,
             receiver,
             REQUEST_TIMEOUT)
-        .thenApply(ok -> null);
+        .whenComplete(
+            (response, error) -> {
+              if (singlePushReceivers.onResponse(receiver, error)) {
+                LOG.debug(
+                    "Receiver {} has no handler for batched pushes, pushing payloads one by one",
+                    receiver);
+              }
+            })
+        .exceptionallyCompose(
+            error -> {
+              if (!NoRemoteHandler.isNoRemoteHandler(error)) {
+                return CompletableFuture.failedFuture(error);
+              }
+
+              // nothing was pushed, so the payloads can safely be pushed again
+              return sendOneByOne(request, receiver);
+            });
+  }
+
+  /**
+   * Pushes each payload of the batch with its own request over the single payload topic, and
+   * reports the payloads which could not be pushed as the response of the whole batch.
+   */
+  private CompletableFuture<PushStreamBatchResponse> sendOneByOne(
+      final PushStreamBatchRequest request, final MemberId receiver) {
+    final var payloads = request.payloadWriters();
+    final var failedPayloads = new BitSet(payloads.size());
+    final var pushes = new CompletableFuture<?>[payloads.size()];
+
+    for (int i = 0; i < payloads.size(); i++) {
+      final int index = i;
+      final var pushRequest =
+          new PushStreamRequest().streamId(request.streamId()).payload(payloads.get(i));
+      pushes[i] =
+          transport
+              .send(
+                  StreamTopics.PUSH.topic(),
+                  pushRequest,
+                  BufferUtil::bufferAsArray,
+                  Function.identity(),
+                  receiver,
+                  REQUEST_TIMEOUT)
+              .whenComplete(
+                  (ok, error) -> {
+                    if (error != null) {
+                      LOG.trace("Failed to push payload to stream {}", request.streamId(), error);
+                      synchronized (failedPayloads) {
+                        failedPayloads.set(index);
+                      }
+                    }
+                  })
+              .exceptionally(error -> null);
+    }
+
+    return CompletableFuture.allOf(pushes)
+        .thenApply(ok -> new PushStreamBatchResponse().failedPayloads(failedPayloads));
   }
 }
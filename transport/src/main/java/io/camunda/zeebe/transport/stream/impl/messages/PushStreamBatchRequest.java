@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestDecoder.PayloadsDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestEncoder.PayloadsEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pushes multiple payloads over the same stream in a single request. The payloads are written
+ * directly from their {@link BufferWriter}, and when read, each payload is a view over the read
+ * buffer, such that neither side copies them.
+ */
+public final class PushStreamBatchRequest implements BufferReader, BufferWriter {
+  /** The maximum number of payloads which can be pushed in a single request */
+  public static final int MAX_PAYLOAD_COUNT = PayloadsEncoder.countMaxValue();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchRequestEncoder messageEncoder = new PushStreamBatchRequestEncoder();
+  private final PushStreamBatchRequestDecoder messageDecoder = new PushStreamBatchRequestDecoder();
+
+  private List<BufferWriter> payloadWriters = List.of();
+  private List<DirectBuffer> payloads = List.of();
+  private UUID streamId;
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    final PayloadsDecoder payloadsDecoder = messageDecoder.payloads();
+    final List<DirectBuffer> readPayloads = new ArrayList<>(payloadsDecoder.count());
+    for (final var payloadDecoder : payloadsDecoder) {
+      // each payload needs its own view, as they may be consumed concurrently
+      final var payload = new UnsafeBuffer();
+      payloadDecoder.wrapPayload(payload);
+      readPayloads.add(payload);
+    }
+
+    payloads = readPayloads;
+    payloadWriters = List.of();
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        headerEncoder.encodedLength()
+            + messageEncoder.sbeBlockLength()
+            + PayloadsEncoder.sbeHeaderSize();
+    for (final var payloadWriter : payloadWriters) {
+      length +=
+          PayloadsEncoder.sbeBlockLength()
+              + PayloadsEncoder.payloadHeaderLength()
+              + payloadWriter.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    if (streamId != null) {
+      messageEncoder
+          .id()
+          .high(streamId.getMostSignificantBits())
+          .low(streamId.getLeastSignificantBits());
+    }
+
+    final PayloadsEncoder payloadsEncoder = messageEncoder.payloadsCount(payloadWriters.size());
+    for (final var payloadWriter : payloadWriters) {
+      payloadsEncoder.next();
+      SbeUtil.writeNested(
+          payloadWriter,
+          PayloadsEncoder.payloadHeaderLength(),
+          messageEncoder,
+          PushStreamBatchRequestEncoder.BYTE_ORDER);
+    }
+  }
+
+  /** May return null if it was never read or set. */
+  public UUID streamId() {
+    return streamId;
+  }
+
+  public PushStreamBatchRequest streamId(final UUID streamId) {
+    this.streamId = streamId;
+    return this;
+  }
+
+  /**
+   * Returns the payloads after a call to {@link #wrap(DirectBuffer, int, int)}. Each payload is a
+   * view over the wrapped buffer, and is only valid as long as that buffer is.
+   */
+  public List<DirectBuffer> payloads() {
+    return payloads;
+  }
+
+  /** Returns the payloads to write, as previously set via {@link #payloads(List)}. */
+  public List<BufferWriter> payloadWriters() {
+    return payloadWriters;
+  }
+
+  public PushStreamBatchRequest payloads(final List<? extends BufferWriter> payloadWriters) {
+    if (payloadWriters.size() > MAX_PAYLOAD_COUNT) {
+      throw new IllegalArgumentException(
+          "Expected to push at most %d payloads at once, but got %d"
+              .formatted(MAX_PAYLOAD_COUNT, payloadWriters.size()));
+    }
+
+    this.payloadWriters = Collections.unmodifiableList(payloadWriters);
+    payloads = List.of();
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(streamId, payloads, payloadWriters);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchRequest that = (PushStreamBatchRequest) o;
+    return Objects.equals(streamId, that.streamId)
+        && Objects.equals(payloads, that.payloads)
+        && Objects.equals(payloadWriters, that.payloadWriters);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchRequest{"
+        + "streamId="
+        + streamId
+        + ", payloads="
+        + Math.max(payloads.size(), payloadWriters.size())
+        + '}';
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.FailedPayloadsEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.BitSet;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * The response to a {@link PushStreamBatchRequest}, listing the indexes of the payloads which could
+ * not be pushed to any client. An empty response means all payloads were pushed successfully.
+ */
+public final class PushStreamBatchResponse implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private BitSet failedPayloads = new BitSet();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    failedPayloads = new BitSet();
+    for (final var failedPayload : messageDecoder.failedPayloads()) {
+      failedPayloads.set(failedPayload.index());
+    }
+  }
+
+  @Override
+  public int getLength() {
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + FailedPayloadsEncoder.sbeHeaderSize()
+        + failedPayloads.cardinality() * FailedPayloadsEncoder.sbeBlockLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var failedPayloadsEncoder =
+        messageEncoder.failedPayloadsCount(failedPayloads.cardinality());
+    failedPayloads.stream().forEach(index -> failedPayloadsEncoder.next().index(index));
+  }
+
+  /** Returns the indexes of the payloads, in their request, which could not be pushed. */
+  public BitSet failedPayloads() {
+    return failedPayloads;
+  }
+
+  public PushStreamBatchResponse failedPayloads(final BitSet failedPayloads) {
+    this.failedPayloads = Objects.requireNonNull(failedPayloads, "must specify failed payloads");
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(failedPayloads);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchResponse that = (PushStreamBatchResponse) o;
+    return Objects.equals(failedPayloads, that.failedPayloads);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "failedPayloads=" + failedPayloads + '}';
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.transport.stream.impl.messages;
 public enum StreamTopics {
   ADD("stream-add"),
   PUSH("stream-push"),
+  PUSH_BATCH("stream-push-batch"),
   REMOVE("stream-remove"),
   REMOVE_ALL("stream-remove-all");
 
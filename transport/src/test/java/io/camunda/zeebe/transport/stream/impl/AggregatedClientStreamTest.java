@@ -16,11 +16,13 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +82,44 @@ class AggregatedClientStreamTest {
     assertThat(pushSucceeded.get()).isTrue();
   }
 
+  @Test
+  void shouldRetryOnlyFailedPayloadsOfBatchWithNextClient() {
+    // given
+    final List<List<DirectBuffer>> firstPushes = new ArrayList<>();
+    final List<List<DirectBuffer>> secondPushes = new ArrayList<>();
+    final var first = BufferUtil.wrapString("first");
+    final var second = BufferUtil.wrapString("second");
+    addBatchClient(firstPushes, second);
+    addBatchClient(secondPushes, second);
+
+    // when
+    final TestActorFuture<BitSet> future = new TestActorFuture<>();
+    stream.pushAll(List.of(first, second), future, executor);
+
+    // then - whichever client is tried first, the other only gets the payload which failed
+    assertThat(future).succeedsWithin(Duration.ofMillis(100)).isEqualTo(bitSetOf(1));
+    final var pushes = new ArrayList<List<DirectBuffer>>();
+    pushes.addAll(firstPushes);
+    pushes.addAll(secondPushes);
+    assertThat(pushes).containsExactlyInAnyOrder(List.of(first, second), List.of(second));
+  }
+
+  @Test
+  void shouldSucceedBatchWhenAllPayloadsArePushed() {
+    // given
+    final List<List<DirectBuffer>> pushes = new ArrayList<>();
+    addBatchClient(pushes, null);
+    final var payloads = List.<DirectBuffer>of(BufferUtil.wrapString("foo"));
+
+    // when
+    final TestActorFuture<BitSet> future = new TestActorFuture<>();
+    stream.pushAll(payloads, future, executor);
+
+    // then
+    assertThat(future).succeedsWithin(Duration.ofMillis(100)).isEqualTo(new BitSet());
+    assertThat(pushes).containsExactly(payloads);
+  }
+
   @Test
   void shouldReportStreamCountOnAdd() {
     // given
@@ -121,6 +161,34 @@ class AggregatedClientStreamTest {
     return streamId;
   }
 
+  private void addBatchClient(
+      final List<List<DirectBuffer>> pushes, final DirectBuffer failingPayload) {
+    addClient(
+        getNextStreamId(),
+        new ClientStreamConsumer() {
+          @Override
+          public CompletableFuture<Void> push(final DirectBuffer payload) {
+            return payload.equals(failingPayload)
+                ? CompletableFuture.failedFuture(new RuntimeException("Failed"))
+                : CompletableFuture.completedFuture(null);
+          }
+
+          @Override
+          public List<CompletableFuture<Void>> pushAll(final List<DirectBuffer> payloads) {
+            pushes.add(List.copyOf(payloads));
+            return ClientStreamConsumer.super.pushAll(payloads);
+          }
+        });
+  }
+
+  private static BitSet bitSetOf(final int... indexes) {
+    final var bitSet = new BitSet();
+    for (final int index : indexes) {
+      bitSet.set(index);
+    }
+    return bitSet;
+  }
+
   private void addClient(final ClientStreamIdImpl streamId, final ClientStreamConsumer consumer) {
     stream.addClient(new ClientStreamImpl<>(streamId, stream, streamType, metadata, consumer));
   }
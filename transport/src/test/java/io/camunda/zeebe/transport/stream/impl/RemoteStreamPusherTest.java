@@ -9,16 +9,21 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
-import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -42,14 +47,139 @@ final class RemoteStreamPusherTest {
     pusher.pushAsync(payload, errorHandler, streamId);
 
     // then
-    final var sentRequest = transport.message;
     assertThat(errorHandler.errors).isEmpty();
-    assertThat(sentRequest).isNotNull();
+    assertThat(transport.messages).hasSize(1);
+    final var sentRequest = transport.messages.get(0);
     assertThat(sentRequest.request.streamId()).isEqualTo(streamId.streamId());
-    assertThat(sentRequest.request.payloadWriter()).isEqualTo(payload);
+    assertThat(sentRequest.request.payloadWriters()).containsExactly(payload);
     assertThat(sentRequest.receiver).isEqualTo(streamId.receiver());
   }
 
+  @Test
+  void shouldBatchQueuedPushesForSameStream() {
+    // given
+    final var queuedExecutor = new QueuedExecutor();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, queuedExecutor, RemoteStreamMetrics.noop());
+    final var otherStreamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, otherStreamId);
+    batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(transport.messages)
+        .extracting(m -> m.request.streamId(), m -> m.request.payloadWriters())
+        .containsExactly(
+            tuple(streamId.streamId(), List.of(new Payload(1), new Payload(3))),
+            tuple(otherStreamId.streamId(), List.of(new Payload(2))));
+  }
+
+  @Test
+  void shouldSendBatchOnceFull() {
+    // given
+    final var queuedExecutor = new QueuedExecutor();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(
+            transport, queuedExecutor, RemoteStreamMetrics.noop(), 2, Integer.MAX_VALUE);
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(transport.messages)
+        .extracting(m -> m.request.payloadWriters())
+        .containsExactly(List.of(new Payload(1), new Payload(2)), List.of(new Payload(3)));
+  }
+
+  @Test
+  void shouldSendBatchOnceFullInBytes() {
+    // given
+    final var queuedExecutor = new QueuedExecutor();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(
+            transport, queuedExecutor, RemoteStreamMetrics.noop(), 10, 2 * Integer.BYTES);
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(transport.messages)
+        .extracting(m -> m.request.payloadWriters())
+        .containsExactly(List.of(new Payload(1), new Payload(2)), List.of(new Payload(3)));
+  }
+
+  @Test
+  void shouldOnlyReportFailedPayloadsOfBatch() {
+    // given
+    final var queuedExecutor = new QueuedExecutor();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, queuedExecutor, RemoteStreamMetrics.noop());
+    final var errorHandler = new TestErrorHandler();
+    final var failed = new BitSet();
+    failed.set(1);
+    transport.response =
+        CompletableFuture.completedFuture(new PushStreamBatchResponse().failedPayloads(failed));
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(3), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload)
+        .containsExactly(new Payload(2));
+  }
+
+  @Test
+  void shouldReportAllPayloadsOfBatchOnTransportError() {
+    // given
+    final var queuedExecutor = new QueuedExecutor();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, queuedExecutor, RemoteStreamMetrics.noop());
+    final var errorHandler = new TestErrorHandler();
+    final var failure = new RuntimeException("Async failure");
+    transport.response = CompletableFuture.failedFuture(failure);
+
+    // when
+    batchingPusher.pushAsync(new Payload(1), errorHandler, streamId);
+    batchingPusher.pushAsync(new Payload(2), errorHandler, streamId);
+    queuedExecutor.runAll();
+
+    // then
+    assertThat(transport.messages).hasSize(1);
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload, TestErrorHandler.Error::error)
+        .containsExactly(tuple(new Payload(1), failure), tuple(new Payload(2), failure));
+  }
+
+  @Test
+  void shouldRejectTooLargeMaxBatchSize() {
+    assertThatCode(
+            () ->
+                new RemoteStreamPusher<Payload>(
+                    transport,
+                    executor,
+                    RemoteStreamMetrics.noop(),
+                    PushStreamBatchRequest.MAX_PAYLOAD_COUNT + 1,
+                    Integer.MAX_VALUE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void shouldReportTransportError() {
     // given
@@ -136,21 +266,39 @@ final class RemoteStreamPusherTest {
   }
 
   private static final class TestTransport implements Transport {
-    private CompletableFuture<Void> response = CompletableFuture.completedFuture(null);
-    private Message message;
+    private final List<Message> messages = new ArrayList<>();
+    private CompletableFuture<PushStreamBatchResponse> response =
+        CompletableFuture.completedFuture(new PushStreamBatchResponse());
     private Exception synchronousException;
 
     @Override
-    public CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver)
-        throws Exception {
+    public CompletableFuture<PushStreamBatchResponse> send(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
       if (synchronousException != null) {
         throw synchronousException;
       }
 
-      message = new Message(request, receiver);
+      messages.add(new Message(request, receiver));
       return response;
     }
 
-    private record Message(PushStreamRequest request, MemberId receiver) {}
+    private record Message(PushStreamBatchRequest request, MemberId receiver) {}
+  }
+
+  /** Runs tasks in the order they were submitted, including those submitted by running tasks */
+  private static final class QueuedExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(final Runnable command) {
+      tasks.add(command);
+    }
+
+    private void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
   }
 }
@@ -11,15 +11,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -91,6 +96,40 @@ final class RemoteStreamerTest {
 
     // then
     Mockito.verify(communicationService, Mockito.timeout(5_000).times(1))
+        .send(
+            Mockito.eq(StreamTopics.PUSH_BATCH.topic()),
+            Mockito.eq(
+                new PushStreamBatchRequest()
+                    .streamId(streamId.streamId())
+                    .payloads(List.of(payload))),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.eq(streamId.receiver()),
+            Mockito.any());
+  }
+
+  @Test
+  void shouldPushOneByOneIfReceiverHasNoBatchHandler() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    final var payload = new TestPayload(1);
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata());
+    respondOn(
+        StreamTopics.PUSH_BATCH,
+        CompletableFuture.failedFuture(
+            new CompletionException(new NoRemoteHandler(StreamTopics.PUSH_BATCH.topic()))));
+    respondOn(StreamTopics.PUSH, CompletableFuture.completedFuture(new byte[0]));
+
+    // when
+    final var stream = streamer.streamFor(type).orElseThrow();
+    stream.push(payload);
+    scheduler.workUntilDone();
+    stream.push(payload);
+    scheduler.workUntilDone();
+
+    // then - the batch is not tried again for the second payload
+    Mockito.verify(communicationService, Mockito.timeout(5_000).times(2))
         .send(
             Mockito.eq(StreamTopics.PUSH.topic()),
             Mockito.eq(new PushStreamRequest().streamId(streamId.streamId()).payload(payload)),
@@ -98,6 +137,58 @@ final class RemoteStreamerTest {
             Mockito.any(),
             Mockito.eq(streamId.receiver()),
             Mockito.any());
+    Mockito.verify(communicationService, Mockito.times(1))
+        .send(
+            Mockito.eq(StreamTopics.PUSH_BATCH.topic()),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any());
+  }
+
+  @Test
+  void shouldPushBatchAgainAfterProbeInterval() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    final var payload = new TestPayload(1);
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata());
+    respondOn(
+        StreamTopics.PUSH_BATCH,
+        CompletableFuture.failedFuture(
+            new CompletionException(new NoRemoteHandler(StreamTopics.PUSH_BATCH.topic()))));
+    respondOn(StreamTopics.PUSH, CompletableFuture.completedFuture(new byte[0]));
+    final var stream = streamer.streamFor(type).orElseThrow();
+    stream.push(payload);
+    scheduler.workUntilDone();
+
+    // when
+    scheduler.updateClock(RemoteStreamerImpl.BATCH_PROBE_INTERVAL);
+    stream.push(payload);
+    scheduler.workUntilDone();
+
+    // then
+    Mockito.verify(communicationService, Mockito.timeout(5_000).times(2))
+        .send(
+            Mockito.eq(StreamTopics.PUSH_BATCH.topic()),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.eq(streamId.receiver()),
+            Mockito.any());
+  }
+
+  private void respondOn(final StreamTopics topic, final CompletableFuture<?> response) {
+    Mockito.doReturn(response)
+        .when(communicationService)
+        .send(
+            Mockito.eq(topic.topic()),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any());
   }
 
   private record TestPayload(long key) implements BufferWriter {
@@ -11,6 +11,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.BitSet;
+import java.util.List;
 import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
@@ -94,4 +96,44 @@ final class SerializationTest {
     assertThat(deserialized.streamId()).isEqualTo(streamId);
     assertThat(deserialized.payload()).isEqualTo(BufferUtil.wrapString("foo"));
   }
+
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .payloads(
+                List.of(
+                    new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")),
+                    new DirectBufferWriter().wrap(BufferUtil.wrapString("barbaz"))));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("barbaz"));
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var failedPayloads = new BitSet();
+    failedPayloads.set(1);
+    failedPayloads.set(3);
+    final var response = new PushStreamBatchResponse().failedPayloads(failedPayloads);
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.failedPayloads()).isEqualTo(failedPayloads);
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.buffer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A reusable buffer of newline delimited JSON (NDJSON), e.g. the body of an Elasticsearch bulk
+ * request. Values are streamed through a single long-lived {@link JsonGenerator} straight into the
+ * buffer, so appending a value does not allocate an intermediate byte array for it. The backing
+ * array only ever grows, and is kept when the buffer is cleared, such that once warmed up, filling
+ * the buffer again does not allocate any buffer memory.
+ *
+ * <p>If serializing a value fails, the buffer is truncated to where it was before, so a failed
+ * value never leaves a partial line behind.
+ *
+ * <p>The buffer is not thread safe.
+ */
+public final class NdJsonBuffer {
+
+  private static final byte LINE_SEPARATOR = '\n';
+
+  private final ObjectMapper mapper;
+  private final ExpandableArrayBuffer buffer;
+  private final BufferOutputStream output = new BufferOutputStream();
+  private JsonGenerator generator;
+
+  public NdJsonBuffer(final ObjectMapper mapper) {
+    this(mapper, 64 * 1024);
+  }
+
+  public NdJsonBuffer(final ObjectMapper mapper, final int initialCapacity) {
+    this.mapper = mapper;
+    buffer = new ExpandableArrayBuffer(initialCapacity);
+  }
+
+  /**
+   * Serializes the given value as a single line, followed by a line separator.
+   *
+   * @param writer the writer used to serialize the value; must not indent its output
+   * @param value the value to serialize
+   * @return the length of the serialized value, excluding the line separator
+   * @throws IOException if the value cannot be serialized; the buffer is left unchanged
+   */
+  public int append(final ObjectWriter writer, final Object value) throws IOException {
+    final int start = output.position;
+    try {
+      writer.writeValue(generator(), value);
+      generator.flush();
+    } catch (final IOException | RuntimeException e) {
+      // the generator may be left in the middle of a value, so start over with a fresh one
+      generator = null;
+      truncate(start);
+      throw e;
+    }
+
+    final int length = output.position - start;
+    output.write(LINE_SEPARATOR);
+    return length;
+  }
+
+  /** Returns the number of bytes written so far, including line separators. */
+  public int length() {
+    return output.position;
+  }
+
+  /** Returns true if nothing was written since the buffer was created or last cleared. */
+  public boolean isEmpty() {
+    return output.position == 0;
+  }
+
+  /**
+   * Discards everything written after the given length, e.g. to roll back multiple lines which only
+   * make sense together.
+   *
+   * @param length the length to truncate to, as previously returned by {@link #length()}
+   */
+  public void truncate(final int length) {
+    if (length < 0 || length > output.position) {
+      throw new IllegalArgumentException(
+          "Expected to truncate to a length between 0 and %d, but was %d"
+              .formatted(output.position, length));
+    }
+
+    output.position = length;
+  }
+
+  /** Discards everything written so far, but keeps the memory allocated for reuse. */
+  public void clear() {
+    output.position = 0;
+  }
+
+  /** Writes the buffered NDJSON to the given stream, without copying it first. */
+  public void writeTo(final OutputStream outputStream) throws IOException {
+    outputStream.write(buffer.byteArray(), 0, output.position);
+  }
+
+  /** Returns a copy of the buffered NDJSON, e.g. to hand it off to another thread. */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer.byteArray(), output.position);
+  }
+
+  private JsonGenerator generator() throws IOException {
+    if (generator == null) {
+      generator = mapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+      // values are separated by the line separator, which we write ourselves
+      generator.setRootValueSeparator(null);
+    }
+
+    return generator;
+  }
+
+  private final class BufferOutputStream extends OutputStream {
+    private int position;
+
+    @Override
+    public void write(final int b) {
+      buffer.putByte(position, (byte) b);
+      position++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      buffer.putBytes(position, b, off, len);
+      position += len;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class NdJsonBufferTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ObjectWriter WRITER = MAPPER.writer();
+
+  private final NdJsonBuffer buffer = new NdJsonBuffer(MAPPER, 16);
+
+  @Test
+  void shouldWriteValuesAsLines() throws IOException {
+    // when
+    final int firstLength = buffer.append(WRITER, Map.of("a", 1));
+    final int secondLength = buffer.append(WRITER, Map.of("b", "foo"));
+
+    // then
+    assertThat(asString(buffer)).isEqualTo("{\"a\":1}\n{\"b\":\"foo\"}\n");
+    assertThat(firstLength).isEqualTo(7);
+    assertThat(secondLength).isEqualTo(11);
+    assertThat(buffer.length()).isEqualTo(firstLength + secondLength + 2);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() throws IOException {
+    // given
+    final var value = Map.of("value", "x".repeat(1024));
+
+    // when
+    buffer.append(WRITER, value);
+    buffer.append(WRITER, value);
+
+    // then
+    final var line = MAPPER.writeValueAsString(value) + "\n";
+    assertThat(asString(buffer)).isEqualTo(line + line);
+  }
+
+  @Test
+  void shouldReuseBufferAfterClear() throws IOException {
+    // given
+    buffer.append(WRITER, Map.of("a", 1));
+
+    // when
+    buffer.clear();
+    buffer.append(WRITER, Map.of("b", 2));
+
+    // then
+    assertThat(asString(buffer)).isEqualTo("{\"b\":2}\n");
+  }
+
+  @Test
+  void shouldTruncate() throws IOException {
+    // given
+    buffer.append(WRITER, Map.of("a", 1));
+    final int length = buffer.length();
+    buffer.append(WRITER, Map.of("b", 2));
+
+    // when
+    buffer.truncate(length);
+
+    // then
+    assertThat(asString(buffer)).isEqualTo("{\"a\":1}\n");
+  }
+
+  @Test
+  void shouldRejectTruncatingBeyondLength() throws IOException {
+    // given
+    buffer.append(WRITER, Map.of("a", 1));
+
+    // when - then
+    assertThatThrownBy(() -> buffer.truncate(buffer.length() + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldLeaveBufferUnchangedIfValueCannotBeSerialized() throws IOException {
+    // given
+    buffer.append(WRITER, Map.of("a", 1));
+
+    // when
+    assertThatThrownBy(() -> buffer.append(WRITER, Map.of("b", new Unserializable())))
+        .isInstanceOf(JsonProcessingException.class);
+    buffer.append(WRITER, Map.of("c", 3));
+
+    // then
+    assertThat(asString(buffer)).isEqualTo("{\"a\":1}\n{\"c\":3}\n");
+  }
+
+  @Test
+  void shouldCopyToByteArray() throws IOException {
+    // given
+    buffer.append(WRITER, Map.of("a", 1));
+
+    // when
+    final byte[] bytes = buffer.toByteArray();
+    buffer.clear();
+    buffer.append(WRITER, Map.of("b", 2));
+
+    // then
+    assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}\n");
+  }
+
+  private static String asString(final NdJsonBuffer buffer) throws IOException {
+    final var output = new ByteArrayOutputStream();
+    buffer.writeTo(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static final class Unserializable {
+    public String getValue() {
+      throw new IllegalStateException("expected");
+    }
+  }
+}
@@ -34,4 +34,12 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified whenever a transaction of this context is committed or
+   * rolled back. The listener is called on the thread which ends the transaction.
+   *
+   * @param listener the listener to notify
+   */
+  void addTransactionListener(TransactionListener listener);
 }
@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when the changes of a transaction are committed or discarded. This allows to cache
+ * data which was read or written in a transaction, as long as the cache is dropped when the
+ * transaction ends.
+ */
+public interface TransactionListener {
+
+  /** Called after the transaction was committed. */
+  void onCommit();
+
+  /**
+   * Called after the transaction was rolled back, either completely or to a save point. Some of the
+   * changes made in the transaction may have been discarded.
+   */
+  void onRollback();
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -51,6 +52,18 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>> extend
 
   Optional<String> getProperty(String propertyName);
 
+  /**
+   * Returns the value of the given numeric property per tuning profile, aggregated over all column
+   * families using the same profile. Implementations which do not support tuning profiles return an
+   * empty map.
+   *
+   * @param propertyName the name of the property
+   * @return the value of the property per profile name
+   */
+  default Map<String, Long> getPropertyByProfile(final String propertyName) {
+    return Map.of();
+  }
+
   TransactionContext createContext();
 
   /**
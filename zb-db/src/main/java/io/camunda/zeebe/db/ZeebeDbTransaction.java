@@ -38,4 +38,24 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Records the current state of the transaction, such that changes made afterwards can be
+   * discarded via {@link #rollbackToSavePoint()} without discarding the earlier ones. Save points
+   * are cleared on commit and rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point, discards all changes made after it was
+   * set. The save point itself is removed.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, or if no
+   *     save point was set
+   */
+  void rollbackToSavePoint() throws Exception;
 }
@@ -33,9 +33,8 @@ public final class DbString implements DbKey, DbValue {
     final int stringLen = directBuffer.getInt(offset, ZB_DB_BYTE_ORDER);
     offset += Integer.BYTES;
 
-    final byte[] b = new byte[stringLen];
-    directBuffer.getBytes(offset, b);
-    bytes.wrap(b);
+    // no need to copy: every read from a column family returns a new array, which is never modified
+    bytes.wrap(directBuffer, offset, stringLen);
   }
 
   @Override
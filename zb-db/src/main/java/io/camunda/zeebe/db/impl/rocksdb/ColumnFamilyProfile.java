@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.util.List;
+import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+
+/**
+ * Named sets of tuning options which can be assigned to native column families, see {@link
+ * RocksDbConfiguration#getColumnFamilyProfiles()}. Each profile is tailored to a specific access
+ * pattern; column families without an explicit profile use {@link #DEFAULT}.
+ *
+ * <p>Apart from {@link #DEFAULT}, which keeps RocksDB's defaults, none of the profiles rely on a
+ * TTL or periodic compactions to get rid of deleted entries, as state in Zeebe never expires by
+ * time. Instead, the compaction priority decides how quickly tombstones are compacted away.
+ */
+public enum ColumnFamilyProfile {
+  /** The general purpose options, which were historically used for all column families. */
+  DEFAULT(
+      CompactionStyle.LEVEL,
+      CompactionPriority.OldestSmallestSeqFirst,
+      List.of(
+          CompressionType.NO_COMPRESSION,
+          CompressionType.NO_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION),
+      10,
+      32 * 1024L,
+      1.0,
+      false),
+
+  /**
+   * For queue-like column families where entries are appended and deleted again shortly after, e.g.
+   * activatable jobs or due timers. Level compaction picks files by their size compensated for
+   * deletions first, such that tombstones are compacted away quickly, and since entries are
+   * short-lived, compressing them is not worth the CPU.
+   */
+  WRITE_HEAVY_QUEUE(
+      CompactionStyle.LEVEL,
+      CompactionPriority.ByCompensatedSize,
+      List.of(
+          CompressionType.NO_COMPRESSION,
+          CompressionType.NO_COMPRESSION,
+          CompressionType.NO_COMPRESSION,
+          CompressionType.NO_COMPRESSION),
+      10,
+      16 * 1024L,
+      0.5,
+      false),
+
+  /**
+   * For column families which are mostly accessed by their full key. Smaller blocks and more bloom
+   * bits reduce the amount of data read per lookup.
+   */
+  POINT_LOOKUP(
+      CompactionStyle.LEVEL,
+      CompactionPriority.MinOverlappingRatio,
+      List.of(
+          CompressionType.NO_COMPRESSION,
+          CompressionType.NO_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION),
+      14,
+      8 * 1024L,
+      1.0,
+      false),
+
+  /**
+   * For column families with large values, e.g. variables. Values are separated from the keys into
+   * blob files, such that compactions don't have to rewrite them over and over again.
+   */
+  LARGE_VALUE(
+      CompactionStyle.LEVEL,
+      CompactionPriority.MinOverlappingRatio,
+      List.of(
+          CompressionType.NO_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION),
+      10,
+      64 * 1024L,
+      0.5,
+      true),
+
+  /**
+   * For column families which are written rarely but read often, e.g. the process cache. Gets a
+   * larger share of the block cache and more bloom bits, and is compressed early as it is rarely
+   * rewritten.
+   */
+  READ_MOSTLY(
+      CompactionStyle.LEVEL,
+      CompactionPriority.MinOverlappingRatio,
+      List.of(
+          CompressionType.NO_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION,
+          CompressionType.LZ4_COMPRESSION),
+      16,
+      16 * 1024L,
+      2.0,
+      false);
+
+  /** Values at least this large are stored in blob files, if enabled by the profile */
+  static final long MIN_BLOB_SIZE = 4 * 1024L;
+
+  private final CompactionStyle compactionStyle;
+  private final CompactionPriority compactionPriority;
+  private final List<CompressionType> compressionPerLevel;
+  private final int bloomFilterBitsPerKey;
+  private final long blockSize;
+  private final double blockCacheShare;
+  private final boolean blobFilesEnabled;
+
+  ColumnFamilyProfile(
+      final CompactionStyle compactionStyle,
+      final CompactionPriority compactionPriority,
+      final List<CompressionType> compressionPerLevel,
+      final int bloomFilterBitsPerKey,
+      final long blockSize,
+      final double blockCacheShare,
+      final boolean blobFilesEnabled) {
+    this.compactionStyle = compactionStyle;
+    this.compactionPriority = compactionPriority;
+    this.compressionPerLevel = compressionPerLevel;
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    this.blockSize = blockSize;
+    this.blockCacheShare = blockCacheShare;
+    this.blobFilesEnabled = blobFilesEnabled;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public CompactionPriority getCompactionPriority() {
+    return compactionPriority;
+  }
+
+  public List<CompressionType> getCompressionPerLevel() {
+    return compressionPerLevel;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  /**
+   * @return the weight of this profile when splitting the block cache between all profiles in use
+   */
+  public double getBlockCacheShare() {
+    return blockCacheShare;
+  }
+
+  public boolean isBlobFilesEnabled() {
+    return blobFilesEnabled;
+  }
+}
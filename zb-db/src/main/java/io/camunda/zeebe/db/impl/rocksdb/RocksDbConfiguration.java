@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,28 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * When enabled, each logical column family is stored in its own native RocksDB column family,
+   * instead of multiplexing all of them into the default column family via their key prefix. This
+   * gives each of them its own memtables, SST files, compactions and filters.
+   *
+   * <p>Existing state is migrated lazily when a logical column family is first accessed, in both
+   * directions, so the flag can be toggled on existing data.
+   */
+  public static final boolean DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED = false;
+
+  /**
+   * When enabled, transactions are buffered in a write batch with index on top of a plain RocksDB
+   * instance, instead of using an optimistic transaction database. Reads still see the writes of
+   * the current transaction, and rollbacks and save points behave the same, but no conflict
+   * tracking is done on writes and no conflict validation on commit.
+   *
+   * <p>This is only safe if concurrent transactions never write the same keys. For the partition
+   * state this holds, since the stream processor and the exporter director write disjoint keys, the
+   * latter only those of the exporter column family.
+   */
+  public static final boolean DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +96,26 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  private boolean nativeColumnFamiliesEnabled = DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private boolean writeBatchTransactionsEnabled = DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED;
+
+  /**
+   * Optionally groups logical column families into shared native column families, e.g. to keep many
+   * tiny column families together. Maps the name of the logical column family to the name of the
+   * native column family it should be stored in. Logical column families which are not present in
+   * this map are stored in a native column family of the same name. Only used when {@link
+   * #nativeColumnFamiliesEnabled} is true.
+   */
+  private Map<String, String> columnFamilyGroups = new HashMap<>();
+
+  /**
+   * Assigns a tuning profile to native column families, by their name (i.e. the name of the logical
+   * column family, or the group name if it is part of a group). Native column families without an
+   * explicit profile use {@link ColumnFamilyProfile#DEFAULT}. Only used when {@link
+   * #nativeColumnFamiliesEnabled} is true, and when no {@link #columnFamilyOptions} are provided.
+   */
+  private Map<String, ColumnFamilyProfile> columnFamilyProfiles = new HashMap<>();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +199,54 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isNativeColumnFamiliesEnabled() {
+    return nativeColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamiliesEnabled(
+      final boolean nativeColumnFamiliesEnabled) {
+    this.nativeColumnFamiliesEnabled = nativeColumnFamiliesEnabled;
+    return this;
+  }
+
+  public boolean isWriteBatchTransactionsEnabled() {
+    return writeBatchTransactionsEnabled;
+  }
+
+  public RocksDbConfiguration setWriteBatchTransactionsEnabled(
+      final boolean writeBatchTransactionsEnabled) {
+    this.writeBatchTransactionsEnabled = writeBatchTransactionsEnabled;
+    return this;
+  }
+
+  public Map<String, String> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setColumnFamilyGroups(final Map<String, String> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+    return this;
+  }
+
+  public Map<String, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public RocksDbConfiguration setColumnFamilyProfiles(
+      final Map<String, ColumnFamilyProfile> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+    return this;
+  }
+
+  /**
+   * @return the profile of the native column family with the given name
+   */
+  public ColumnFamilyProfile getColumnFamilyProfile(final String nativeColumnFamilyName) {
+    if (!nativeColumnFamiliesEnabled) {
+      return ColumnFamilyProfile.DEFAULT;
+    }
+
+    return columnFamilyProfiles.getOrDefault(nativeColumnFamilyName, ColumnFamilyProfile.DEFAULT);
+  }
 }
@@ -21,6 +21,7 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
       LoggerFactory.getLogger(ZeebeRocksDBMetricExporter.class.getName());
 
   private static final String PARTITION = "partition";
+  private static final String PROFILE = "profile";
   private static final String ZEEBE_NAMESPACE = "zeebe";
 
   private static final String MEMORY_METRICS_HELP =
@@ -70,6 +71,35 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final String PROFILE_METRICS_HELP =
+      "Properties of RocksDB aggregated per column family tuning profile and partition";
+  private static final String PROFILE_METRICS_PREFIX = "rocksdb_profile";
+
+  private static final RocksDBMetric[] PROFILE_METRICS = {
+    new RocksDBMetric(
+        "rocksdb.cur-size-all-mem-tables", PROFILE_METRICS_PREFIX, PROFILE_METRICS_HELP, PROFILE),
+    new RocksDBMetric(
+        "rocksdb.block-cache-usage", PROFILE_METRICS_PREFIX, PROFILE_METRICS_HELP, PROFILE),
+    new RocksDBMetric(
+        "rocksdb.block-cache-capacity", PROFILE_METRICS_PREFIX, PROFILE_METRICS_HELP, PROFILE),
+    new RocksDBMetric(
+        "rocksdb.estimate-table-readers-mem",
+        PROFILE_METRICS_PREFIX,
+        PROFILE_METRICS_HELP,
+        PROFILE),
+    new RocksDBMetric(
+        "rocksdb.live-sst-files-size", PROFILE_METRICS_PREFIX, PROFILE_METRICS_HELP, PROFILE),
+    new RocksDBMetric(
+        "rocksdb.estimate-num-keys", PROFILE_METRICS_PREFIX, PROFILE_METRICS_HELP, PROFILE),
+    new RocksDBMetric(
+        "rocksdb.estimate-live-data-size", PROFILE_METRICS_PREFIX, PROFILE_METRICS_HELP, PROFILE),
+    new RocksDBMetric(
+        "rocksdb.estimate-pending-compaction-bytes",
+        PROFILE_METRICS_PREFIX,
+        PROFILE_METRICS_HELP,
+        PROFILE),
+  };
+
   private final String partition;
   private final Supplier<ZeebeDb<ColumnFamilyType>> databaseSupplier;
 
@@ -85,6 +115,7 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     exportMetrics(LIVE_METRICS);
     exportMetrics(SST_METRICS);
     exportMetrics(WRITE_METRICS);
+    exportProfileMetrics();
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
     LOG.trace("Exporting RocksDBMetrics took + {} ms", elapsedTime);
@@ -107,20 +138,44 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     }
   }
 
+  private void exportProfileMetrics() {
+    final var database = databaseSupplier.get();
+    if (database == null) {
+      return;
+    }
+    for (final RocksDBMetric metric : PROFILE_METRICS) {
+      try {
+        database
+            .getPropertyByProfile(metric.getPropertyName())
+            .forEach((profile, value) -> metric.exportValue(partition, profile, value));
+      } catch (final Exception exception) {
+        LOG.debug("Error occurred on exporting metric {}", metric.getPropertyName(), exception);
+      }
+    }
+  }
+
   private static final class RocksDBMetric {
 
     private final String propertyName;
     private final Gauge gauge;
 
-    private RocksDBMetric(final String propertyName, final String namePrefix, final String help) {
+    private RocksDBMetric(
+        final String propertyName,
+        final String namePrefix,
+        final String help,
+        final String... additionalLabelNames) {
       this.propertyName = Objects.requireNonNull(propertyName);
 
+      final var labelNames = new String[additionalLabelNames.length + 1];
+      labelNames[0] = PARTITION;
+      System.arraycopy(additionalLabelNames, 0, labelNames, 1, additionalLabelNames.length);
+
       gauge =
           Gauge.build()
               .namespace(ZEEBE_NAMESPACE)
               .name(namePrefix + gaugeSuffix())
               .help(help)
-              .labelNames(PARTITION)
+              .labelNames(labelNames)
               .register();
     }
 
@@ -134,6 +189,10 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
       gauge.labels(partitionID).set(value);
     }
 
+    public void exportValue(final String partitionID, final String profile, final long value) {
+      gauge.labels(partitionID, profile).set(value);
+    }
+
     public String getPropertyName() {
       return propertyName;
     }
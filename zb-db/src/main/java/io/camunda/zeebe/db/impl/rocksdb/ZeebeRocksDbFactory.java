@@ -14,21 +14,22 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
-import org.rocksdb.CompactionPriority;
-import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -36,10 +37,14 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
+import org.slf4j.Logger;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final Logger LOG = Loggers.DB_LOGGER;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -58,23 +63,29 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final ZeebeTransactionDb<ColumnFamilyType> db;
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
+    warnOnIneffectiveProfiles();
     try {
-      // column family options have to be closed as last
-      final var columnFamilyOptions = createColumnFamilyOptions(closeables);
-      closeables.add(columnFamilyOptions);
-      final var dbOptions = createDefaultDbOptions(closeables);
+      // column family options have to be closed as last; since native column families may be
+      // created lazily after the database was opened, we register their options here already
+      final List<AutoCloseable> columnFamilyCloseables =
+          Collections.synchronizedList(new ArrayList<>());
+      closeables.add(() -> CloseHelper.closeAll(columnFamilyCloseables));
+      final var sharedResources = createSharedResources(columnFamilyCloseables);
+      final var dbOptions = createDefaultDbOptions(closeables, sharedResources);
       closeables.add(dbOptions);
 
-      final var options = new Options(dbOptions, columnFamilyOptions);
-      closeables.add(options);
-
       db =
           ZeebeTransactionDb.openTransactionalDb(
-              options,
+              dbOptions,
               pathName.getAbsolutePath(),
               closeables,
               rocksDbConfiguration,
-              consistencyChecksSettings);
+              consistencyChecksSettings,
+              nativeName ->
+                  createColumnFamilyOptions(
+                      columnFamilyCloseables,
+                      sharedResources,
+                      rocksDbConfiguration.getColumnFamilyProfile(nativeName)));
 
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
@@ -83,7 +94,72 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return db;
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private void warnOnIneffectiveProfiles() {
+    if (rocksDbConfiguration.getColumnFamilyProfiles().isEmpty()) {
+      return;
+    }
+
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      LOG.warn(
+          "Column family profiles {} are configured, but will be ignored as native column families"
+              + " are disabled",
+          rocksDbConfiguration.getColumnFamilyProfiles());
+    } else if (!rocksDbConfiguration.getColumnFamilyOptions().isEmpty()) {
+      LOG.warn(
+          "Column family profiles {} are configured, but will be ignored in favor of the user"
+              + " provided column family options",
+          rocksDbConfiguration.getColumnFamilyProfiles());
+    }
+  }
+
+  /**
+   * Creates the resources which are shared by all column families, regardless of whether they are
+   * stored in a single native column family or not, such that the configured memory limit applies
+   * to the whole database. The block cache is split between all profiles in use, according to their
+   * share, so that one profile cannot evict the blocks of another.
+   *
+   * <p>With native column families, the memtables of all column families are bounded together by a
+   * write buffer manager, which charges their memory to the cache of the default profile. To avoid
+   * memtables evicting data, index and filter blocks exactly when the write budget is in use, the
+   * cache of the default profile is sized to hold the whole memtable budget on top of its share of
+   * the block cache.
+   */
+  private SharedResources createSharedResources(final List<AutoCloseable> closeables) {
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    final var blockCacheMemory = totalMemoryBudget / 3;
+
+    final var profiles = EnumSet.of(ColumnFamilyProfile.DEFAULT);
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      profiles.addAll(rocksDbConfiguration.getColumnFamilyProfiles().values());
+    }
+    final var totalShare =
+        profiles.stream().mapToDouble(ColumnFamilyProfile::getBlockCacheShare).sum();
+
+    final var memtableMemory =
+        rocksDbConfiguration.isNativeColumnFamiliesEnabled()
+            ? totalMemoryBudget - blockCacheMemory
+            : 0;
+
+    final var caches = new EnumMap<ColumnFamilyProfile, Cache>(ColumnFamilyProfile.class);
+    for (final var profile : profiles) {
+      var cacheMemory = Math.round(blockCacheMemory * (profile.getBlockCacheShare() / totalShare));
+      if (profile == ColumnFamilyProfile.DEFAULT) {
+        cacheMemory += memtableMemory;
+      }
+      // you can use the perf context to check if we're often blocked on the block cache mutex, in
+      // which case we want to increase the number of shards (shard count == 2^shardBits)
+      final var cache = new LRUCache(cacheMemory, 8, false, 0.15);
+      closeables.add(cache);
+      caches.put(profile, cache);
+    }
+
+    return new SharedResources(totalMemoryBudget, blockCacheMemory, memtableMemory, caches);
+  }
+
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final SharedResources sharedResources) {
     final var dbOptions =
         new DBOptions()
             .setErrorIfExists(false)
@@ -92,7 +168,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // native column families are created explicitly when first used
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -112,6 +188,22 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      // with the WAL disabled, the only way to keep multiple column families consistent with each
+      // other (e.g. when taking a checkpoint) is to always flush them together
+      dbOptions.setAtomicFlush(true);
+
+      // bound the memory used by the memtables of all column families together, as otherwise it
+      // would grow with the number of column families; the memtables are charged to the cache of
+      // the default profile, which is sized to include the memtable budget (see
+      // createSharedResources)
+      final var writeBufferManager =
+          new WriteBufferManager(
+              sharedResources.memtableMemory(), sharedResources.cache(ColumnFamilyProfile.DEFAULT));
+      closeables.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -131,14 +223,38 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, ColumnFamilyProfile.DEFAULT);
+  }
+
+  /**
+   * @return Options which are used on column families with the given profile
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final ColumnFamilyProfile profile) {
+    return createColumnFamilyOptions(closeables, createSharedResources(closeables), profile);
+  }
+
+  /**
+   * Creates a new set of options for a native column family. Every native column family gets its
+   * own options instance (and thus its own filter policy and table configuration), tuned according
+   * to its profile, but all column families with the same profile share a block cache.
+   */
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final SharedResources sharedResources,
+      final ColumnFamilyProfile profile) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
+    final ColumnFamilyOptions columnFamilyOptions;
     if (hasUserOptions) {
-      return createFromUserOptions(userProvidedColumnFamilyOptions);
+      columnFamilyOptions = createFromUserOptions(userProvidedColumnFamilyOptions);
+    } else {
+      columnFamilyOptions = createDefaultColumnFamilyOptions(closeables, sharedResources, profile);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    closeables.add(columnFamilyOptions);
+    return columnFamilyOptions;
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -158,13 +274,13 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables,
+      final SharedResources sharedResources,
+      final ColumnFamilyProfile profile) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
-    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var totalMemoryBudget = sharedResources.totalMemoryBudget();
+    final var blockCacheMemory = sharedResources.blockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -182,13 +298,28 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(closeables, sharedResources.cache(profile), profile);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
+    if (profile.isBlobFilesEnabled()) {
+      columnFamilyOptions
+          .setEnableBlobFiles(true)
+          .setMinBlobSize(ColumnFamilyProfile.MIN_BLOB_SIZE)
+          .setBlobCompressionType(CompressionType.LZ4_COMPRESSION)
+          .setEnableBlobGarbageCollection(true);
+    }
+
+    if (profile != ColumnFamilyProfile.DEFAULT) {
+      // state never expires by time, so there is no point in compacting files just because they
+      // are old; deleted entries are taken care of by the compaction priority of the profile
+      columnFamilyOptions.setTtl(0).setPeriodicCompactionSeconds(0);
+    }
+
     return columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
@@ -203,26 +334,21 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setWriteBufferSize(memtableMemory)
         // compaction
         .setLevelCompactionDynamicLevelBytes(true)
-        .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
+        .setCompactionPriority(profile.getCompactionPriority())
+        .setCompactionStyle(profile.getCompactionStyle())
         // L-0 means immediately flushed memtables
         .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
         .setLevel0SlowdownWritesTrigger(
             maxConcurrentMemtableCount + (maxConcurrentMemtableCount / 2))
         .setLevel0StopWritesTrigger(maxConcurrentMemtableCount * 2)
         // configure 4 levels: L1 = 32mb, L2 = 320mb, L3 = 3.2Gb, L4 >= 3.2Gb
-        // level 1 and 2 are uncompressed, level 3 and above are compressed using a CPU-cheap
-        // compression algo. compressed blocks are stored in the OS page cache, and uncompressed in
-        // the LRUCache created above. note L0 is always uncompressed
+        // by default, level 1 and 2 are uncompressed, level 3 and above are compressed using a
+        // CPU-cheap compression algo. compressed blocks are stored in the OS page cache, and
+        // uncompressed in the LRUCache created above. note L0 is always uncompressed
         .setNumLevels(4)
         .setMaxBytesForLevelBase(32 * 1024 * 1024L)
         .setMaxBytesForLevelMultiplier(10)
-        .setCompressionPerLevel(
-            List.of(
-                CompressionType.NO_COMPRESSION,
-                CompressionType.NO_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION))
+        .setCompressionPerLevel(profile.getCompressionPerLevel())
         // Target file size for compaction.
         // Defines the desired SST file size for different levels (but not guaranteed, it is usually
         // lower)
@@ -239,19 +365,14 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
-    // you can use the perf context to check if we're often blocked on the block cache mutex, in
-    // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
-    closeables.add(cache);
-
-    final var filter = new BloomFilter(10, false);
+      final List<AutoCloseable> closeables, final Cache cache, final ColumnFamilyProfile profile) {
+    final var filter = new BloomFilter(profile.getBloomFilterBitsPerKey(), false);
     closeables.add(filter);
 
     return new BlockBasedTableConfig()
         .setBlockCache(cache)
         // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
+        .setBlockSize(profile.getBlockSize())
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
@@ -275,4 +396,15 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         // it as a two-tiered index
         .setWholeKeyFiltering(true);
   }
+
+  private record SharedResources(
+      long totalMemoryBudget,
+      long blockCacheMemory,
+      long memtableMemory,
+      Map<ColumnFamilyProfile, Cache> caches) {
+
+    private Cache cache(final ColumnFamilyProfile profile) {
+      return caches.getOrDefault(profile, caches.get(ColumnFamilyProfile.DEFAULT));
+    }
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
+
+/** A transaction of an optimistic transaction database, which validates conflicts on commit. */
+final class OptimisticZeebeTransaction extends ZeebeTransaction {
+
+  private final long nativeHandle;
+  private final TransactionRenovator transactionRenovator;
+
+  private Transaction transaction;
+
+  OptimisticZeebeTransaction(
+      final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this.transactionRenovator = transactionRenovator;
+    this.transaction = transaction;
+    try {
+      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.putWithHandle.invokeExact(
+          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.getWithHandle.invokeExact(
+              transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.removeWithHandle.invokeExact(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    return transaction.getIterator(options, handle);
+  }
+
+  @Override
+  protected void renew() {
+    transaction = transactionRenovator.renewTransaction(transaction);
+  }
+
+  @Override
+  protected void commitChanges() throws RocksDBException {
+    transaction.commit();
+  }
+
+  @Override
+  protected void rollbackChanges() throws RocksDBException {
+    transaction.rollback();
+  }
+
+  @Override
+  protected void setSavePointInternal() throws RocksDBException {
+    transaction.setSavePoint();
+  }
+
+  @Override
+  protected void rollbackToSavePointInternal() throws RocksDBException {
+    transaction.rollbackToSavePoint();
+  }
+
+  @Override
+  public void close() {
+    transaction.close();
+  }
+}
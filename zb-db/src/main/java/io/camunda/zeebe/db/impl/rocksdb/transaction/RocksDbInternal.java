@@ -19,6 +19,7 @@ import static org.rocksdb.Status.Code.TryAgain;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.EnumSet;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -26,6 +27,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -38,6 +40,10 @@ public final class RocksDbInternal {
   static MethodHandle getWithHandle;
   static MethodHandle removeWithHandle;
 
+  static MethodHandle batchPutWithHandle;
+  static MethodHandle batchGetWithHandle;
+  static MethodHandle batchRemoveWithHandle;
+
   static {
     RocksDB.loadLibrary();
 
@@ -54,6 +60,10 @@ public final class RocksDbInternal {
     putWithHandle();
     getWithHandle();
     removeWithHandle();
+
+    batchPutWithHandle();
+    batchGetWithHandle();
+    batchRemoveWithHandle();
   }
 
   private static void nativeHandles() throws NoSuchFieldException {
@@ -108,6 +118,51 @@ public final class RocksDbInternal {
     }
   }
 
+  //    final native void put(final long handle, final byte[] key, final int keyLength,
+  //      final byte[] value, final int valueLength, final long cfHandle)
+
+  private static void batchPutWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "put", Long.TYPE, byte[].class, Integer.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchPutWithHandle = unreflect(method);
+  }
+
+  //    private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+  //      final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle)
+
+  private static void batchGetWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "getFromBatchAndDB",
+            Long.TYPE,
+            Long.TYPE,
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    batchGetWithHandle = unreflect(method);
+  }
+
+  //    final native void delete(final long handle, final byte[] key, final int keyLen,
+  //      final long cfHandle)
+
+  private static void batchRemoveWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchRemoveWithHandle = unreflect(method);
+  }
+
+  private static MethodHandle unreflect(final Method method) {
+    method.setAccessible(true);
+    try {
+      return MethodHandles.lookup().unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
@@ -16,12 +16,14 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -31,7 +33,9 @@ import org.rocksdb.RocksIterator;
  * <ul>
  *   <li>Public methods ensure that a transaction is open by using {@link
  *       TransactionalColumnFamily#ensureInOpenTransaction}, private methods can assume that a
- *       transaction is already open and don't need to call ensureInOpenTransaction.
+ *       transaction is already open and don't need to call ensureInOpenTransaction. Point reads run
+ *       the reusable {@link TransactionalColumnFamily#readValueOperation} in the transaction
+ *       context instead, to avoid allocations.
  *   <li>Iteration is implemented in terms of {@link TransactionalColumnFamily#forEachInPrefix} to
  *       depend difficult to follow call chains between the different public methods such as {@link
  *       TransactionalColumnFamily#forEach(Consumer)} and {@link
@@ -52,6 +56,12 @@ class TransactionalColumnFamily<
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
+
+  // point reads are the hottest path, so we reuse the operation instead of allocating a capturing
+  // lambda on every call; the key must be written to the column family context beforehand
+  private final TransactionOperation readValueOperation = this::readValue;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -68,6 +78,8 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
   }
 
   @Override
@@ -80,7 +92,7 @@ class TransactionalColumnFamily<
           assertKeyDoesNotExist(transaction);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -97,7 +109,7 @@ class TransactionalColumnFamily<
           assertKeyExists(transaction);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -113,7 +125,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -123,17 +135,8 @@ class TransactionalColumnFamily<
 
   @Override
   public ValueType get(final KeyType key) {
-    ensureInOpenTransaction(
-        transaction -> {
-          columnFamilyContext.writeKey(key);
-          final byte[] value =
-              transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
-                  transactionDb.getReadOptionsNativeHandle(),
-                  columnFamilyContext.getKeyBufferArray(),
-                  columnFamilyContext.getKeyLength());
-          columnFamilyContext.wrapValueView(value);
-        });
+    columnFamilyContext.writeKey(key);
+    context.runInTransaction(readValueOperation);
     final var valueBuffer = columnFamilyContext.getValueView();
     if (valueBuffer != null) {
       valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
@@ -211,7 +214,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           assertKeyExists(transaction);
           transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
         });
@@ -223,7 +226,7 @@ class TransactionalColumnFamily<
         transaction -> {
           columnFamilyContext.writeKey(key);
           transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
         });
@@ -231,17 +234,8 @@ class TransactionalColumnFamily<
 
   @Override
   public boolean exists(final KeyType key) {
-    ensureInOpenTransaction(
-        transaction -> {
-          columnFamilyContext.writeKey(key);
-          final byte[] value =
-              transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
-                  transactionDb.getReadOptionsNativeHandle(),
-                  columnFamilyContext.getKeyBufferArray(),
-                  columnFamilyContext.getKeyLength());
-          columnFamilyContext.wrapValueView(value);
-        });
+    columnFamilyContext.writeKey(key);
+    context.runInTransaction(readValueOperation);
     return !columnFamilyContext.isValueViewEmpty();
   }
 
@@ -278,7 +272,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -294,7 +288,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -304,6 +298,17 @@ class TransactionalColumnFamily<
     }
   }
 
+  private void readValue() throws Exception {
+    final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+    final byte[] value =
+        transaction.get(
+            columnFamilyNativeHandle,
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength());
+    columnFamilyContext.wrapValueView(value);
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -316,7 +321,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
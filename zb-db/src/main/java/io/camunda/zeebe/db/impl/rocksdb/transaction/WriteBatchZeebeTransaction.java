@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A transaction which buffers its writes in a {@link WriteBatchWithIndex} and writes the batch
+ * atomically to a plain {@link RocksDB} instance on commit. Reads and iterators merge the batch
+ * with the database, so the transaction reads its own writes, exactly like the transactions of an
+ * optimistic transaction database do.
+ *
+ * <p>In contrast to those, no conflicts are tracked or validated, such that concurrent transactions
+ * which write the same keys may overwrite each other's changes without failing. There can be more
+ * than one writer, e.g. the stream processor and the exporter director each write through their own
+ * transaction context, but they must write disjoint keys: no two transactions may concurrently
+ * write, or read and then write, the same key of a column family.
+ */
+final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB database;
+  private final long databaseNativeHandle;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final long nativeHandle;
+
+  WriteBatchZeebeTransaction(final RocksDB database, final WriteOptions writeOptions) {
+    this.database = database;
+    this.writeOptions = writeOptions;
+    databaseNativeHandle = ZeebeTransactionDb.getNativeHandle(database);
+    // overwrite existing keys in the index, so that iterators see only the latest write of a key
+    batch = new WriteBatchWithIndex(true);
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(batch);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchPutWithHandle.invokeExact(
+          batch, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.batchGetWithHandle.invokeExact(
+              batch,
+              nativeHandle,
+              databaseNativeHandle,
+              readOptionsHandle,
+              key,
+              keyLength,
+              columnFamilyHandle);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchRemoveWithHandle.invokeExact(
+          batch, nativeHandle, key, keyLength, columnFamilyHandle);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes ownership of the base iterator, and closes it with itself
+    return batch.newIteratorWithBase(handle, database.newIterator(handle, options), options);
+  }
+
+  @Override
+  protected void renew() {
+    batch.clear();
+  }
+
+  @Override
+  protected void commitChanges() throws RocksDBException {
+    if (batch.count() > 0) {
+      database.write(writeOptions, batch);
+    }
+    batch.clear();
+  }
+
+  @Override
+  protected void rollbackChanges() {
+    batch.clear();
+  }
+
+  @Override
+  protected void setSavePointInternal() {
+    batch.setSavePoint();
+  }
+
+  @Override
+  protected void rollbackToSavePointInternal() throws RocksDBException {
+    batch.rollbackToSavePoint();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+}
@@ -9,82 +9,59 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import java.util.ArrayList;
+import java.util.List;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * The transaction of a {@link DefaultTransactionContext}, which is reused for all transactions of
+ * that context. Implementations only define how writes are buffered, read back and finally
+ * committed or discarded; error handling and the notification of {@link TransactionListener}s is
+ * shared.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
 
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
+  public abstract void put(
+      long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+      throws Exception;
 
-  public void put(
-      final long columnFamilyHandle,
-      final byte[] key,
-      final int keyLength,
-      final byte[] value,
-      final int valueLength)
-      throws Exception {
-    try {
-      RocksDbInternal.putWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
-    } catch (Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract byte[] get(
+      long columnFamilyHandle, long readOptionsHandle, byte[] key, int keyLength) throws Exception;
 
-  public byte[] get(
-      final long columnFamilyHandle,
-      final long readOptionsHandle,
-      final byte[] key,
-      final int keyLength)
-      throws Exception {
-    try {
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
-    } catch (Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
-  }
+  public abstract void delete(long columnFamilyHandle, byte[] key, int keyLength) throws Exception;
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract RocksIterator newIterator(ReadOptions options, ColumnFamilyHandle handle);
+
+  /** Prepares the transaction to be reused, discarding anything which is left from before. */
+  protected abstract void renew();
+
+  /** Writes all changes of the transaction to the database. */
+  protected abstract void commitChanges() throws RocksDBException;
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
+  /** Discards all changes of the transaction. */
+  protected abstract void rollbackChanges() throws RocksDBException;
+
+  protected abstract void setSavePointInternal() throws RocksDBException;
+
+  protected abstract void rollbackToSavePointInternal() throws RocksDBException;
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    renew();
     inCurrentTransaction = true;
   }
 
@@ -131,17 +108,51 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      setSavePointInternal();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      rollbackToSavePointInternal();
+      notifyRollback();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    commitChanges();
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    rollbackChanges();
+    notifyRollback();
   }
 
-  public void close() {
-    transaction.close();
+  private void notifyRollback() {
+    listeners.forEach(TransactionListener::onRollback);
   }
+
+  @Override
+  public abstract void close();
 }
@@ -15,20 +15,34 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -38,26 +52,51 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+  private static final String BLOCK_CACHE_PROPERTY = "rocksdb.block-cache";
+
+  private final RocksDB database;
+
+  /**
+   * Native column families are opened lazily, and contexts are created, from any thread; access to
+   * the closables after construction is therefore synchronized on the list itself
+   */
   private final List<AutoCloseable> closables;
+
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final RocksDbConfiguration rocksDbConfiguration;
+  private final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory;
+
+  /** All native column families which are currently open, by their name */
+  private final Map<String, ColumnFamilyHandle> nativeColumnFamilies = new ConcurrentHashMap<>();
+
+  /** The native column family of each logical column family which was accessed so far */
+  private final Map<Enum<?>, NativeColumnFamily> resolvedColumnFamilies = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final List<ColumnFamilyHandle> nativeHandles,
+      final RocksDB database,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
-      final ConsistencyChecksSettings consistencyChecksSettings) {
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory) {
     this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.database = database;
     this.closables = closables;
+    this.rocksDbConfiguration = rocksDbConfiguration;
     this.consistencyChecksSettings = consistencyChecksSettings;
+    this.columnFamilyOptionsFactory = columnFamilyOptionsFactory;
+
+    for (final var handle : nativeHandles) {
+      nativeColumnFamilies.put(getName(handle), handle);
+    }
 
     prefixReadOptions =
         new ReadOptions()
@@ -74,25 +113,66 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(defaultWriteOptions);
   }
 
+  /**
+   * Opens the database at the given path, including all native column families which already exist
+   * there. Further native column families are created on demand, using the given factory to create
+   * their options.
+   */
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
-          final Options options,
+          final DBOptions options,
           final String path,
           final List<AutoCloseable> closables,
           final RocksDbConfiguration rocksDbConfiguration,
-          final ConsistencyChecksSettings consistencyChecksSettings)
+          final ConsistencyChecksSettings consistencyChecksSettings,
+          final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory)
           throws RocksDBException {
-    final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options, path);
-    closables.add(optimisticTransactionDB);
-    final var defaultColumnFamilyHandle = optimisticTransactionDB.getDefaultColumnFamily();
+    final var descriptors = new ArrayList<ColumnFamilyDescriptor>();
+    for (final byte[] name : listColumnFamilies(options, path)) {
+      final var columnFamilyOptions =
+          columnFamilyOptionsFactory.apply(new String(name, StandardCharsets.UTF_8));
+      descriptors.add(new ColumnFamilyDescriptor(name, columnFamilyOptions));
+    }
+
+    final var handles = new ArrayList<ColumnFamilyHandle>();
+    // without conflict checks, transactions only need a plain database to write their batches to
+    final RocksDB database =
+        rocksDbConfiguration.isWriteBatchTransactionsEnabled()
+            ? RocksDB.open(options, path, descriptors, handles)
+            : OptimisticTransactionDB.open(options, path, descriptors, handles);
+    closables.add(database);
+    // handles need to be closed before the database
+    closables.addAll(handles);
+    final var defaultColumnFamilyHandle = database.getDefaultColumnFamily();
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
-        optimisticTransactionDB,
+        handles,
+        database,
         closables,
         rocksDbConfiguration,
-        consistencyChecksSettings);
+        consistencyChecksSettings,
+        columnFamilyOptionsFactory);
+  }
+
+  private static List<byte[]> listColumnFamilies(final DBOptions dbOptions, final String path)
+      throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of(RocksDB.DEFAULT_COLUMN_FAMILY);
+    }
+
+    try (final var columnFamilyOptions = new ColumnFamilyOptions();
+        final var options = new Options(dbOptions, columnFamilyOptions)) {
+      return RocksDB.listColumnFamilies(options, path);
+    }
+  }
+
+  private static String getName(final ColumnFamilyHandle handle) {
+    try {
+      return new String(handle.getName(), StandardCharsets.UTF_8);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to read the name of a column family", e);
+    }
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -108,16 +188,125 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
-  }
-
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /**
+   * @return the native column family in which the given logical column family is stored
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<?> columnFamily) {
+    return resolveColumnFamily(columnFamily).handle();
+  }
+
+  /**
+   * @return the native handle of the native column family in which the given logical column family
+   *     is stored
+   */
+  protected long getColumnFamilyNativeHandle(final Enum<?> columnFamily) {
+    return resolveColumnFamily(columnFamily).nativeHandle();
+  }
+
+  private NativeColumnFamily resolveColumnFamily(final Enum<?> columnFamily) {
+    final var resolved = resolvedColumnFamilies.get(columnFamily);
+    if (resolved != null) {
+      return resolved;
+    }
+
+    synchronized (resolvedColumnFamilies) {
+      var opened = resolvedColumnFamilies.get(columnFamily);
+      if (opened == null) {
+        opened = openColumnFamily(columnFamily);
+        resolvedColumnFamilies.put(columnFamily, opened);
+      }
+      return opened;
+    }
+  }
+
+  private NativeColumnFamily openColumnFamily(final Enum<?> columnFamily) {
+    final var name = getNativeColumnFamilyName(columnFamily);
+    try {
+      var handle = nativeColumnFamilies.get(name);
+      if (handle == null) {
+        handle =
+            database.createColumnFamily(
+                new ColumnFamilyDescriptor(
+                    name.getBytes(StandardCharsets.UTF_8), columnFamilyOptionsFactory.apply(name)));
+        synchronized (closables) {
+          closables.add(handle);
+        }
+        nativeColumnFamilies.put(name, handle);
+      }
+
+      // the logical column family may have been stored somewhere else before, e.g. when switching
+      // from or to native column families; move the data over to keep the existing state
+      for (final var other : nativeColumnFamilies.values()) {
+        if (other != handle) {
+          moveColumnFamily(columnFamily, other, handle);
+        }
+      }
+
+      return new NativeColumnFamily(handle, getNativeHandle(handle));
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to open native column family %s for %s".formatted(name, columnFamily), e);
+    }
+  }
+
+  private String getNativeColumnFamilyName(final Enum<?> columnFamily) {
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      return DEFAULT_COLUMN_FAMILY_NAME;
+    }
+
+    return rocksDbConfiguration
+        .getColumnFamilyGroups()
+        .getOrDefault(columnFamily.name(), columnFamily.name());
+  }
+
+  /**
+   * Moves all entries of the given logical column family from one native column family to another.
+   * Keys are kept as they are, i.e. still prefixed with the logical column family, such that only
+   * the native column family changes.
+   */
+  private void moveColumnFamily(
+      final Enum<?> columnFamily, final ColumnFamilyHandle source, final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix).putLong(0, columnFamily.ordinal(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    long movedEntries = 0;
+    try (final var iterator = database.newIterator(source, prefixReadOptions);
+        final var batch = new WriteBatch()) {
+      for (iterator.seek(prefix); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (!BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        // both operations are part of the same batch, so every entry is either moved or not
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        movedEntries++;
+
+        if (movedEntries % MIGRATION_BATCH_SIZE == 0) {
+          database.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+
+      if (batch.count() > 0) {
+        database.write(defaultWriteOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries of column family {} from native column family {} to {}",
+          movedEntries,
+          columnFamily,
+          getName(source),
+          getName(target));
+    }
   }
 
   @Override
@@ -133,7 +322,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(database)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -147,18 +336,51 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (nativeColumnFamilies.size() > 1 && !propertyName.startsWith(BLOCK_CACHE_PROPERTY)) {
+        // most properties are per native column family; the block cache is shared by all of them
+        propertyValue = String.valueOf(database.getAggregatedLongProperty(propertyName));
+      } else {
+        propertyValue = database.getProperty(defaultHandle, propertyName);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  @Override
+  public Map<String, Long> getPropertyByProfile(final String propertyName) {
+    final Map<String, Long> values = new HashMap<>();
+    for (final var nativeColumnFamily : nativeColumnFamilies.entrySet()) {
+      final var profile =
+          rocksDbConfiguration.getColumnFamilyProfile(nativeColumnFamily.getKey()).name();
+      try {
+        final var value = database.getLongProperty(nativeColumnFamily.getValue(), propertyName);
+        if (propertyName.startsWith(BLOCK_CACHE_PROPERTY)) {
+          // all column families of a profile share the same block cache
+          values.put(profile, value);
+        } else {
+          values.merge(profile, value, Long::sum);
+        }
+      } catch (final RocksDBException rde) {
+        LOG.debug(rde.getMessage(), rde);
+      }
+    }
+    return values;
+  }
+
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
-    closables.add(zeebeTransaction);
+    final ZeebeTransaction zeebeTransaction;
+    if (database instanceof final OptimisticTransactionDB optimisticTransactionDB) {
+      final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+      zeebeTransaction = new OptimisticZeebeTransaction(transaction, this);
+    } else {
+      zeebeTransaction = new WriteBatchZeebeTransaction(database, defaultWriteOptions);
+    }
+    synchronized (closables) {
+      closables.add(zeebeTransaction);
+    }
     return new DefaultTransactionContext(zeebeTransaction);
   }
 
@@ -171,7 +393,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   @Override
   public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
+    return ((OptimisticTransactionDB) database)
+        .beginTransaction(defaultWriteOptions, oldTransaction);
   }
 
   @Override
@@ -184,14 +407,18 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     // 5. db options
     // 6. column family options
     // https://github.com/facebook/rocksdb/wiki/RocksJava-Basics#opening-a-database-with-column-families
-    Collections.reverse(closables);
-    closables.forEach(
-        closable -> {
-          try {
-            closable.close();
-          } catch (final Exception e) {
-            LOG.error(ERROR_MESSAGE_CLOSE_RESOURCE, e);
-          }
-        });
+    synchronized (closables) {
+      Collections.reverse(closables);
+      closables.forEach(
+          closable -> {
+            try {
+              closable.close();
+            } catch (final Exception e) {
+              LOG.error(ERROR_MESSAGE_CLOSE_RESOURCE, e);
+            }
+          });
+    }
   }
+
+  private record NativeColumnFamily(ColumnFamilyHandle handle, long nativeHandle) {}
 }
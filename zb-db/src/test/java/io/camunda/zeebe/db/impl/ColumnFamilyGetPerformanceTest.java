@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures point reads of a column family within an open transaction, like the stream processor
+ * does while processing a command. Run it with the GC profiler (i.e. {@code -prof gc}) to also see
+ * the bytes allocated per read.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyGetPerformanceTest {
+
+  private static final int KEY_COUNT = 10_000;
+
+  /** The length of the stored values in bytes */
+  @Param({"32", "1024"})
+  public int valueLength;
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private File dbDirectory;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("zb-db-get").toFile();
+    zeebeDb = DefaultZeebeDbFactory.<ColumnFamilies>getDefaultFactory().createDb(dbDirectory);
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(ColumnFamilies.DATA, transactionContext, key, value);
+
+    value.wrapString("x".repeat(valueLength - Integer.BYTES));
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < KEY_COUNT; i++) {
+            key.wrapLong(i);
+            columnFamily.insert(key, value);
+          }
+        });
+
+    // keep a transaction open, all reads are done in it
+    transactionContext.getCurrentTransaction();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(dbDirectory.toPath());
+  }
+
+  @Benchmark
+  public DbString getExisting() {
+    key.wrapLong(nextKey++ % KEY_COUNT);
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public DbString getMissing() {
+    key.wrapLong(KEY_COUNT + nextKey++ % KEY_COUNT);
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public boolean exists() {
+    key.wrapLong(nextKey++ % KEY_COUNT);
+    return columnFamily.exists(key);
+  }
+
+  private enum ColumnFamilies {
+    DEFAULT, // rocksDB needs a default column family
+    DATA
+  }
+}
@@ -12,11 +12,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -234,6 +237,87 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackToLatestSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(listener.events).containsExactly("commit");
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.rollback();
+
+    // then
+    assertThat(listener.events).containsExactly("rollback", "rollback");
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -476,6 +560,21 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  private static final class RecordingTransactionListener implements TransactionListener {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onCommit() {
+      events.add("commit");
+    }
+
+    @Override
+    public void onRollback() {
+      events.add("rollback");
+    }
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
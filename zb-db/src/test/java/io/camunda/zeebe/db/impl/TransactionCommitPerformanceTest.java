@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares optimistic transactions with write batch transactions (see {@link
+ * RocksDbConfiguration#DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED}). Each invocation runs one
+ * transaction which reads and updates {@link #writesPerTransaction} keys, like the stream processor
+ * does while processing a command, and commits it. Run it with {@code -bm sample -tu us} to get the
+ * distribution of the commit latency instead of the throughput.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TransactionCommitPerformanceTest {
+
+  private static final int KEY_COUNT = 100_000;
+
+  @Param({"false", "true"})
+  public boolean writeBatchTransactions;
+
+  @Param({"1", "10", "100"})
+  public int writesPerTransaction;
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private File dbDirectory;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("zb-db-commit").toFile();
+    final var configuration =
+        new RocksDbConfiguration().setWriteBatchTransactionsEnabled(writeBatchTransactions);
+    zeebeDb =
+        new ZeebeRocksDbFactory<ColumnFamilies>(configuration, new ConsistencyChecksSettings())
+            .createDb(dbDirectory);
+    transactionContext = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(ColumnFamilies.DATA, transactionContext, key, value);
+
+    value.wrapString("x".repeat(100));
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < KEY_COUNT; i++) {
+            key.wrapLong(i);
+            columnFamily.insert(key, value);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(dbDirectory.toPath());
+  }
+
+  @Benchmark
+  public void commit() {
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < writesPerTransaction; i++) {
+            key.wrapLong(nextKey++ % KEY_COUNT);
+            columnFamily.update(key, columnFamily.get(key));
+          }
+        });
+  }
+
+  private enum ColumnFamilies {
+    DEFAULT, // rocksDB needs a default column family
+    DATA
+  }
+}
@@ -24,6 +24,8 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -100,6 +102,46 @@ public final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  public void shouldApplyColumnFamilyProfiles() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>) DefaultZeebeDbFactory.getDefaultFactory();
+
+    // when
+    final var defaults =
+        factory.createColumnFamilyOptions(new ArrayList<>(), ColumnFamilyProfile.DEFAULT);
+    final var queue =
+        factory.createColumnFamilyOptions(new ArrayList<>(), ColumnFamilyProfile.WRITE_HEAVY_QUEUE);
+    final var largeValue =
+        factory.createColumnFamilyOptions(new ArrayList<>(), ColumnFamilyProfile.LARGE_VALUE);
+    final var readMostly =
+        factory.createColumnFamilyOptions(new ArrayList<>(), ColumnFamilyProfile.READ_MOSTLY);
+
+    // then
+    assertThat(defaults)
+        .extracting(
+            ColumnFamilyOptions::compactionStyle,
+            ColumnFamilyOptions::compactionPriority,
+            ColumnFamilyOptions::enableBlobFiles)
+        .containsExactly(CompactionStyle.LEVEL, CompactionPriority.OldestSmallestSeqFirst, false);
+    assertThat(queue)
+        .extracting(
+            ColumnFamilyOptions::compactionStyle,
+            ColumnFamilyOptions::compactionPriority,
+            ColumnFamilyOptions::ttl,
+            ColumnFamilyOptions::periodicCompactionSeconds)
+        .containsExactly(CompactionStyle.LEVEL, CompactionPriority.ByCompensatedSize, 0L, 0L);
+    assertThat(queue.compressionPerLevel()).containsOnly(CompressionType.NO_COMPRESSION);
+    assertThat(largeValue)
+        .extracting(
+            ColumnFamilyOptions::enableBlobFiles,
+            ColumnFamilyOptions::minBlobSize,
+            ColumnFamilyOptions::enableBlobGarbageCollection)
+        .containsExactly(true, ColumnFamilyProfile.MIN_BLOB_SIZE, true);
+    assertThat(readMostly.compactionPriority()).isEqualTo(CompactionPriority.MinOverlappingRatio);
+  }
+
   @Test
   public void shouldFailIfPropertiesDoesntExist() throws Exception {
     // given
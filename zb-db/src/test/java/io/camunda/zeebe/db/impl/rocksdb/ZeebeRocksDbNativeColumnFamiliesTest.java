@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+final class ZeebeRocksDbNativeColumnFamiliesTest {
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  @Test
+  void shouldStoreEachColumnFamilyInNativeColumnFamily(@TempDir final File path) throws Exception {
+    // given
+    final var config = new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true);
+
+    // when
+    try (final var db = createDb(config, path)) {
+      put(db, TestColumnFamilies.FIRST, 1, "first");
+      put(db, TestColumnFamilies.SECOND, 1, "second");
+    }
+
+    // then
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "FIRST", "SECOND");
+    try (final var db = createDb(config, path)) {
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("first");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("second");
+    }
+  }
+
+  @Test
+  void shouldGroupColumnFamilies(@TempDir final File path) throws Exception {
+    // given
+    final var config =
+        new RocksDbConfiguration()
+            .setNativeColumnFamiliesEnabled(true)
+            .setColumnFamilyGroups(Map.of("FIRST", "group", "SECOND", "group"));
+
+    // when
+    try (final var db = createDb(config, path)) {
+      put(db, TestColumnFamilies.FIRST, 1, "first");
+      put(db, TestColumnFamilies.SECOND, 2, "second");
+
+      // then
+      assertThat(keys(db, TestColumnFamilies.FIRST)).containsExactly(1L);
+      assertThat(keys(db, TestColumnFamilies.SECOND)).containsExactly(2L);
+      assertThat(db.isEmpty(TestColumnFamilies.THIRD, db.createContext())).isTrue();
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "group", "THIRD");
+  }
+
+  @Test
+  void shouldMigrateExistingStateToNativeColumnFamilies(@TempDir final File path) throws Exception {
+    // given
+    try (final var db = createDb(new RocksDbConfiguration(), path)) {
+      put(db, TestColumnFamilies.FIRST, 1, "first");
+      put(db, TestColumnFamilies.SECOND, 1, "second");
+    }
+
+    // when
+    final var config = new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true);
+    try (final var db = createDb(config, path)) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("first");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("second");
+      assertThat(keys(db, TestColumnFamilies.FIRST)).containsExactly(1L);
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "FIRST", "SECOND");
+  }
+
+  @Test
+  void shouldMigrateNativeColumnFamiliesBackToDefault(@TempDir final File path) throws Exception {
+    // given
+    final var config = new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true);
+    try (final var db = createDb(config, path)) {
+      put(db, TestColumnFamilies.FIRST, 1, "first");
+      put(db, TestColumnFamilies.SECOND, 1, "second");
+    }
+
+    // when
+    try (final var db = createDb(new RocksDbConfiguration(), path)) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("first");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("second");
+      assertThat(keys(db, TestColumnFamilies.SECOND)).containsExactly(1L);
+    }
+  }
+
+  @Test
+  void shouldRecoverNativeColumnFamiliesFromSnapshot(@TempDir final File path) throws Exception {
+    // given
+    final var config = new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true);
+    final var snapshotDir = new File(path, "snapshot");
+    try (final var db = createDb(config, new File(path, "runtime"))) {
+      put(db, TestColumnFamilies.FIRST, 1, "first");
+      put(db, TestColumnFamilies.SECOND, 1, "second");
+
+      // when
+      db.createSnapshot(snapshotDir);
+    }
+
+    // then
+    try (final var db = createDb(config, snapshotDir)) {
+      assertThat(get(db, TestColumnFamilies.FIRST, 1)).isEqualTo("first");
+      assertThat(get(db, TestColumnFamilies.SECOND, 1)).isEqualTo("second");
+    }
+  }
+
+  @Test
+  void shouldReportPropertiesByProfile(@TempDir final File path) throws Exception {
+    // given
+    final var config =
+        new RocksDbConfiguration()
+            .setNativeColumnFamiliesEnabled(true)
+            .setColumnFamilyProfiles(Map.of("FIRST", ColumnFamilyProfile.WRITE_HEAVY_QUEUE));
+
+    try (final var db = createDb(config, path)) {
+      put(db, TestColumnFamilies.FIRST, 1, "first");
+      put(db, TestColumnFamilies.SECOND, 1, "second");
+
+      // when
+      final var blockCacheCapacity = db.getPropertyByProfile("rocksdb.block-cache-capacity");
+      final var numKeys = db.getPropertyByProfile("rocksdb.estimate-num-keys");
+
+      // then - the default cache additionally holds the memtables of all column families
+      final var memtableMemory = config.getMemoryLimit() - config.getMemoryLimit() / 3;
+      assertThat(blockCacheCapacity)
+          .containsOnlyKeys(
+              ColumnFamilyProfile.DEFAULT.name(), ColumnFamilyProfile.WRITE_HEAVY_QUEUE.name());
+      assertThat(blockCacheCapacity.get(ColumnFamilyProfile.DEFAULT.name()) - memtableMemory)
+          .isCloseTo(
+              2 * blockCacheCapacity.get(ColumnFamilyProfile.WRITE_HEAVY_QUEUE.name()),
+              Offset.offset(2L));
+      assertThat(numKeys.get(ColumnFamilyProfile.WRITE_HEAVY_QUEUE.name())).isOne();
+    }
+  }
+
+  private ZeebeDb<TestColumnFamilies> createDb(final RocksDbConfiguration config, final File path) {
+    return new ZeebeRocksDbFactory<TestColumnFamilies>(
+            config, new ConsistencyChecksSettings(true, true))
+        .createDb(path);
+  }
+
+  private void put(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long keyValue,
+      final String valueString) {
+    final var cf = db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    key.wrapLong(keyValue);
+    value.wrapString(valueString);
+    cf.insert(key, value);
+  }
+
+  private String get(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long keyValue) {
+    final var cf = db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    key.wrapLong(keyValue);
+    final var result = cf.get(key);
+    return result == null ? null : result.toString();
+  }
+
+  private List<Long> keys(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    final var keys = new ArrayList<Long>();
+    db.createColumnFamily(columnFamily, db.createContext(), key, value)
+        .forEach((k, v) -> keys.add(k.getValue()));
+    return keys;
+  }
+
+  private List<String> listColumnFamilies(final File path) throws Exception {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies {
+    FIRST,
+    SECOND,
+    THIRD
+  }
+}
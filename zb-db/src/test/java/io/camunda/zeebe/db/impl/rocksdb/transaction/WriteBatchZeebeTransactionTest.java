@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class WriteBatchZeebeTransactionTest {
+
+  private static final RocksDbConfiguration WRITE_BATCH_CONFIG =
+      new RocksDbConfiguration().setWriteBatchTransactionsEnabled(true);
+
+  @TempDir private File path;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ZeebeDb<TestColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup() {
+    zeebeDb = createDb(WRITE_BATCH_CONFIG);
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(TestColumnFamilies.DEFAULT, transactionContext, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldUseWriteBatchTransaction() {
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // then
+    assertThat(transaction).isInstanceOf(WriteBatchZeebeTransaction.class);
+  }
+
+  @Test
+  void shouldReadOwnWrites() {
+    // given
+    transactionContext.runInTransaction(
+        () -> {
+          put(1, 10);
+          put(2, 20);
+          put(3, 30);
+        });
+
+    // when
+    transactionContext.getCurrentTransaction();
+    put(2, 21);
+    put(2, 22);
+    put(4, 40);
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(get(2)).isEqualTo(22);
+    assertThat(get(4)).isEqualTo(40);
+    assertThat(entries()).containsExactly(List.of(2L, 22L), List.of(3L, 30L), List.of(4L, 40L));
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWritesToOtherContexts() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            TestColumnFamilies.DEFAULT, otherContext, otherKey, new DbLong());
+    otherKey.wrapLong(1);
+
+    // when
+    transactionContext.getCurrentTransaction();
+    put(1, 10);
+
+    // then
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+    transactionContext.getCurrentTransaction().commit();
+    assertThat(otherColumnFamily.exists(otherKey)).isTrue();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    transactionContext.runInTransaction(() -> put(1, 10));
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    put(1, 11);
+    put(2, 20);
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isNull();
+    assertThat(entries()).containsExactly(List.of(1L, 10L));
+  }
+
+  @Test
+  void shouldRollbackToSavePoint() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    put(1, 10);
+    transaction.setSavePoint();
+    put(1, 11);
+    put(2, 20);
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldKeepStateWhenSwitchingTransactionKind() throws Exception {
+    // given
+    transactionContext.runInTransaction(() -> put(1, 10));
+    zeebeDb.close();
+
+    // when
+    zeebeDb = createDb(new RocksDbConfiguration());
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(TestColumnFamilies.DEFAULT, transactionContext, key, value);
+
+    // then
+    assertThat(transactionContext.getCurrentTransaction())
+        .isInstanceOf(OptimisticZeebeTransaction.class);
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  private ZeebeDb<TestColumnFamilies> createDb(final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<TestColumnFamilies>(
+            configuration, new ConsistencyChecksSettings(true, true))
+        .createDb(path);
+  }
+
+  private void put(final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private Long get(final long key) {
+    this.key.wrapLong(key);
+    final var value = columnFamily.get(this.key);
+    return value == null ? null : value.getValue();
+  }
+
+  private List<List<Long>> entries() {
+    final var entries = new ArrayList<List<Long>>();
+    columnFamily.forEach((k, v) -> entries.add(List.of(k.getValue(), v.getValue())));
+    return entries;
+  }
+
+  private enum TestColumnFamilies {
+    DEFAULT
+  }
+}